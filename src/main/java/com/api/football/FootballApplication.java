@@ -2,6 +2,8 @@ package com.api.football;
 
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.boot.context.metrics.buffering.BufferingApplicationStartup;
+import org.springframework.boot.context.properties.ConfigurationPropertiesScan;
 
 /**
  * Application principale pour l'API de gestion de l'équipe de football de Nice.
@@ -13,10 +15,18 @@ import org.springframework.boot.autoconfigure.SpringBootApplication;
  * @version 1.0.0
  */
 @SpringBootApplication
+@ConfigurationPropertiesScan
 public class FootballApplication {
 
+	/**
+	 * Capacité de la chronologie de démarrage exploitée par StartupReportListener.
+	 */
+	private static final int STARTUP_STEPS_CAPACITY = 10_000;
+
 	public static void main(String[] args) {
-		SpringApplication.run(FootballApplication.class, args);
+		SpringApplication application = new SpringApplication(FootballApplication.class);
+		application.setApplicationStartup(new BufferingApplicationStartup(STARTUP_STEPS_CAPACITY));
+		application.run(args);
 	}
 
 }
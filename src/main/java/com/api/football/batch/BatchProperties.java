@@ -0,0 +1,74 @@
+package com.api.football.batch;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * Paramètres de l'API de requêtes groupées ({@code POST /api/batch}).
+ *
+ * Préfixe : {@code football.batch}.
+ *
+ * @author API Football API Team
+ * @version 1.0.0
+ */
+@ConfigurationProperties(prefix = "football.batch")
+public class BatchProperties {
+
+    /**
+     * Nombre de threads exécutant les lectures en parallèle, partagés par
+     * toutes les requêtes groupées.
+     */
+    private int threadsLecture = 4;
+
+    /**
+     * Nombre maximal de lectures en attente d'un thread ; au-delà, la lecture
+     * s'exécute dans le thread de la requête.
+     */
+    private int fileLecture = 256;
+
+    /**
+     * Nombre maximal d'opérations par requête groupée.
+     */
+    private int maxOperations = 50;
+
+    /**
+     * Durée maximale d'attente d'une lecture parallèle. Au-delà, la lecture
+     * reçoit une erreur 504 ; l'écriture suivante attend tout de même sa fin.
+     */
+    private Duration delaiLecture = Duration.ofSeconds(10);
+
+    // Getters et Setters
+
+    public int getThreadsLecture() {
+        return threadsLecture;
+    }
+
+    public void setThreadsLecture(int threadsLecture) {
+        this.threadsLecture = threadsLecture;
+    }
+
+    public int getFileLecture() {
+        return fileLecture;
+    }
+
+    public void setFileLecture(int fileLecture) {
+        this.fileLecture = fileLecture;
+    }
+
+    public int getMaxOperations() {
+        return maxOperations;
+    }
+
+    public void setMaxOperations(int maxOperations) {
+        this.maxOperations = maxOperations;
+    }
+
+    public Duration getDelaiLecture() {
+        return delaiLecture;
+    }
+
+    public void setDelaiLecture(Duration delaiLecture) {
+        this.delaiLecture = delaiLecture;
+    }
+}
@@ -0,0 +1,430 @@
+package com.api.football.batch;
+
+import com.api.football.dto.BatchOperationDto;
+import com.api.football.dto.BatchOperationResultDto;
+import com.api.football.dto.BatchRequest;
+import com.api.football.dto.BatchResultDto;
+import com.api.football.dto.CreateEquipeRequest;
+import com.api.football.dto.CreateJoueurRequest;
+import com.api.football.effectif.ConflitEffectifException;
+import com.api.football.metrics.MetricsSource;
+import com.api.football.service.EquipeService;
+import com.api.football.service.JoueurService;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PreDestroy;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.Collectors;
+
+/**
+ * Service d'exécution des requêtes groupées.
+ *
+ * Les opérations sont exécutées dans l'ordre de la requête, avec une
+ * exception : les lectures consécutives s'exécutent en parallèle sur un pool
+ * borné. Une écriture attend la fin des lectures qui la précèdent, et les
+ * lectures qui la suivent voient son effet ; le résultat est donc celui d'une
+ * exécution séquentielle.
+ *
+ * Une lecture qui dépasse le délai reçoit une erreur 504, mais n'est pas
+ * interrompue : interrompre un thread pendant un accès à la base peut fermer
+ * ses fichiers. L'écriture suivante attend donc sa fin réelle, sans quoi la
+ * lecture abandonnée pourrait encore s'exécuter pendant ou après elle.
+ *
+ * En mode transactionnel, les opérations (uniquement des écritures)
+ * s'exécutent dans une seule transaction, annulée à la première erreur.
+ *
+ * @author API Football API Team
+ * @version 1.0.0
+ */
+@Service
+public class BatchService implements MetricsSource {
+
+    private static final Logger logger = LoggerFactory.getLogger(BatchService.class);
+
+    private final BatchProperties properties;
+    private final ThreadPoolExecutor lectures;
+    private final LongAdder requetes = new LongAdder();
+    private final LongAdder operationsLecture = new LongAdder();
+    private final LongAdder operationsEcriture = new LongAdder();
+    private final LongAdder transactionsAnnulees = new LongAdder();
+    private final LongAdder lecturesExpirees = new LongAdder();
+
+    @Autowired
+    private EquipeService equipeService;
+
+    @Autowired
+    private JoueurService joueurService;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private Validator validator;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    /**
+     * Constructeur.
+     *
+     * @param properties les paramètres des requêtes groupées
+     */
+    public BatchService(BatchProperties properties) {
+        this.properties = properties;
+        AtomicInteger compteur = new AtomicInteger();
+        int threads = Math.max(1, properties.getThreadsLecture());
+        // Pool plein : la lecture s'exécute dans le thread de la requête
+        this.lectures = new ThreadPoolExecutor(threads, threads, 0, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(Math.max(1, properties.getFileLecture())), runnable -> {
+                    Thread thread = new Thread(runnable, "batch-lecture-" + compteur.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                }, new ThreadPoolExecutor.CallerRunsPolicy());
+    }
+
+    /**
+     * Exécute une requête groupée.
+     *
+     * @param request les opérations et le mode d'exécution
+     * @return un résultat par opération, dans l'ordre de la requête
+     * @throws IllegalArgumentException si la requête est vide, trop longue, contient
+     *         une opération sans type ou mêle lectures et mode transactionnel
+     */
+    public BatchResultDto executer(BatchRequest request) {
+        List<BatchOperationDto> operations = valider(request);
+        requetes.increment();
+        logger.info("Exécution d'une requête groupée de {} opérations (transactionnel: {})",
+                operations.size(), request.isTransactionnel());
+
+        return request.isTransactionnel()
+                ? executerEnTransaction(operations)
+                : new BatchResultDto(executerEnSequence(operations), false, false);
+    }
+
+    private List<BatchOperationDto> valider(BatchRequest request) {
+        List<BatchOperationDto> operations = request != null ? request.getOperations() : null;
+        if (operations == null || operations.isEmpty()) {
+            throw new IllegalArgumentException("La requête groupée doit contenir au moins une opération");
+        }
+        if (operations.size() > properties.getMaxOperations()) {
+            throw new IllegalArgumentException("Une requête groupée ne peut pas dépasser "
+                    + properties.getMaxOperations() + " opérations");
+        }
+        for (int i = 0; i < operations.size(); i++) {
+            BatchOperationDto operation = operations.get(i);
+            if (operation == null || operation.getType() == null) {
+                throw new IllegalArgumentException("Le type de l'opération " + i + " est obligatoire");
+            }
+            if (operation.getParametres() == null) {
+                operation.setParametres(Map.of());
+            }
+            if (request.isTransactionnel() && operation.getType().isLecture()) {
+                throw new IllegalArgumentException("Une requête groupée transactionnelle n'accepte que des écritures ("
+                        + operation.getType() + " à la position " + i + ")");
+            }
+        }
+        return operations;
+    }
+
+    private List<BatchOperationResultDto> executerEnSequence(List<BatchOperationDto> operations) {
+        List<CompletableFuture<BatchOperationResultDto>> resultats = new ArrayList<>(operations.size());
+        List<CompletableFuture<BatchOperationResultDto>> expirees = new ArrayList<>();
+        int premiereLectureEnCours = 0;
+
+        for (BatchOperationDto operation : operations) {
+            if (operation.getType().isLecture()) {
+                operationsLecture.increment();
+                resultats.add(CompletableFuture.supplyAsync(() -> executerOperation(operation), lectures));
+            } else {
+                // Une écriture attend les lectures qui la précèdent, y compris celles qui ont expiré
+                attendre(operations, resultats, premiereLectureEnCours, expirees);
+                attendreExpirees(expirees);
+                operationsEcriture.increment();
+                resultats.add(CompletableFuture.completedFuture(executerOperation(operation)));
+                premiereLectureEnCours = resultats.size();
+            }
+        }
+        attendre(operations, resultats, premiereLectureEnCours, expirees);
+        return resultats.stream().map(CompletableFuture::join).collect(Collectors.toList());
+    }
+
+    /**
+     * Attend les lectures lancées depuis l'indice donné ; une lecture trop
+     * longue est remplacée par une erreur 504 et ajoutée à {@code expirees}.
+     */
+    private void attendre(List<BatchOperationDto> operations, List<CompletableFuture<BatchOperationResultDto>> resultats,
+                          int debut, List<CompletableFuture<BatchOperationResultDto>> expirees) {
+        long limite = System.nanoTime() + properties.getDelaiLecture().toNanos();
+        for (int i = debut; i < resultats.size(); i++) {
+            CompletableFuture<BatchOperationResultDto> resultat = resultats.get(i);
+            try {
+                resultat.get(Math.max(0, limite - System.nanoTime()), TimeUnit.NANOSECONDS);
+            } catch (TimeoutException e) {
+                lecturesExpirees.increment();
+                expirees.add(resultat);
+                resultats.set(i, CompletableFuture.completedFuture(erreur(operations.get(i), HttpStatus.GATEWAY_TIMEOUT,
+                        "Délai dépassé", "La lecture n'a pas abouti dans le délai imparti")));
+            } catch (ExecutionException e) {
+                logger.error("Erreur lors de l'exécution de l'opération {}", operations.get(i), e.getCause());
+                resultats.set(i, CompletableFuture.completedFuture(erreurInterne(operations.get(i))));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException("Requête groupée interrompue", e);
+            }
+        }
+    }
+
+    /**
+     * Attend la fin réelle des lectures expirées, dont le résultat a déjà été
+     * remplacé par une erreur 504.
+     */
+    private void attendreExpirees(List<CompletableFuture<BatchOperationResultDto>> expirees) {
+        for (CompletableFuture<BatchOperationResultDto> expiree : expirees) {
+            if (!expiree.isDone()) {
+                logger.warn("Écriture différée jusqu'à la fin d'une lecture expirée");
+            }
+            // L'issue de la lecture importe peu : seule compte sa fin
+            expiree.handle((resultat, erreur) -> null).join();
+        }
+        expirees.clear();
+    }
+
+    private BatchResultDto executerEnTransaction(List<BatchOperationDto> operations) {
+        TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+        List<BatchOperationResultDto> resultats = new ArrayList<>(operations.size());
+
+        Boolean annule = transaction.execute(status -> {
+            for (BatchOperationDto operation : operations) {
+                operationsEcriture.increment();
+                BatchOperationResultDto resultat = executerOperation(operation);
+                resultats.add(resultat);
+                if (resultat.getStatut() >= 400) {
+                    status.setRollbackOnly();
+                    return true;
+                }
+            }
+            return false;
+        });
+
+        if (Boolean.TRUE.equals(annule)) {
+            transactionsAnnulees.increment();
+            BatchOperationResultDto echec = resultats.get(resultats.size() - 1);
+            List<BatchOperationResultDto> annulees = new ArrayList<>(operations.size());
+            for (BatchOperationDto operation : operations) {
+                annulees.add(annulees.size() == resultats.size() - 1 ? echec : erreur(operation, HttpStatus.FAILED_DEPENDENCY,
+                        "Opération annulée", "La transaction a été annulée par l'échec de l'opération "
+                                + (resultats.size() - 1)));
+            }
+            return new BatchResultDto(annulees, true, true);
+        }
+        return new BatchResultDto(resultats, true, false);
+    }
+
+    /**
+     * Exécute une opération et la convertit en résultat, avec les codes HTTP
+     * des endpoints unitaires correspondants.
+     */
+    private BatchOperationResultDto executerOperation(BatchOperationDto operation) {
+        try {
+            return switch (operation.getType()) {
+                case GET_EQUIPE -> {
+                    String acronyme = operation.getParametres().get("acronyme");
+                    yield (acronyme != null
+                            ? equipeService.getEquipeByAcronyme(acronyme)
+                            : equipeService.getEquipeById(parametreLong(operation, "id", true)))
+                            .map(equipe -> succes(operation, HttpStatus.OK, equipe))
+                            .orElseGet(() -> erreur(operation, HttpStatus.NOT_FOUND, "Équipe non trouvée",
+                                    "Aucune équipe ne correspond à la demande"));
+                }
+                case GET_JOUEUR -> joueurService.getJoueurById(parametreLong(operation, "id", true))
+                        .map(joueur -> succes(operation, HttpStatus.OK, joueur))
+                        .orElseGet(() -> erreur(operation, HttpStatus.NOT_FOUND, "Joueur non trouvé",
+                                "Aucun joueur ne correspond à la demande"));
+                case LIST_EQUIPES -> {
+                    int page = parametrePage(operation);
+                    int size = parametreTaille(operation);
+                    BigDecimal minBudget = parametreDecimal(operation, "minBudget");
+                    BigDecimal maxBudget = parametreDecimal(operation, "maxBudget");
+                    if (minBudget != null && maxBudget != null && minBudget.compareTo(maxBudget) > 0) {
+                        throw new ParametreInvalideException("Plage de budget invalide: " + minBudget + " > " + maxBudget);
+                    }
+                    yield succes(operation, HttpStatus.OK, minBudget == null && maxBudget == null
+                            ? equipeService.getAllEquipes(page, size, parametre(operation, "sortBy", "nom"),
+                                    parametre(operation, "sortDirection", "asc"))
+                            : equipeService.getEquipesByBudget(page, size, parametre(operation, "sortBy", "nom"),
+                                    parametre(operation, "sortDirection", "asc"), minBudget, maxBudget));
+                }
+                case LIST_JOUEURS -> succes(operation, HttpStatus.OK, joueurService.getAllJoueurs(
+                        parametrePage(operation), parametreTaille(operation),
+                        parametre(operation, "sortBy", "nom"), parametre(operation, "sortDirection", "asc"),
+                        parametreLong(operation, "equipeId", false), operation.getParametres().get("position")));
+                case CREATE_EQUIPE -> creer(operation, CreateEquipeRequest.class);
+                case CREATE_JOUEUR -> creer(operation, CreateJoueurRequest.class);
+                case TRANSFER_JOUEUR -> {
+                    Long joueurId = parametreLong(operation, "id", true);
+                    Long equipeId = parametreLong(operation, "equipeId", true);
+                    try {
+                        yield succes(operation, HttpStatus.OK, joueurService.transferJoueur(joueurId, equipeId));
+                    } catch (IllegalArgumentException e) {
+                        yield erreur(operation, HttpStatus.NOT_FOUND, "Erreur de transfert", e.getMessage());
+                    } catch (ConflitEffectifException e) {
+                        yield erreur(operation, HttpStatus.CONFLICT, "Conflit d'effectif", e.getMessage());
+                    }
+                }
+            };
+        } catch (ParametreInvalideException e) {
+            return erreur(operation, HttpStatus.BAD_REQUEST, "Paramètres invalides", e.getMessage());
+        } catch (Exception e) {
+            logger.error("Erreur lors de l'exécution de l'opération {}", operation, e);
+            return erreurInterne(operation);
+        }
+    }
+
+    private <T> BatchOperationResultDto creer(BatchOperationDto operation, Class<T> type) {
+        if (operation.getCorps() == null || operation.getCorps().isNull()) {
+            throw new ParametreInvalideException("Le corps de l'opération " + operation.getType() + " est obligatoire");
+        }
+        T demande;
+        try {
+            demande = objectMapper.treeToValue(operation.getCorps(), type);
+        } catch (JsonProcessingException e) {
+            throw new ParametreInvalideException("Corps de l'opération illisible: " + e.getOriginalMessage());
+        }
+        Set<ConstraintViolation<T>> violations = validator.validate(demande);
+        if (!violations.isEmpty()) {
+            throw new ParametreInvalideException(violations.stream()
+                    .sorted(Comparator.comparing(violation -> violation.getPropertyPath().toString()))
+                    .map(violation -> violation.getPropertyPath() + ": " + violation.getMessage())
+                    .collect(Collectors.joining(", ")));
+        }
+
+        try {
+            Object cree = demande instanceof CreateEquipeRequest equipe
+                    ? equipeService.createEquipe(equipe)
+                    : joueurService.createJoueur((CreateJoueurRequest) demande);
+            return succes(operation, HttpStatus.CREATED, cree);
+        } catch (IllegalArgumentException e) {
+            return erreur(operation, HttpStatus.CONFLICT, "Erreur de validation", e.getMessage());
+        } catch (ConflitEffectifException e) {
+            return erreur(operation, HttpStatus.CONFLICT, "Conflit d'effectif", e.getMessage());
+        }
+    }
+
+    private static String parametre(BatchOperationDto operation, String nom, String defaut) {
+        String valeur = operation.getParametres().get(nom);
+        return valeur != null ? valeur : defaut;
+    }
+
+    private static Long parametreLong(BatchOperationDto operation, String nom, boolean obligatoire) {
+        String valeur = operation.getParametres().get(nom);
+        if (valeur == null) {
+            if (obligatoire) {
+                throw new ParametreInvalideException("Le paramètre '" + nom + "' est obligatoire");
+            }
+            return null;
+        }
+        try {
+            return Long.valueOf(valeur);
+        } catch (NumberFormatException e) {
+            throw new ParametreInvalideException("Le paramètre '" + nom + "' doit être un entier: " + valeur);
+        }
+    }
+
+    private static BigDecimal parametreDecimal(BatchOperationDto operation, String nom) {
+        String valeur = operation.getParametres().get(nom);
+        if (valeur == null) {
+            return null;
+        }
+        try {
+            return new BigDecimal(valeur);
+        } catch (NumberFormatException e) {
+            throw new ParametreInvalideException("Le paramètre '" + nom + "' doit être un nombre: " + valeur);
+        }
+    }
+
+    private static int parametrePage(BatchOperationDto operation) {
+        Long page = parametreLong(operation, "page", false);
+        if (page != null && page < 0) {
+            throw new ParametreInvalideException("Numéro de page invalide: " + page);
+        }
+        return page != null ? page.intValue() : 0;
+    }
+
+    private static int parametreTaille(BatchOperationDto operation) {
+        Long size = parametreLong(operation, "size", false);
+        if (size != null && (size <= 0 || size > 100)) {
+            throw new ParametreInvalideException("Taille de page invalide: " + size);
+        }
+        return size != null ? size.intValue() : 10;
+    }
+
+    private static BatchOperationResultDto succes(BatchOperationDto operation, HttpStatus statut, Object corps) {
+        return new BatchOperationResultDto(operation.getReference(), operation.getType(), statut.value(), corps);
+    }
+
+    private static BatchOperationResultDto erreur(BatchOperationDto operation, HttpStatus statut,
+                                                  String erreur, String message) {
+        return new BatchOperationResultDto(operation.getReference(), operation.getType(), statut.value(),
+                Map.of("error", erreur, "message", message));
+    }
+
+    private static BatchOperationResultDto erreurInterne(BatchOperationDto operation) {
+        return erreur(operation, HttpStatus.INTERNAL_SERVER_ERROR, "Erreur interne", "Une erreur inattendue s'est produite");
+    }
+
+    @Override
+    public String getNomMetriques() {
+        return "batch";
+    }
+
+    @Override
+    public Map<String, Number> getMetriques() {
+        Map<String, Number> metriques = new LinkedHashMap<>();
+        metriques.put("requetes", requetes.sum());
+        metriques.put("lectures", operationsLecture.sum());
+        metriques.put("ecritures", operationsEcriture.sum());
+        metriques.put("transactionsAnnulees", transactionsAnnulees.sum());
+        metriques.put("lecturesExpirees", lecturesExpirees.sum());
+        metriques.put("lecturesEnAttente", lectures.getQueue().size());
+        return metriques;
+    }
+
+    @PreDestroy
+    void arreter() {
+        lectures.shutdownNow();
+    }
+
+    /**
+     * Paramètre d'opération absent ou invalide, converti en résultat 400.
+     */
+    private static final class ParametreInvalideException extends RuntimeException {
+
+        private ParametreInvalideException(String message) {
+            super(message);
+        }
+    }
+}
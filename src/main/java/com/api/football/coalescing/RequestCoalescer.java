@@ -0,0 +1,187 @@
+package com.api.football.coalescing;
+
+import com.api.football.persistence.DatabaseRestoredEvent;
+import com.api.football.event.RosterChangeEvent;
+import com.api.football.metrics.MetricsSource;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+import java.util.function.UnaryOperator;
+
+/**
+ * Regroupe les lectures identiques simultanées (« single-flight »).
+ *
+ * Le premier appel pour une clé exécute le calcul ; les appels concurrents
+ * pour la même clé attendent son résultat au lieu de relancer la requête.
+ * Le résultat n'est pas conservé : un appel arrivé après la fin du calcul en
+ * lance un nouveau, les données servies ne sont donc jamais plus anciennes
+ * que la lecture en cours.
+ *
+ * Chaque lecture en cours porte la génération des données au moment où elle
+ * a commencé. Une écriture change de génération : les appels arrivés après
+ * elle lancent une nouvelle lecture au lieu de rejoindre une lecture
+ * commencée avant, qui a pu lire l'état précédent.
+ *
+ * Chaque appel regroupé reçoit sa propre copie du résultat : un appelant qui
+ * modifie le DTO reçu ne modifie pas celui des autres.
+ *
+ * Un appel qui attend plus que le délai configuré exécute le calcul
+ * lui-même. Une exception du calcul est propagée à tous les appels regroupés.
+ *
+ * @author API Football API Team
+ * @version 1.0.0
+ */
+@Component
+public class RequestCoalescer implements MetricsSource {
+
+    private static final Logger logger = LoggerFactory.getLogger(RequestCoalescer.class);
+
+    @Value("${football.coalescing.enabled:true}")
+    private boolean enabled = true;
+
+    @Value("${football.coalescing.timeout:2s}")
+    private Duration timeout = Duration.ofSeconds(2);
+
+    private final ConcurrentHashMap<String, Groupe> groupes = new ConcurrentHashMap<>();
+    private final AtomicLong generation = new AtomicLong();
+
+    /**
+     * Exécute un calcul, ou attend celui déjà en cours pour la même clé.
+     *
+     * @param groupe nom du type de lecture (équipe par ID, joueur par ID...)
+     * @param cle clé de la lecture dans le groupe
+     * @param calcul calcul à exécuter
+     * @param copie copie du résultat remise à chaque appel regroupé
+     * @return le résultat du calcul
+     */
+    @SuppressWarnings("unchecked")
+    public <V> V executer(String groupe, Object cle, Supplier<V> calcul, UnaryOperator<V> copie) {
+        if (!enabled) {
+            return calcul.get();
+        }
+        Groupe compteurs = groupes.computeIfAbsent(groupe, nom -> new Groupe());
+        Vol vol = new Vol(cle, generation.get());
+        CompletableFuture<Object> nouveau = new CompletableFuture<>();
+        CompletableFuture<Object> enCours = compteurs.enCours.putIfAbsent(vol, nouveau);
+
+        if (enCours == null) {
+            compteurs.executions.increment();
+            try {
+                V resultat = calcul.get();
+                nouveau.complete(resultat);
+                return resultat;
+            } catch (RuntimeException | Error e) {
+                nouveau.completeExceptionally(e);
+                throw e;
+            } finally {
+                compteurs.enCours.remove(vol, nouveau);
+            }
+        }
+
+        compteurs.regroupes.increment();
+        try {
+            return copie.apply((V) enCours.get(timeout.toMillis(), TimeUnit.MILLISECONDS));
+        } catch (TimeoutException e) {
+            compteurs.expirations.increment();
+            logger.warn("Lecture {} {} toujours en cours après {} ms, exécution directe", groupe, cle, timeout.toMillis());
+            return calcul.get();
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            if (cause instanceof Error error) {
+                throw error;
+            }
+            throw new IllegalStateException(cause);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Attente de la lecture " + groupe + " " + cle + " interrompue", e);
+        }
+    }
+
+    /**
+     * Change de génération dès la publication d'une modification, puis à sa
+     * validation : un appel arrivé entre les deux ne rejoint pas une lecture
+     * commencée avant la modification, ni un appel arrivé après la validation
+     * une lecture commencée avant elle.
+     *
+     * @param event la modification
+     */
+    @EventListener
+    public void onRosterChangePublie(RosterChangeEvent event) {
+        generation.incrementAndGet();
+    }
+
+    /**
+     * @param event la modification validée
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onRosterChange(RosterChangeEvent event) {
+        generation.incrementAndGet();
+    }
+
+    /**
+     * Change de génération après une restauration ou un import.
+     *
+     * @param event la restauration
+     */
+    @EventListener
+    public void onDatabaseRestored(DatabaseRestoredEvent event) {
+        generation.incrementAndGet();
+    }
+
+    @Override
+    public String getNomMetriques() {
+        return "coalescing";
+    }
+
+    @Override
+    public Map<String, Number> getMetriques() {
+        Map<String, Number> metriques = new LinkedHashMap<>();
+        groupes.forEach((nom, compteurs) -> {
+            metriques.put(nom + ".executions", compteurs.executions.sum());
+            metriques.put(nom + ".regroupes", compteurs.regroupes.sum());
+            metriques.put(nom + ".expirations", compteurs.expirations.sum());
+            metriques.put(nom + ".enCours", compteurs.enCours.size());
+        });
+        return metriques;
+    }
+
+    void setTimeout(Duration timeout) {
+        this.timeout = timeout;
+    }
+
+    /**
+     * Clé d'une lecture en cours : la clé demandée et la génération des
+     * données au début de la lecture.
+     */
+    private record Vol(Object cle, long generation) {
+    }
+
+    /**
+     * Lectures en cours et compteurs d'un groupe.
+     */
+    private static final class Groupe {
+
+        private final ConcurrentHashMap<Vol, CompletableFuture<Object>> enCours = new ConcurrentHashMap<>();
+        private final LongAdder executions = new LongAdder();
+        private final LongAdder regroupes = new LongAdder();
+        private final LongAdder expirations = new LongAdder();
+    }
+}
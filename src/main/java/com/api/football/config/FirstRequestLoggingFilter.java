@@ -0,0 +1,51 @@
+package com.api.football.config;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Journalise le délai entre le lancement de la JVM et la première requête servie,
+ * indicateur suivi par le profil de démarrage rapide.
+ *
+ * @author API Football API Team
+ * @version 1.0.0
+ */
+@Component
+public class FirstRequestLoggingFilter extends OncePerRequestFilter {
+
+    private static final Logger logger = LoggerFactory.getLogger(FirstRequestLoggingFilter.class);
+
+    private final AtomicBoolean premiereRequeteServie = new AtomicBoolean();
+
+    @Value("${football.startup.report:false}")
+    private boolean enabled;
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !enabled || premiereRequeteServie.get();
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            if (premiereRequeteServie.compareAndSet(false, true)) {
+                logger.info("Première requête servie ({} {}) {} ms après le lancement de la JVM",
+                        request.getMethod(), request.getRequestURI(), ManagementFactory.getRuntimeMXBean().getUptime());
+            }
+        }
+    }
+}
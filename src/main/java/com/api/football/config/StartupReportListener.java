@@ -0,0 +1,72 @@
+package com.api.football.config;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.boot.context.metrics.buffering.BufferingApplicationStartup;
+import org.springframework.boot.context.metrics.buffering.StartupTimeline;
+import org.springframework.context.ApplicationListener;
+import org.springframework.core.metrics.ApplicationStartup;
+import org.springframework.stereotype.Component;
+
+import java.lang.management.ManagementFactory;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * Rapport des phases de démarrage.
+ *
+ * Lorsque {@code football.startup.report=true}, journalise le temps écoulé
+ * depuis le lancement de la JVM jusqu'à l'application prête, puis les phases
+ * de démarrage les plus coûteuses enregistrées par {@link BufferingApplicationStartup}.
+ *
+ * @author API Football API Team
+ * @version 1.0.0
+ */
+@Component
+public class StartupReportListener implements ApplicationListener<ApplicationReadyEvent> {
+
+    private static final Logger logger = LoggerFactory.getLogger(StartupReportListener.class);
+
+    private static final int PHASES_AFFICHEES = 15;
+
+    @Value("${football.startup.report:false}")
+    private boolean enabled;
+
+    @Override
+    public void onApplicationEvent(ApplicationReadyEvent event) {
+        ApplicationStartup startup = event.getApplicationContext().getApplicationStartup();
+        if (!(startup instanceof BufferingApplicationStartup buffering)) {
+            return;
+        }
+        // Vidage systématique pour libérer la mémoire de la chronologie
+        StartupTimeline timeline = buffering.drainBufferedTimeline();
+        if (!enabled) {
+            return;
+        }
+
+        logger.info("Application prête {} ms après le lancement de la JVM (dont {} ms avant SpringApplication.run)",
+                ManagementFactory.getRuntimeMXBean().getUptime(),
+                Duration.between(Instant.ofEpochMilli(ManagementFactory.getRuntimeMXBean().getStartTime()),
+                        timeline.getStartTime()).toMillis());
+
+        Map<String, Long> dureesParPhase = timeline.getEvents().stream()
+                .collect(Collectors.groupingBy(e -> e.getStartupStep().getName(),
+                        Collectors.summingLong(e -> e.getDuration().toMillis())));
+
+        Map<String, Long> plusCouteuses = dureesParPhase.entrySet().stream()
+                .sorted(Map.Entry.<String, Long>comparingByValue(Comparator.reverseOrder()))
+                .limit(PHASES_AFFICHEES)
+                .collect(Collectors.toMap(Map.Entry::getKey, Map.Entry::getValue, (a, b) -> a, LinkedHashMap::new));
+
+        StringBuilder rapport = new StringBuilder("Phases de démarrage les plus coûteuses (ms, cumulées):");
+        plusCouteuses.forEach((phase, duree) -> rapport.append(System.lineSeparator())
+                .append(String.format("  %6d  %s", duree, phase)));
+        logger.info(rapport.toString());
+    }
+}
@@ -0,0 +1,32 @@
+package com.api.football.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Profile;
+import org.springframework.core.io.Resource;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * Sert le document OpenAPI généré à la compilation lorsque springdoc est désactivé
+ * (profil {@code fast}), sans scanner les contrôleurs au démarrage.
+ *
+ * @author API Football API Team
+ * @version 1.0.0
+ */
+@RestController
+@Profile("fast")
+public class StaticOpenApiController {
+
+    @Value("${football.openapi.static-location}")
+    private Resource document;
+
+    @GetMapping(value = "${springdoc.api-docs.path:/api-docs}", produces = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<Resource> getApiDocs() {
+        if (!document.exists()) {
+            return ResponseEntity.notFound().build();
+        }
+        return ResponseEntity.ok(document);
+    }
+}
@@ -0,0 +1,77 @@
+package com.api.football.controller;
+
+import com.api.football.batch.BatchService;
+import com.api.football.dto.BatchRequest;
+import com.api.football.dto.BatchResultDto;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import java.util.Map;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+/**
+ * Contrôleur REST des requêtes groupées.
+ *
+ * Un écran qui enchaînait plusieurs appels aux endpoints équipes et joueurs
+ * les envoie en une seule requête.
+ *
+ * @author API Football API Team
+ * @version 1.0.0
+ */
+@RestController
+@RequestMapping("/api/batch")
+@Tag(name = "Requêtes groupées", description = "Exécution de plusieurs opérations en un seul appel")
+public class BatchController {
+
+    private static final Logger logger = LoggerFactory.getLogger(BatchController.class);
+
+    @Autowired
+    private BatchService batchService;
+
+    /**
+     * Exécute une liste ordonnée d'opérations.
+     *
+     * @param request les opérations et le mode d'exécution
+     * @return un résultat par opération, dans l'ordre de la requête
+     */
+    @PostMapping
+    @Operation(
+            summary = "Exécute une requête groupée",
+            description = "Exécute dans l'ordre des lectures (GET_EQUIPE, GET_JOUEUR, LIST_EQUIPES, LIST_JOUEURS) "
+                    + "et des écritures (CREATE_EQUIPE, CREATE_JOUEUR, TRANSFER_JOUEUR). Les lectures consécutives "
+                    + "s'exécutent en parallèle ; chaque résultat porte le code HTTP de l'endpoint unitaire"
+    )
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Requête groupée exécutée",
+                    content = @Content(schema = @Schema(implementation = BatchResultDto.class))),
+            @ApiResponse(responseCode = "400", description = "Requête groupée invalide"),
+            @ApiResponse(responseCode = "500", description = "Erreur interne du serveur")
+    })
+    public ResponseEntity<?> executer(@RequestBody BatchRequest request) {
+        logger.info("Requête POST /api/batch - {}", request);
+
+        try {
+            BatchResultDto resultat = batchService.executer(request);
+            return ResponseEntity.ok(resultat);
+
+        } catch (IllegalArgumentException e) {
+            logger.warn("Requête groupée invalide: {}", e.getMessage());
+            return ResponseEntity.badRequest().body(
+                    Map.of("error", "Requête invalide", "message", e.getMessage())
+            );
+        } catch (Exception e) {
+            logger.error("Erreur lors de l'exécution de la requête groupée", e);
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(
+                    Map.of("error", "Erreur interne", "message", "Une erreur inattendue s'est produite")
+            );
+        }
+    }
+}
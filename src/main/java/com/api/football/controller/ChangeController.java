@@ -0,0 +1,88 @@
+package com.api.football.controller;
+
+import com.api.football.dto.ChangeFeedDto;
+import com.api.football.service.ChangeFeedService;
+import com.api.football.service.CurseurExpireException;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import java.util.Map;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+/**
+ * Contrôleur REST du flux de changements.
+ *
+ * Permet aux systèmes en aval de se synchroniser de façon incrémentale
+ * au lieu de relire périodiquement toutes les équipes.
+ *
+ * @author API Football API Team
+ * @version 1.0.0
+ */
+@RestController
+@RequestMapping("/api/changes")
+@Tag(name = "Changements", description = "Flux des modifications des effectifs")
+public class ChangeController {
+
+    private static final Logger logger = LoggerFactory.getLogger(ChangeController.class);
+
+    @Autowired
+    private ChangeFeedService changeFeedService;
+
+    /**
+     * Lit les changements postérieurs à un numéro de séquence.
+     *
+     * @param since le dernier numéro de séquence déjà traité (défaut: 0)
+     * @param limit le nombre maximal d'événements (défaut: 100)
+     * @return le lot d'événements et le curseur suivant
+     */
+    @GetMapping
+    @Operation(
+            summary = "Lit le flux de changements",
+            description = "Renvoie les événements de séquence strictement supérieure à since, par ordre croissant"
+    )
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Lot d'événements récupéré avec succès",
+                    content = @Content(schema = @Schema(implementation = ChangeFeedDto.class))),
+            @ApiResponse(responseCode = "400", description = "Paramètres de requête invalides"),
+            @ApiResponse(responseCode = "410", description = "Événements suivant since purgés : resynchronisation nécessaire"),
+            @ApiResponse(responseCode = "500", description = "Erreur interne du serveur")
+    })
+    public ResponseEntity<?> getChanges(
+            @Parameter(description = "Dernier numéro de séquence déjà traité", example = "0")
+            @RequestParam(defaultValue = "0") long since,
+
+            @Parameter(description = "Nombre maximal d'événements (1 à 1000)", example = "100")
+            @RequestParam(defaultValue = "100") int limit) {
+
+        logger.info("Requête GET /api/changes - since: {}, limit: {}", since, limit);
+
+        try {
+            return ResponseEntity.ok(changeFeedService.getChanges(since, limit));
+        } catch (IllegalArgumentException e) {
+            logger.warn("Paramètres invalides: {}", e.getMessage());
+            return ResponseEntity.badRequest().body(
+                    Map.of("error", "Paramètres invalides", "message", e.getMessage())
+            );
+        } catch (CurseurExpireException e) {
+            logger.warn("Curseur du flux de changements expiré: {}", e.getMessage());
+            return ResponseEntity.status(HttpStatus.GONE).body(
+                    Map.of("error", "Curseur expiré", "message", e.getMessage(),
+                            "premierDisponible", e.getPremierDisponible())
+            );
+        } catch (Exception e) {
+            logger.error("Erreur lors de la lecture du flux de changements", e);
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(
+                    Map.of("error", "Erreur interne", "message", "Une erreur inattendue s'est produite")
+            );
+        }
+    }
+}
@@ -2,7 +2,10 @@ package com.api.football.controller;
 
 import com.api.football.dto.CreateEquipeRequest;
 import com.api.football.dto.EquipeDto;
+import com.api.football.dto.MultiGetDto;
+import com.api.football.effectif.ConflitEffectifException;
 import com.api.football.service.EquipeService;
+import com.api.football.streaming.StreamingPageWriter;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.media.Content;
@@ -11,14 +14,18 @@ import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
+import java.math.BigDecimal;
+import java.util.List;
 import java.util.Map;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.data.domain.Page;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.util.Optional;
 
@@ -27,6 +34,9 @@ import java.util.Optional;
  *
  * Ce contrôleur expose les endpoints pour :
  * - Récupérer la liste des équipes avec pagination et tri
+ * - Récupérer une grande page d'équipes écrite en flux
+ * - Filtrer les équipes par plage de budget et obtenir les plus riches
+ * - Récupérer plusieurs équipes par leurs IDs en un appel
  * - Créer une nouvelle équipe avec ou sans joueurs
  *
  * @author API Football API Team
@@ -42,6 +52,9 @@ public class EquipeController {
     @Autowired
     private EquipeService equipeService;
 
+    @Autowired
+    private StreamingPageWriter streamingPageWriter;
+
     /**
      * Récupère la liste des équipes avec pagination et tri.
      *
@@ -73,10 +86,16 @@ public class EquipeController {
             @RequestParam(defaultValue = "nom") String sortBy,
 
             @Parameter(description = "Direction du tri (asc, desc)", example = "asc")
-            @RequestParam(defaultValue = "asc") String sortDirection) {
+            @RequestParam(defaultValue = "asc") String sortDirection,
+
+            @Parameter(description = "Budget minimal inclus (optionnel)", example = "50000000")
+            @RequestParam(required = false) BigDecimal minBudget,
+
+            @Parameter(description = "Budget maximal inclus (optionnel)", example = "200000000")
+            @RequestParam(required = false) BigDecimal maxBudget) {
 
-        logger.info("Requête GET /api/equipes - page: {}, size: {}, sortBy: {}, sortDirection: {}",
-                page, size, sortBy, sortDirection);
+        logger.info("Requête GET /api/equipes - page: {}, size: {}, sortBy: {}, sortDirection: {}, minBudget: {}, maxBudget: {}",
+                page, size, sortBy, sortDirection, minBudget, maxBudget);
 
         try {
             // Validation des paramètres
@@ -90,7 +109,14 @@ public class EquipeController {
                 return ResponseEntity.badRequest().build();
             }
 
-            Page<EquipeDto> equipes = equipeService.getAllEquipes(page, size, sortBy, sortDirection);
+            if (minBudget != null && maxBudget != null && minBudget.compareTo(maxBudget) > 0) {
+                logger.warn("Plage de budget invalide: {} > {}", minBudget, maxBudget);
+                return ResponseEntity.badRequest().build();
+            }
+
+            Page<EquipeDto> equipes = minBudget == null && maxBudget == null
+                    ? equipeService.getAllEquipes(page, size, sortBy, sortDirection)
+                    : equipeService.getEquipesByBudget(page, size, sortBy, sortDirection, minBudget, maxBudget);
             logger.info("Retour de {} équipes sur la page {}", equipes.getContent().size(), page);
 
             return ResponseEntity.ok(equipes);
@@ -101,6 +127,120 @@ public class EquipeController {
         }
     }
 
+    /**
+     * Récupère une page d'équipes, avec leurs joueurs, écrite en flux.
+     *
+     * Une seule équipe est en mémoire à la fois ; la réponse donne
+     * {@code hasNext} à la place de {@code totalElements}.
+     *
+     * @param page le numéro de page (commence à 0, défaut: 0)
+     * @param size la taille de la page (défaut: 1000)
+     * @param sortBy le champ de tri (nom, acronyme, budget, défaut: nom)
+     * @param sortDirection la direction du tri (asc, desc, défaut: asc)
+     * @param minBudget budget minimal inclus (optionnel)
+     * @param maxBudget budget maximal inclus (optionnel)
+     * @return la page d'équipes, écrite en flux
+     */
+    @GetMapping("/stream")
+    @Operation(
+            summary = "Récupère une grande page d'équipes en flux",
+            description = "Mêmes filtres et tris que la liste paginée ; les équipes sont écrites au fil de la lecture"
+    )
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Page d'équipes écrite en flux"),
+            @ApiResponse(responseCode = "400", description = "Paramètres de requête invalides")
+    })
+    public ResponseEntity<StreamingResponseBody> streamEquipes(
+            @Parameter(description = "Numéro de page (commence à 0)", example = "0")
+            @RequestParam(defaultValue = "0") int page,
+
+            @Parameter(description = "Taille de la page (jusqu'à football.streaming.taille-max)", example = "1000")
+            @RequestParam(defaultValue = "1000") int size,
+
+            @Parameter(description = "Champ de tri (nom, acronyme, budget)", example = "nom")
+            @RequestParam(defaultValue = "nom") String sortBy,
+
+            @Parameter(description = "Direction du tri (asc, desc)", example = "asc")
+            @RequestParam(defaultValue = "asc") String sortDirection,
+
+            @Parameter(description = "Budget minimal inclus (optionnel)", example = "50000000")
+            @RequestParam(required = false) BigDecimal minBudget,
+
+            @Parameter(description = "Budget maximal inclus (optionnel)", example = "200000000")
+            @RequestParam(required = false) BigDecimal maxBudget) {
+
+        logger.info("Requête GET /api/equipes/stream - page: {}, size: {}, sortBy: {}, sortDirection: {}, minBudget: {}, maxBudget: {}",
+                page, size, sortBy, sortDirection, minBudget, maxBudget);
+
+        if (page < 0 || size <= 0 || size > streamingPageWriter.getTailleMax()) {
+            logger.warn("Pagination invalide: page {}, size {}", page, size);
+            return ResponseEntity.badRequest().build();
+        }
+        if (minBudget != null && maxBudget != null && minBudget.compareTo(maxBudget) > 0) {
+            logger.warn("Plage de budget invalide: {} > {}", minBudget, maxBudget);
+            return ResponseEntity.badRequest().build();
+        }
+
+        // Les erreurs après le début de l'écriture ne peuvent plus changer le statut
+        StreamingResponseBody corps = sortie -> streamingPageWriter.ecrireEquipes(
+                sortie, page, size, sortBy, sortDirection, minBudget, maxBudget);
+        return ResponseEntity.ok().contentType(MediaType.APPLICATION_JSON).body(corps);
+    }
+
+    /**
+     * Récupère les équipes les plus riches, par budget décroissant.
+     *
+     * Pour la suite du classement, repasser le budget et l'ID de la dernière
+     * équipe reçue (pagination par clé, sans OFFSET).
+     *
+     * @param limit le nombre d'équipes (défaut: 20)
+     * @param afterBudget le budget de la dernière équipe déjà reçue (optionnel)
+     * @param afterId l'ID de la dernière équipe déjà reçue (optionnel, avec afterBudget)
+     * @return les équipes suivantes du classement
+     */
+    @GetMapping("/top")
+    @Operation(
+            summary = "Récupère les équipes les plus riches",
+            description = "Classement par budget décroissant, paginé par clé (afterBudget, afterId)"
+    )
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Classement récupéré avec succès"),
+            @ApiResponse(responseCode = "400", description = "Paramètres de requête invalides"),
+            @ApiResponse(responseCode = "500", description = "Erreur interne du serveur")
+    })
+    public ResponseEntity<?> getTopEquipesByBudget(
+            @Parameter(description = "Nombre d'équipes (1 à 100)", example = "20")
+            @RequestParam(defaultValue = "20") int limit,
+
+            @Parameter(description = "Budget de la dernière équipe déjà reçue", example = "180000000")
+            @RequestParam(required = false) BigDecimal afterBudget,
+
+            @Parameter(description = "ID de la dernière équipe déjà reçue", example = "2")
+            @RequestParam(required = false) Long afterId) {
+
+        logger.info("Requête GET /api/equipes/top - limit: {}, afterBudget: {}, afterId: {}", limit, afterBudget, afterId);
+
+        if (limit <= 0 || limit > 100) {
+            logger.warn("Nombre d'équipes invalide: {}", limit);
+            return ResponseEntity.badRequest().build();
+        }
+
+        try {
+            List<EquipeDto> equipes = equipeService.getTopEquipesByBudget(limit, afterBudget, afterId);
+            return ResponseEntity.ok(equipes);
+        } catch (IllegalArgumentException e) {
+            logger.warn("Curseur invalide: {}", e.getMessage());
+            return ResponseEntity.badRequest().body(
+                    Map.of("error", "Paramètres invalides", "message", e.getMessage())
+            );
+        } catch (Exception e) {
+            logger.error("Erreur lors de la récupération du classement par budget", e);
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(
+                    Map.of("error", "Erreur interne", "message", "Une erreur inattendue s'est produite")
+            );
+        }
+    }
+
     /**
      * Crée une nouvelle équipe avec ou sans joueurs.
      *
@@ -116,7 +256,7 @@ public class EquipeController {
             @ApiResponse(responseCode = "201", description = "Équipe créée avec succès",
                     content = @Content(schema = @Schema(implementation = EquipeDto.class))),
             @ApiResponse(responseCode = "400", description = "Données de requête invalides"),
-            @ApiResponse(responseCode = "409", description = "Conflit - équipe avec acronyme/nom existant"),
+            @ApiResponse(responseCode = "409", description = "Conflit - équipe avec acronyme/nom existant, ou effectif initial au-delà des limites"),
             @ApiResponse(responseCode = "500", description = "Erreur interne du serveur")
     })
     public ResponseEntity<?> createEquipe(@Valid @RequestBody CreateEquipeRequest request) {
@@ -133,6 +273,11 @@ public class EquipeController {
             return ResponseEntity.status(HttpStatus.CONFLICT).body(
                     Map.of("error", "Erreur de validation", "message", e.getMessage())
             );
+        } catch (ConflitEffectifException e) {
+            logger.warn("Effectif initial refusé: {}", e.getMessage());
+            return ResponseEntity.status(HttpStatus.CONFLICT).body(
+                    Map.of("error", "Conflit d'effectif", "message", e.getMessage())
+            );
         } catch (Exception e) {
             logger.error("Erreur lors de la création de l'équipe", e);
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(
@@ -158,7 +303,7 @@ public class EquipeController {
                     content = @Content(schema = @Schema(implementation = EquipeDto.class))),
             @ApiResponse(responseCode = "400", description = "Paramètres invalides"),
             @ApiResponse(responseCode = "404", description = "Équipe ou joueur non trouvé"),
-            @ApiResponse(responseCode = "409", description = "Le joueur est déjà dans une équipe"),
+            @ApiResponse(responseCode = "409", description = "Effectif de l'équipe ou du poste complet, ou ajout concurrent du même joueur"),
             @ApiResponse(responseCode = "500", description = "Erreur interne du serveur")
     })
     public ResponseEntity<?> ajouterJoueur(
@@ -181,6 +326,11 @@ public class EquipeController {
             return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(
                     Map.of("error", "Erreur de validation", "message", e.getMessage())
             );
+        } catch (ConflitEffectifException e) {
+            logger.warn("Ajout du joueur refusé: {}", e.getMessage());
+            return ResponseEntity.status(HttpStatus.CONFLICT).body(
+                    Map.of("error", "Conflit d'effectif", "message", e.getMessage())
+            );
         } catch (Exception e) {
             logger.error("Erreur lors de l'ajout du joueur", e);
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(
@@ -199,14 +349,14 @@ public class EquipeController {
     @DeleteMapping("/{equipeId}/joueurs/{joueurId}")
     @Operation(
             summary = "Retire un joueur d'une équipe",
-            description = "Retire un joueur d'une équipe existante"
+            description = "Retire un joueur d'une équipe existante ; le joueur est conservé comme joueur libre"
     )
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Joueur retiré avec succès de l'équipe",
                     content = @Content(schema = @Schema(implementation = EquipeDto.class))),
             @ApiResponse(responseCode = "400", description = "Paramètres invalides"),
             @ApiResponse(responseCode = "404", description = "Équipe ou joueur non trouvé"),
-            @ApiResponse(responseCode = "409", description = "Le joueur n'appartient pas à cette équipe"),
+            @ApiResponse(responseCode = "409", description = "Le joueur a changé d'équipe pendant le retrait"),
             @ApiResponse(responseCode = "500", description = "Erreur interne du serveur")
     })
     public ResponseEntity<?> retirerJoueur(
@@ -229,6 +379,11 @@ public class EquipeController {
             return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(
                     Map.of("error", "Erreur de validation", "message", e.getMessage())
             );
+        } catch (ConflitEffectifException e) {
+            logger.warn("Retrait du joueur refusé: {}", e.getMessage());
+            return ResponseEntity.status(HttpStatus.CONFLICT).body(
+                    Map.of("error", "Conflit d'effectif", "message", e.getMessage())
+            );
         } catch (Exception e) {
             logger.error("Erreur lors du retrait du joueur", e);
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(
@@ -270,6 +425,74 @@ public class EquipeController {
         }
     }
 
+    /**
+     * Récupère plusieurs équipes par leurs identifiants.
+     *
+     * @param ids les identifiants, séparés par des virgules
+     * @return les équipes dans l'ordre de la demande et les identifiants inconnus
+     */
+    @GetMapping(params = "ids")
+    @Operation(
+            summary = "Récupère plusieurs équipes par ID",
+            description = "Récupère en un appel les équipes demandées, dans l'ordre des identifiants, et liste les identifiants inconnus"
+    )
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Équipes récupérées",
+                    content = @Content(schema = @Schema(implementation = MultiGetDto.class))),
+            @ApiResponse(responseCode = "400", description = "Liste d'identifiants vide ou trop longue"),
+            @ApiResponse(responseCode = "500", description = "Erreur interne du serveur")
+    })
+    public ResponseEntity<?> getEquipesByIds(
+            @Parameter(description = "Identifiants séparés par des virgules", example = "1,2,3")
+            @RequestParam List<Long> ids) {
+
+        logger.info("Requête GET /api/equipes?ids= - {} identifiants", ids.size());
+        return multiGet(ids);
+    }
+
+    /**
+     * Récupère plusieurs équipes par leurs identifiants, passés dans le corps
+     * de la requête pour les listes trop longues pour une URL.
+     *
+     * @param ids les identifiants
+     * @return les équipes dans l'ordre de la demande et les identifiants inconnus
+     */
+    @PostMapping("/lookup")
+    @Operation(
+            summary = "Récupère plusieurs équipes par ID (corps de requête)",
+            description = "Variante de GET /api/equipes?ids= pour les longues listes d'identifiants"
+    )
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Équipes récupérées",
+                    content = @Content(schema = @Schema(implementation = MultiGetDto.class))),
+            @ApiResponse(responseCode = "400", description = "Liste d'identifiants vide ou trop longue"),
+            @ApiResponse(responseCode = "500", description = "Erreur interne du serveur")
+    })
+    public ResponseEntity<?> lookupEquipes(@RequestBody List<Long> ids) {
+        logger.info("Requête POST /api/equipes/lookup - {} identifiants", ids != null ? ids.size() : 0);
+        return multiGet(ids);
+    }
+
+    private ResponseEntity<?> multiGet(List<Long> ids) {
+        try {
+            MultiGetDto<EquipeDto> resultat = equipeService.getEquipesByIds(ids);
+            logger.info("Retour de {} équipes, {} identifiants inconnus",
+                    resultat.getElements().size(), resultat.getIdsManquants().size());
+            return ResponseEntity.ok(resultat);
+
+        } catch (IllegalArgumentException e) {
+            logger.warn("Lecture multiple invalide: {}", e.getMessage());
+            return ResponseEntity.badRequest().body(
+                    Map.of("error", "Paramètres invalides", "message", e.getMessage())
+            );
+        } catch (Exception e) {
+            logger.error("Erreur lors de la lecture multiple des équipes", e);
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(
+                    Map.of("error", "Erreur interne", "message", "Une erreur inattendue s'est produite")
+            );
+        }
+    }
+
     /**
      * Récupère une équipe par son acronyme.
      *
@@ -0,0 +1,61 @@
+package com.api.football.controller;
+
+import com.api.football.dto.ExportDto;
+import com.api.football.export.ColumnarExportService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import java.util.Map;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+/**
+ * Contrôleur REST d'administration des exports en colonnes.
+ *
+ * @author API Football API Team
+ * @version 1.0.0
+ */
+@RestController
+@RequestMapping("/api/admin/exports")
+@Tag(name = "Administration", description = "Exports en colonnes des équipes et des joueurs")
+public class ExportController {
+
+    private static final Logger logger = LoggerFactory.getLogger(ExportController.class);
+
+    @Autowired
+    private ColumnarExportService exportService;
+
+    /**
+     * Exporte les équipes et les joueurs en fichiers Parquet.
+     *
+     * @return l'export créé
+     */
+    @PostMapping
+    @Operation(summary = "Crée un export en colonnes",
+            description = "Écrit les équipes et les joueurs en fichiers Parquet (equipes.parquet, joueurs.parquet), "
+                    + "dans un répertoire publié atomiquement")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "201", description = "Export créé",
+                    content = @Content(schema = @Schema(implementation = ExportDto.class))),
+            @ApiResponse(responseCode = "500", description = "Erreur interne du serveur")
+    })
+    public ResponseEntity<?> exporter() {
+        logger.info("Requête POST /api/admin/exports");
+
+        try {
+            return ResponseEntity.status(HttpStatus.CREATED).body(exportService.exporter());
+        } catch (Exception e) {
+            logger.error("Erreur lors de l'export en colonnes", e);
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(
+                    Map.of("error", "Erreur interne", "message", "Une erreur inattendue s'est produite")
+            );
+        }
+    }
+}
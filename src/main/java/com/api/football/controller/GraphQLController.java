@@ -0,0 +1,77 @@
+package com.api.football.controller;
+
+import com.api.football.dto.GraphQLRequest;
+import com.api.football.graphql.GraphQLExecutor;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import java.util.List;
+import java.util.Map;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+/**
+ * Contrôleur GraphQL : chaque client choisit les champs des équipes et des
+ * joueurs dont il a besoin, effectifs et équipes imbriqués compris.
+ *
+ * Les erreurs suivent le format GraphQL ({@code errors}, liste de messages).
+ *
+ * @author API Football API Team
+ * @version 1.0.0
+ */
+@RestController
+@RequestMapping("/graphql")
+@Tag(name = "GraphQL", description = "Requêtes GraphQL sur les équipes et les joueurs")
+public class GraphQLController {
+
+    private static final Logger logger = LoggerFactory.getLogger(GraphQLController.class);
+
+    @Autowired
+    private GraphQLExecutor graphQLExecutor;
+
+    /**
+     * Exécute une requête GraphQL.
+     *
+     * @param request la requête et ses variables
+     * @return la réponse GraphQL
+     */
+    @PostMapping
+    @Operation(
+            summary = "Exécute une requête GraphQL",
+            description = "Champs de premier niveau : equipes, equipe, joueurs, joueur. Les champs imbriqués "
+                    + "Equipe.joueurs et Joueur.equipe sont chargés par lots ; la profondeur et le coût estimé "
+                    + "des requêtes sont limités. Sous-ensemble de GraphQL pris en charge : une opération query "
+                    + "(variables et valeurs par défaut comprises), alias, fragments nommés et en ligne, "
+                    + "directives @include et @skip, et __typename. Non pris en charge : mutations, "
+                    + "abonnements, plusieurs opérations par document, introspection (__schema, __type), "
+                    + "autres directives, valeurs objets et chaînes en bloc"
+    )
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Requête exécutée"),
+            @ApiResponse(responseCode = "400", description = "Requête invalide, trop profonde ou trop coûteuse"),
+            @ApiResponse(responseCode = "500", description = "Erreur interne du serveur")
+    })
+    public ResponseEntity<?> executer(@RequestBody GraphQLRequest request) {
+        logger.info("Requête POST /graphql - {}", request);
+
+        try {
+            return ResponseEntity.ok(graphQLExecutor.executer(request.getQuery(), request.getVariables()));
+
+        } catch (IllegalArgumentException e) {
+            logger.warn("Requête GraphQL invalide: {}", e.getMessage());
+            return ResponseEntity.badRequest().body(
+                    Map.of("errors", List.of(Map.of("message", e.getMessage())))
+            );
+        } catch (Exception e) {
+            logger.error("Erreur lors de l'exécution de la requête GraphQL", e);
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(
+                    Map.of("errors", List.of(Map.of("message", "Une erreur inattendue s'est produite")))
+            );
+        }
+    }
+}
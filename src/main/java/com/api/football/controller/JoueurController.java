@@ -2,7 +2,11 @@ package com.api.football.controller;
 
 import com.api.football.dto.CreateJoueurRequest;
 import com.api.football.dto.JoueurDto;
+import com.api.football.dto.MultiGetDto;
+import com.api.football.dto.SuppressionDto;
+import com.api.football.effectif.ConflitEffectifException;
 import com.api.football.service.JoueurService;
+import com.api.football.streaming.StreamingPageWriter;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.media.Content;
@@ -11,14 +15,18 @@ import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
+import java.util.List;
 import java.util.Map;
+import java.util.function.Supplier;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.data.domain.Page;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.util.Optional;
 
@@ -27,10 +35,13 @@ import java.util.Optional;
  *
  * Ce contrôleur expose les endpoints pour :
  * - Récupérer la liste des joueurs avec pagination et tri
+ * - Récupérer une grande page de joueurs écrite en flux
  * - Créer un nouveau joueur
  * - Récupérer un joueur par ID
+ * - Récupérer plusieurs joueurs par leurs IDs en un appel
  * - Mettre à jour un joueur
  * - Supprimer un joueur
+ * - Supprimer des joueurs en masse, par IDs ou par équipe et position
  * - Transférer un joueur entre équipes
  *
  * @author API Football API Team
@@ -46,6 +57,9 @@ public class JoueurController {
     @Autowired
     private JoueurService joueurService;
 
+    @Autowired
+    private StreamingPageWriter streamingPageWriter;
+
     /**
      * Récupère la liste des joueurs avec pagination et tri.
      *
@@ -113,6 +127,63 @@ public class JoueurController {
         }
     }
 
+    /**
+     * Récupère une page de joueurs écrite en flux, pour les grandes pages.
+     *
+     * Les joueurs sont écrits au fil de la lecture, sans construire la liste
+     * de la page ni compter le total : la réponse donne {@code hasNext} à la
+     * place de {@code totalElements}.
+     *
+     * @param page le numéro de page (commence à 0, défaut: 0)
+     * @param size la taille de la page (défaut: 1000)
+     * @param sortBy le champ de tri (nom, position, défaut: nom)
+     * @param sortDirection la direction du tri (asc, desc, défaut: asc)
+     * @param equipeId filtre par équipe (optionnel)
+     * @param position filtre par position (optionnel)
+     * @return la page de joueurs, écrite en flux
+     */
+    @GetMapping("/stream")
+    @Operation(
+            summary = "Récupère une grande page de joueurs en flux",
+            description = "Mêmes filtres et tris que la liste paginée ; les joueurs sont écrits au fil de la lecture"
+    )
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Page de joueurs écrite en flux"),
+            @ApiResponse(responseCode = "400", description = "Paramètres de requête invalides")
+    })
+    public ResponseEntity<StreamingResponseBody> streamJoueurs(
+            @Parameter(description = "Numéro de page (commence à 0)", example = "0")
+            @RequestParam(defaultValue = "0") int page,
+
+            @Parameter(description = "Taille de la page (jusqu'à football.streaming.taille-max)", example = "1000")
+            @RequestParam(defaultValue = "1000") int size,
+
+            @Parameter(description = "Champ de tri (nom, position)", example = "nom")
+            @RequestParam(defaultValue = "nom") String sortBy,
+
+            @Parameter(description = "Direction du tri (asc, desc)", example = "asc")
+            @RequestParam(defaultValue = "asc") String sortDirection,
+
+            @Parameter(description = "Filtrer par ID d'équipe", example = "1")
+            @RequestParam(required = false) Long equipeId,
+
+            @Parameter(description = "Filtrer par position", example = "Gardien")
+            @RequestParam(required = false) String position) {
+
+        logger.info("Requête GET /api/joueurs/stream - page: {}, size: {}, sortBy: {}, sortDirection: {}, equipeId: {}, position: {}",
+                page, size, sortBy, sortDirection, equipeId, position);
+
+        if (page < 0 || size <= 0 || size > streamingPageWriter.getTailleMax()) {
+            logger.warn("Pagination invalide: page {}, size {}", page, size);
+            return ResponseEntity.badRequest().build();
+        }
+
+        // Les erreurs après le début de l'écriture ne peuvent plus changer le statut
+        StreamingResponseBody corps = sortie -> streamingPageWriter.ecrireJoueurs(
+                sortie, page, size, sortBy, sortDirection, equipeId, position);
+        return ResponseEntity.ok().contentType(MediaType.APPLICATION_JSON).body(corps);
+    }
+
     /**
      * Crée un nouveau joueur.
      *
@@ -129,7 +200,7 @@ public class JoueurController {
                     content = @Content(schema = @Schema(implementation = JoueurDto.class))),
             @ApiResponse(responseCode = "400", description = "Données de requête invalides"),
             @ApiResponse(responseCode = "404", description = "Équipe non trouvée"),
-            @ApiResponse(responseCode = "409", description = "Conflit - joueur avec nom existant"),
+            @ApiResponse(responseCode = "409", description = "Conflit - joueur avec nom existant, ou effectif de l'équipe ou du poste complet"),
             @ApiResponse(responseCode = "500", description = "Erreur interne du serveur")
     })
     public ResponseEntity<?> createJoueur(@Valid @RequestBody CreateJoueurRequest request) {
@@ -146,6 +217,11 @@ public class JoueurController {
             return ResponseEntity.status(HttpStatus.CONFLICT).body(
                     Map.of("error", "Erreur de validation", "message", e.getMessage())
             );
+        } catch (ConflitEffectifException e) {
+            logger.warn("Effectif complet lors de la création du joueur: {}", e.getMessage());
+            return ResponseEntity.status(HttpStatus.CONFLICT).body(
+                    Map.of("error", "Conflit d'effectif", "message", e.getMessage())
+            );
         } catch (Exception e) {
             logger.error("Erreur lors de la création du joueur", e);
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(
@@ -194,6 +270,74 @@ public class JoueurController {
         }
     }
 
+    /**
+     * Récupère plusieurs joueurs par leurs identifiants.
+     *
+     * @param ids les identifiants, séparés par des virgules
+     * @return les joueurs dans l'ordre de la demande et les identifiants inconnus
+     */
+    @GetMapping(params = "ids")
+    @Operation(
+            summary = "Récupère plusieurs joueurs par ID",
+            description = "Récupère en un appel les joueurs demandés, dans l'ordre des identifiants, et liste les identifiants inconnus"
+    )
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Joueurs récupérés",
+                    content = @Content(schema = @Schema(implementation = MultiGetDto.class))),
+            @ApiResponse(responseCode = "400", description = "Liste d'identifiants vide ou trop longue"),
+            @ApiResponse(responseCode = "500", description = "Erreur interne du serveur")
+    })
+    public ResponseEntity<?> getJoueursByIds(
+            @Parameter(description = "Identifiants séparés par des virgules", example = "1,2,3")
+            @RequestParam List<Long> ids) {
+
+        logger.info("Requête GET /api/joueurs?ids= - {} identifiants", ids.size());
+        return multiGet(ids);
+    }
+
+    /**
+     * Récupère plusieurs joueurs par leurs identifiants, passés dans le corps
+     * de la requête pour les listes trop longues pour une URL.
+     *
+     * @param ids les identifiants
+     * @return les joueurs dans l'ordre de la demande et les identifiants inconnus
+     */
+    @PostMapping("/lookup")
+    @Operation(
+            summary = "Récupère plusieurs joueurs par ID (corps de requête)",
+            description = "Variante de GET /api/joueurs?ids= pour les longues listes d'identifiants"
+    )
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Joueurs récupérés",
+                    content = @Content(schema = @Schema(implementation = MultiGetDto.class))),
+            @ApiResponse(responseCode = "400", description = "Liste d'identifiants vide ou trop longue"),
+            @ApiResponse(responseCode = "500", description = "Erreur interne du serveur")
+    })
+    public ResponseEntity<?> lookupJoueurs(@RequestBody List<Long> ids) {
+        logger.info("Requête POST /api/joueurs/lookup - {} identifiants", ids != null ? ids.size() : 0);
+        return multiGet(ids);
+    }
+
+    private ResponseEntity<?> multiGet(List<Long> ids) {
+        try {
+            MultiGetDto<JoueurDto> resultat = joueurService.getJoueursByIds(ids);
+            logger.info("Retour de {} joueurs, {} identifiants inconnus",
+                    resultat.getElements().size(), resultat.getIdsManquants().size());
+            return ResponseEntity.ok(resultat);
+
+        } catch (IllegalArgumentException e) {
+            logger.warn("Lecture multiple invalide: {}", e.getMessage());
+            return ResponseEntity.badRequest().body(
+                    Map.of("error", "Paramètres invalides", "message", e.getMessage())
+            );
+        } catch (Exception e) {
+            logger.error("Erreur lors de la lecture multiple des joueurs", e);
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(
+                    Map.of("error", "Erreur interne", "message", "Une erreur inattendue s'est produite")
+            );
+        }
+    }
+
     /**
      * Transfère un joueur vers une autre équipe.
      *
@@ -210,6 +354,7 @@ public class JoueurController {
             @ApiResponse(responseCode = "200", description = "Joueur transféré avec succès",
                     content = @Content(schema = @Schema(implementation = JoueurDto.class))),
             @ApiResponse(responseCode = "404", description = "Joueur ou équipe non trouvé"),
+            @ApiResponse(responseCode = "409", description = "Effectif de l'équipe ou du poste complet, ou transfert concurrent"),
             @ApiResponse(responseCode = "500", description = "Erreur interne du serveur")
     })
     public ResponseEntity<?> transferJoueur(
@@ -232,6 +377,11 @@ public class JoueurController {
             return ResponseEntity.status(HttpStatus.NOT_FOUND).body(
                     Map.of("error", "Erreur de transfert", "message", e.getMessage())
             );
+        } catch (ConflitEffectifException e) {
+            logger.warn("Transfert refusé: {}", e.getMessage());
+            return ResponseEntity.status(HttpStatus.CONFLICT).body(
+                    Map.of("error", "Conflit d'effectif", "message", e.getMessage())
+            );
         } catch (Exception e) {
             logger.error("Erreur lors du transfert du joueur avec l'ID: {}", id, e);
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(
@@ -279,4 +429,77 @@ public class JoueurController {
         }
     }
 
+    /**
+     * Supprime plusieurs joueurs par leurs identifiants.
+     *
+     * @param ids les identifiants, séparés par des virgules
+     * @return les identifiants supprimés et les identifiants inconnus
+     */
+    @DeleteMapping(params = "ids")
+    @Operation(
+            summary = "Supprime plusieurs joueurs par ID",
+            description = "Supprime en une seule instruction les joueurs demandés et liste les identifiants inconnus"
+    )
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Joueurs supprimés",
+                    content = @Content(schema = @Schema(implementation = SuppressionDto.class))),
+            @ApiResponse(responseCode = "400", description = "Liste d'identifiants vide ou trop longue"),
+            @ApiResponse(responseCode = "500", description = "Erreur interne du serveur")
+    })
+    public ResponseEntity<?> deleteJoueursByIds(
+            @Parameter(description = "Identifiants séparés par des virgules", example = "1,2,3")
+            @RequestParam List<Long> ids) {
+
+        logger.info("Requête DELETE /api/joueurs?ids= - {} identifiants", ids.size());
+        return suppressionGroupee(() -> joueurService.deleteJoueurs(ids));
+    }
+
+    /**
+     * Supprime les joueurs d'une équipe et/ou d'une position.
+     *
+     * @param equipeId filtre par équipe (optionnel)
+     * @param position filtre par position exacte (optionnel)
+     * @return les identifiants supprimés
+     */
+    @DeleteMapping
+    @Operation(
+            summary = "Supprime des joueurs par filtre",
+            description = "Supprime en une seule instruction les joueurs d'une équipe et/ou d'une position ; "
+                    + "au moins un filtre est obligatoire"
+    )
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Joueurs supprimés",
+                    content = @Content(schema = @Schema(implementation = SuppressionDto.class))),
+            @ApiResponse(responseCode = "400", description = "Aucun filtre fourni"),
+            @ApiResponse(responseCode = "500", description = "Erreur interne du serveur")
+    })
+    public ResponseEntity<?> deleteJoueursByFilter(
+            @Parameter(description = "ID de l'équipe", example = "1")
+            @RequestParam(required = false) Long equipeId,
+
+            @Parameter(description = "Position exacte", example = "Gardien")
+            @RequestParam(required = false) String position) {
+
+        logger.info("Requête DELETE /api/joueurs - equipeId: {}, position: {}", equipeId, position);
+        return suppressionGroupee(() -> joueurService.deleteJoueurs(equipeId, position));
+    }
+
+    private ResponseEntity<?> suppressionGroupee(Supplier<SuppressionDto> suppression) {
+        try {
+            SuppressionDto resultat = suppression.get();
+            logger.info("{} joueurs supprimés", resultat.getNombreSupprimes());
+            return ResponseEntity.ok(resultat);
+
+        } catch (IllegalArgumentException e) {
+            logger.warn("Suppression groupée invalide: {}", e.getMessage());
+            return ResponseEntity.badRequest().body(
+                    Map.of("error", "Paramètres invalides", "message", e.getMessage())
+            );
+        } catch (Exception e) {
+            logger.error("Erreur lors de la suppression groupée des joueurs", e);
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(
+                    Map.of("error", "Erreur interne", "message", "Une erreur inattendue s'est produite")
+            );
+        }
+    }
 }
@@ -0,0 +1,47 @@
+package com.api.football.controller;
+
+import com.api.football.metrics.MetricsSource;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+/**
+ * Contrôleur REST d'exposition des mesures internes de l'application.
+ *
+ * @author API Football API Team
+ * @version 1.0.0
+ */
+@RestController
+@RequestMapping("/api/admin/metrics")
+@Tag(name = "Administration", description = "Mesures internes de l'application")
+public class MetricsController {
+
+    private static final Logger logger = LoggerFactory.getLogger(MetricsController.class);
+
+    @Autowired(required = false)
+    private List<MetricsSource> sources = List.of();
+
+    /**
+     * Récupère les mesures de tous les composants instrumentés.
+     *
+     * @return les mesures, regroupées par composant
+     */
+    @GetMapping
+    @Operation(summary = "Mesures internes", description = "Compteurs des composants instrumentés, par composant")
+    public ResponseEntity<Map<String, Map<String, Number>>> getMetriques() {
+        logger.debug("Requête GET /api/admin/metrics");
+
+        Map<String, Map<String, Number>> metriques = new TreeMap<>();
+        for (MetricsSource source : sources) {
+            metriques.put(source.getNomMetriques(), new TreeMap<>(source.getMetriques()));
+        }
+        return ResponseEntity.ok(metriques);
+    }
+}
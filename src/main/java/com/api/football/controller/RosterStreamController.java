@@ -0,0 +1,90 @@
+package com.api.football.controller;
+
+import com.api.football.service.EquipeService;
+import com.api.football.stream.RosterStreamService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+/**
+ * Contrôleur REST de diffusion des changements d'effectifs (Server-Sent Events).
+ *
+ * Remplace l'interrogation périodique de {@code GET /api/equipes/{id}} par les
+ * tableaux de bord. Les événements émis sont :
+ * - {@code snapshot} : état complet de l'équipe suivie (à l'ouverture et après resynchronisation)
+ * - {@code change} : un changement d'effectif validé
+ * - {@code resync} : des changements ont été abandonnés, l'état doit être relu
+ *
+ * @author API Football API Team
+ * @version 1.0.0
+ */
+@RestController
+@RequestMapping("/api/stream/equipes")
+@Tag(name = "Diffusion", description = "Diffusion en temps réel des changements d'effectifs")
+public class RosterStreamController {
+
+    private static final Logger logger = LoggerFactory.getLogger(RosterStreamController.class);
+
+    @Autowired
+    private RosterStreamService rosterStreamService;
+
+    @Autowired
+    private EquipeService equipeService;
+
+    /**
+     * Ouvre un flux des changements de toutes les équipes.
+     *
+     * @return le flux d'événements ou 503 si le nombre maximal de connexions est atteint
+     */
+    @GetMapping(produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    @Operation(summary = "Suit toutes les équipes", description = "Diffuse les changements d'effectif de toutes les équipes")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Flux ouvert"),
+            @ApiResponse(responseCode = "503", description = "Nombre maximal de connexions atteint")
+    })
+    public ResponseEntity<SseEmitter> suivreToutesLesEquipes() {
+        logger.info("Requête GET /api/stream/equipes");
+        return rosterStreamService.abonner(null)
+                .map(ResponseEntity::ok)
+                .orElseGet(() -> ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).build());
+    }
+
+    /**
+     * Ouvre un flux des changements d'une équipe.
+     *
+     * @param id l'identifiant de l'équipe
+     * @return le flux d'événements, 404 si l'équipe n'existe pas ou 503 si le
+     *         nombre maximal de connexions est atteint
+     */
+    @GetMapping(value = "/{id}", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    @Operation(summary = "Suit une équipe", description = "Diffuse l'effectif courant puis ses changements")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Flux ouvert"),
+            @ApiResponse(responseCode = "404", description = "Équipe non trouvée"),
+            @ApiResponse(responseCode = "503", description = "Nombre maximal de connexions atteint")
+    })
+    public ResponseEntity<SseEmitter> suivreEquipe(
+            @Parameter(description = "ID de l'équipe", example = "1")
+            @PathVariable Long id) {
+
+        logger.info("Requête GET /api/stream/equipes/{}", id);
+
+        if (equipeService.getEquipeById(id).isEmpty()) {
+            logger.warn("Équipe non trouvée avec l'ID: {}", id);
+            return ResponseEntity.notFound().build();
+        }
+        return rosterStreamService.abonner(id)
+                .map(ResponseEntity::ok)
+                .orElseGet(() -> ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).build());
+    }
+}
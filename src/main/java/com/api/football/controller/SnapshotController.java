@@ -0,0 +1,113 @@
+package com.api.football.controller;
+
+import com.api.football.dto.SnapshotDto;
+import com.api.football.persistence.DatabaseSnapshotService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import java.util.List;
+import java.util.Map;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+/**
+ * Contrôleur REST d'administration des instantanés de la base persistante.
+ *
+ * Disponible uniquement avec le profil {@code persistent}.
+ *
+ * @author API Football API Team
+ * @version 1.0.0
+ */
+@RestController
+@RequestMapping("/api/admin/snapshots")
+@Profile("persistent")
+@Tag(name = "Administration", description = "Instantanés et restauration de la base persistante")
+public class SnapshotController {
+
+    private static final Logger logger = LoggerFactory.getLogger(SnapshotController.class);
+
+    @Autowired
+    private DatabaseSnapshotService snapshotService;
+
+    /**
+     * Crée un instantané cohérent de la base.
+     *
+     * @return l'instantané créé
+     */
+    @PostMapping
+    @Operation(summary = "Crée un instantané", description = "Copie une image cohérente de la base sans l'arrêter")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "201", description = "Instantané créé",
+                    content = @Content(schema = @Schema(implementation = SnapshotDto.class))),
+            @ApiResponse(responseCode = "500", description = "Erreur interne du serveur")
+    })
+    public ResponseEntity<?> creerInstantane() {
+        logger.info("Requête POST /api/admin/snapshots");
+
+        try {
+            return ResponseEntity.status(HttpStatus.CREATED).body(snapshotService.creerInstantane());
+        } catch (Exception e) {
+            logger.error("Erreur lors de la création de l'instantané", e);
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(
+                    Map.of("error", "Erreur interne", "message", "Une erreur inattendue s'est produite")
+            );
+        }
+    }
+
+    /**
+     * Liste les instantanés disponibles.
+     *
+     * @return les instantanés, du plus récent au plus ancien
+     */
+    @GetMapping
+    @Operation(summary = "Liste les instantanés", description = "Liste les instantanés du plus récent au plus ancien")
+    public ResponseEntity<List<SnapshotDto>> listerInstantanes() {
+        logger.info("Requête GET /api/admin/snapshots");
+        return ResponseEntity.ok(snapshotService.listerInstantanes());
+    }
+
+    /**
+     * Restaure la base à partir d'un instantané.
+     *
+     * @param nom le nom de l'instantané
+     * @return l'instantané restauré
+     */
+    @PostMapping("/{nom}/restore")
+    @Operation(summary = "Restaure un instantané",
+            description = "Remplace la base par l'instantané ; les requêtes sont suspendues pendant l'opération")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Instantané restauré",
+                    content = @Content(schema = @Schema(implementation = SnapshotDto.class))),
+            @ApiResponse(responseCode = "404", description = "Instantané non trouvé"),
+            @ApiResponse(responseCode = "500", description = "Erreur interne du serveur")
+    })
+    public ResponseEntity<?> restaurerInstantane(
+            @Parameter(description = "Nom de l'instantané", example = "snapshot-20240101-120000000.zip")
+            @PathVariable String nom) {
+
+        logger.info("Requête POST /api/admin/snapshots/{}/restore", nom);
+
+        try {
+            return ResponseEntity.ok(snapshotService.restaurerInstantane(nom));
+        } catch (IllegalArgumentException e) {
+            logger.warn("Restauration impossible: {}", e.getMessage());
+            return ResponseEntity.status(HttpStatus.NOT_FOUND).body(
+                    Map.of("error", "Instantané introuvable", "message", e.getMessage())
+            );
+        } catch (Exception e) {
+            logger.error("Erreur lors de la restauration de l'instantané {}", nom, e);
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(
+                    Map.of("error", "Erreur interne", "message", "Une erreur inattendue s'est produite")
+            );
+        }
+    }
+}
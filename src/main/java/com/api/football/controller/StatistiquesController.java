@@ -0,0 +1,94 @@
+package com.api.football.controller;
+
+import com.api.football.dto.StatistiquesEquipeDto;
+import com.api.football.dto.StatistiquesLigueDto;
+import com.api.football.service.StatistiquesService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import java.util.List;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+/**
+ * Contrôleur REST des statistiques d'effectifs.
+ *
+ * Ce contrôleur expose les endpoints pour :
+ * - Récupérer les statistiques globales (budgets, répartition par position)
+ * - Récupérer la composition de l'effectif de chaque équipe
+ * - Récupérer la composition de l'effectif d'une équipe
+ *
+ * @author API Football API Team
+ * @version 1.0.0
+ */
+@RestController
+@RequestMapping("/api/stats")
+@Tag(name = "Statistiques", description = "Statistiques agrégées des effectifs")
+public class StatistiquesController {
+
+    private static final Logger logger = LoggerFactory.getLogger(StatistiquesController.class);
+
+    @Autowired
+    private StatistiquesService statistiquesService;
+
+    /**
+     * Récupère les statistiques globales.
+     *
+     * @return les statistiques globales
+     */
+    @GetMapping
+    @Operation(summary = "Statistiques globales",
+            description = "Nombre d'équipes et de joueurs, budget total et moyen, joueurs par position")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Statistiques récupérées avec succès",
+                    content = @Content(schema = @Schema(implementation = StatistiquesLigueDto.class))),
+            @ApiResponse(responseCode = "500", description = "Erreur interne du serveur")
+    })
+    public ResponseEntity<StatistiquesLigueDto> getStatistiquesLigue() {
+        logger.info("Requête GET /api/stats");
+        return ResponseEntity.ok(statistiquesService.getStatistiquesLigue());
+    }
+
+    /**
+     * Récupère la composition de l'effectif de toutes les équipes.
+     *
+     * @return les statistiques par équipe
+     */
+    @GetMapping("/equipes")
+    @Operation(summary = "Statistiques par équipe", description = "Joueurs par position pour chaque équipe")
+    public ResponseEntity<List<StatistiquesEquipeDto>> getStatistiquesEquipes() {
+        logger.info("Requête GET /api/stats/equipes");
+        return ResponseEntity.ok(statistiquesService.getStatistiquesEquipes());
+    }
+
+    /**
+     * Récupère la composition de l'effectif d'une équipe.
+     *
+     * @param id l'identifiant de l'équipe
+     * @return les statistiques de l'équipe ou 404 si elle n'existe pas
+     */
+    @GetMapping("/equipes/{id}")
+    @Operation(summary = "Statistiques d'une équipe", description = "Joueurs par position pour une équipe")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Statistiques récupérées avec succès",
+                    content = @Content(schema = @Schema(implementation = StatistiquesEquipeDto.class))),
+            @ApiResponse(responseCode = "404", description = "Équipe non trouvée")
+    })
+    public ResponseEntity<StatistiquesEquipeDto> getStatistiquesEquipe(
+            @Parameter(description = "ID de l'équipe", example = "1")
+            @PathVariable Long id) {
+
+        logger.info("Requête GET /api/stats/equipes/{}", id);
+
+        return statistiquesService.getStatistiquesEquipe(id)
+                .map(ResponseEntity::ok)
+                .orElseGet(() -> ResponseEntity.notFound().build());
+    }
+}
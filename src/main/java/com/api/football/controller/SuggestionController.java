@@ -0,0 +1,76 @@
+package com.api.football.controller;
+
+import com.api.football.dto.SuggestionDto;
+import com.api.football.suggest.Suggestion;
+import com.api.football.suggest.SuggestionIndex;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import java.util.List;
+import java.util.stream.Collectors;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+/**
+ * Contrôleur REST d'autocomplétion des noms de joueurs et d'équipes.
+ *
+ * Les suggestions sont servies depuis un index en mémoire, sans accès à la base.
+ *
+ * @author API Football API Team
+ * @version 1.0.0
+ */
+@RestController
+@RequestMapping("/api/suggest")
+@Tag(name = "Autocomplétion", description = "Suggestions de joueurs et d'équipes par préfixe")
+public class SuggestionController {
+
+    private static final Logger logger = LoggerFactory.getLogger(SuggestionController.class);
+
+    @Autowired
+    private SuggestionIndex suggestionIndex;
+
+    /**
+     * Suggère des joueurs et des équipes dont un mot commence par le texte saisi.
+     *
+     * @param q le texte saisi
+     * @param limit le nombre maximal de suggestions (défaut: 10)
+     * @param type restreint aux joueurs ou aux équipes (optionnel)
+     * @return les suggestions, les plus populaires d'abord
+     */
+    @GetMapping
+    @Operation(
+            summary = "Suggère des joueurs et des équipes",
+            description = "Recherche par début de mot du nom ou par acronyme, insensible à la casse et aux accents"
+    )
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Suggestions récupérées avec succès"),
+            @ApiResponse(responseCode = "400", description = "Paramètres de requête invalides")
+    })
+    public ResponseEntity<List<SuggestionDto>> suggerer(
+            @Parameter(description = "Texte saisi", example = "mba")
+            @RequestParam String q,
+
+            @Parameter(description = "Nombre maximal de suggestions (1 à 20)", example = "10")
+            @RequestParam(defaultValue = "10") int limit,
+
+            @Parameter(description = "Type de suggestion (EQUIPE, JOUEUR)", example = "JOUEUR")
+            @RequestParam(required = false) Suggestion.Type type) {
+
+        logger.debug("Requête GET /api/suggest - q: {}, limit: {}, type: {}", q, limit, type);
+
+        if (limit <= 0) {
+            logger.warn("Nombre de suggestions invalide: {}", limit);
+            return ResponseEntity.badRequest().build();
+        }
+
+        List<SuggestionDto> suggestions = suggestionIndex.suggerer(q, limit, type).stream()
+                .map(s -> new SuggestionDto(s.getType().name(), s.getId(), s.getLibelle(), s.getAcronyme(), s.getScore()))
+                .collect(Collectors.toList());
+        return ResponseEntity.ok(suggestions);
+    }
+}
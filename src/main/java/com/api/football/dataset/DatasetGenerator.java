@@ -0,0 +1,284 @@
+package com.api.football.dataset;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Types;
+import java.util.SplittableRandom;
+
+/**
+ * Générateur de jeu de données synthétique pour les tests de capacité.
+ *
+ * Crée N ligues de M équipes puis des joueurs répartis selon une loi de Zipf
+ * (quelques effectifs très volumineux), avec une distribution réaliste des
+ * noms et des positions. L'écriture passe par des lots JDBC sur une connexion
+ * dédiée, sans passer par JPA.
+ *
+ * Le modèle ne comportant pas d'entité « ligue », la ligue est portée par
+ * l'acronyme (L1E001, L1E002...) et le nom des équipes générées.
+ *
+ * @author API Football API Team
+ * @version 1.0.0
+ */
+@Component
+public class DatasetGenerator {
+
+    private static final Logger logger = LoggerFactory.getLogger(DatasetGenerator.class);
+
+    private static final String[] PRENOMS = {
+            "Lucas", "Hugo", "Mathis", "Nathan", "Enzo", "Louis", "Théo", "Raphaël", "Jules", "Gabriel",
+            "Adam", "Arthur", "Noah", "Tom", "Léo", "Kylian", "Ousmane", "Moussa", "Youssef", "Karim",
+            "Antoine", "Olivier", "Rayan", "Paul", "N'Golo", "Benjamin", "Wesley", "Aurélien", "Eduardo", "Mamadou",
+            "João", "Diego", "Marco", "Luka", "Jan", "Erling", "Kevin", "Thiago", "Sergio", "Pedro"
+    };
+
+    private static final String[] NOMS = {
+            "Martin", "Bernard", "Dubois", "Thomas", "Robert", "Richard", "Petit", "Durand", "Leroy", "Moreau",
+            "Simon", "Laurent", "Lefebvre", "Michel", "Garcia", "David", "Bertrand", "Roux", "Vincent", "Fournier",
+            "Diallo", "Traoré", "Koné", "Camara", "Silva", "Santos", "Fernandes", "Rossi", "Müller", "Schmidt",
+            "Lopez", "Gonzalez", "Kanté", "Mendy", "Diop", "Ndiaye", "Benali", "Haddad", "Novak", "Jensen"
+    };
+
+    private static final String[] VILLES = {
+            "Nice", "Lyon", "Lille", "Nantes", "Rennes", "Brest", "Lens", "Reims", "Metz", "Nancy",
+            "Toulouse", "Bordeaux", "Montpellier", "Strasbourg", "Angers", "Auxerre", "Caen", "Dijon", "Troyes", "Amiens"
+    };
+
+    /** Répartition des positions : gardiens 10 %, défenseurs 35 %, milieux 35 %, attaquants 20 %. */
+    private static final String[] POSITIONS = {"Gardien", "Défenseur", "Milieu", "Attaquant"};
+    private static final double[] POSITIONS_CUMUL = {0.10, 0.45, 0.80, 1.0};
+
+    private final DataSource dataSource;
+
+    /**
+     * Constructeur.
+     *
+     * @param dataSource la source de données cible
+     */
+    public DatasetGenerator(DataSource dataSource) {
+        this.dataSource = dataSource;
+    }
+
+    /**
+     * Génère le jeu de données décrit par les paramètres.
+     *
+     * @param parametres les paramètres de génération
+     * @return le résumé de la génération
+     */
+    public Resultat generer(DatasetProperties parametres) {
+        logger.info("Génération d'un jeu de données synthétique: {}", parametres);
+        long debut = System.nanoTime();
+        SplittableRandom random = new SplittableRandom(parametres.getGraine());
+
+        try (Connection connection = dataSource.getConnection()) {
+            boolean autoCommit = connection.getAutoCommit();
+            connection.setAutoCommit(false);
+            try {
+                if (parametres.isViderAvant()) {
+                    vider(connection);
+                }
+                String[] nomsEquipes = new String[parametres.getLigues() * parametres.getEquipesParLigue()];
+                long[] equipeIds = insererEquipes(connection, parametres, nomsEquipes, random);
+                long joueurs = insererJoueurs(connection, parametres, equipeIds, nomsEquipes, random);
+                connection.commit();
+
+                long dureeMs = (System.nanoTime() - debut) / 1_000_000;
+                Resultat resultat = new Resultat(equipeIds.length, joueurs, dureeMs);
+                logger.info("Jeu de données généré: {}", resultat);
+                return resultat;
+            } catch (SQLException e) {
+                connection.rollback();
+                throw e;
+            } finally {
+                connection.setAutoCommit(autoCommit);
+            }
+        } catch (SQLException e) {
+            throw new IllegalStateException("Échec de la génération du jeu de données", e);
+        }
+    }
+
+    private void vider(Connection connection) throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            statement.executeUpdate("DELETE FROM joueurs");
+            statement.executeUpdate("DELETE FROM equipes");
+        }
+        logger.info("Tables joueurs et equipes vidées");
+    }
+
+    private long[] insererEquipes(Connection connection, DatasetProperties parametres, String[] noms,
+                                  SplittableRandom random) throws SQLException {
+        long[] ids = new long[noms.length];
+
+        String sql = "INSERT INTO equipes (nom, acronyme, budget) VALUES (?, ?, ?)";
+        try (PreparedStatement statement = connection.prepareStatement(sql, Statement.RETURN_GENERATED_KEYS)) {
+            int index = 0;
+            for (int ligue = 1; ligue <= parametres.getLigues(); ligue++) {
+                for (int rang = 1; rang <= parametres.getEquipesParLigue(); rang++) {
+                    String ville = VILLES[(rang - 1) % VILLES.length];
+                    noms[index] = ville + " FC " + rang + " - Ligue " + ligue;
+                    statement.setString(1, noms[index]);
+                    statement.setString(2, String.format("L%dE%03d", ligue, rang));
+                    statement.setBigDecimal(3, budget(random));
+                    statement.executeUpdate();
+                    try (ResultSet keys = statement.getGeneratedKeys()) {
+                        keys.next();
+                        ids[index++] = keys.getLong(1);
+                    }
+                }
+            }
+        }
+        return ids;
+    }
+
+    private long insererJoueurs(Connection connection, DatasetProperties parametres, long[] equipeIds,
+                                String[] nomsEquipes, SplittableRandom random) throws SQLException {
+        double[] cumul = repartitionZipf(equipeIds.length, parametres.getAsymetrie());
+        int tailleLot = Math.max(1, parametres.getTailleLot());
+        int[] effectifs = new int[equipeIds.length];
+
+        String sql = "INSERT INTO joueurs (nom, position, equipe_id, equipe_nom) VALUES (?, ?, ?, ?)";
+        try (PreparedStatement statement = connection.prepareStatement(sql)) {
+            for (long i = 0; i < parametres.getJoueurs(); i++) {
+                statement.setString(1, nom(random, i));
+                statement.setString(2, position(random));
+                if (equipeIds.length == 0 || random.nextDouble() < parametres.getProportionSansEquipe()) {
+                    statement.setNull(3, Types.BIGINT);
+                    statement.setNull(4, Types.VARCHAR);
+                } else {
+                    int equipe = tirer(cumul, random.nextDouble());
+                    statement.setLong(3, equipeIds[equipe]);
+                    statement.setString(4, nomsEquipes[equipe]);
+                    effectifs[equipe]++;
+                }
+                statement.addBatch();
+
+                if ((i + 1) % tailleLot == 0) {
+                    statement.executeBatch();
+                    connection.commit();
+                    if ((i + 1) % (tailleLot * 50L) == 0) {
+                        logger.info("{} joueurs insérés", i + 1);
+                    }
+                }
+            }
+            statement.executeBatch();
+        }
+        ajusterEffectifs(connection, equipeIds, effectifs);
+        return parametres.getJoueurs();
+    }
+
+    private void ajusterEffectifs(Connection connection, long[] equipeIds, int[] effectifs) throws SQLException {
+        // Taille d'effectif dénormalisée : une mise à jour par équipe, en un seul lot
+        String sql = "UPDATE equipes SET nombre_joueurs = nombre_joueurs + ? WHERE id = ?";
+        try (PreparedStatement statement = connection.prepareStatement(sql)) {
+            for (int i = 0; i < equipeIds.length; i++) {
+                if (effectifs[i] > 0) {
+                    statement.setInt(1, effectifs[i]);
+                    statement.setLong(2, equipeIds[i]);
+                    statement.addBatch();
+                }
+            }
+            statement.executeBatch();
+        }
+    }
+
+    /**
+     * Calcule la fonction de répartition d'une loi de Zipf sur n équipes.
+     */
+    static double[] repartitionZipf(int n, double exposant) {
+        double[] cumul = new double[n];
+        double somme = 0;
+        for (int rang = 1; rang <= n; rang++) {
+            somme += 1.0 / Math.pow(rang, exposant);
+            cumul[rang - 1] = somme;
+        }
+        for (int i = 0; i < n; i++) {
+            cumul[i] /= somme;
+        }
+        return cumul;
+    }
+
+    /**
+     * Tire un indice selon la fonction de répartition (recherche dichotomique).
+     */
+    static int tirer(double[] cumul, double u) {
+        int bas = 0;
+        int haut = cumul.length - 1;
+        while (bas < haut) {
+            int milieu = (bas + haut) >>> 1;
+            if (cumul[milieu] < u) {
+                bas = milieu + 1;
+            } else {
+                haut = milieu;
+            }
+        }
+        return bas;
+    }
+
+    private static String nom(SplittableRandom random, long index) {
+        // Le suffixe garantit l'unicité des noms, vérifiée par createJoueur
+        return PRENOMS[random.nextInt(PRENOMS.length)] + " " + NOMS[random.nextInt(NOMS.length)]
+                + " " + Long.toString(index, 36).toUpperCase();
+    }
+
+    private static String position(SplittableRandom random) {
+        double u = random.nextDouble();
+        for (int i = 0; i < POSITIONS_CUMUL.length; i++) {
+            if (u < POSITIONS_CUMUL[i]) {
+                return POSITIONS[i];
+            }
+        }
+        return POSITIONS[POSITIONS.length - 1];
+    }
+
+    private static BigDecimal budget(SplittableRandom random) {
+        // Budgets log-normaux centrés autour de 40 M€
+        double valeur = Math.exp(17.5 + random.nextDouble() * 2.5);
+        return BigDecimal.valueOf(valeur).setScale(2, RoundingMode.HALF_UP);
+    }
+
+    /**
+     * Résumé d'une génération.
+     */
+    public static class Resultat {
+
+        private final int equipes;
+        private final long joueurs;
+        private final long dureeMs;
+
+        public Resultat(int equipes, long joueurs, long dureeMs) {
+            this.equipes = equipes;
+            this.joueurs = joueurs;
+            this.dureeMs = dureeMs;
+        }
+
+        public int getEquipes() {
+            return equipes;
+        }
+
+        public long getJoueurs() {
+            return joueurs;
+        }
+
+        public long getDureeMs() {
+            return dureeMs;
+        }
+
+        @Override
+        public String toString() {
+            return "Resultat{" +
+                    "equipes=" + equipes +
+                    ", joueurs=" + joueurs +
+                    ", dureeMs=" + dureeMs +
+                    '}';
+        }
+    }
+}
@@ -0,0 +1,33 @@
+package com.api.football.dataset;
+
+import com.api.football.FootballApplication;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.context.ConfigurableApplicationContext;
+
+/**
+ * Point d'entrée en ligne de commande du générateur de jeu de données.
+ *
+ * Démarre l'application sans serveur web avec le profil {@code dataset},
+ * génère les données puis s'arrête. Les paramètres sont passés sous forme
+ * d'arguments Spring, par exemple :
+ * {@code --football.dataset.ligues=10 --football.dataset.joueurs=5000000}.
+ *
+ * @author API Football API Team
+ * @version 1.0.0
+ */
+public final class DatasetGeneratorCli {
+
+    private DatasetGeneratorCli() {
+    }
+
+    public static void main(String[] args) {
+        SpringApplication application = new SpringApplication(FootballApplication.class);
+        application.setWebApplicationType(WebApplicationType.NONE);
+        application.setAdditionalProfiles("dataset");
+
+        try (ConfigurableApplicationContext context = application.run(args)) {
+            System.exit(SpringApplication.exit(context));
+        }
+    }
+}
@@ -0,0 +1,33 @@
+package com.api.football.dataset;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+
+/**
+ * Lance la génération du jeu de données au démarrage lorsque le profil
+ * {@code dataset} est actif.
+ *
+ * Exemple : {@code mvn spring-boot:run -Dspring-boot.run.profiles=dataset
+ * -Dspring-boot.run.arguments=--football.dataset.joueurs=5000000}
+ *
+ * @author API Football API Team
+ * @version 1.0.0
+ */
+@Component
+@Profile("dataset")
+public class DatasetGeneratorRunner implements ApplicationRunner {
+
+    @Autowired
+    private DatasetGenerator datasetGenerator;
+
+    @Autowired
+    private DatasetProperties datasetProperties;
+
+    @Override
+    public void run(ApplicationArguments args) {
+        datasetGenerator.generer(datasetProperties);
+    }
+}
@@ -0,0 +1,136 @@
+package com.api.football.dataset;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Paramètres du générateur de jeu de données synthétique.
+ *
+ * Préfixe : {@code football.dataset}.
+ *
+ * @author API Football API Team
+ * @version 1.0.0
+ */
+@ConfigurationProperties(prefix = "football.dataset")
+public class DatasetProperties {
+
+    /**
+     * Nombre de ligues générées.
+     */
+    private int ligues = 5;
+
+    /**
+     * Nombre d'équipes par ligue.
+     */
+    private int equipesParLigue = 20;
+
+    /**
+     * Nombre total de joueurs générés.
+     */
+    private long joueurs = 100_000;
+
+    /**
+     * Exposant de la loi de Zipf utilisée pour répartir les joueurs entre les équipes
+     * (0 = répartition uniforme, plus grand = quelques effectifs énormes).
+     */
+    private double asymetrie = 1.1;
+
+    /**
+     * Proportion de joueurs sans équipe.
+     */
+    private double proportionSansEquipe = 0.05;
+
+    /**
+     * Nombre de lignes par lot JDBC.
+     */
+    private int tailleLot = 10_000;
+
+    /**
+     * Graine du générateur aléatoire, pour des jeux de données reproductibles.
+     */
+    private long graine = 42L;
+
+    /**
+     * Vide les tables avant la génération.
+     */
+    private boolean viderAvant = false;
+
+    // Getters et Setters
+
+    public int getLigues() {
+        return ligues;
+    }
+
+    public void setLigues(int ligues) {
+        this.ligues = ligues;
+    }
+
+    public int getEquipesParLigue() {
+        return equipesParLigue;
+    }
+
+    public void setEquipesParLigue(int equipesParLigue) {
+        this.equipesParLigue = equipesParLigue;
+    }
+
+    public long getJoueurs() {
+        return joueurs;
+    }
+
+    public void setJoueurs(long joueurs) {
+        this.joueurs = joueurs;
+    }
+
+    public double getAsymetrie() {
+        return asymetrie;
+    }
+
+    public void setAsymetrie(double asymetrie) {
+        this.asymetrie = asymetrie;
+    }
+
+    public double getProportionSansEquipe() {
+        return proportionSansEquipe;
+    }
+
+    public void setProportionSansEquipe(double proportionSansEquipe) {
+        this.proportionSansEquipe = proportionSansEquipe;
+    }
+
+    public int getTailleLot() {
+        return tailleLot;
+    }
+
+    public void setTailleLot(int tailleLot) {
+        this.tailleLot = tailleLot;
+    }
+
+    public long getGraine() {
+        return graine;
+    }
+
+    public void setGraine(long graine) {
+        this.graine = graine;
+    }
+
+    public boolean isViderAvant() {
+        return viderAvant;
+    }
+
+    public void setViderAvant(boolean viderAvant) {
+        this.viderAvant = viderAvant;
+    }
+
+    @Override
+    public String toString() {
+        return "DatasetProperties{" +
+                "ligues=" + ligues +
+                ", equipesParLigue=" + equipesParLigue +
+                ", joueurs=" + joueurs +
+                ", asymetrie=" + asymetrie +
+                ", proportionSansEquipe=" + proportionSansEquipe +
+                ", tailleLot=" + tailleLot +
+                ", graine=" + graine +
+                ", viderAvant=" + viderAvant +
+                '}';
+    }
+}
@@ -0,0 +1,112 @@
+package com.api.football.dto;
+
+import com.fasterxml.jackson.databind.JsonNode;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * DTO représentant une opération d'une requête groupée.
+ *
+ * Les paramètres reprennent ceux des endpoints unitaires ({@code id},
+ * {@code acronyme}, {@code page}, {@code size}, {@code equipeId}...) ; le
+ * corps porte la requête de création pour les opérations {@code CREATE_*}.
+ *
+ * @author API Football API Team
+ * @version 1.0.0
+ */
+public class BatchOperationDto {
+
+    /**
+     * Types d'opérations acceptés.
+     */
+    public enum Type {
+        GET_EQUIPE(true),
+        GET_JOUEUR(true),
+        LIST_EQUIPES(true),
+        LIST_JOUEURS(true),
+        CREATE_EQUIPE(false),
+        CREATE_JOUEUR(false),
+        TRANSFER_JOUEUR(false);
+
+        private final boolean lecture;
+
+        Type(boolean lecture) {
+            this.lecture = lecture;
+        }
+
+        /**
+         * @return true si l'opération ne modifie pas les données
+         */
+        public boolean isLecture() {
+            return lecture;
+        }
+    }
+
+    private String reference;
+    private Type type;
+    private Map<String, String> parametres = new HashMap<>();
+    private JsonNode corps;
+
+    /**
+     * Constructeur par défaut.
+     */
+    public BatchOperationDto() {
+    }
+
+    /**
+     * Constructeur avec paramètres.
+     *
+     * @param reference la référence choisie par le client, renvoyée dans le résultat
+     * @param type le type d'opération
+     * @param parametres les paramètres de l'opération
+     */
+    public BatchOperationDto(String reference, Type type, Map<String, String> parametres) {
+        this.reference = reference;
+        this.type = type;
+        this.parametres = parametres;
+    }
+
+    // Getters et Setters
+
+    public String getReference() {
+        return reference;
+    }
+
+    public void setReference(String reference) {
+        this.reference = reference;
+    }
+
+    public Type getType() {
+        return type;
+    }
+
+    public void setType(Type type) {
+        this.type = type;
+    }
+
+    public Map<String, String> getParametres() {
+        return parametres;
+    }
+
+    public void setParametres(Map<String, String> parametres) {
+        this.parametres = parametres;
+    }
+
+    public JsonNode getCorps() {
+        return corps;
+    }
+
+    public void setCorps(JsonNode corps) {
+        this.corps = corps;
+    }
+
+    @Override
+    public String toString() {
+        return "BatchOperationDto{" +
+                "reference='" + reference + '\'' +
+                ", type=" + type +
+                ", parametres=" + parametres +
+                '}';
+    }
+}
@@ -0,0 +1,82 @@
+package com.api.football.dto;
+
+/**
+ * DTO représentant le résultat d'une opération d'une requête groupée.
+ *
+ * Le statut est le code HTTP qu'aurait renvoyé l'endpoint unitaire ; le corps
+ * est sa réponse, ou l'erreur au format habituel ({@code error}, {@code message}).
+ *
+ * @author API Football API Team
+ * @version 1.0.0
+ */
+public class BatchOperationResultDto {
+
+    private String reference;
+    private BatchOperationDto.Type type;
+    private int statut;
+    private Object corps;
+
+    /**
+     * Constructeur par défaut.
+     */
+    public BatchOperationResultDto() {
+    }
+
+    /**
+     * Constructeur avec paramètres.
+     *
+     * @param reference la référence de l'opération
+     * @param type le type d'opération
+     * @param statut le code HTTP du résultat
+     * @param corps la réponse ou l'erreur
+     */
+    public BatchOperationResultDto(String reference, BatchOperationDto.Type type, int statut, Object corps) {
+        this.reference = reference;
+        this.type = type;
+        this.statut = statut;
+        this.corps = corps;
+    }
+
+    // Getters et Setters
+
+    public String getReference() {
+        return reference;
+    }
+
+    public void setReference(String reference) {
+        this.reference = reference;
+    }
+
+    public BatchOperationDto.Type getType() {
+        return type;
+    }
+
+    public void setType(BatchOperationDto.Type type) {
+        this.type = type;
+    }
+
+    public int getStatut() {
+        return statut;
+    }
+
+    public void setStatut(int statut) {
+        this.statut = statut;
+    }
+
+    public Object getCorps() {
+        return corps;
+    }
+
+    public void setCorps(Object corps) {
+        this.corps = corps;
+    }
+
+    @Override
+    public String toString() {
+        return "BatchOperationResultDto{" +
+                "reference='" + reference + '\'' +
+                ", type=" + type +
+                ", statut=" + statut +
+                '}';
+    }
+}
@@ -0,0 +1,64 @@
+package com.api.football.dto;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * DTO pour une requête groupée.
+ *
+ * @author API Football API Team
+ * @version 1.0.0
+ */
+public class BatchRequest {
+
+    private List<BatchOperationDto> operations = new ArrayList<>();
+
+    /**
+     * Exécute toutes les opérations dans une seule transaction : la première
+     * opération en échec annule les autres. Réservé aux opérations d'écriture.
+     */
+    private boolean transactionnel;
+
+    /**
+     * Constructeur par défaut.
+     */
+    public BatchRequest() {
+    }
+
+    /**
+     * Constructeur avec paramètres.
+     *
+     * @param operations les opérations, dans l'ordre d'exécution
+     * @param transactionnel true pour exécuter les opérations dans une seule transaction
+     */
+    public BatchRequest(List<BatchOperationDto> operations, boolean transactionnel) {
+        this.operations = operations;
+        this.transactionnel = transactionnel;
+    }
+
+    // Getters et Setters
+
+    public List<BatchOperationDto> getOperations() {
+        return operations;
+    }
+
+    public void setOperations(List<BatchOperationDto> operations) {
+        this.operations = operations;
+    }
+
+    public boolean isTransactionnel() {
+        return transactionnel;
+    }
+
+    public void setTransactionnel(boolean transactionnel) {
+        this.transactionnel = transactionnel;
+    }
+
+    @Override
+    public String toString() {
+        return "BatchRequest{" +
+                "operations=" + (operations != null ? operations.size() : 0) +
+                ", transactionnel=" + transactionnel +
+                '}';
+    }
+}
@@ -0,0 +1,72 @@
+package com.api.football.dto;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * DTO représentant la réponse d'une requête groupée : un résultat par
+ * opération, dans l'ordre de la requête.
+ *
+ * @author API Football API Team
+ * @version 1.0.0
+ */
+public class BatchResultDto {
+
+    private List<BatchOperationResultDto> resultats = new ArrayList<>();
+    private boolean transactionnel;
+    private boolean annule;
+
+    /**
+     * Constructeur par défaut.
+     */
+    public BatchResultDto() {
+    }
+
+    /**
+     * Constructeur avec paramètres.
+     *
+     * @param resultats les résultats, dans l'ordre des opérations
+     * @param transactionnel true si les opérations ont partagé une transaction
+     * @param annule true si la transaction a été annulée
+     */
+    public BatchResultDto(List<BatchOperationResultDto> resultats, boolean transactionnel, boolean annule) {
+        this.resultats = resultats;
+        this.transactionnel = transactionnel;
+        this.annule = annule;
+    }
+
+    // Getters et Setters
+
+    public List<BatchOperationResultDto> getResultats() {
+        return resultats;
+    }
+
+    public void setResultats(List<BatchOperationResultDto> resultats) {
+        this.resultats = resultats;
+    }
+
+    public boolean isTransactionnel() {
+        return transactionnel;
+    }
+
+    public void setTransactionnel(boolean transactionnel) {
+        this.transactionnel = transactionnel;
+    }
+
+    public boolean isAnnule() {
+        return annule;
+    }
+
+    public void setAnnule(boolean annule) {
+        this.annule = annule;
+    }
+
+    @Override
+    public String toString() {
+        return "BatchResultDto{" +
+                "resultats=" + resultats.size() +
+                ", transactionnel=" + transactionnel +
+                ", annule=" + annule +
+                '}';
+    }
+}
@@ -0,0 +1,100 @@
+package com.api.football.dto;
+
+import com.fasterxml.jackson.annotation.JsonRawValue;
+
+import java.time.Instant;
+
+/**
+ * DTO représentant un événement du flux de changements.
+ *
+ * @author API Football API Team
+ * @version 1.0.0
+ */
+public class ChangeEventDto {
+
+    private Long sequence;
+    private String type;
+    private Long joueurId;
+    private Long equipeId;
+    private Long ancienneEquipeId;
+    private Instant creeLe;
+
+    @JsonRawValue
+    private String donnees;
+
+    /**
+     * Constructeur par défaut.
+     */
+    public ChangeEventDto() {
+    }
+
+    // Getters et Setters
+
+    public Long getSequence() {
+        return sequence;
+    }
+
+    public void setSequence(Long sequence) {
+        this.sequence = sequence;
+    }
+
+    public String getType() {
+        return type;
+    }
+
+    public void setType(String type) {
+        this.type = type;
+    }
+
+    public Long getJoueurId() {
+        return joueurId;
+    }
+
+    public void setJoueurId(Long joueurId) {
+        this.joueurId = joueurId;
+    }
+
+    public Long getEquipeId() {
+        return equipeId;
+    }
+
+    public void setEquipeId(Long equipeId) {
+        this.equipeId = equipeId;
+    }
+
+    public Long getAncienneEquipeId() {
+        return ancienneEquipeId;
+    }
+
+    public void setAncienneEquipeId(Long ancienneEquipeId) {
+        this.ancienneEquipeId = ancienneEquipeId;
+    }
+
+    public Instant getCreeLe() {
+        return creeLe;
+    }
+
+    public void setCreeLe(Instant creeLe) {
+        this.creeLe = creeLe;
+    }
+
+    public String getDonnees() {
+        return donnees;
+    }
+
+    public void setDonnees(String donnees) {
+        this.donnees = donnees;
+    }
+
+    @Override
+    public String toString() {
+        return "ChangeEventDto{" +
+                "sequence=" + sequence +
+                ", type='" + type + '\'' +
+                ", joueurId=" + joueurId +
+                ", equipeId=" + equipeId +
+                ", ancienneEquipeId=" + ancienneEquipeId +
+                ", creeLe=" + creeLe +
+                '}';
+    }
+}
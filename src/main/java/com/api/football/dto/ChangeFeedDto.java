@@ -0,0 +1,74 @@
+package com.api.football.dto;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * DTO représentant un lot du flux de changements.
+ *
+ * Le consommateur rappelle l'API avec {@code since = prochainSince} jusqu'à ce
+ * que {@code encoreDisponible} soit faux.
+ *
+ * @author API Football API Team
+ * @version 1.0.0
+ */
+public class ChangeFeedDto {
+
+    private List<ChangeEventDto> evenements = new ArrayList<>();
+    private long prochainSince;
+    private boolean encoreDisponible;
+
+    /**
+     * Constructeur par défaut.
+     */
+    public ChangeFeedDto() {
+    }
+
+    /**
+     * Constructeur avec paramètres.
+     *
+     * @param evenements les événements du lot
+     * @param prochainSince le curseur à utiliser pour le lot suivant
+     * @param encoreDisponible indique si d'autres événements suivent déjà
+     */
+    public ChangeFeedDto(List<ChangeEventDto> evenements, long prochainSince, boolean encoreDisponible) {
+        this.evenements = evenements;
+        this.prochainSince = prochainSince;
+        this.encoreDisponible = encoreDisponible;
+    }
+
+    // Getters et Setters
+
+    public List<ChangeEventDto> getEvenements() {
+        return evenements;
+    }
+
+    public void setEvenements(List<ChangeEventDto> evenements) {
+        this.evenements = evenements;
+    }
+
+    public long getProchainSince() {
+        return prochainSince;
+    }
+
+    public void setProchainSince(long prochainSince) {
+        this.prochainSince = prochainSince;
+    }
+
+    public boolean isEncoreDisponible() {
+        return encoreDisponible;
+    }
+
+    public void setEncoreDisponible(boolean encoreDisponible) {
+        this.encoreDisponible = encoreDisponible;
+    }
+
+    @Override
+    public String toString() {
+        return "ChangeFeedDto{" +
+                "evenements=" + evenements.size() +
+                ", prochainSince=" + prochainSince +
+                ", encoreDisponible=" + encoreDisponible +
+                '}';
+    }
+}
@@ -7,6 +7,7 @@ import jakarta.validation.constraints.Size;
 
 import java.math.BigDecimal;
 import java.util.List;
+import java.util.stream.Collectors;
 
 /**
  * DTO pour représenter une équipe dans les réponses API.
@@ -55,6 +56,16 @@ public class EquipeDto {
         this.joueurs = joueurs;
     }
 
+    /**
+     * Constructeur de copie : la liste des joueurs et chaque joueur sont copiés.
+     *
+     * @param source l'équipe à copier
+     */
+    public EquipeDto(EquipeDto source) {
+        this(source.id, source.nom, source.acronyme, source.budget,
+                source.joueurs != null ? source.joueurs.stream().map(JoueurDto::new).collect(Collectors.toList()) : null);
+    }
+
     // Getters et Setters
 
     public Long getId() {
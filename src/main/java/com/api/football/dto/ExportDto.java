@@ -0,0 +1,106 @@
+package com.api.football.dto;
+
+import java.time.Instant;
+
+/**
+ * DTO décrivant un export en colonnes des équipes et des joueurs.
+ *
+ * @author API Football API Team
+ * @version 1.0.0
+ */
+public class ExportDto {
+
+    private String nom;
+    private long equipes;
+    private long joueurs;
+    private long tailleOctets;
+    private long dureeMs;
+    private Instant creeLe;
+
+    /**
+     * Constructeur par défaut.
+     */
+    public ExportDto() {
+    }
+
+    /**
+     * Constructeur avec paramètres.
+     *
+     * @param nom le nom du répertoire d'export
+     * @param equipes le nombre d'équipes exportées
+     * @param joueurs le nombre de joueurs exportés
+     * @param tailleOctets la taille totale des fichiers
+     * @param dureeMs la durée de l'export
+     * @param creeLe la date de création
+     */
+    public ExportDto(String nom, long equipes, long joueurs, long tailleOctets, long dureeMs, Instant creeLe) {
+        this.nom = nom;
+        this.equipes = equipes;
+        this.joueurs = joueurs;
+        this.tailleOctets = tailleOctets;
+        this.dureeMs = dureeMs;
+        this.creeLe = creeLe;
+    }
+
+    // Getters et Setters
+
+    public String getNom() {
+        return nom;
+    }
+
+    public void setNom(String nom) {
+        this.nom = nom;
+    }
+
+    public long getEquipes() {
+        return equipes;
+    }
+
+    public void setEquipes(long equipes) {
+        this.equipes = equipes;
+    }
+
+    public long getJoueurs() {
+        return joueurs;
+    }
+
+    public void setJoueurs(long joueurs) {
+        this.joueurs = joueurs;
+    }
+
+    public long getTailleOctets() {
+        return tailleOctets;
+    }
+
+    public void setTailleOctets(long tailleOctets) {
+        this.tailleOctets = tailleOctets;
+    }
+
+    public long getDureeMs() {
+        return dureeMs;
+    }
+
+    public void setDureeMs(long dureeMs) {
+        this.dureeMs = dureeMs;
+    }
+
+    public Instant getCreeLe() {
+        return creeLe;
+    }
+
+    public void setCreeLe(Instant creeLe) {
+        this.creeLe = creeLe;
+    }
+
+    @Override
+    public String toString() {
+        return "ExportDto{" +
+                "nom='" + nom + '\'' +
+                ", equipes=" + equipes +
+                ", joueurs=" + joueurs +
+                ", tailleOctets=" + tailleOctets +
+                ", dureeMs=" + dureeMs +
+                ", creeLe=" + creeLe +
+                '}';
+    }
+}
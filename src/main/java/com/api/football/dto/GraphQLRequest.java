@@ -0,0 +1,72 @@
+package com.api.football.dto;
+
+import java.util.Map;
+
+/**
+ * DTO pour une requête GraphQL transmise en POST.
+ *
+ * @author API Football API Team
+ * @version 1.0.0
+ */
+public class GraphQLRequest {
+
+    private String query;
+
+    private Map<String, Object> variables;
+
+    /**
+     * Nom de l'opération ; une requête ne contenant qu'une opération, il est ignoré.
+     */
+    private String operationName;
+
+    /**
+     * Constructeur par défaut.
+     */
+    public GraphQLRequest() {
+    }
+
+    /**
+     * Constructeur avec paramètres.
+     *
+     * @param query le texte de la requête
+     * @param variables les valeurs des variables
+     */
+    public GraphQLRequest(String query, Map<String, Object> variables) {
+        this.query = query;
+        this.variables = variables;
+    }
+
+    // Getters et Setters
+
+    public String getQuery() {
+        return query;
+    }
+
+    public void setQuery(String query) {
+        this.query = query;
+    }
+
+    public Map<String, Object> getVariables() {
+        return variables;
+    }
+
+    public void setVariables(Map<String, Object> variables) {
+        this.variables = variables;
+    }
+
+    public String getOperationName() {
+        return operationName;
+    }
+
+    public void setOperationName(String operationName) {
+        this.operationName = operationName;
+    }
+
+    @Override
+    public String toString() {
+        return "GraphQLRequest{" +
+                "operationName='" + operationName + '\'' +
+                ", variables=" + (variables != null ? variables.keySet() : null) +
+                '}';
+    }
+}
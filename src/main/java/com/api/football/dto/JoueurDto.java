@@ -47,6 +47,15 @@ public class JoueurDto {
         this.equipeNom = equipeNom;
     }
 
+    /**
+     * Constructeur de copie.
+     *
+     * @param source le joueur à copier
+     */
+    public JoueurDto(JoueurDto source) {
+        this(source.id, source.nom, source.position, source.equipeId, source.equipeNom);
+    }
+
     // Getters et Setters
 
     public Long getId() {
@@ -0,0 +1,63 @@
+package com.api.football.dto;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * DTO représentant le résultat d'une lecture par liste d'identifiants.
+ *
+ * Les éléments suivent l'ordre des identifiants demandés ; les identifiants
+ * sans élément correspondant sont listés dans {@code idsManquants}.
+ *
+ * @param <T> le type des éléments
+ * @author API Football API Team
+ * @version 1.0.0
+ */
+public class MultiGetDto<T> {
+
+    private List<T> elements = new ArrayList<>();
+    private List<Long> idsManquants = new ArrayList<>();
+
+    /**
+     * Constructeur par défaut.
+     */
+    public MultiGetDto() {
+    }
+
+    /**
+     * Constructeur avec paramètres.
+     *
+     * @param elements les éléments trouvés, dans l'ordre de la demande
+     * @param idsManquants les identifiants sans élément correspondant
+     */
+    public MultiGetDto(List<T> elements, List<Long> idsManquants) {
+        this.elements = elements;
+        this.idsManquants = idsManquants;
+    }
+
+    // Getters et Setters
+
+    public List<T> getElements() {
+        return elements;
+    }
+
+    public void setElements(List<T> elements) {
+        this.elements = elements;
+    }
+
+    public List<Long> getIdsManquants() {
+        return idsManquants;
+    }
+
+    public void setIdsManquants(List<Long> idsManquants) {
+        this.idsManquants = idsManquants;
+    }
+
+    @Override
+    public String toString() {
+        return "MultiGetDto{" +
+                "elements=" + elements.size() +
+                ", idsManquants=" + idsManquants +
+                '}';
+    }
+}
@@ -0,0 +1,130 @@
+package com.api.football.dto;
+
+import com.api.football.event.RosterChangeEvent;
+
+import java.util.List;
+
+/**
+ * DTO représentant un changement d'effectif diffusé aux abonnés.
+ *
+ * @author API Football API Team
+ * @version 1.0.0
+ */
+public class RosterDeltaDto {
+
+    private String type;
+    private Long joueurId;
+    private Long equipeId;
+    private Long ancienneEquipeId;
+    private JoueurDto joueur;
+    private EquipeDto equipe;
+    private List<Long> joueurIds;
+
+    /**
+     * Constructeur par défaut.
+     */
+    public RosterDeltaDto() {
+    }
+
+    /**
+     * Construit le changement diffusé à partir de l'événement métier.
+     *
+     * @param event l'événement publié par un service
+     * @return le changement à diffuser
+     */
+    public static RosterDeltaDto of(RosterChangeEvent event) {
+        RosterDeltaDto dto = new RosterDeltaDto();
+        dto.setType(event.getType().name());
+        dto.setJoueurId(event.getJoueurId());
+        dto.setEquipeId(event.getEquipeId());
+        dto.setAncienneEquipeId(event.getAncienneEquipeId());
+        dto.setJoueur(event.getJoueur());
+        dto.setEquipe(event.getEquipe());
+        if (!event.getJoueurs().isEmpty()) {
+            dto.setJoueurIds(event.getJoueurs().stream().map(JoueurDto::getId).toList());
+        }
+        return dto;
+    }
+
+    /**
+     * Indique si le changement concerne l'effectif d'une équipe.
+     *
+     * @param id l'identifiant de l'équipe
+     * @return true si l'équipe gagne ou perd un joueur
+     */
+    public boolean concerne(Long id) {
+        return id.equals(equipeId) || id.equals(ancienneEquipeId);
+    }
+
+    // Getters et Setters
+
+    public String getType() {
+        return type;
+    }
+
+    public void setType(String type) {
+        this.type = type;
+    }
+
+    public Long getJoueurId() {
+        return joueurId;
+    }
+
+    public void setJoueurId(Long joueurId) {
+        this.joueurId = joueurId;
+    }
+
+    public Long getEquipeId() {
+        return equipeId;
+    }
+
+    public void setEquipeId(Long equipeId) {
+        this.equipeId = equipeId;
+    }
+
+    public Long getAncienneEquipeId() {
+        return ancienneEquipeId;
+    }
+
+    public void setAncienneEquipeId(Long ancienneEquipeId) {
+        this.ancienneEquipeId = ancienneEquipeId;
+    }
+
+    public JoueurDto getJoueur() {
+        return joueur;
+    }
+
+    public void setJoueur(JoueurDto joueur) {
+        this.joueur = joueur;
+    }
+
+    public EquipeDto getEquipe() {
+        return equipe;
+    }
+
+    public void setEquipe(EquipeDto equipe) {
+        this.equipe = equipe;
+    }
+
+    /**
+     * @return les joueurs supprimés d'un changement {@code JOUEURS_SUPPRIMES}, null sinon
+     */
+    public List<Long> getJoueurIds() {
+        return joueurIds;
+    }
+
+    public void setJoueurIds(List<Long> joueurIds) {
+        this.joueurIds = joueurIds;
+    }
+
+    @Override
+    public String toString() {
+        return "RosterDeltaDto{" +
+                "type='" + type + '\'' +
+                ", joueurId=" + joueurId +
+                ", equipeId=" + equipeId +
+                ", ancienneEquipeId=" + ancienneEquipeId +
+                ", joueurIds=" + joueurIds +
+                '}';
+    }
+}
@@ -0,0 +1,70 @@
+package com.api.football.dto;
+
+import java.time.Instant;
+
+/**
+ * DTO décrivant un instantané de la base persistante.
+ *
+ * @author API Football API Team
+ * @version 1.0.0
+ */
+public class SnapshotDto {
+
+    private String nom;
+    private long tailleOctets;
+    private Instant creeLe;
+
+    /**
+     * Constructeur par défaut.
+     */
+    public SnapshotDto() {
+    }
+
+    /**
+     * Constructeur avec paramètres.
+     *
+     * @param nom le nom du fichier d'instantané
+     * @param tailleOctets la taille du fichier
+     * @param creeLe la date de création
+     */
+    public SnapshotDto(String nom, long tailleOctets, Instant creeLe) {
+        this.nom = nom;
+        this.tailleOctets = tailleOctets;
+        this.creeLe = creeLe;
+    }
+
+    // Getters et Setters
+
+    public String getNom() {
+        return nom;
+    }
+
+    public void setNom(String nom) {
+        this.nom = nom;
+    }
+
+    public long getTailleOctets() {
+        return tailleOctets;
+    }
+
+    public void setTailleOctets(long tailleOctets) {
+        this.tailleOctets = tailleOctets;
+    }
+
+    public Instant getCreeLe() {
+        return creeLe;
+    }
+
+    public void setCreeLe(Instant creeLe) {
+        this.creeLe = creeLe;
+    }
+
+    @Override
+    public String toString() {
+        return "SnapshotDto{" +
+                "nom='" + nom + '\'' +
+                ", tailleOctets=" + tailleOctets +
+                ", creeLe=" + creeLe +
+                '}';
+    }
+}
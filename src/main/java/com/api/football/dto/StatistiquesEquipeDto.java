@@ -0,0 +1,87 @@
+package com.api.football.dto;
+
+import java.math.BigDecimal;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * DTO représentant la composition de l'effectif d'une équipe.
+ *
+ * @author API Football API Team
+ * @version 1.0.0
+ */
+public class StatistiquesEquipeDto {
+
+    private Long equipeId;
+    private String nom;
+    private String acronyme;
+    private BigDecimal budget;
+    private long nombreJoueurs;
+    private Map<String, Long> joueursParPosition = new TreeMap<>();
+
+    /**
+     * Constructeur par défaut.
+     */
+    public StatistiquesEquipeDto() {
+    }
+
+    // Getters et Setters
+
+    public Long getEquipeId() {
+        return equipeId;
+    }
+
+    public void setEquipeId(Long equipeId) {
+        this.equipeId = equipeId;
+    }
+
+    public String getNom() {
+        return nom;
+    }
+
+    public void setNom(String nom) {
+        this.nom = nom;
+    }
+
+    public String getAcronyme() {
+        return acronyme;
+    }
+
+    public void setAcronyme(String acronyme) {
+        this.acronyme = acronyme;
+    }
+
+    public BigDecimal getBudget() {
+        return budget;
+    }
+
+    public void setBudget(BigDecimal budget) {
+        this.budget = budget;
+    }
+
+    public long getNombreJoueurs() {
+        return nombreJoueurs;
+    }
+
+    public void setNombreJoueurs(long nombreJoueurs) {
+        this.nombreJoueurs = nombreJoueurs;
+    }
+
+    public Map<String, Long> getJoueursParPosition() {
+        return joueursParPosition;
+    }
+
+    public void setJoueursParPosition(Map<String, Long> joueursParPosition) {
+        this.joueursParPosition = joueursParPosition;
+    }
+
+    @Override
+    public String toString() {
+        return "StatistiquesEquipeDto{" +
+                "equipeId=" + equipeId +
+                ", acronyme='" + acronyme + '\'' +
+                ", nombreJoueurs=" + nombreJoueurs +
+                ", joueursParPosition=" + joueursParPosition +
+                '}';
+    }
+}
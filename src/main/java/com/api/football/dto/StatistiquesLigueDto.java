@@ -0,0 +1,89 @@
+package com.api.football.dto;
+
+import java.math.BigDecimal;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * DTO représentant les statistiques globales : équipes, budgets et positions.
+ *
+ * @author API Football API Team
+ * @version 1.0.0
+ */
+public class StatistiquesLigueDto {
+
+    private long nombreEquipes;
+    private long nombreJoueurs;
+    private long joueursSansEquipe;
+    private BigDecimal budgetTotal;
+    private BigDecimal budgetMoyen;
+    private Map<String, Long> joueursParPosition = new TreeMap<>();
+
+    /**
+     * Constructeur par défaut.
+     */
+    public StatistiquesLigueDto() {
+    }
+
+    // Getters et Setters
+
+    public long getNombreEquipes() {
+        return nombreEquipes;
+    }
+
+    public void setNombreEquipes(long nombreEquipes) {
+        this.nombreEquipes = nombreEquipes;
+    }
+
+    public long getNombreJoueurs() {
+        return nombreJoueurs;
+    }
+
+    public void setNombreJoueurs(long nombreJoueurs) {
+        this.nombreJoueurs = nombreJoueurs;
+    }
+
+    public long getJoueursSansEquipe() {
+        return joueursSansEquipe;
+    }
+
+    public void setJoueursSansEquipe(long joueursSansEquipe) {
+        this.joueursSansEquipe = joueursSansEquipe;
+    }
+
+    public BigDecimal getBudgetTotal() {
+        return budgetTotal;
+    }
+
+    public void setBudgetTotal(BigDecimal budgetTotal) {
+        this.budgetTotal = budgetTotal;
+    }
+
+    public BigDecimal getBudgetMoyen() {
+        return budgetMoyen;
+    }
+
+    public void setBudgetMoyen(BigDecimal budgetMoyen) {
+        this.budgetMoyen = budgetMoyen;
+    }
+
+    public Map<String, Long> getJoueursParPosition() {
+        return joueursParPosition;
+    }
+
+    public void setJoueursParPosition(Map<String, Long> joueursParPosition) {
+        this.joueursParPosition = joueursParPosition;
+    }
+
+    @Override
+    public String toString() {
+        return "StatistiquesLigueDto{" +
+                "nombreEquipes=" + nombreEquipes +
+                ", nombreJoueurs=" + nombreJoueurs +
+                ", joueursSansEquipe=" + joueursSansEquipe +
+                ", budgetTotal=" + budgetTotal +
+                ", budgetMoyen=" + budgetMoyen +
+                ", joueursParPosition=" + joueursParPosition +
+                '}';
+    }
+}
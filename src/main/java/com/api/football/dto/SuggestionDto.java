@@ -0,0 +1,91 @@
+package com.api.football.dto;
+
+/**
+ * DTO représentant une suggestion d'autocomplétion.
+ *
+ * @author API Football API Team
+ * @version 1.0.0
+ */
+public class SuggestionDto {
+
+    private String type;
+    private Long id;
+    private String libelle;
+    private String acronyme;
+    private long score;
+
+    /**
+     * Constructeur par défaut.
+     */
+    public SuggestionDto() {
+    }
+
+    /**
+     * Constructeur avec paramètres.
+     *
+     * @param type le type de l'élément (EQUIPE, JOUEUR)
+     * @param id l'identifiant de l'élément
+     * @param libelle le nom affiché
+     * @param acronyme l'acronyme pour une équipe
+     * @param score le score de popularité
+     */
+    public SuggestionDto(String type, Long id, String libelle, String acronyme, long score) {
+        this.type = type;
+        this.id = id;
+        this.libelle = libelle;
+        this.acronyme = acronyme;
+        this.score = score;
+    }
+
+    // Getters et Setters
+
+    public String getType() {
+        return type;
+    }
+
+    public void setType(String type) {
+        this.type = type;
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public String getLibelle() {
+        return libelle;
+    }
+
+    public void setLibelle(String libelle) {
+        this.libelle = libelle;
+    }
+
+    public String getAcronyme() {
+        return acronyme;
+    }
+
+    public void setAcronyme(String acronyme) {
+        this.acronyme = acronyme;
+    }
+
+    public long getScore() {
+        return score;
+    }
+
+    public void setScore(long score) {
+        this.score = score;
+    }
+
+    @Override
+    public String toString() {
+        return "SuggestionDto{" +
+                "type='" + type + '\'' +
+                ", id=" + id +
+                ", libelle='" + libelle + '\'' +
+                ", score=" + score +
+                '}';
+    }
+}
@@ -0,0 +1,69 @@
+package com.api.football.dto;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * DTO représentant le résultat d'une suppression groupée de joueurs.
+ *
+ * @author API Football API Team
+ * @version 1.0.0
+ */
+public class SuppressionDto {
+
+    private int nombreSupprimes;
+    private List<Long> idsSupprimes = new ArrayList<>();
+    private List<Long> idsManquants = new ArrayList<>();
+
+    /**
+     * Constructeur par défaut.
+     */
+    public SuppressionDto() {
+    }
+
+    /**
+     * Constructeur avec paramètres.
+     *
+     * @param idsSupprimes les identifiants des joueurs supprimés
+     * @param idsManquants les identifiants demandés sans joueur correspondant
+     */
+    public SuppressionDto(List<Long> idsSupprimes, List<Long> idsManquants) {
+        this.nombreSupprimes = idsSupprimes.size();
+        this.idsSupprimes = idsSupprimes;
+        this.idsManquants = idsManquants;
+    }
+
+    // Getters et Setters
+
+    public int getNombreSupprimes() {
+        return nombreSupprimes;
+    }
+
+    public void setNombreSupprimes(int nombreSupprimes) {
+        this.nombreSupprimes = nombreSupprimes;
+    }
+
+    public List<Long> getIdsSupprimes() {
+        return idsSupprimes;
+    }
+
+    public void setIdsSupprimes(List<Long> idsSupprimes) {
+        this.idsSupprimes = idsSupprimes;
+    }
+
+    public List<Long> getIdsManquants() {
+        return idsManquants;
+    }
+
+    public void setIdsManquants(List<Long> idsManquants) {
+        this.idsManquants = idsManquants;
+    }
+
+    @Override
+    public String toString() {
+        return "SuppressionDto{" +
+                "nombreSupprimes=" + nombreSupprimes +
+                ", idsManquants=" + idsManquants +
+                '}';
+    }
+}
@@ -0,0 +1,17 @@
+package com.api.football.effectif;
+
+/**
+ * Écriture d'effectif refusée : capacité de l'équipe ou de la position
+ * atteinte, ou joueur déplacé par une écriture concurrente.
+ *
+ * Les contrôleurs la traduisent en {@code 409 Conflict}.
+ *
+ * @author API Football API Team
+ * @version 1.0.0
+ */
+public class ConflitEffectifException extends IllegalStateException {
+
+    public ConflitEffectifException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,210 @@
+package com.api.football.effectif;
+
+import com.api.football.metrics.MetricsSource;
+import com.api.football.repository.EquipeRepository;
+import com.api.football.repository.JoueurRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.dao.PessimisticLockingFailureException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Applique les règles de capacité des effectifs ({@link EffectifProperties})
+ * aux écritures qui font entrer un joueur dans une équipe.
+ *
+ * La limite de l'équipe est une mise à jour conditionnelle du compteur
+ * {@code nombre_joueurs}, qui échoue sans rien écrire quand l'effectif est
+ * complet. Elle pose aussi le verrou de ligne de l'équipe jusqu'à la
+ * validation : le comptage de la position qui suit voit donc toutes les
+ * écritures validées avant lui, y compris depuis une autre instance.
+ *
+ * Dans une instance, les écritures d'une même équipe attendent sur un
+ * verrou réparti ({@link VerrousEquipes}) plutôt que sur le verrou de ligne
+ * de la base : pas d'expiration du verrou H2, et l'équipe d'un joueur est
+ * relue sous ce verrou avant d'être modifiée. La ligne du joueur est
+ * verrouillée par cette relecture : un joueur libre, qu'aucun verrou
+ * d'équipe ne protège, ne peut pas être signé par deux équipes à la fois.
+ *
+ * Les écritures s'exécutent dans la transaction de l'appelant, dont
+ * l'annulation défait la réservation. Une transaction qui enchaîne plusieurs
+ * écritures (requête groupée transactionnelle) prend ses verrous au fil de
+ * l'eau : un interblocage éventuel se termine par l'expiration du délai
+ * d'attente et l'annulation de la transaction.
+ *
+ * @author API Football API Team
+ * @version 1.0.0
+ */
+@Component
+public class EffectifGuard implements MetricsSource {
+
+    private static final Logger logger = LoggerFactory.getLogger(EffectifGuard.class);
+
+    private final EffectifProperties properties;
+    private final VerrousEquipes verrous;
+
+    private final LongAdder reservations = new LongAdder();
+    private final LongAdder refusEquipe = new LongAdder();
+    private final LongAdder refusPosition = new LongAdder();
+    private final LongAdder conflits = new LongAdder();
+
+    @Autowired
+    private EquipeRepository equipeRepository;
+
+    @Autowired
+    private JoueurRepository joueurRepository;
+
+    /**
+     * Constructeur.
+     *
+     * @param properties les règles de capacité
+     */
+    public EffectifGuard(EffectifProperties properties) {
+        this.properties = properties;
+        this.verrous = new VerrousEquipes(properties.getNombreVerrous(), properties.getDelaiVerrou());
+    }
+
+    /**
+     * Réserve une place pour un nouveau joueur.
+     *
+     * @param equipeId l'équipe du joueur
+     * @param position la position du joueur
+     * @throws ConflitEffectifException si l'équipe ou la position est complète
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void reserverPlace(Long equipeId, String position) {
+        verrous.verrouillerJusquaFinTransaction(equipeId);
+        reserver(equipeId, position);
+    }
+
+    /**
+     * Fait passer un joueur existant d'une équipe (ou d'aucune) à une autre :
+     * réserve la place dans la nouvelle équipe et libère l'ancienne.
+     *
+     * @param joueurId le joueur
+     * @param ancienneEquipeId l'équipe lue avant l'appel, null si le joueur était libre
+     * @param nouvelleEquipeId l'équipe d'arrivée
+     * @param position la position du joueur
+     * @throws ConflitEffectifException si l'équipe d'arrivée ou la position est
+     *         complète, ou si le joueur a changé d'équipe depuis sa lecture
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void transferer(Long joueurId, Long ancienneEquipeId, Long nouvelleEquipeId, String position) {
+        if (nouvelleEquipeId.equals(ancienneEquipeId)) {
+            return;
+        }
+        verrous.verrouillerJusquaFinTransaction(ancienneEquipeId, nouvelleEquipeId);
+        verifierEquipeActuelle(joueurId, ancienneEquipeId);
+
+        reserver(nouvelleEquipeId, position);
+        if (ancienneEquipeId != null) {
+            equipeRepository.ajusterNombreJoueurs(ancienneEquipeId, -1);
+        }
+    }
+
+    /**
+     * Libère la place d'un joueur qui quitte son équipe.
+     *
+     * @param joueurId le joueur
+     * @param equipeId l'équipe quittée
+     * @throws ConflitEffectifException si le joueur a changé d'équipe depuis sa lecture
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void liberer(Long joueurId, Long equipeId) {
+        verrous.verrouillerJusquaFinTransaction(equipeId);
+        verifierEquipeActuelle(joueurId, equipeId);
+        equipeRepository.ajusterNombreJoueurs(equipeId, -1);
+    }
+
+    /**
+     * Vérifie l'effectif initial d'une équipe en cours de création, qu'aucune
+     * autre écriture ne peut encore viser.
+     *
+     * @param positions les positions des joueurs de l'effectif initial
+     * @throws ConflitEffectifException si l'effectif ou une position dépasse sa limite
+     */
+    public void verifierEffectifInitial(List<String> positions) {
+        int max = properties.getMaxJoueurs();
+        if (max > 0 && positions.size() > max) {
+            refusEquipe.increment();
+            throw new ConflitEffectifException("L'effectif initial de " + positions.size()
+                    + " joueurs dépasse la limite de " + max + " joueurs");
+        }
+        Map<String, Integer> parPosition = new HashMap<>();
+        for (String position : positions) {
+            int nombre = parPosition.merge(position.trim().toLowerCase(Locale.ROOT), 1, Integer::sum);
+            Integer maxPosition = properties.maxPour(position);
+            if (maxPosition != null && nombre > maxPosition) {
+                refusPosition.increment();
+                throw new ConflitEffectifException("L'effectif initial dépasse la limite de " + maxPosition
+                        + " joueurs au poste " + position);
+            }
+        }
+    }
+
+    private void reserver(Long equipeId, String position) {
+        int max = properties.getMaxJoueurs();
+        int reservee = max > 0
+                ? equipeRepository.reserverPlace(equipeId, max)
+                : equipeRepository.ajusterNombreJoueurs(equipeId, 1);
+        if (reservee == 0) {
+            refusEquipe.increment();
+            logger.info("Effectif complet pour l'équipe {} ({} joueurs)", equipeId, max);
+            throw new ConflitEffectifException("L'équipe " + equipeId + " a atteint la limite de " + max + " joueurs");
+        }
+
+        Integer maxPosition = properties.maxPour(position);
+        if (maxPosition != null && joueurRepository.countByEquipeIdAndPositionIgnoreCase(equipeId, position) >= maxPosition) {
+            // L'exception annule la transaction, donc aussi l'incrément ci-dessus
+            refusPosition.increment();
+            logger.info("Poste {} complet pour l'équipe {} ({} joueurs)", position, equipeId, maxPosition);
+            throw new ConflitEffectifException("L'équipe " + equipeId + " a atteint la limite de " + maxPosition
+                    + " joueurs au poste " + position);
+        }
+        reservations.increment();
+    }
+
+    private void verifierEquipeActuelle(Long joueurId, Long equipeAttendue) {
+        List<Long> equipe;
+        try {
+            equipe = joueurRepository.findEquipeIdByIdForUpdate(joueurId);
+        } catch (PessimisticLockingFailureException e) {
+            conflits.increment();
+            throw new ConflitEffectifException("Le joueur " + joueurId
+                    + " est modifié par une autre opération, veuillez réessayer");
+        }
+        if (equipe.isEmpty()) {
+            throw new IllegalArgumentException("Joueur avec l'ID " + joueurId + " non trouvé");
+        }
+        if (!Objects.equals(equipe.get(0), equipeAttendue)) {
+            conflits.increment();
+            throw new ConflitEffectifException("Le joueur " + joueurId
+                    + " a changé d'équipe pendant l'opération, veuillez réessayer");
+        }
+    }
+
+    @Override
+    public String getNomMetriques() {
+        return "effectif";
+    }
+
+    @Override
+    public Map<String, Number> getMetriques() {
+        Map<String, Number> metriques = new LinkedHashMap<>();
+        metriques.put("reservations", reservations.sum());
+        metriques.put("refusEquipe", refusEquipe.sum());
+        metriques.put("refusPosition", refusPosition.sum());
+        metriques.put("conflits", conflits.sum());
+        return metriques;
+    }
+}
@@ -0,0 +1,95 @@
+package com.api.football.effectif;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Règles de capacité des effectifs.
+ *
+ * Préfixe : {@code football.effectif}.
+ *
+ * @author API Football API Team
+ * @version 1.0.0
+ */
+@ConfigurationProperties(prefix = "football.effectif")
+public class EffectifProperties {
+
+    /**
+     * Nombre maximal de joueurs par équipe, 0 pour aucune limite.
+     */
+    private int maxJoueurs = 30;
+
+    /**
+     * Nombre maximal de joueurs d'une position dans une équipe, par position
+     * (comparée sans tenir compte de la casse). Une position absente, ou de
+     * limite 0, n'est pas limitée.
+     */
+    private Map<String, Integer> maxParPosition = new HashMap<>(Map.of("gardien", 3));
+
+    /**
+     * Nombre de verrous partagés par les équipes (arrondi à la puissance de deux supérieure).
+     */
+    private int nombreVerrous = 64;
+
+    /**
+     * Durée maximale d'attente du verrou d'une équipe.
+     */
+    private Duration delaiVerrou = Duration.ofSeconds(5);
+
+    /**
+     * Retourne la limite applicable à une position.
+     *
+     * @param position la position du joueur
+     * @return la limite, ou null si la position n'est pas limitée (absente ou 0)
+     */
+    public Integer maxPour(String position) {
+        if (position == null) {
+            return null;
+        }
+        String cle = position.trim().toLowerCase(Locale.ROOT);
+        for (Map.Entry<String, Integer> regle : maxParPosition.entrySet()) {
+            if (regle.getKey().trim().toLowerCase(Locale.ROOT).equals(cle)) {
+                return regle.getValue() != null && regle.getValue() > 0 ? regle.getValue() : null;
+            }
+        }
+        return null;
+    }
+
+    // Getters et Setters
+
+    public int getMaxJoueurs() {
+        return maxJoueurs;
+    }
+
+    public void setMaxJoueurs(int maxJoueurs) {
+        this.maxJoueurs = maxJoueurs;
+    }
+
+    public Map<String, Integer> getMaxParPosition() {
+        return maxParPosition;
+    }
+
+    public void setMaxParPosition(Map<String, Integer> maxParPosition) {
+        this.maxParPosition = maxParPosition;
+    }
+
+    public int getNombreVerrous() {
+        return nombreVerrous;
+    }
+
+    public void setNombreVerrous(int nombreVerrous) {
+        this.nombreVerrous = nombreVerrous;
+    }
+
+    public Duration getDelaiVerrou() {
+        return delaiVerrou;
+    }
+
+    public void setDelaiVerrou(Duration delaiVerrou) {
+        this.delaiVerrou = delaiVerrou;
+    }
+}
@@ -0,0 +1,107 @@
+package com.api.football.effectif;
+
+import org.springframework.dao.CannotAcquireLockException;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.util.Assert;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Verrous d'équipe répartis sur un tableau fixe (« lock striping ») : les
+ * équipes d'une même bande partagent un verrou, la mémoire ne dépend pas du
+ * nombre d'équipes.
+ *
+ * Les verrous sont pris dans l'ordre croissant des bandes, quel que soit
+ * l'ordre des équipes demandées : deux transferts croisés entre les mêmes
+ * équipes ne peuvent pas s'interbloquer. Ils sont rendus à la fin de la
+ * transaction courante, après la validation, pour que l'écriture suivante
+ * lise les compteurs validés.
+ *
+ * Les joueurs sans équipe partagent une bande dédiée.
+ *
+ * @author API Football API Team
+ * @version 1.0.0
+ */
+final class VerrousEquipes {
+
+    private final ReentrantLock[] verrous;
+    private final int masque;
+    private final long delaiMs;
+
+    VerrousEquipes(int nombre, Duration delai) {
+        int taille = Integer.highestOneBit(Math.max(1, nombre - 1)) << 1;
+        this.verrous = new ReentrantLock[taille];
+        for (int i = 0; i < taille; i++) {
+            verrous[i] = new ReentrantLock();
+        }
+        this.masque = taille - 1;
+        this.delaiMs = delai.toMillis();
+    }
+
+    /**
+     * Verrouille les bandes des équipes jusqu'à la fin de la transaction courante.
+     *
+     * @param equipeIds les équipes concernées, null pour « sans équipe »
+     * @throws CannotAcquireLockException si un verrou n'est pas obtenu dans le délai
+     */
+    void verrouillerJusquaFinTransaction(Long... equipeIds) {
+        Assert.state(TransactionSynchronizationManager.isSynchronizationActive(),
+                "Les verrous d'équipe exigent une transaction active");
+
+        List<ReentrantLock> acquis = verrouiller(equipeIds);
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                liberer(acquis);
+            }
+        });
+    }
+
+    int bande(Long equipeId) {
+        long cle = equipeId != null ? equipeId : 0L;
+        // Brassage de Fibonacci : des identifiants consécutifs tombent sur des bandes éloignées
+        return (int) ((cle * 0x9E3779B97F4A7C15L) >>> 40) & masque;
+    }
+
+    List<ReentrantLock> verrouiller(Long... equipeIds) {
+        int[] bandes = new int[equipeIds.length];
+        for (int i = 0; i < equipeIds.length; i++) {
+            bandes[i] = bande(equipeIds[i]);
+        }
+        Arrays.sort(bandes);
+
+        List<ReentrantLock> acquis = new ArrayList<>(bandes.length);
+        try {
+            for (int i = 0; i < bandes.length; i++) {
+                if (i > 0 && bandes[i] == bandes[i - 1]) {
+                    continue;
+                }
+                ReentrantLock verrou = verrous[bandes[i]];
+                if (!verrou.tryLock(delaiMs, TimeUnit.MILLISECONDS)) {
+                    throw new CannotAcquireLockException("Verrou d'équipe non obtenu en " + delaiMs + " ms");
+                }
+                acquis.add(verrou);
+            }
+            return acquis;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            liberer(acquis);
+            throw new CannotAcquireLockException("Attente du verrou d'équipe interrompue", e);
+        } catch (RuntimeException e) {
+            liberer(acquis);
+            throw e;
+        }
+    }
+
+    static void liberer(List<ReentrantLock> acquis) {
+        for (int i = acquis.size() - 1; i >= 0; i--) {
+            acquis.get(i).unlock();
+        }
+    }
+}
@@ -0,0 +1,165 @@
+package com.api.football.event;
+
+import com.api.football.dto.EquipeDto;
+import com.api.football.dto.JoueurDto;
+
+import java.util.List;
+
+/**
+ * Événement publié par les services à chaque modification d'un effectif.
+ *
+ * Il est publié dans la transaction d'écriture : les écouteurs synchrones
+ * ({@code @EventListener}) y participent, les écouteurs
+ * {@code @TransactionalEventListener} ne le reçoivent qu'après validation.
+ *
+ * @author API Football API Team
+ * @version 1.0.0
+ */
+public class RosterChangeEvent {
+
+    /**
+     * Nature de la modification.
+     */
+    public enum Type {
+        EQUIPE_CREEE,
+        JOUEUR_CREE,
+        JOUEUR_TRANSFERE,
+        JOUEUR_AJOUTE,
+        JOUEUR_RETIRE,
+        JOUEURS_SUPPRIMES
+    }
+
+    private final Type type;
+    private final EquipeDto equipe;
+    private final JoueurDto joueur;
+    private final Long joueurId;
+    private final Long equipeId;
+    private final Long ancienneEquipeId;
+    private final List<JoueurDto> joueurs;
+
+    private RosterChangeEvent(Type type, EquipeDto equipe, JoueurDto joueur, Long joueurId,
+                              Long equipeId, Long ancienneEquipeId) {
+        this(type, equipe, joueur, joueurId, equipeId, ancienneEquipeId, List.of());
+    }
+
+    private RosterChangeEvent(Type type, EquipeDto equipe, JoueurDto joueur, Long joueurId,
+                              Long equipeId, Long ancienneEquipeId, List<JoueurDto> joueurs) {
+        this.type = type;
+        this.equipe = equipe;
+        this.joueur = joueur;
+        this.joueurId = joueurId;
+        this.equipeId = equipeId;
+        this.ancienneEquipeId = ancienneEquipeId;
+        this.joueurs = joueurs;
+    }
+
+    /**
+     * Une équipe a été créée, éventuellement avec ses joueurs.
+     *
+     * @param equipe l'équipe créée
+     * @return l'événement
+     */
+    public static RosterChangeEvent equipeCreee(EquipeDto equipe) {
+        return new RosterChangeEvent(Type.EQUIPE_CREEE, equipe, null, null, equipe.getId(), null);
+    }
+
+    /**
+     * Un joueur a été créé, avec ou sans équipe.
+     *
+     * @param joueur le joueur créé
+     * @return l'événement
+     */
+    public static RosterChangeEvent joueurCree(JoueurDto joueur) {
+        return new RosterChangeEvent(Type.JOUEUR_CREE, null, joueur, joueur.getId(), joueur.getEquipeId(), null);
+    }
+
+    /**
+     * Un joueur a été transféré vers une autre équipe.
+     *
+     * @param joueur le joueur dans son nouvel état
+     * @param ancienneEquipeId l'équipe quittée (null si le joueur était libre)
+     * @return l'événement
+     */
+    public static RosterChangeEvent joueurTransfere(JoueurDto joueur, Long ancienneEquipeId) {
+        return new RosterChangeEvent(Type.JOUEUR_TRANSFERE, null, joueur, joueur.getId(),
+                joueur.getEquipeId(), ancienneEquipeId);
+    }
+
+    /**
+     * Un joueur libre a été ajouté à une équipe.
+     *
+     * @param joueur le joueur dans son nouvel état
+     * @return l'événement
+     */
+    public static RosterChangeEvent joueurAjoute(JoueurDto joueur) {
+        return new RosterChangeEvent(Type.JOUEUR_AJOUTE, null, joueur, joueur.getId(), joueur.getEquipeId(), null);
+    }
+
+    /**
+     * Un joueur a été retiré de son équipe.
+     *
+     * @param joueur le joueur dans son nouvel état (sans équipe)
+     * @param ancienneEquipeId l'équipe quittée
+     * @return l'événement
+     */
+    public static RosterChangeEvent joueurRetire(JoueurDto joueur, Long ancienneEquipeId) {
+        return new RosterChangeEvent(Type.JOUEUR_RETIRE, null, joueur, joueur.getId(), null, ancienneEquipeId);
+    }
+
+    /**
+     * Des joueurs d'une même équipe, ou des joueurs libres, ont été supprimés
+     * par une même opération : un seul événement pour tout le lot.
+     *
+     * @param ancienneEquipeId l'équipe des joueurs supprimés (null pour des joueurs libres)
+     * @param joueurs les joueurs tels qu'ils étaient avant la suppression
+     * @return l'événement
+     */
+    public static RosterChangeEvent joueursSupprimes(Long ancienneEquipeId, List<JoueurDto> joueurs) {
+        return new RosterChangeEvent(Type.JOUEURS_SUPPRIMES, null, null, null, null, ancienneEquipeId,
+                List.copyOf(joueurs));
+    }
+
+    // Getters
+
+    public Type getType() {
+        return type;
+    }
+
+    public EquipeDto getEquipe() {
+        return equipe;
+    }
+
+    public JoueurDto getJoueur() {
+        return joueur;
+    }
+
+    public Long getJoueurId() {
+        return joueurId;
+    }
+
+    public Long getEquipeId() {
+        return equipeId;
+    }
+
+    public Long getAncienneEquipeId() {
+        return ancienneEquipeId;
+    }
+
+    /**
+     * @return les joueurs supprimés, liste vide pour les autres modifications
+     */
+    public List<JoueurDto> getJoueurs() {
+        return joueurs;
+    }
+
+    @Override
+    public String toString() {
+        return "RosterChangeEvent{" +
+                "type=" + type +
+                ", joueurId=" + joueurId +
+                ", equipeId=" + equipeId +
+                ", ancienneEquipeId=" + ancienneEquipeId +
+                ", joueurs=" + joueurs.size() +
+                '}';
+    }
+}
@@ -0,0 +1,123 @@
+package com.api.football.existence;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Filtre de Bloom sur des chaînes : un résultat négatif est certain, un
+ * résultat positif peut être un faux positif.
+ *
+ * Les k positions d'une valeur sont dérivées de deux hachages 64 bits
+ * (double hachage de Kirsch et Mitzenmacher). Les bits sont positionnés par
+ * des opérations atomiques : ajouts et tests peuvent être concurrents sans
+ * verrou. Les valeurs ne peuvent pas être retirées ; un filtre dont les
+ * éléments ont été supprimés produit seulement plus de faux positifs.
+ *
+ * @author API Football API Team
+ * @version 1.0.0
+ */
+final class BloomFilter {
+
+    private static final double LN2 = Math.log(2);
+
+    private final AtomicLongArray mots;
+    private final long nombreBits;
+    private final int nombreHachages;
+    private final long capacite;
+
+    private BloomFilter(long nombreBits, int nombreHachages, long capacite) {
+        int nombreMots = (int) Math.min(Integer.MAX_VALUE - 8, (nombreBits + 63) / 64);
+        this.mots = new AtomicLongArray(nombreMots);
+        this.nombreBits = (long) nombreMots * 64;
+        this.nombreHachages = nombreHachages;
+        this.capacite = capacite;
+    }
+
+    /**
+     * Crée un filtre dimensionné pour un nombre d'éléments et un taux de faux positifs.
+     *
+     * @param capacite le nombre d'éléments prévus
+     * @param tauxFauxPositifs le taux de faux positifs visé à pleine capacité, entre 0 et 1 exclus
+     * @return un filtre vide
+     */
+    static BloomFilter dimensionner(long capacite, double tauxFauxPositifs) {
+        if (tauxFauxPositifs <= 0 || tauxFauxPositifs >= 1) {
+            throw new IllegalArgumentException("Taux de faux positifs invalide: " + tauxFauxPositifs);
+        }
+        long n = Math.max(1, capacite);
+        long bits = Math.max(64, (long) Math.ceil(-n * Math.log(tauxFauxPositifs) / (LN2 * LN2)));
+        int hachages = Math.max(1, (int) Math.round((double) bits / n * LN2));
+        return new BloomFilter(bits, hachages, n);
+    }
+
+    void ajouter(String valeur) {
+        long h1 = hacher(valeur);
+        long h2 = melanger(h1 ^ 0x9E3779B97F4A7C15L) | 1;
+        for (int i = 0; i < nombreHachages; i++) {
+            long bit = Math.floorMod(h1 + i * h2, nombreBits);
+            int indice = (int) (bit >>> 6);
+            long masque = 1L << bit;
+            long mot = mots.get(indice);
+            while ((mot & masque) == 0 && !mots.weakCompareAndSetVolatile(indice, mot, mot | masque)) {
+                mot = mots.get(indice);
+            }
+        }
+    }
+
+    /**
+     * @return false si la valeur n'a certainement jamais été ajoutée
+     */
+    boolean peutContenir(String valeur) {
+        long h1 = hacher(valeur);
+        long h2 = melanger(h1 ^ 0x9E3779B97F4A7C15L) | 1;
+        for (int i = 0; i < nombreHachages; i++) {
+            long bit = Math.floorMod(h1 + i * h2, nombreBits);
+            if ((mots.get((int) (bit >>> 6)) & (1L << bit)) == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    long getNombreBits() {
+        return nombreBits;
+    }
+
+    int getNombreHachages() {
+        return nombreHachages;
+    }
+
+    long getCapacite() {
+        return capacite;
+    }
+
+    /**
+     * Taux de faux positifs attendu d'après le remplissage actuel, {@code (bits à 1 / bits)^k}.
+     */
+    double tauxFauxPositifsEstime() {
+        long positionnes = 0;
+        for (int i = 0; i < mots.length(); i++) {
+            positionnes += Long.bitCount(mots.get(i));
+        }
+        return Math.pow((double) positionnes / nombreBits, nombreHachages);
+    }
+
+    /**
+     * FNV-1a 64 bits sur les caractères UTF-16, suivi du mélange final de MurmurHash3.
+     */
+    private static long hacher(String valeur) {
+        long h = 0xCBF29CE484222325L;
+        for (int i = 0; i < valeur.length(); i++) {
+            h = (h ^ valeur.charAt(i)) * 0x100000001B3L;
+        }
+        return melanger(h);
+    }
+
+    private static long melanger(long h) {
+        h ^= h >>> 33;
+        h *= 0xFF51AFD7ED558CCDL;
+        h ^= h >>> 33;
+        h *= 0xC4CEB9FE1A85EC53L;
+        h ^= h >>> 33;
+        return h;
+    }
+}
@@ -0,0 +1,394 @@
+package com.api.football.existence;
+
+import com.api.football.dto.EquipeDto;
+import com.api.football.dto.JoueurDto;
+import com.api.football.event.RosterChangeEvent;
+import com.api.football.metrics.MetricsSource;
+import com.api.football.persistence.DatabaseRestoredEvent;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.BooleanSupplier;
+import java.util.function.Supplier;
+
+/**
+ * Prévérifications d'existence en mémoire, devant les requêtes qui
+ * répondent le plus souvent « absent ».
+ *
+ * Trois filtres de Bloom, sur les acronymes et noms d'équipes et les noms de
+ * joueurs, sont construits au démarrage et après une restauration. Une
+ * valeur que le filtre ne contient pas n'existe pas en base : le contrôle
+ * d'unicité d'une création, ou la recherche d'un acronyme inconnu, n'atteint
+ * alors pas la base. Les créations ajoutent leurs valeurs avant la
+ * validation, par le service, puis de nouveau à la réception de l'événement
+ * validé, pour couvrir une reconstruction en cours. Un filtre qui dépasse sa
+ * capacité est reconstruit en tâche de fond, plus grand.
+ *
+ * Les recherches par clé (identifiant, acronyme) sans résultat sont en outre
+ * mémorisées pour une durée courte dans un {@link NegativeCache}, invalidé
+ * par les créations.
+ *
+ * Tant que les filtres ne sont pas construits, ou si la fonctionnalité est
+ * désactivée, toutes les vérifications sont transmises à la base.
+ *
+ * @author API Football API Team
+ * @version 1.0.0
+ */
+@Component
+public class ExistenceIndex implements MetricsSource {
+
+    private static final Logger logger = LoggerFactory.getLogger(ExistenceIndex.class);
+
+    /**
+     * Valeurs suivies par un filtre de Bloom.
+     */
+    public enum Filtre {
+        ACRONYME_EQUIPE("acronymeEquipe"),
+        NOM_EQUIPE("nomEquipe"),
+        NOM_JOUEUR("nomJoueur");
+
+        private final String nomMetrique;
+
+        Filtre(String nomMetrique) {
+            this.nomMetrique = nomMetrique;
+        }
+    }
+
+    private final ExistenceProperties properties;
+    private final NegativeCache cacheNegatif;
+    private final ExecutorService reconstructions;
+    private final AtomicBoolean reconstructionPlanifiee = new AtomicBoolean();
+    private final Map<Filtre, Statistiques> statistiques = new EnumMap<>(Filtre.class);
+    private final LongAdder succesCacheNegatif = new LongAdder();
+    private final LongAdder absencesMemorisees = new LongAdder();
+    private final AtomicLong nombreReconstructions = new AtomicLong();
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    /** Verrou des ajouts et du remplacement des filtres. */
+    private final Object verrou = new Object();
+
+    /** Filtres consultés ; null tant qu'ils ne sont pas construits. */
+    private volatile Filtres courants;
+
+    /** Filtres en cours de construction, qui reçoivent aussi les ajouts. */
+    private Filtres enConstruction;
+
+    /**
+     * Constructeur.
+     *
+     * @param properties les paramètres des prévérifications
+     */
+    public ExistenceIndex(ExistenceProperties properties) {
+        this.properties = properties;
+        this.cacheNegatif = new NegativeCache(properties.getDureeCacheNegatif().toNanos(),
+                properties.getTailleCacheNegatif());
+        this.reconstructions = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "existence-index");
+            thread.setDaemon(true);
+            return thread;
+        });
+        for (Filtre filtre : Filtre.values()) {
+            statistiques.put(filtre, new Statistiques());
+        }
+    }
+
+    /**
+     * Vérifie l'existence d'une valeur, en n'interrogeant la base que si le
+     * filtre ne l'exclut pas.
+     *
+     * @param filtre le filtre des valeurs du même type
+     * @param valeur la valeur cherchée
+     * @param requete la vérification en base
+     * @return le résultat de la vérification, ou false si le filtre exclut la valeur
+     */
+    public boolean existe(Filtre filtre, String valeur, BooleanSupplier requete) {
+        if (exclut(filtre, valeur)) {
+            return false;
+        }
+        boolean existe = requete.getAsBoolean();
+        compterPositif(filtre, valeur, existe);
+        return existe;
+    }
+
+    /**
+     * Cherche un élément par clé, sauf si la clé est connue absente.
+     *
+     * @param groupe le type de recherche (équipe par ID, par acronyme...)
+     * @param cle la clé cherchée
+     * @param filtre le filtre des valeurs de la clé, ou null si aucun filtre ne la suit
+     * @param requete la recherche en base
+     * @return le résultat de la recherche, vide sans l'exécuter si la clé est connue absente
+     */
+    public <T> Optional<T> chercher(String groupe, Object cle, Filtre filtre, Supplier<Optional<T>> requete) {
+        if (!properties.isEnabled() || cle == null) {
+            return requete.get();
+        }
+        String cleCache = groupe + ":" + cle;
+        if (cacheNegatif.contient(cleCache)) {
+            succesCacheNegatif.increment();
+            return Optional.empty();
+        }
+        if (filtre != null && exclut(filtre, cle.toString())) {
+            return Optional.empty();
+        }
+        long jeton = cacheNegatif.jeton();
+        Optional<T> resultat = requete.get();
+        if (filtre != null) {
+            compterPositif(filtre, cle.toString(), resultat.isPresent());
+        }
+        if (resultat.isEmpty() && cacheNegatif.memoriser(cleCache, jeton)) {
+            absencesMemorisees.increment();
+        }
+        return resultat;
+    }
+
+    /**
+     * Ajoute une valeur créée au filtre, avant même la validation de la
+     * transaction : si elle est annulée, la valeur n'est qu'un faux positif.
+     *
+     * @param filtre le filtre des valeurs du même type
+     * @param valeur la valeur créée
+     */
+    public void ajouter(Filtre filtre, String valeur) {
+        if (valeur == null) {
+            return;
+        }
+        boolean sature;
+        synchronized (verrou) {
+            if (enConstruction != null) {
+                enConstruction.ajouter(filtre, valeur);
+            }
+            sature = courants != null && courants.ajouter(filtre, valeur);
+        }
+        if (sature) {
+            planifierReconstruction();
+        }
+    }
+
+    /**
+     * Reconstruit les filtres depuis la base et vide le cache négatif.
+     *
+     * Les vérifications sont transmises à la base pendant la reconstruction :
+     * après une restauration, les filtres précédents ne décrivent plus les
+     * données.
+     */
+    @EventListener({ApplicationReadyEvent.class, DatabaseRestoredEvent.class})
+    public void recharger() {
+        if (!properties.isEnabled()) {
+            return;
+        }
+        synchronized (verrou) {
+            courants = null;
+        }
+        cacheNegatif.vider();
+        reconstruire();
+    }
+
+    /**
+     * Tient les filtres et le cache négatif à jour des créations validées.
+     *
+     * @param event la modification
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onRosterChange(RosterChangeEvent event) {
+        switch (event.getType()) {
+            case EQUIPE_CREEE:
+                EquipeDto equipe = event.getEquipe();
+                ajouter(Filtre.ACRONYME_EQUIPE, equipe.getAcronyme());
+                ajouter(Filtre.NOM_EQUIPE, equipe.getNom());
+                cacheNegatif.invalider("equipe.id:" + equipe.getId());
+                cacheNegatif.invalider("equipe.acronyme:" + equipe.getAcronyme());
+                if (equipe.getJoueurs() != null) {
+                    equipe.getJoueurs().forEach(this::joueurCree);
+                }
+                break;
+            case JOUEUR_CREE:
+                joueurCree(event.getJoueur());
+                break;
+            default:
+                // Transferts et suppressions : aucune clé ne devient existante
+                break;
+        }
+    }
+
+    @PreDestroy
+    void arreter() {
+        reconstructions.shutdownNow();
+    }
+
+    private void joueurCree(JoueurDto joueur) {
+        ajouter(Filtre.NOM_JOUEUR, joueur.getNom());
+        cacheNegatif.invalider("joueur.id:" + joueur.getId());
+    }
+
+    /**
+     * @return true si le filtre garantit que la valeur n'existe pas
+     */
+    private boolean exclut(Filtre filtre, String valeur) {
+        Filtres filtres = courants;
+        if (!properties.isEnabled() || filtres == null || valeur == null || filtres.peutContenir(filtre, valeur)) {
+            return false;
+        }
+        statistiques.get(filtre).absentsCertains.increment();
+        return true;
+    }
+
+    private void compterPositif(Filtre filtre, String valeur, boolean existe) {
+        if (courants == null) {
+            return;
+        }
+        Statistiques stats = statistiques.get(filtre);
+        stats.positifs.increment();
+        if (!existe) {
+            stats.fauxPositifs.increment();
+            logger.debug("Faux positif du filtre {} pour '{}'", filtre, valeur);
+        }
+    }
+
+    private synchronized void reconstruire() {
+        long debut = System.nanoTime();
+        long equipes = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM equipes", Long.class);
+        long joueurs = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM joueurs", Long.class);
+        Filtres nouveaux = new Filtres(capacite(equipes), capacite(joueurs), properties.getTauxFauxPositifs());
+
+        // Les ajouts faits à partir d'ici atteignent aussi les nouveaux filtres
+        synchronized (verrou) {
+            enConstruction = nouveaux;
+        }
+        try {
+            jdbcTemplate.query("SELECT nom, acronyme FROM equipes", rs -> {
+                nouveaux.ajouter(Filtre.NOM_EQUIPE, rs.getString(1));
+                nouveaux.ajouter(Filtre.ACRONYME_EQUIPE, rs.getString(2));
+            });
+            jdbcTemplate.query("SELECT nom FROM joueurs", rs -> {
+                nouveaux.ajouter(Filtre.NOM_JOUEUR, rs.getString(1));
+            });
+        } catch (RuntimeException e) {
+            synchronized (verrou) {
+                enConstruction = null;
+            }
+            throw e;
+        }
+        synchronized (verrou) {
+            courants = nouveaux;
+            enConstruction = null;
+        }
+        nombreReconstructions.incrementAndGet();
+        logger.info("Filtres d'existence construits: {} équipes, {} joueurs en {} ms", equipes, joueurs,
+                (System.nanoTime() - debut) / 1_000_000);
+    }
+
+    private void planifierReconstruction() {
+        if (reconstructionPlanifiee.compareAndSet(false, true)) {
+            reconstructions.execute(() -> {
+                reconstructionPlanifiee.set(false);
+                try {
+                    reconstruire();
+                } catch (RuntimeException e) {
+                    logger.warn("Échec de la reconstruction des filtres d'existence", e);
+                }
+            });
+        }
+    }
+
+    private long capacite(long lignes) {
+        return Math.max(properties.getCapaciteMin(), lignes * 2);
+    }
+
+    @Override
+    public String getNomMetriques() {
+        return "existence";
+    }
+
+    @Override
+    public Map<String, Number> getMetriques() {
+        Map<String, Number> metriques = new LinkedHashMap<>();
+        Filtres filtres = courants;
+        metriques.put("pret", filtres != null ? 1 : 0);
+        metriques.put("reconstructions", nombreReconstructions.get());
+        for (Filtre filtre : Filtre.values()) {
+            Statistiques stats = statistiques.get(filtre);
+            long absents = stats.absentsCertains.sum();
+            long fauxPositifs = stats.fauxPositifs.sum();
+            String prefixe = filtre.nomMetrique + ".";
+            metriques.put(prefixe + "absentsCertains", absents);
+            metriques.put(prefixe + "positifs", stats.positifs.sum());
+            metriques.put(prefixe + "fauxPositifs", fauxPositifs);
+            // Part des valeurs absentes que le filtre n'a pas su exclure
+            metriques.put(prefixe + "tauxFauxPositifs",
+                    absents + fauxPositifs == 0 ? 0.0 : (double) fauxPositifs / (absents + fauxPositifs));
+            if (filtres != null) {
+                BloomFilter bloom = filtres.bloom.get(filtre);
+                metriques.put(prefixe + "elements", filtres.elements.get(filtre).get());
+                metriques.put(prefixe + "capacite", bloom.getCapacite());
+                metriques.put(prefixe + "tauxFauxPositifsEstime", bloom.tauxFauxPositifsEstime());
+            }
+        }
+        metriques.put("cacheNegatif.entrees", cacheNegatif.taille());
+        metriques.put("cacheNegatif.succes", succesCacheNegatif.sum());
+        metriques.put("cacheNegatif.absencesMemorisees", absencesMemorisees.sum());
+        return metriques;
+    }
+
+    /**
+     * Jeu de filtres construits ensemble.
+     */
+    private static final class Filtres {
+
+        private final Map<Filtre, BloomFilter> bloom = new EnumMap<>(Filtre.class);
+        private final Map<Filtre, AtomicLong> elements = new EnumMap<>(Filtre.class);
+
+        Filtres(long capaciteEquipes, long capaciteJoueurs, double tauxFauxPositifs) {
+            bloom.put(Filtre.ACRONYME_EQUIPE, BloomFilter.dimensionner(capaciteEquipes, tauxFauxPositifs));
+            bloom.put(Filtre.NOM_EQUIPE, BloomFilter.dimensionner(capaciteEquipes, tauxFauxPositifs));
+            bloom.put(Filtre.NOM_JOUEUR, BloomFilter.dimensionner(capaciteJoueurs, tauxFauxPositifs));
+            for (Filtre filtre : Filtre.values()) {
+                elements.put(filtre, new AtomicLong());
+            }
+        }
+
+        /**
+         * @return true si le filtre dépasse sa capacité
+         */
+        boolean ajouter(Filtre filtre, String valeur) {
+            if (valeur == null) {
+                return false;
+            }
+            BloomFilter filtreBloom = bloom.get(filtre);
+            filtreBloom.ajouter(valeur);
+            return elements.get(filtre).incrementAndGet() > filtreBloom.getCapacite();
+        }
+
+        boolean peutContenir(Filtre filtre, String valeur) {
+            return bloom.get(filtre).peutContenir(valeur);
+        }
+    }
+
+    /**
+     * Compteurs cumulés d'un filtre.
+     */
+    private static final class Statistiques {
+
+        private final LongAdder absentsCertains = new LongAdder();
+        private final LongAdder positifs = new LongAdder();
+        private final LongAdder fauxPositifs = new LongAdder();
+    }
+}
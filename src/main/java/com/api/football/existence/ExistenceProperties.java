@@ -0,0 +1,84 @@
+package com.api.football.existence;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * Paramètres des prévérifications d'existence.
+ *
+ * Préfixe : {@code football.existence}.
+ *
+ * @author API Football API Team
+ * @version 1.0.0
+ */
+@ConfigurationProperties(prefix = "football.existence")
+public class ExistenceProperties {
+
+    /**
+     * Active les filtres de Bloom et le cache négatif.
+     */
+    private boolean enabled = true;
+
+    /**
+     * Taux de faux positifs visé pour chaque filtre à pleine capacité.
+     */
+    private double tauxFauxPositifs = 0.01;
+
+    /**
+     * Capacité minimale d'un filtre ; un filtre est dimensionné pour le double des lignes existantes.
+     */
+    private long capaciteMin = 10_000;
+
+    /**
+     * Durée pendant laquelle une clé cherchée sans résultat est réputée absente.
+     */
+    private Duration dureeCacheNegatif = Duration.ofSeconds(10);
+
+    /**
+     * Nombre maximal de clés absentes mémorisées.
+     */
+    private int tailleCacheNegatif = 10_000;
+
+    // Getters et Setters
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public double getTauxFauxPositifs() {
+        return tauxFauxPositifs;
+    }
+
+    public void setTauxFauxPositifs(double tauxFauxPositifs) {
+        this.tauxFauxPositifs = tauxFauxPositifs;
+    }
+
+    public long getCapaciteMin() {
+        return capaciteMin;
+    }
+
+    public void setCapaciteMin(long capaciteMin) {
+        this.capaciteMin = capaciteMin;
+    }
+
+    public Duration getDureeCacheNegatif() {
+        return dureeCacheNegatif;
+    }
+
+    public void setDureeCacheNegatif(Duration dureeCacheNegatif) {
+        this.dureeCacheNegatif = dureeCacheNegatif;
+    }
+
+    public int getTailleCacheNegatif() {
+        return tailleCacheNegatif;
+    }
+
+    public void setTailleCacheNegatif(int tailleCacheNegatif) {
+        this.tailleCacheNegatif = tailleCacheNegatif;
+    }
+}
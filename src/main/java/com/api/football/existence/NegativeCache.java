@@ -0,0 +1,97 @@
+package com.api.football.existence;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Cache des clés récemment cherchées sans résultat, pour une durée courte.
+ *
+ * Une lecture prend un jeton avant d'interroger la base ; son absence n'est
+ * mémorisée que si aucune invalidation n'a eu lieu depuis. Une création
+ * validée pendant la lecture ne peut donc pas être masquée par le résultat
+ * vide de cette lecture.
+ *
+ * Le nombre d'entrées est borné : quand le cache est plein, les entrées
+ * expirées sont purgées, et les nouvelles absences ignorées s'il reste plein.
+ *
+ * @author API Football API Team
+ * @version 1.0.0
+ */
+final class NegativeCache {
+
+    private final Map<String, Long> echeances = new ConcurrentHashMap<>();
+    private final AtomicLong generation = new AtomicLong();
+    private final long dureeNanos;
+    private final int tailleMax;
+
+    NegativeCache(long dureeNanos, int tailleMax) {
+        this.dureeNanos = dureeNanos;
+        this.tailleMax = tailleMax;
+    }
+
+    /**
+     * @return true si la clé est connue absente et que l'information n'a pas expiré
+     */
+    boolean contient(String cle) {
+        Long echeance = echeances.get(cle);
+        if (echeance == null) {
+            return false;
+        }
+        if (System.nanoTime() - echeance >= 0) {
+            echeances.remove(cle, echeance);
+            return false;
+        }
+        return true;
+    }
+
+    /**
+     * @return le jeton à présenter à {@link #memoriser(String, long)} après la lecture
+     */
+    long jeton() {
+        return generation.get();
+    }
+
+    /**
+     * Mémorise l'absence d'une clé, sauf si une invalidation a eu lieu depuis le jeton.
+     *
+     * @return true si l'absence a été mémorisée
+     */
+    boolean memoriser(String cle, long jeton) {
+        if (dureeNanos <= 0 || generation.get() != jeton) {
+            return false;
+        }
+        if (echeances.size() >= tailleMax) {
+            purger();
+            if (echeances.size() >= tailleMax) {
+                return false;
+            }
+        }
+        echeances.put(cle, System.nanoTime() + dureeNanos);
+        if (generation.get() != jeton) {
+            // Invalidation concurrente : elle a pu passer avant l'ajout
+            echeances.remove(cle);
+            return false;
+        }
+        return true;
+    }
+
+    void invalider(String cle) {
+        generation.incrementAndGet();
+        echeances.remove(cle);
+    }
+
+    void vider() {
+        generation.incrementAndGet();
+        echeances.clear();
+    }
+
+    int taille() {
+        return echeances.size();
+    }
+
+    private void purger() {
+        long maintenant = System.nanoTime();
+        echeances.entrySet().removeIf(entree -> maintenant - entree.getValue() >= 0);
+    }
+}
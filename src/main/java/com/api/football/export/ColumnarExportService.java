@@ -0,0 +1,259 @@
+package com.api.football.export;
+
+import com.api.football.dto.ExportDto;
+import com.api.football.export.ColumnarFormat.Colonne;
+import com.api.football.metrics.MetricsSource;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+
+import javax.sql.DataSource;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+
+/**
+ * Exporte les tables {@code equipes} et {@code joueurs} en fichiers
+ * {@link ColumnarFormat Parquet}, pour les lectures analytiques.
+ *
+ * Chaque export lit les deux tables dans une même transaction en lecture
+ * répétable, par un curseur en avant seulement dont les lignes arrivent par
+ * paquets de {@link ExportProperties#getTailleLot()} et sont écrites en
+ * groupes de lignes de même taille : la mémoire reste constante quel que
+ * soit le volume. La position et l'équipe des joueurs sont encodées par
+ * dictionnaire.
+ *
+ * Les fichiers sont écrits dans un répertoire temporaire renommé
+ * atomiquement en {@code export-<horodatage>} une fois complet : un lecteur
+ * ne voit jamais d'export partiel.
+ *
+ * @author API Football API Team
+ * @version 1.0.0
+ */
+@Service
+public class ColumnarExportService implements MetricsSource {
+
+    private static final Logger logger = LoggerFactory.getLogger(ColumnarExportService.class);
+
+    private static final Pattern NOM_EXPORT = Pattern.compile("export-[0-9]{8}-[0-9]{9}");
+    private static final DateTimeFormatter HORODATAGE = DateTimeFormatter.ofPattern("yyyyMMdd-HHmmssSSS");
+    private static final String SUFFIXE_TEMPORAIRE = ".tmp";
+
+    static final String SELECT_EQUIPES = "SELECT id, nom, acronyme, budget, nombre_joueurs FROM equipes ORDER BY id";
+    static final String SELECT_JOUEURS = "SELECT id, nom, position, equipe_id, equipe_nom FROM joueurs ORDER BY id";
+
+    static final List<Colonne> COLONNES_EQUIPES = List.of(Colonne.entier("id"), Colonne.texte("nom"),
+            Colonne.texte("acronyme"), Colonne.decimal("budget", 2), Colonne.entier("nombre_joueurs"));
+
+    static final List<Colonne> COLONNES_JOUEURS = List.of(Colonne.entier("id"), Colonne.texte("nom"),
+            Colonne.dictionnaire("position"), Colonne.entier("equipe_id"), Colonne.dictionnaire("equipe_nom"));
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Autowired
+    private ExportProperties exportProperties;
+
+    private final ScheduledExecutorService planificateur = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "export-colonnes");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private final AtomicLong exports = new AtomicLong();
+    private final AtomicLong echecs = new AtomicLong();
+    private volatile long dureeDernierExportMs;
+    private volatile long tailleDernierExportOctets;
+
+    @PostConstruct
+    void planifier() {
+        if (exportProperties.isEnabled()) {
+            long periode = exportProperties.getIntervalle().toMillis();
+            planificateur.scheduleWithFixedDelay(this::exporterSansErreur, periode, periode, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    /**
+     * Exporte les équipes et les joueurs dans le répertoire configuré.
+     *
+     * @return l'export créé
+     * @throws IllegalStateException si l'export échoue ; aucun export partiel n'est laissé
+     */
+    public ExportDto exporter() {
+        return exporter(Paths.get(exportProperties.getRepertoire()));
+    }
+
+    /**
+     * Exporte les équipes et les joueurs dans un répertoire donné.
+     *
+     * @param repertoire le répertoire des exports
+     * @return l'export créé
+     */
+    synchronized ExportDto exporter(Path repertoire) {
+        long debut = System.nanoTime();
+        String nom = "export-" + LocalDateTime.now().format(HORODATAGE);
+        Path temporaire = repertoire.resolve("." + nom + SUFFIXE_TEMPORAIRE);
+        Path cible = repertoire.resolve(nom);
+        logger.info("Export en colonnes vers {}", cible);
+
+        try {
+            Files.createDirectories(temporaire);
+            long equipes;
+            long joueurs;
+            try (Connection connection = dataSource.getConnection()) {
+                boolean autoCommit = connection.getAutoCommit();
+                int isolation = connection.getTransactionIsolation();
+                // Les deux tables sont lues dans le même état de la base
+                connection.setAutoCommit(false);
+                connection.setTransactionIsolation(Connection.TRANSACTION_REPEATABLE_READ);
+                try {
+                    equipes = exporterTable(connection, SELECT_EQUIPES, "equipes", COLONNES_EQUIPES, temporaire);
+                    joueurs = exporterTable(connection, SELECT_JOUEURS, "joueurs", COLONNES_JOUEURS, temporaire);
+                } finally {
+                    connection.rollback();
+                    connection.setTransactionIsolation(isolation);
+                    connection.setAutoCommit(autoCommit);
+                }
+            }
+            Files.move(temporaire, cible, StandardCopyOption.ATOMIC_MOVE);
+
+            long taille = taille(cible);
+            long dureeMs = (System.nanoTime() - debut) / 1_000_000;
+            exports.incrementAndGet();
+            dureeDernierExportMs = dureeMs;
+            tailleDernierExportOctets = taille;
+            logger.info("Export {} terminé: {} équipes, {} joueurs, {} octets en {} ms",
+                    nom, equipes, joueurs, taille, dureeMs);
+
+            purger(repertoire);
+            return new ExportDto(nom, equipes, joueurs, taille, dureeMs, Instant.now());
+        } catch (IOException | SQLException e) {
+            echecs.incrementAndGet();
+            supprimer(temporaire);
+            throw new IllegalStateException("Échec de l'export " + nom, e);
+        }
+    }
+
+    private long exporterTable(Connection connection, String sql, String table, List<Colonne> colonnes,
+                               Path repertoire) throws SQLException, IOException {
+        int tailleLot = Math.max(1, exportProperties.getTailleLot());
+        try (PreparedStatement statement = connection.prepareStatement(sql,
+                ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY)) {
+            statement.setFetchSize(tailleLot);
+            try (ResultSet resultSet = statement.executeQuery();
+                 ColumnarWriter writer = new ColumnarWriter(
+                         Files.newOutputStream(repertoire.resolve(table + ColumnarFormat.EXTENSION)),
+                         table, colonnes, tailleLot)) {
+                Object[] ligne = new Object[colonnes.size()];
+                while (resultSet.next()) {
+                    for (int i = 0; i < ligne.length; i++) {
+                        ligne[i] = resultSet.getObject(i + 1);
+                    }
+                    writer.ajouter(ligne);
+                }
+                return writer.getLignes();
+            }
+        }
+    }
+
+    /**
+     * Supprime les exports au-delà du nombre à conserver, et les répertoires
+     * temporaires laissés par un export interrompu.
+     */
+    private void purger(Path repertoire) throws IOException {
+        List<Path> termines = new ArrayList<>();
+        try (Stream<Path> fichiers = Files.list(repertoire)) {
+            for (Path fichier : (Iterable<Path>) fichiers::iterator) {
+                String nom = fichier.getFileName().toString();
+                if (NOM_EXPORT.matcher(nom).matches()) {
+                    termines.add(fichier);
+                } else if (nom.startsWith(".export-") && nom.endsWith(SUFFIXE_TEMPORAIRE)) {
+                    supprimer(fichier);
+                }
+            }
+        }
+        int conserver = exportProperties.getConserver();
+        if (conserver > 0 && termines.size() > conserver) {
+            termines.sort(Comparator.comparing((Path fichier) -> fichier.getFileName().toString()).reversed());
+            for (Path ancien : termines.subList(conserver, termines.size())) {
+                logger.info("Suppression de l'ancien export {}", ancien);
+                supprimer(ancien);
+            }
+        }
+    }
+
+    private static long taille(Path repertoire) throws IOException {
+        try (Stream<Path> fichiers = Files.list(repertoire)) {
+            long taille = 0;
+            for (Path fichier : (Iterable<Path>) fichiers::iterator) {
+                taille += Files.size(fichier);
+            }
+            return taille;
+        }
+    }
+
+    private static void supprimer(Path repertoire) {
+        if (!Files.exists(repertoire)) {
+            return;
+        }
+        try (Stream<Path> fichiers = Files.walk(repertoire)) {
+            for (Path fichier : (Iterable<Path>) fichiers.sorted(Comparator.reverseOrder())::iterator) {
+                Files.deleteIfExists(fichier);
+            }
+        } catch (IOException e) {
+            logger.warn("Suppression impossible de {}", repertoire, e);
+        }
+    }
+
+    @Override
+    public String getNomMetriques() {
+        return "export";
+    }
+
+    @Override
+    public Map<String, Number> getMetriques() {
+        Map<String, Number> metriques = new LinkedHashMap<>();
+        metriques.put("exports", exports.get());
+        metriques.put("echecs", echecs.get());
+        metriques.put("dureeDernierExportMs", dureeDernierExportMs);
+        metriques.put("tailleDernierExportOctets", tailleDernierExportOctets);
+        return metriques;
+    }
+
+    @PreDestroy
+    void arreter() {
+        planificateur.shutdownNow();
+    }
+
+    private void exporterSansErreur() {
+        try {
+            exporter();
+        } catch (RuntimeException e) {
+            // Une erreur ne doit pas interrompre les exports suivants
+            logger.error("Échec de l'export périodique", e);
+        }
+    }
+}
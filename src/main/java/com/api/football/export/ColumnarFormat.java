@@ -0,0 +1,216 @@
+package com.api.football.export;
+
+import java.nio.ByteBuffer;
+
+/**
+ * Format de fichier des exports en colonnes : Apache Parquet ({@code .parquet}).
+ *
+ * Un fichier contient une table plate. Chaque lot de lignes forme un groupe
+ * de lignes (row group) ; dans un groupe, chaque colonne est un morceau
+ * (column chunk) d'une page de données, précédée d'une page de dictionnaire
+ * pour les colonnes encodées par dictionnaire. Les fichiers s'ouvrent avec
+ * les outils Parquet habituels (pyarrow, DuckDB, Spark).
+ *
+ * Sous-ensemble de la spécification écrit par {@link ColumnarWriter} :
+ * <ul>
+ *   <li>colonnes facultatives (OPTIONAL), sans imbrication ni répétition ;</li>
+ *   <li>entiers en INT64 ; décimaux en INT64 annotés DECIMAL(18, échelle) ;
+ *       textes en BYTE_ARRAY annotés UTF8 ;</li>
+ *   <li>pages de données v1 non compressées ; niveaux de définition en
+ *       RLE/bit-packing hybride ; valeurs en PLAIN, ou en RLE_DICTIONARY avec
+ *       un dictionnaire PLAIN par morceau ;</li>
+ *   <li>pied de fichier FileMetaData en Thrift compact ({@link ThriftCompact}),
+ *       sans statistiques ni index de pages.</li>
+ * </ul>
+ *
+ * {@link ColumnarReader} relit ce sous-ensemble, et refuse le reste.
+ *
+ * @author API Football API Team
+ * @version 1.0.0
+ */
+public final class ColumnarFormat {
+
+    static final byte[] MAGIC = {'P', 'A', 'R', '1'};
+    static final String CREE_PAR = "api-football version 1.0.0";
+    static final int PRECISION_DECIMAL = 18;
+
+    // Types physiques
+    static final int INT64 = 2;
+    static final int BYTE_ARRAY = 6;
+
+    // Répétitions
+    static final int OPTIONAL = 1;
+    static final int REPEATED = 2;
+
+    // Annotations (converted types)
+    static final int UTF8 = 0;
+    static final int DECIMAL = 5;
+
+    // Encodages
+    static final int PLAIN = 0;
+    static final int PLAIN_DICTIONARY = 2;
+    static final int RLE = 3;
+    static final int RLE_DICTIONARY = 8;
+
+    // Types de pages
+    static final int DATA_PAGE = 0;
+    static final int DICTIONARY_PAGE = 2;
+
+    static final int UNCOMPRESSED = 0;
+
+    /** Extension des fichiers. */
+    public static final String EXTENSION = ".parquet";
+
+    private ColumnarFormat() {
+    }
+
+    /**
+     * Écrit des entiers en RLE/bit-packing hybride : une seule répétition si
+     * toutes les valeurs sont égales, sinon des groupes de 8 valeurs de
+     * {@code largeur} bits, par séries d'au plus 63 groupes.
+     */
+    static void ecrireHybride(TamponOctets sortie, int[] valeurs, int nombre, int largeur) {
+        if (nombre == 0) {
+            return;
+        }
+        boolean constante = true;
+        for (int i = 1; i < nombre && constante; i++) {
+            constante = valeurs[i] == valeurs[0];
+        }
+        if (constante) {
+            sortie.varint((long) nombre << 1);
+            for (int i = 0; i < (largeur + 7) / 8; i++) {
+                sortie.octet(valeurs[0] >>> (8 * i));
+            }
+            return;
+        }
+
+        long masque = (1L << largeur) - 1;
+        int debut = 0;
+        while (debut < nombre) {
+            int groupes = Math.min(63, (nombre - debut + 7) / 8);
+            sortie.varint(groupes << 1 | 1);
+            long bits = 0;
+            int disponibles = 0;
+            for (int i = debut; i < debut + groupes * 8; i++) {
+                // Le dernier groupe est complété par des zéros
+                long valeur = i < nombre ? valeurs[i] & masque : 0;
+                bits |= valeur << disponibles;
+                disponibles += largeur;
+                while (disponibles >= 8) {
+                    sortie.octet((int) bits);
+                    bits >>>= 8;
+                    disponibles -= 8;
+                }
+            }
+            debut += groupes * 8;
+        }
+    }
+
+    /**
+     * Lit {@code nombre} entiers en RLE/bit-packing hybride.
+     */
+    static void lireHybride(ByteBuffer entree, int largeur, int[] valeurs, int nombre) {
+        long masque = (1L << largeur) - 1;
+        int lues = 0;
+        while (lues < nombre) {
+            long entete = ThriftCompact.lireVarint(entree);
+            if ((entete & 1) == 0) {
+                int repetitions = (int) (entete >>> 1);
+                int valeur = 0;
+                for (int i = 0; i < (largeur + 7) / 8; i++) {
+                    valeur |= (entree.get() & 0xFF) << (8 * i);
+                }
+                int fin = Math.min(nombre, lues + repetitions);
+                while (lues < fin) {
+                    valeurs[lues++] = valeur;
+                }
+            } else {
+                int compactees = (int) (entete >>> 1) * 8;
+                long bits = 0;
+                int disponibles = 0;
+                for (int i = 0; i < compactees; i++) {
+                    while (disponibles < largeur) {
+                        bits |= (long) (entree.get() & 0xFF) << disponibles;
+                        disponibles += 8;
+                    }
+                    if (lues < nombre) {
+                        valeurs[lues++] = (int) (bits & masque);
+                    }
+                    bits >>>= largeur;
+                    disponibles -= largeur;
+                }
+            }
+        }
+    }
+
+    /**
+     * Nombre de bits pour représenter les entiers de 0 à {@code maximum}, au moins 1.
+     */
+    static int largeur(int maximum) {
+        return Math.max(1, 32 - Integer.numberOfLeadingZeros(maximum));
+    }
+
+    /**
+     * Types de colonnes.
+     */
+    public enum Type {
+        /** Entier signé sur 64 bits. */
+        ENTIER,
+        /** Chaîne UTF-8. */
+        TEXTE,
+        /** Chaîne UTF-8 encodée par dictionnaire, pour les colonnes à faible cardinalité. */
+        DICTIONNAIRE,
+        /** Décimal à échelle fixe, stocké comme entier sur 64 bits. */
+        DECIMAL
+    }
+
+    /**
+     * Description d'une colonne.
+     */
+    public static final class Colonne {
+
+        private final String nom;
+        private final Type type;
+        private final int echelle;
+
+        Colonne(String nom, Type type, int echelle) {
+            this.nom = nom;
+            this.type = type;
+            this.echelle = echelle;
+        }
+
+        public static Colonne entier(String nom) {
+            return new Colonne(nom, Type.ENTIER, 0);
+        }
+
+        public static Colonne texte(String nom) {
+            return new Colonne(nom, Type.TEXTE, 0);
+        }
+
+        public static Colonne dictionnaire(String nom) {
+            return new Colonne(nom, Type.DICTIONNAIRE, 0);
+        }
+
+        public static Colonne decimal(String nom, int echelle) {
+            return new Colonne(nom, Type.DECIMAL, echelle);
+        }
+
+        public String getNom() {
+            return nom;
+        }
+
+        public Type getType() {
+            return type;
+        }
+
+        public int getEchelle() {
+            return echelle;
+        }
+
+        @Override
+        public String toString() {
+            return nom + ":" + type + (type == Type.DECIMAL ? "(" + echelle + ")" : "");
+        }
+    }
+}
@@ -0,0 +1,275 @@
+package com.api.football.export;
+
+import com.api.football.export.ColumnarFormat.Colonne;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * Relit un fichier Parquet écrit par {@link ColumnarWriter}, groupe de
+ * lignes par groupe de lignes.
+ *
+ * Sert aux tests et aux consommateurs Java des exports, sans dépendance
+ * Parquet ; les autres outils lisent les mêmes fichiers directement. Seul
+ * le {@link ColumnarFormat sous-ensemble} écrit par l'application est pris
+ * en charge : une compression, un type ou un encodage inconnu est refusé.
+ *
+ * @author API Football API Team
+ * @version 1.0.0
+ */
+public final class ColumnarReader {
+
+    private ColumnarReader() {
+    }
+
+    /**
+     * Lit toutes les lignes d'un fichier.
+     *
+     * @param fichier le fichier
+     * @param ligne reçoit chaque ligne : {@link Long}, {@link String}, {@link BigDecimal} ou null par colonne
+     * @return la description de la table lue
+     * @throws IOException si le fichier est illisible, tronqué, corrompu ou hors du sous-ensemble pris en charge
+     */
+    public static Table lire(Path fichier, Consumer<Object[]> ligne) throws IOException {
+        try (FileChannel canal = FileChannel.open(fichier, StandardOpenOption.READ)) {
+            long taille = canal.size();
+            int marque = ColumnarFormat.MAGIC.length;
+            if (taille < 2L * marque + 4
+                    || !Arrays.equals(octets(lireOctets(canal, 0, marque)), ColumnarFormat.MAGIC)
+                    || !Arrays.equals(octets(lireOctets(canal, taille - marque, marque)), ColumnarFormat.MAGIC)) {
+                throw new IOException("Fichier Parquet invalide: " + fichier);
+            }
+            int longueurPied = lireOctets(canal, taille - marque - 4, 4).getInt();
+            if (longueurPied <= 0 || longueurPied > taille - 2L * marque - 4) {
+                throw new IOException("Pied de fichier Parquet invalide: " + fichier);
+            }
+            ThriftCompact.Structure pied = ThriftCompact.lire(
+                    lireOctets(canal, taille - marque - 4 - longueurPied, longueurPied));
+
+            List<ThriftCompact.Structure> schema = pied.liste(2);
+            List<ThriftCompact.Structure> groupes = pied.liste(4);
+            List<Colonne> colonnes = new ArrayList<>();
+            List<ThriftCompact.Structure> premiersMorceaux = groupes.isEmpty() ? List.of() : groupes.get(0).liste(1);
+            for (int c = 1; c < schema.size(); c++) {
+                colonnes.add(colonne(schema.get(c), c <= premiersMorceaux.size() ? premiersMorceaux.get(c - 1) : null));
+            }
+
+            long lignes = 0;
+            for (ThriftCompact.Structure groupe : groupes) {
+                int lignesGroupe = Math.toIntExact(groupe.entier(3));
+                List<ThriftCompact.Structure> morceaux = groupe.liste(1);
+                if (morceaux.size() != colonnes.size()) {
+                    throw new IOException("Groupe de lignes incomplet: " + fichier);
+                }
+                Object[][] valeurs = new Object[colonnes.size()][];
+                for (int c = 0; c < colonnes.size(); c++) {
+                    valeurs[c] = lireMorceau(canal, morceaux.get(c).structure(3), colonnes.get(c), lignesGroupe);
+                }
+                for (int i = 0; i < lignesGroupe; i++) {
+                    Object[] valeursLigne = new Object[colonnes.size()];
+                    for (int c = 0; c < colonnes.size(); c++) {
+                        valeursLigne[c] = valeurs[c][i];
+                    }
+                    ligne.accept(valeursLigne);
+                }
+                lignes += lignesGroupe;
+            }
+
+            if (lignes != pied.entier(3)) {
+                throw new IOException("Fichier Parquet corrompu: " + fichier);
+            }
+            return new Table(schema.get(0).texte(4), colonnes, lignes, groupes.size());
+        }
+    }
+
+    /**
+     * Colonne d'un élément du schéma ; le premier morceau de la colonne, s'il
+     * existe, indique si elle est encodée par dictionnaire.
+     */
+    private static Colonne colonne(ThriftCompact.Structure element, ThriftCompact.Structure premierMorceau)
+            throws IOException {
+        String nom = element.texte(4);
+        if (element.contient(5) || !element.contient(1)
+                || (element.contient(3) && element.entier(3) == ColumnarFormat.REPEATED)) {
+            throw new IOException("Colonne imbriquée ou répétée non prise en charge: " + nom);
+        }
+        long type = element.entier(1);
+        long annotation = element.contient(6) ? element.entier(6) : -1;
+        if (type == ColumnarFormat.INT64 && annotation == ColumnarFormat.DECIMAL) {
+            return Colonne.decimal(nom, Math.toIntExact(element.entier(7)));
+        }
+        if (type == ColumnarFormat.INT64 && annotation == -1) {
+            return Colonne.entier(nom);
+        }
+        if (type == ColumnarFormat.BYTE_ARRAY && annotation == ColumnarFormat.UTF8) {
+            boolean dictionnaire = premierMorceau != null && premierMorceau.structure(3).contient(11);
+            return dictionnaire ? Colonne.dictionnaire(nom) : Colonne.texte(nom);
+        }
+        throw new IOException("Type de colonne non pris en charge: " + nom + " (" + type + ")");
+    }
+
+    private static Object[] lireMorceau(FileChannel canal, ThriftCompact.Structure meta, Colonne colonne,
+                                        int taille) throws IOException {
+        if (meta.entier(4) != ColumnarFormat.UNCOMPRESSED) {
+            throw new IOException("Compression non prise en charge: " + colonne.getNom());
+        }
+        long debut = meta.contient(11) ? meta.entier(11) : meta.entier(9);
+        ByteBuffer morceau = lireOctets(canal, debut, Math.toIntExact(meta.entier(7)));
+
+        Object[] valeurs = new Object[taille];
+        List<Object> dictionnaire = null;
+        int lues = 0;
+        try {
+            while (lues < taille) {
+                ThriftCompact.Structure entete = ThriftCompact.lire(morceau);
+                int longueur = Math.toIntExact(entete.entier(3));
+                ByteBuffer page = morceau.slice(morceau.position(), longueur).order(ByteOrder.LITTLE_ENDIAN);
+                morceau.position(morceau.position() + longueur);
+
+                long type = entete.entier(1);
+                if (type == ColumnarFormat.DICTIONARY_PAGE) {
+                    int entrees = Math.toIntExact(entete.structure(7).entier(1));
+                    dictionnaire = new ArrayList<>(entrees);
+                    for (int i = 0; i < entrees; i++) {
+                        dictionnaire.add(lireValeur(page, colonne));
+                    }
+                } else if (type == ColumnarFormat.DATA_PAGE) {
+                    lues += lirePage(page, entete.structure(5), colonne, dictionnaire, valeurs, lues);
+                } else {
+                    throw new IOException("Type de page non pris en charge: " + type);
+                }
+            }
+        } catch (BufferUnderflowException | IndexOutOfBoundsException e) {
+            throw new IOException("Page tronquée dans la colonne " + colonne.getNom(), e);
+        }
+        return valeurs;
+    }
+
+    /**
+     * Décode une page de données dans {@code valeurs}, à partir de {@code debut}.
+     *
+     * @return le nombre de valeurs de la page, nulles comprises
+     */
+    private static int lirePage(ByteBuffer page, ThriftCompact.Structure entete, Colonne colonne,
+                                List<Object> dictionnaire, Object[] valeurs, int debut) throws IOException {
+        int nombre = Math.toIntExact(entete.entier(1));
+        long encodage = entete.entier(2);
+
+        int longueurNiveaux = page.getInt();
+        int[] niveaux = new int[nombre];
+        ColumnarFormat.lireHybride(page.slice(page.position(), longueurNiveaux), 1, niveaux, nombre);
+        page.position(page.position() + longueurNiveaux);
+
+        int[] indices = null;
+        if (encodage == ColumnarFormat.RLE_DICTIONARY || encodage == ColumnarFormat.PLAIN_DICTIONARY) {
+            if (dictionnaire == null) {
+                throw new IOException("Page encodée par dictionnaire sans dictionnaire: " + colonne.getNom());
+            }
+            int presentes = 0;
+            for (int niveau : niveaux) {
+                presentes += niveau;
+            }
+            indices = new int[presentes];
+            ColumnarFormat.lireHybride(page, page.get() & 0xFF, indices, presentes);
+        } else if (encodage != ColumnarFormat.PLAIN) {
+            throw new IOException("Encodage non pris en charge: " + encodage);
+        }
+
+        int indice = 0;
+        for (int i = 0; i < nombre; i++) {
+            if (niveaux[i] == 0) {
+                valeurs[debut + i] = null;
+            } else {
+                valeurs[debut + i] = indices != null ? dictionnaire.get(indices[indice++]) : lireValeur(page, colonne);
+            }
+        }
+        return nombre;
+    }
+
+    private static Object lireValeur(ByteBuffer page, Colonne colonne) {
+        return switch (colonne.getType()) {
+            case ENTIER -> page.getLong();
+            case DECIMAL -> BigDecimal.valueOf(page.getLong(), colonne.getEchelle());
+            case TEXTE, DICTIONNAIRE -> {
+                byte[] utf8 = new byte[page.getInt()];
+                page.get(utf8);
+                yield new String(utf8, StandardCharsets.UTF_8);
+            }
+        };
+    }
+
+    private static ByteBuffer lireOctets(FileChannel canal, long position, int longueur) throws IOException {
+        ByteBuffer tampon = ByteBuffer.allocate(longueur).order(ByteOrder.LITTLE_ENDIAN);
+        while (tampon.hasRemaining()) {
+            if (canal.read(tampon, position + tampon.position()) < 0) {
+                throw new EOFException("Fichier Parquet tronqué");
+            }
+        }
+        return tampon.flip();
+    }
+
+    private static byte[] octets(ByteBuffer tampon) {
+        byte[] octets = new byte[tampon.remaining()];
+        tampon.get(octets);
+        return octets;
+    }
+
+    /**
+     * Description d'une table relue.
+     */
+    public static final class Table {
+
+        private final String nom;
+        private final List<Colonne> colonnes;
+        private final long lignes;
+        private final int lots;
+
+        Table(String nom, List<Colonne> colonnes, long lignes, int lots) {
+            this.nom = nom;
+            this.colonnes = colonnes;
+            this.lignes = lignes;
+            this.lots = lots;
+        }
+
+        public String getNom() {
+            return nom;
+        }
+
+        public List<Colonne> getColonnes() {
+            return colonnes;
+        }
+
+        public long getLignes() {
+            return lignes;
+        }
+
+        /**
+         * @return le nombre de groupes de lignes
+         */
+        public int getLots() {
+            return lots;
+        }
+
+        @Override
+        public String toString() {
+            return "Table{" +
+                    "nom='" + nom + '\'' +
+                    ", colonnes=" + colonnes +
+                    ", lignes=" + lignes +
+                    ", lots=" + lots +
+                    '}';
+        }
+    }
+}
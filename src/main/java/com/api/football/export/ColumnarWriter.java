@@ -0,0 +1,421 @@
+package com.api.football.export;
+
+import com.api.football.export.ColumnarFormat.Colonne;
+
+import java.io.BufferedOutputStream;
+import java.io.FilterOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Écrit une table au {@link ColumnarFormat format Parquet}.
+ *
+ * Les lignes sont accumulées dans des tampons de colonnes d'au plus
+ * {@code tailleLot} lignes ; chaque lot complet devient un groupe de lignes,
+ * puis les tampons sont réutilisés : la mémoire ne dépend que de la taille
+ * des lots, pas du nombre de lignes. Seules les métadonnées des groupes
+ * (quelques dizaines d'octets par colonne) sont gardées jusqu'au pied de
+ * fichier.
+ *
+ * @author API Football API Team
+ * @version 1.0.0
+ */
+public class ColumnarWriter implements AutoCloseable {
+
+    private final Compteur sortie;
+    private final String table;
+    private final List<Colonne> colonnes;
+    private final int tailleLot;
+    private final Tampon[] tampons;
+    private final TamponOctets page = new TamponOctets(1 << 16);
+    private final TamponOctets entete = new TamponOctets(64);
+    private final List<GroupeLignes> groupes = new ArrayList<>();
+
+    private int lignesLot;
+    private long lignes;
+    private boolean ferme;
+
+    /**
+     * Constructeur : écrit l'en-tête du fichier.
+     *
+     * @param sortie le flux cible, fermé avec l'écrivain
+     * @param table le nom de la table, porté par la racine du schéma
+     * @param colonnes les colonnes, dans l'ordre des valeurs de {@link #ajouter(Object...)}
+     * @param tailleLot le nombre de lignes par groupe de lignes
+     * @throws IOException en cas d'erreur d'écriture
+     */
+    public ColumnarWriter(OutputStream sortie, String table, List<Colonne> colonnes, int tailleLot)
+            throws IOException {
+        this.sortie = new Compteur(new BufferedOutputStream(sortie, 1 << 16));
+        this.table = table;
+        this.colonnes = List.copyOf(colonnes);
+        this.tailleLot = Math.max(1, tailleLot);
+        this.tampons = new Tampon[colonnes.size()];
+        for (int i = 0; i < tampons.length; i++) {
+            tampons[i] = Tampon.pour(colonnes.get(i), this.tailleLot);
+        }
+        this.sortie.write(ColumnarFormat.MAGIC);
+    }
+
+    /**
+     * Ajoute une ligne.
+     *
+     * @param valeurs une valeur par colonne : {@link Number} pour les entiers,
+     *                {@link String} pour les textes, {@link BigDecimal} pour les décimaux, ou null
+     * @throws IOException en cas d'erreur d'écriture du lot complété
+     */
+    public void ajouter(Object... valeurs) throws IOException {
+        if (valeurs.length != tampons.length) {
+            throw new IllegalArgumentException("Ligne de " + valeurs.length + " valeurs pour "
+                    + tampons.length + " colonnes");
+        }
+        for (int i = 0; i < tampons.length; i++) {
+            tampons[i].ajouter(lignesLot, valeurs[i]);
+        }
+        lignes++;
+        if (++lignesLot == tailleLot) {
+            ecrireLot();
+        }
+    }
+
+    public long getLignes() {
+        return lignes;
+    }
+
+    /**
+     * Écrit le dernier lot et le pied de fichier, puis ferme le flux.
+     *
+     * @throws IOException en cas d'erreur d'écriture
+     */
+    @Override
+    public void close() throws IOException {
+        if (ferme) {
+            return;
+        }
+        ferme = true;
+        try {
+            ecrireLot();
+            page.vider();
+            ecrirePied(new ThriftCompact.Encodeur(page));
+            page.entier32(page.taille());
+            page.octets(ColumnarFormat.MAGIC, 0, ColumnarFormat.MAGIC.length);
+            page.ecrireVers(sortie);
+        } finally {
+            sortie.close();
+        }
+    }
+
+    private void ecrireLot() throws IOException {
+        if (lignesLot == 0) {
+            return;
+        }
+        long debut = sortie.position;
+        List<Morceau> morceaux = new ArrayList<>(tampons.length);
+        for (Tampon tampon : tampons) {
+            morceaux.add(tampon.ecrire(this, lignesLot));
+        }
+        groupes.add(new GroupeLignes(morceaux, lignesLot, sortie.position - debut));
+        lignesLot = 0;
+    }
+
+    /**
+     * Écrit l'en-tête de page puis le contenu de {@link #page}.
+     *
+     * @param dictionnaire vrai pour une page de dictionnaire
+     * @param valeurs le nombre de valeurs de la page, nulles comprises
+     * @param encodage l'encodage des valeurs d'une page de données
+     */
+    private void ecrirePage(boolean dictionnaire, int valeurs, int encodage) throws IOException {
+        entete.vider();
+        ThriftCompact.Encodeur pageHeader = new ThriftCompact.Encodeur(entete)
+                .i32(1, dictionnaire ? ColumnarFormat.DICTIONARY_PAGE : ColumnarFormat.DATA_PAGE)
+                .i32(2, page.taille())
+                .i32(3, page.taille());
+        if (dictionnaire) {
+            pageHeader.structure(7).i32(1, valeurs).i32(2, ColumnarFormat.PLAIN).fin();
+        } else {
+            pageHeader.structure(5).i32(1, valeurs).i32(2, encodage)
+                    .i32(3, ColumnarFormat.RLE).i32(4, ColumnarFormat.RLE).fin();
+        }
+        pageHeader.fin();
+        entete.ecrireVers(sortie);
+        page.ecrireVers(sortie);
+    }
+
+    /**
+     * FileMetaData : version, schéma, nombre de lignes et groupes de lignes.
+     */
+    private void ecrirePied(ThriftCompact.Encodeur pied) {
+        pied.i32(1, 1);
+
+        pied.liste(2, ThriftCompact.STRUCTURE, colonnes.size() + 1);
+        pied.elementStructure().texte(4, table).i32(5, colonnes.size()).fin();
+        for (Colonne colonne : colonnes) {
+            pied.elementStructure().i32(1, typePhysique(colonne)).i32(3, ColumnarFormat.OPTIONAL)
+                    .texte(4, colonne.getNom());
+            if (colonne.getType() == ColumnarFormat.Type.DECIMAL) {
+                pied.i32(6, ColumnarFormat.DECIMAL).i32(7, colonne.getEchelle())
+                        .i32(8, ColumnarFormat.PRECISION_DECIMAL);
+            } else if (colonne.getType() != ColumnarFormat.Type.ENTIER) {
+                pied.i32(6, ColumnarFormat.UTF8);
+            }
+            pied.fin();
+        }
+
+        pied.i64(3, lignes);
+
+        pied.liste(4, ThriftCompact.STRUCTURE, groupes.size());
+        for (GroupeLignes groupe : groupes) {
+            pied.elementStructure().liste(1, ThriftCompact.STRUCTURE, groupe.morceaux.size());
+            for (int c = 0; c < colonnes.size(); c++) {
+                Morceau morceau = groupe.morceaux.get(c);
+                pied.elementStructure().i64(2, morceau.debut()).structure(3)
+                        .i32(1, typePhysique(colonnes.get(c)));
+                int[] encodages = morceau.dictionnaire() < 0
+                        ? new int[]{ColumnarFormat.PLAIN, ColumnarFormat.RLE}
+                        : new int[]{ColumnarFormat.PLAIN, ColumnarFormat.RLE, ColumnarFormat.RLE_DICTIONARY};
+                pied.liste(2, ThriftCompact.I32, encodages.length);
+                for (int encodage : encodages) {
+                    pied.elementI32(encodage);
+                }
+                pied.liste(3, ThriftCompact.BINAIRE, 1).elementTexte(colonnes.get(c).getNom())
+                        .i32(4, ColumnarFormat.UNCOMPRESSED)
+                        .i64(5, groupe.lignes)
+                        .i64(6, morceau.taille())
+                        .i64(7, morceau.taille())
+                        .i64(9, morceau.donnees());
+                if (morceau.dictionnaire() >= 0) {
+                    pied.i64(11, morceau.dictionnaire());
+                }
+                pied.fin().fin();
+            }
+            pied.i64(2, groupe.taille).i64(3, groupe.lignes).fin();
+        }
+
+        pied.texte(6, ColumnarFormat.CREE_PAR);
+        pied.fin();
+    }
+
+    private static int typePhysique(Colonne colonne) {
+        return switch (colonne.getType()) {
+            case ENTIER, DECIMAL -> ColumnarFormat.INT64;
+            case TEXTE, DICTIONNAIRE -> ColumnarFormat.BYTE_ARRAY;
+        };
+    }
+
+    /**
+     * Position des pages d'une colonne dans le fichier, pour le pied.
+     *
+     * @param dictionnaire la position de la page de dictionnaire, ou -1
+     */
+    private record Morceau(long debut, long dictionnaire, long donnees, long taille) {
+    }
+
+    private record GroupeLignes(List<Morceau> morceaux, int lignes, long taille) {
+    }
+
+    /**
+     * Flux qui compte les octets écrits : les positions des pages vont dans le pied.
+     */
+    private static final class Compteur extends FilterOutputStream {
+
+        private long position;
+
+        Compteur(OutputStream sortie) {
+            super(sortie);
+        }
+
+        @Override
+        public void write(int octet) throws IOException {
+            out.write(octet);
+            position++;
+        }
+
+        @Override
+        public void write(byte[] octets, int debut, int longueur) throws IOException {
+            out.write(octets, debut, longueur);
+            position += longueur;
+        }
+    }
+
+    /**
+     * Valeurs d'une colonne pour le lot en cours, et leurs niveaux de définition.
+     *
+     * Les valeurs nulles n'occupent que leur niveau (0) : seules les valeurs
+     * présentes sont rangées, dans l'ordre des lignes.
+     */
+    private abstract static class Tampon {
+
+        private final int[] niveaux;
+        int presentes;
+
+        Tampon(int tailleLot) {
+            this.niveaux = new int[tailleLot];
+        }
+
+        static Tampon pour(Colonne colonne, int tailleLot) {
+            return switch (colonne.getType()) {
+                case ENTIER -> new Entiers(tailleLot, 0);
+                case DECIMAL -> new Entiers(tailleLot, colonne.getEchelle());
+                case TEXTE -> new Textes(tailleLot);
+                case DICTIONNAIRE -> new Dictionnaire(tailleLot);
+            };
+        }
+
+        final void ajouter(int ligne, Object valeur) {
+            if (valeur == null) {
+                niveaux[ligne] = 0;
+            } else {
+                niveaux[ligne] = 1;
+                ajouterValeur(valeur);
+                presentes++;
+            }
+        }
+
+        /**
+         * Écrit le morceau de colonne du lot, puis vide le tampon.
+         */
+        final Morceau ecrire(ColumnarWriter writer, int lignes) throws IOException {
+            long debut = writer.sortie.position;
+            long dictionnaire = -1;
+            TamponOctets page = writer.page;
+
+            page.vider();
+            int entrees = ecrireDictionnaire(page);
+            if (entrees >= 0) {
+                dictionnaire = debut;
+                writer.ecrirePage(true, entrees, ColumnarFormat.PLAIN);
+            }
+
+            long donnees = writer.sortie.position;
+            page.vider();
+            page.entier32(0);
+            ColumnarFormat.ecrireHybride(page, niveaux, lignes, 1);
+            page.remplacer32(0, page.taille() - 4);
+            int encodage = ecrireValeurs(page);
+            writer.ecrirePage(false, lignes, encodage);
+
+            presentes = 0;
+            return new Morceau(debut, dictionnaire, donnees, writer.sortie.position - debut);
+        }
+
+        abstract void ajouterValeur(Object valeur);
+
+        /**
+         * @return le nombre d'entrées du dictionnaire écrit, ou -1 sans dictionnaire
+         */
+        int ecrireDictionnaire(TamponOctets page) {
+            return -1;
+        }
+
+        /**
+         * @return l'encodage des valeurs écrites
+         */
+        abstract int ecrireValeurs(TamponOctets page);
+    }
+
+    private static final class Entiers extends Tampon {
+
+        private final long[] valeurs;
+        private final int echelle;
+
+        Entiers(int tailleLot, int echelle) {
+            super(tailleLot);
+            this.valeurs = new long[tailleLot];
+            this.echelle = echelle;
+        }
+
+        @Override
+        void ajouterValeur(Object valeur) {
+            if (valeur instanceof BigDecimal decimal) {
+                // Une valeur plus précise que l'échelle de la colonne est une erreur, pas un arrondi
+                valeurs[presentes] = decimal.setScale(echelle, RoundingMode.UNNECESSARY).unscaledValue().longValueExact();
+            } else {
+                valeurs[presentes] = ((Number) valeur).longValue();
+            }
+        }
+
+        @Override
+        int ecrireValeurs(TamponOctets page) {
+            for (int i = 0; i < presentes; i++) {
+                page.entier64(valeurs[i]);
+            }
+            return ColumnarFormat.PLAIN;
+        }
+    }
+
+    private static final class Textes extends Tampon {
+
+        // Déjà au format PLAIN : longueur puis octets UTF-8
+        private final TamponOctets valeurs = new TamponOctets(1 << 16);
+
+        Textes(int tailleLot) {
+            super(tailleLot);
+        }
+
+        @Override
+        void ajouterValeur(Object valeur) {
+            byte[] utf8 = ((String) valeur).getBytes(StandardCharsets.UTF_8);
+            valeurs.entier32(utf8.length);
+            valeurs.octets(utf8, 0, utf8.length);
+        }
+
+        @Override
+        int ecrireValeurs(TamponOctets page) {
+            page.octets(valeurs);
+            valeurs.vider();
+            return ColumnarFormat.PLAIN;
+        }
+    }
+
+    private static final class Dictionnaire extends Tampon {
+
+        private final Map<String, Integer> indices = new HashMap<>();
+        private final List<String> entrees = new ArrayList<>();
+        private final int[] valeurs;
+
+        Dictionnaire(int tailleLot) {
+            super(tailleLot);
+            this.valeurs = new int[tailleLot];
+        }
+
+        @Override
+        void ajouterValeur(Object valeur) {
+            Integer indice = indices.get(valeur);
+            if (indice == null) {
+                indice = entrees.size();
+                indices.put((String) valeur, indice);
+                entrees.add((String) valeur);
+            }
+            valeurs[presentes] = indice;
+        }
+
+        @Override
+        int ecrireDictionnaire(TamponOctets page) {
+            for (String entree : entrees) {
+                byte[] utf8 = entree.getBytes(StandardCharsets.UTF_8);
+                page.entier32(utf8.length);
+                page.octets(utf8, 0, utf8.length);
+            }
+            return entrees.size();
+        }
+
+        @Override
+        int ecrireValeurs(TamponOctets page) {
+            int largeur = ColumnarFormat.largeur(Math.max(0, entrees.size() - 1));
+            page.octet(largeur);
+            ColumnarFormat.ecrireHybride(page, valeurs, presentes, largeur);
+            // Le dictionnaire d'un morceau ne vaut que pour son groupe de lignes
+            indices.clear();
+            entrees.clear();
+            return ColumnarFormat.RLE_DICTIONARY;
+        }
+    }
+}
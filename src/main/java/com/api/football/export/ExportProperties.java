@@ -0,0 +1,84 @@
+package com.api.football.export;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * Paramètres de l'export en colonnes des équipes et des joueurs.
+ *
+ * Préfixe : {@code football.export}.
+ *
+ * @author API Football API Team
+ * @version 1.0.0
+ */
+@ConfigurationProperties(prefix = "football.export")
+public class ExportProperties {
+
+    /**
+     * Active l'export périodique.
+     */
+    private boolean enabled = false;
+
+    /**
+     * Délai entre deux exports périodiques.
+     */
+    private Duration intervalle = Duration.ofHours(1);
+
+    /**
+     * Répertoire des exports ; chaque export y crée un sous-répertoire.
+     */
+    private String repertoire = "./data/exports";
+
+    /**
+     * Nombre de lignes par groupe de lignes Parquet, et par aller-retour du curseur.
+     */
+    private int tailleLot = 65_536;
+
+    /**
+     * Nombre d'exports conservés, les plus anciens étant supprimés (0 = tous).
+     */
+    private int conserver = 24;
+
+    // Getters et Setters
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public Duration getIntervalle() {
+        return intervalle;
+    }
+
+    public void setIntervalle(Duration intervalle) {
+        this.intervalle = intervalle;
+    }
+
+    public String getRepertoire() {
+        return repertoire;
+    }
+
+    public void setRepertoire(String repertoire) {
+        this.repertoire = repertoire;
+    }
+
+    public int getTailleLot() {
+        return tailleLot;
+    }
+
+    public void setTailleLot(int tailleLot) {
+        this.tailleLot = tailleLot;
+    }
+
+    public int getConserver() {
+        return conserver;
+    }
+
+    public void setConserver(int conserver) {
+        this.conserver = conserver;
+    }
+}
@@ -0,0 +1,91 @@
+package com.api.football.export;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Arrays;
+
+/**
+ * Tableau d'octets extensible, réutilisé d'une page à l'autre.
+ *
+ * Les entiers sont écrits en little-endian, l'ordre des octets de Parquet.
+ *
+ * @author API Football API Team
+ * @version 1.0.0
+ */
+final class TamponOctets {
+
+    private byte[] octets;
+    private int taille;
+
+    TamponOctets(int capacite) {
+        this.octets = new byte[Math.max(16, capacite)];
+    }
+
+    void octet(int valeur) {
+        reserver(1);
+        octets[taille++] = (byte) valeur;
+    }
+
+    void octets(byte[] valeurs, int debut, int longueur) {
+        reserver(longueur);
+        System.arraycopy(valeurs, debut, octets, taille, longueur);
+        taille += longueur;
+    }
+
+    void octets(TamponOctets autre) {
+        octets(autre.octets, 0, autre.taille);
+    }
+
+    void entier32(int valeur) {
+        reserver(4);
+        remplacer32(taille, valeur);
+        taille += 4;
+    }
+
+    void entier64(long valeur) {
+        reserver(8);
+        for (int i = 0; i < 8; i++) {
+            octets[taille++] = (byte) (valeur >>> (8 * i));
+        }
+    }
+
+    /**
+     * Entier non signé en varint : 7 bits par octet, bit de poids fort à 1
+     * tant que d'autres octets suivent.
+     */
+    void varint(long valeur) {
+        reserver(10);
+        while ((valeur & ~0x7FL) != 0) {
+            octets[taille++] = (byte) ((valeur & 0x7F) | 0x80);
+            valeur >>>= 7;
+        }
+        octets[taille++] = (byte) valeur;
+    }
+
+    /**
+     * Réécrit un entier déjà réservé, par exemple une longueur connue après coup.
+     */
+    void remplacer32(int position, int valeur) {
+        for (int i = 0; i < 4; i++) {
+            octets[position + i] = (byte) (valeur >>> (8 * i));
+        }
+    }
+
+    int taille() {
+        return taille;
+    }
+
+    void vider() {
+        taille = 0;
+    }
+
+    void ecrireVers(OutputStream sortie) throws IOException {
+        sortie.write(octets, 0, taille);
+    }
+
+    private void reserver(int longueur) {
+        if (taille + longueur > octets.length) {
+            octets = Arrays.copyOf(octets, Math.max(octets.length * 2, taille + longueur));
+        }
+    }
+}
@@ -0,0 +1,277 @@
+package com.api.football.export;
+
+import java.io.IOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Protocole compact de Thrift, dans lequel Parquet encode ses métadonnées
+ * (en-têtes de pages et pied de fichier).
+ *
+ * L'encodeur ne couvre que les types dont Parquet a besoin ici (i32, i64,
+ * chaînes, listes et structures) ; le décodeur lit tous les types du
+ * protocole, pour ignorer les champs qu'il ne connaît pas.
+ *
+ * @author API Football API Team
+ * @version 1.0.0
+ */
+final class ThriftCompact {
+
+    static final int BOOLEEN_VRAI = 1;
+    static final int BOOLEEN_FAUX = 2;
+    static final int OCTET = 3;
+    static final int I16 = 4;
+    static final int I32 = 5;
+    static final int I64 = 6;
+    static final int DOUBLE = 7;
+    static final int BINAIRE = 8;
+    static final int LISTE = 9;
+    static final int ENSEMBLE = 10;
+    static final int TABLE = 11;
+    static final int STRUCTURE = 12;
+
+    private ThriftCompact() {
+    }
+
+    /**
+     * Encodeur d'une structure, et des structures qu'elle contient.
+     *
+     * Chaque champ est précédé de l'écart avec le numéro du champ précédent
+     * de la même structure : les champs doivent être écrits dans l'ordre.
+     */
+    static final class Encodeur {
+
+        private final TamponOctets sortie;
+        private final Deque<Integer> champsParents = new ArrayDeque<>();
+        private int dernierChamp;
+
+        Encodeur(TamponOctets sortie) {
+            this.sortie = sortie;
+        }
+
+        Encodeur i32(int champ, int valeur) {
+            entete(champ, I32);
+            sortie.varint(zigzag(valeur));
+            return this;
+        }
+
+        Encodeur i64(int champ, long valeur) {
+            entete(champ, I64);
+            sortie.varint(zigzag(valeur));
+            return this;
+        }
+
+        Encodeur texte(int champ, String valeur) {
+            entete(champ, BINAIRE);
+            elementTexte(valeur);
+            return this;
+        }
+
+        /**
+         * Ouvre une structure imbriquée, refermée par {@link #fin()}.
+         */
+        Encodeur structure(int champ) {
+            entete(champ, STRUCTURE);
+            return elementStructure();
+        }
+
+        /**
+         * Annonce une liste ; ses éléments suivent par les méthodes {@code element*}.
+         */
+        Encodeur liste(int champ, int typeElement, int taille) {
+            entete(champ, LISTE);
+            if (taille < 15) {
+                sortie.octet(taille << 4 | typeElement);
+            } else {
+                sortie.octet(0xF0 | typeElement);
+                sortie.varint(taille);
+            }
+            return this;
+        }
+
+        Encodeur elementI32(int valeur) {
+            sortie.varint(zigzag(valeur));
+            return this;
+        }
+
+        Encodeur elementTexte(String valeur) {
+            byte[] utf8 = valeur.getBytes(StandardCharsets.UTF_8);
+            sortie.varint(utf8.length);
+            sortie.octets(utf8, 0, utf8.length);
+            return this;
+        }
+
+        Encodeur elementStructure() {
+            champsParents.push(dernierChamp);
+            dernierChamp = 0;
+            return this;
+        }
+
+        /**
+         * Termine la structure en cours.
+         */
+        Encodeur fin() {
+            sortie.octet(0);
+            dernierChamp = champsParents.isEmpty() ? 0 : champsParents.pop();
+            return this;
+        }
+
+        private void entete(int champ, int type) {
+            int ecart = champ - dernierChamp;
+            if (ecart > 0 && ecart <= 15) {
+                sortie.octet(ecart << 4 | type);
+            } else {
+                sortie.octet(type);
+                sortie.varint(zigzag(champ));
+            }
+            dernierChamp = champ;
+        }
+    }
+
+    /**
+     * Lit une structure à la position courante du tampon, et avance après elle.
+     *
+     * @throws IOException si les octets ne forment pas une structure complète
+     */
+    static Structure lire(ByteBuffer entree) throws IOException {
+        try {
+            return lireStructure(entree);
+        } catch (BufferUnderflowException | IllegalArgumentException e) {
+            throw new IOException("Métadonnées Thrift tronquées ou invalides", e);
+        }
+    }
+
+    static long lireVarint(ByteBuffer entree) {
+        long valeur = 0;
+        for (int decalage = 0; decalage < 64; decalage += 7) {
+            byte octet = entree.get();
+            valeur |= (long) (octet & 0x7F) << decalage;
+            if (octet >= 0) {
+                return valeur;
+            }
+        }
+        throw new IllegalArgumentException("Varint trop long");
+    }
+
+    private static Structure lireStructure(ByteBuffer entree) {
+        Map<Integer, Object> champs = new HashMap<>();
+        int dernierChamp = 0;
+        while (true) {
+            int entete = entree.get() & 0xFF;
+            if (entete == 0) {
+                return new Structure(champs);
+            }
+            int ecart = entete >>> 4;
+            int champ = ecart == 0 ? (int) dezigzag(lireVarint(entree)) : dernierChamp + ecart;
+            dernierChamp = champ;
+            champs.put(champ, lireValeur(entree, entete & 0x0F));
+        }
+    }
+
+    private static Object lireValeur(ByteBuffer entree, int type) {
+        return switch (type) {
+            case BOOLEEN_VRAI -> Boolean.TRUE;
+            case BOOLEEN_FAUX -> Boolean.FALSE;
+            case OCTET -> (long) entree.get();
+            case I16, I32, I64 -> dezigzag(lireVarint(entree));
+            case DOUBLE -> {
+                long bits = 0;
+                for (int i = 0; i < 8; i++) {
+                    bits |= (long) (entree.get() & 0xFF) << (8 * i);
+                }
+                yield Double.longBitsToDouble(bits);
+            }
+            case BINAIRE -> {
+                byte[] octets = new byte[Math.toIntExact(lireVarint(entree))];
+                entree.get(octets);
+                yield octets;
+            }
+            case LISTE, ENSEMBLE -> {
+                int entete = entree.get() & 0xFF;
+                int taille = entete >>> 4 == 15 ? Math.toIntExact(lireVarint(entree)) : entete >>> 4;
+                List<Object> elements = new ArrayList<>(taille);
+                for (int i = 0; i < taille; i++) {
+                    elements.add(lireElement(entree, entete & 0x0F));
+                }
+                yield elements;
+            }
+            case TABLE -> {
+                int taille = Math.toIntExact(lireVarint(entree));
+                Map<Object, Object> table = new HashMap<>();
+                if (taille > 0) {
+                    int types = entree.get() & 0xFF;
+                    for (int i = 0; i < taille; i++) {
+                        table.put(lireElement(entree, types >>> 4), lireElement(entree, types & 0x0F));
+                    }
+                }
+                yield table;
+            }
+            case STRUCTURE -> lireStructure(entree);
+            default -> throw new IllegalArgumentException("Type Thrift inconnu: " + type);
+        };
+    }
+
+    private static Object lireElement(ByteBuffer entree, int type) {
+        // Dans une collection, un booléen occupe un octet entier
+        if (type == BOOLEEN_VRAI || type == BOOLEEN_FAUX) {
+            return entree.get() == BOOLEEN_VRAI;
+        }
+        return lireValeur(entree, type);
+    }
+
+    private static long zigzag(long valeur) {
+        return (valeur << 1) ^ (valeur >> 63);
+    }
+
+    private static long dezigzag(long valeur) {
+        return (valeur >>> 1) ^ -(valeur & 1);
+    }
+
+    /**
+     * Structure décodée : valeurs indexées par numéro de champ.
+     */
+    static final class Structure {
+
+        private final Map<Integer, Object> champs;
+
+        private Structure(Map<Integer, Object> champs) {
+            this.champs = champs;
+        }
+
+        boolean contient(int champ) {
+            return champs.containsKey(champ);
+        }
+
+        long entier(int champ) throws IOException {
+            return (Long) requis(champ);
+        }
+
+        String texte(int champ) throws IOException {
+            return new String((byte[]) requis(champ), StandardCharsets.UTF_8);
+        }
+
+        Structure structure(int champ) throws IOException {
+            return (Structure) requis(champ);
+        }
+
+        @SuppressWarnings("unchecked")
+        <T> List<T> liste(int champ) throws IOException {
+            return (List<T>) requis(champ);
+        }
+
+        private Object requis(int champ) throws IOException {
+            Object valeur = champs.get(champ);
+            if (valeur == null) {
+                throw new IOException("Champ Thrift obligatoire absent: " + champ);
+            }
+            return valeur;
+        }
+    }
+}
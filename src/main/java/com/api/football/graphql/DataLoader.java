@@ -0,0 +1,92 @@
+package com.api.football.graphql;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * Chargeur par lots d'une requête GraphQL.
+ *
+ * L'exécution demande en une fois les clés de tous les objets d'un même
+ * niveau ; seules les clés encore inconnues sont chargées, en requêtes
+ * {@code IN} de {@value #TAILLE_LOT} clés au plus. Les valeurs restent en
+ * cache pour la durée de la requête : un même objet demandé à plusieurs
+ * niveaux n'est lu qu'une fois.
+ *
+ * Un chargeur n'est utilisé que par la requête qui l'a créé et n'est pas
+ * thread-safe.
+ *
+ * @author API Football API Team
+ * @version 1.0.0
+ */
+final class DataLoader<K, V> {
+
+    /** Nombre maximal de clés par requête {@code IN}. */
+    static final int TAILLE_LOT = 500;
+
+    private final Function<List<K>, Map<K, V>> chargerLot;
+    private final Map<K, V> cache = new HashMap<>();
+    private int lots;
+
+    /**
+     * Constructeur.
+     *
+     * @param chargerLot charge un lot de clés et renvoie les valeurs trouvées par clé
+     */
+    DataLoader(Function<List<K>, Map<K, V>> chargerLot) {
+        this.chargerLot = chargerLot;
+    }
+
+    /**
+     * Charge les valeurs de plusieurs clés.
+     *
+     * @param cles les clés ; les doublons sont ignorés
+     * @return les valeurs par clé, sans entrée pour les clés introuvables
+     */
+    Map<K, V> chargerTous(Collection<K> cles) {
+        List<K> manquantes = new ArrayList<>();
+        for (K cle : new LinkedHashSet<>(cles)) {
+            if (!cache.containsKey(cle)) {
+                manquantes.add(cle);
+            }
+        }
+        for (int debut = 0; debut < manquantes.size(); debut += TAILLE_LOT) {
+            List<K> lot = manquantes.subList(debut, Math.min(debut + TAILLE_LOT, manquantes.size()));
+            Map<K, V> trouves = chargerLot.apply(lot);
+            for (K cle : lot) {
+                cache.put(cle, trouves.get(cle));
+            }
+            lots++;
+        }
+
+        Map<K, V> valeurs = new HashMap<>();
+        for (K cle : cles) {
+            V valeur = cache.get(cle);
+            if (valeur != null) {
+                valeurs.put(cle, valeur);
+            }
+        }
+        return valeurs;
+    }
+
+    /**
+     * Place en cache une valeur déjà lue par ailleurs, pour ne pas la recharger.
+     *
+     * @param cle la clé
+     * @param valeur la valeur
+     */
+    void amorcer(K cle, V valeur) {
+        cache.putIfAbsent(cle, valeur);
+    }
+
+    /**
+     * @return le nombre de lots chargés depuis la création
+     */
+    int getLots() {
+        return lots;
+    }
+}
@@ -0,0 +1,392 @@
+package com.api.football.graphql;
+
+import com.api.football.graphql.GraphQLParser.Champ;
+import com.api.football.graphql.GraphQLSchema.Definition;
+import com.api.football.graphql.GraphQLSchema.Type;
+import com.api.football.metrics.MetricsSource;
+import com.api.football.model.Equipe;
+import com.api.football.model.Joueur;
+import com.api.football.repository.EquipeRepository;
+import com.api.football.repository.JoueurRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Exécute les requêtes GraphQL sur les équipes et les joueurs.
+ *
+ * La requête est d'abord validée contre le {@link GraphQLSchema schéma},
+ * puis sa profondeur et son coût estimé sont bornés : chaque valeur produite
+ * coûte 1, multiplié par la taille des listes qui l'englobent (la taille de
+ * page demandée, ou {@link GraphQLProperties#getEffectifEstime()} pour un
+ * effectif).
+ *
+ * L'exécution se fait niveau par niveau : les champs imbriqués
+ * ({@code Equipe.joueurs}, {@code Joueur.equipe}) sont résolus pour tous les
+ * objets d'un niveau à la fois, par des {@link DataLoader} propres à la
+ * requête qui les chargent en requêtes {@code IN}. Le nombre d'instructions
+ * SQL dépend ainsi de la forme de la requête, pas du nombre d'objets.
+ *
+ * @author API Football API Team
+ * @version 1.0.0
+ */
+@Service
+public class GraphQLExecutor implements MetricsSource {
+
+    private static final Logger logger = LoggerFactory.getLogger(GraphQLExecutor.class);
+
+    @Autowired
+    private EquipeRepository equipeRepository;
+
+    @Autowired
+    private JoueurRepository joueurRepository;
+
+    @Autowired
+    private GraphQLProperties graphQLProperties;
+
+    private final LongAdder requetes = new LongAdder();
+    private final LongAdder rejets = new LongAdder();
+    private final LongAdder lots = new LongAdder();
+
+    /**
+     * Exécute une requête.
+     *
+     * @param requete le texte de la requête
+     * @param variables les valeurs des variables, ou null
+     * @return la réponse GraphQL, les résultats étant sous la clé {@code data}
+     * @throws IllegalArgumentException si la requête est invalide, trop profonde ou trop coûteuse
+     */
+    @Transactional(readOnly = true)
+    public Map<String, Object> executer(String requete, Map<String, Object> variables) {
+        List<Champ> selection;
+        try {
+            selection = GraphQLParser.analyser(requete, variables);
+            long cout = cout(selection, Type.QUERY, 1, 1, 0);
+            logger.info("Exécution d'une requête GraphQL de coût estimé {}", cout);
+        } catch (IllegalArgumentException e) {
+            rejets.increment();
+            throw e;
+        }
+        requetes.increment();
+
+        Contexte contexte = new Contexte();
+        Map<String, Object> donnees = new LinkedHashMap<>();
+        for (Champ champ : selection) {
+            donnees.put(champ.getAlias(), executerRacine(champ, contexte));
+        }
+        lots.add(contexte.equipes.getLots() + contexte.effectifs.getLots());
+
+        Map<String, Object> reponse = new LinkedHashMap<>();
+        reponse.put("data", donnees);
+        return reponse;
+    }
+
+    /**
+     * Valide une sélection et renvoie son coût estimé cumulé.
+     *
+     * @param multiplicateur le nombre estimé d'objets sur lesquels la sélection s'applique
+     * @param cumul le coût déjà estimé pour le reste de la requête
+     */
+    private long cout(List<Champ> selection, Type type, int profondeur, long multiplicateur, long cumul) {
+        if (profondeur > graphQLProperties.getProfondeurMax()) {
+            throw new IllegalArgumentException("Requête trop profonde: au plus "
+                    + graphQLProperties.getProfondeurMax() + " niveaux");
+        }
+        long cout = cumul;
+        for (Champ champ : selection) {
+            for (String condition : champ.getConditions()) {
+                if (!condition.equals(type.getNom())) {
+                    throw new IllegalArgumentException("Fragment sur " + condition + " impossible dans "
+                            + type.getNom());
+                }
+            }
+            Definition definition = GraphQLSchema.champ(type, champ.getNom());
+            if (definition == null && champ.getNom().startsWith("__")) {
+                throw new IllegalArgumentException("Introspection non prise en charge: " + champ.getNom()
+                        + " (seul __typename l'est)");
+            }
+            if (definition == null) {
+                throw new IllegalArgumentException("Champ inconnu: " + type.getNom() + "." + champ.getNom());
+            }
+            for (String argument : champ.getArguments().keySet()) {
+                if (!definition.getArguments().contains(argument)) {
+                    throw new IllegalArgumentException("Argument inconnu: " + type.getNom() + "."
+                            + champ.getNom() + "(" + argument + ")");
+                }
+            }
+
+            cout += multiplicateur;
+            if (cout > graphQLProperties.getCoutMax()) {
+                throw new IllegalArgumentException("Requête trop coûteuse: coût estimé supérieur à "
+                        + graphQLProperties.getCoutMax());
+            }
+
+            if (definition.getCible() == null) {
+                if (!champ.getSelection().isEmpty()) {
+                    throw new IllegalArgumentException("Le champ " + champ.getNom() + " n'accepte pas de sélection");
+                }
+            } else {
+                if (champ.getSelection().isEmpty()) {
+                    throw new IllegalArgumentException("Le champ " + champ.getNom() + " exige une sélection");
+                }
+                long elements = !definition.isListe() ? 1
+                        : type == Type.QUERY ? page(champ).getPageSize() : graphQLProperties.getEffectifEstime();
+                cout = cout(champ.getSelection(), definition.getCible(), profondeur + 1,
+                        multiplicateur * elements, cout);
+            }
+        }
+        return cout;
+    }
+
+    private Object executerRacine(Champ champ, Contexte contexte) {
+        Map<String, Object> arguments = champ.getArguments();
+        return switch (champ.getNom()) {
+            case "equipes" -> resoudreEquipes(equipeRepository.findAllBy(page(champ)), champ.getSelection(), contexte);
+            case "equipe" -> premier(resoudreEquipes(trouverEquipe(arguments).stream().toList(),
+                    champ.getSelection(), contexte));
+            case "joueurs" -> resoudreJoueurs(chercherJoueurs(champ), champ.getSelection(), contexte);
+            case "joueur" -> premier(resoudreJoueurs(
+                    joueurRepository.findById(identifiant(arguments, "id", true)).stream().toList(),
+                    champ.getSelection(), contexte));
+            default -> Type.QUERY.getNom();
+        };
+    }
+
+    private Optional<Equipe> trouverEquipe(Map<String, Object> arguments) {
+        Long id = identifiant(arguments, "id", false);
+        if (id != null) {
+            return equipeRepository.findById(id);
+        }
+        String acronyme = texte(arguments, "acronyme");
+        if (acronyme == null) {
+            throw new IllegalArgumentException("Le champ equipe exige l'argument id ou acronyme");
+        }
+        return equipeRepository.findByAcronyme(acronyme);
+    }
+
+    private List<Joueur> chercherJoueurs(Champ champ) {
+        Pageable pageable = page(champ);
+        Long equipeId = identifiant(champ.getArguments(), "equipeId", false);
+        String position = texte(champ.getArguments(), "position");
+
+        if (equipeId != null && position != null) {
+            return joueurRepository.findByEquipeIdAndPositionContainingIgnoreCase(equipeId, position, pageable)
+                    .getContent();
+        } else if (equipeId != null) {
+            return joueurRepository.findByEquipeId(equipeId, pageable).getContent();
+        } else if (position != null) {
+            return joueurRepository.findByPositionContainingIgnoreCase(position, pageable).getContent();
+        }
+        return joueurRepository.findAll(pageable).getContent();
+    }
+
+    private List<Map<String, Object>> resoudreEquipes(List<Equipe> equipes, List<Champ> selection,
+                                                      Contexte contexte) {
+        List<Map<String, Object>> resultats = nouveauxResultats(equipes.size());
+        List<Long> ids = new ArrayList<>(equipes.size());
+        for (Equipe equipe : equipes) {
+            contexte.equipes.amorcer(equipe.getId(), equipe);
+            ids.add(equipe.getId());
+        }
+
+        for (Champ champ : selection) {
+            if (champ.getNom().equals("joueurs")) {
+                // Les effectifs de toutes les équipes du niveau, en un seul lot
+                Map<Long, List<Joueur>> effectifs = contexte.effectifs.chargerTous(ids);
+                String position = texte(champ.getArguments(), "position");
+                List<Joueur> joueurs = new ArrayList<>();
+                int[] tailles = new int[equipes.size()];
+                for (int i = 0; i < equipes.size(); i++) {
+                    for (Joueur joueur : effectifs.getOrDefault(ids.get(i), List.of())) {
+                        if (position == null || position.equalsIgnoreCase(joueur.getPosition())) {
+                            joueurs.add(joueur);
+                            tailles[i]++;
+                        }
+                    }
+                }
+                List<Map<String, Object>> resolus = resoudreJoueurs(joueurs, champ.getSelection(), contexte);
+                int debut = 0;
+                for (int i = 0; i < equipes.size(); i++) {
+                    resultats.get(i).put(champ.getAlias(), new ArrayList<>(resolus.subList(debut, debut + tailles[i])));
+                    debut += tailles[i];
+                }
+            } else {
+                for (int i = 0; i < equipes.size(); i++) {
+                    resultats.get(i).put(champ.getAlias(), scalaire(equipes.get(i), champ.getNom()));
+                }
+            }
+        }
+        return resultats;
+    }
+
+    private List<Map<String, Object>> resoudreJoueurs(List<Joueur> joueurs, List<Champ> selection,
+                                                      Contexte contexte) {
+        List<Map<String, Object>> resultats = nouveauxResultats(joueurs.size());
+
+        for (Champ champ : selection) {
+            if (champ.getNom().equals("equipe")) {
+                // Les équipes de tous les joueurs du niveau, en un seul lot
+                List<Long> ids = new ArrayList<>();
+                for (Joueur joueur : joueurs) {
+                    Long equipeId = equipeId(joueur);
+                    if (equipeId != null) {
+                        ids.add(equipeId);
+                    }
+                }
+                Map<Long, Equipe> trouvees = contexte.equipes.chargerTous(ids);
+                List<Equipe> equipes = new ArrayList<>();
+                List<Integer> indices = new ArrayList<>();
+                for (int i = 0; i < joueurs.size(); i++) {
+                    Equipe equipe = trouvees.get(equipeId(joueurs.get(i)));
+                    resultats.get(i).put(champ.getAlias(), null);
+                    if (equipe != null) {
+                        equipes.add(equipe);
+                        indices.add(i);
+                    }
+                }
+                List<Map<String, Object>> resolues = resoudreEquipes(equipes, champ.getSelection(), contexte);
+                for (int k = 0; k < indices.size(); k++) {
+                    resultats.get(indices.get(k)).put(champ.getAlias(), resolues.get(k));
+                }
+            } else {
+                for (int i = 0; i < joueurs.size(); i++) {
+                    resultats.get(i).put(champ.getAlias(), scalaire(joueurs.get(i), champ.getNom()));
+                }
+            }
+        }
+        return resultats;
+    }
+
+    private static Object scalaire(Equipe equipe, String champ) {
+        return switch (champ) {
+            case "id" -> equipe.getId();
+            case "nom" -> equipe.getNom();
+            case "acronyme" -> equipe.getAcronyme();
+            case "budget" -> equipe.getBudget();
+            case "nombreJoueurs" -> equipe.getNombreJoueurs();
+            default -> Type.EQUIPE.getNom();
+        };
+    }
+
+    private static Object scalaire(Joueur joueur, String champ) {
+        return switch (champ) {
+            case "id" -> joueur.getId();
+            case "nom" -> joueur.getNom();
+            case "position" -> joueur.getPosition();
+            case "equipeNom" -> joueur.getEquipeNom();
+            default -> Type.JOUEUR.getNom();
+        };
+    }
+
+    /**
+     * Identifiant de l'équipe d'un joueur, lu sur la référence sans charger l'équipe.
+     */
+    private static Long equipeId(Joueur joueur) {
+        return joueur.getEquipe() == null ? null : joueur.getEquipe().getId();
+    }
+
+    private Pageable page(Champ champ) {
+        Map<String, Object> arguments = champ.getArguments();
+        long page = entier(arguments, "page", 0);
+        long taille = entier(arguments, "size", graphQLProperties.getTailleParDefaut());
+        if (page < 0) {
+            throw new IllegalArgumentException("L'argument page doit être positif ou nul");
+        }
+        if (taille < 1 || taille > graphQLProperties.getTailleMax()) {
+            throw new IllegalArgumentException("L'argument size doit être compris entre 1 et "
+                    + graphQLProperties.getTailleMax());
+        }
+        return PageRequest.of((int) page, (int) taille, Sort.by("id"));
+    }
+
+    private static long entier(Map<String, Object> arguments, String nom, long defaut) {
+        Object valeur = arguments.get(nom);
+        if (valeur == null) {
+            return defaut;
+        }
+        if (valeur instanceof Number nombre && nombre.doubleValue() == nombre.longValue()) {
+            return nombre.longValue();
+        }
+        throw new IllegalArgumentException("L'argument " + nom + " doit être un entier");
+    }
+
+    private static Long identifiant(Map<String, Object> arguments, String nom, boolean obligatoire) {
+        Object valeur = arguments.get(nom);
+        if (valeur == null) {
+            if (obligatoire) {
+                throw new IllegalArgumentException("L'argument " + nom + " est obligatoire");
+            }
+            return null;
+        }
+        try {
+            // Un ID GraphQL peut être transmis comme nombre ou comme chaîne
+            return valeur instanceof Number nombre ? nombre.longValue() : Long.valueOf(valeur.toString());
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("L'argument " + nom + " n'est pas un identifiant valide");
+        }
+    }
+
+    private static String texte(Map<String, Object> arguments, String nom) {
+        Object valeur = arguments.get(nom);
+        return valeur == null ? null : valeur.toString();
+    }
+
+    private static List<Map<String, Object>> nouveauxResultats(int taille) {
+        List<Map<String, Object>> resultats = new ArrayList<>(taille);
+        for (int i = 0; i < taille; i++) {
+            resultats.add(new LinkedHashMap<>());
+        }
+        return resultats;
+    }
+
+    private static Map<String, Object> premier(List<Map<String, Object>> resultats) {
+        return resultats.isEmpty() ? null : resultats.get(0);
+    }
+
+    @Override
+    public String getNomMetriques() {
+        return "graphql";
+    }
+
+    @Override
+    public Map<String, Number> getMetriques() {
+        Map<String, Number> metriques = new LinkedHashMap<>();
+        metriques.put("requetes", requetes.sum());
+        metriques.put("rejets", rejets.sum());
+        metriques.put("lotsCharges", lots.sum());
+        return metriques;
+    }
+
+    /**
+     * Chargeurs d'une requête.
+     */
+    private final class Contexte {
+
+        private final DataLoader<Long, Equipe> equipes = new DataLoader<>(ids -> {
+            Map<Long, Equipe> trouvees = new HashMap<>();
+            equipeRepository.findAllById(ids).forEach(equipe -> trouvees.put(equipe.getId(), equipe));
+            return trouvees;
+        });
+
+        private final DataLoader<Long, List<Joueur>> effectifs = new DataLoader<>(ids -> {
+            Map<Long, List<Joueur>> trouves = new HashMap<>();
+            for (Joueur joueur : joueurRepository.findByEquipeIdInOrderByIdAsc(ids)) {
+                trouves.computeIfAbsent(equipeId(joueur), id -> new ArrayList<>()).add(joueur);
+            }
+            return trouves;
+        });
+    }
+}
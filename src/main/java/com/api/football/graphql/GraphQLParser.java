@@ -0,0 +1,593 @@
+package com.api.football.graphql;
+
+import java.math.BigDecimal;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Analyseur du sous-ensemble de GraphQL accepté par l'API.
+ *
+ * Un document contient une seule opération {@code query} (éventuellement
+ * nommée, avec des variables typées et leurs valeurs par défaut) et des
+ * définitions de fragments. Sont pris en charge :
+ * <ul>
+ *   <li>les alias et les arguments littéraux ou variables ;</li>
+ *   <li>les fragments nommés ({@code ...Nom}) et en ligne
+ *       ({@code ... on Type}, ou sans condition de type) ;</li>
+ *   <li>les directives {@code @include(if:)} et {@code @skip(if:)} sur les
+ *       champs et les fragments.</li>
+ * </ul>
+ * Les mutations, abonnements, documents à plusieurs opérations, valeurs
+ * objets ({@code {a: 1}}), chaînes en bloc et autres directives sont refusés.
+ *
+ * Les fragments sont développés et les variables substituées à l'analyse :
+ * l'exécution ne voit que des champs et des valeurs. Les champs de même clé
+ * sont fusionnés, comme le prévoit la spécification ; chaque champ issu d'un
+ * fragment garde les conditions de type à vérifier contre le schéma.
+ *
+ * @author API Football API Team
+ * @version 1.0.0
+ */
+final class GraphQLParser {
+
+    private final String source;
+    private final Map<String, Object> variables;
+    private final Map<String, Object> valeursVariables = new HashMap<>();
+    private final Map<String, Fragment> fragments = new HashMap<>();
+    private final Set<String> fragmentsUtilises = new HashSet<>();
+    private int position;
+
+    private GraphQLParser(String source, Map<String, Object> variables) {
+        this.source = source;
+        this.variables = variables == null ? Map.of() : variables;
+    }
+
+    /**
+     * Analyse une requête.
+     *
+     * @param requete le texte de la requête
+     * @param variables les valeurs des variables, ou null
+     * @return les champs de premier niveau, fragments développés
+     * @throws IllegalArgumentException si la requête est invalide ou utilise une syntaxe non prise en charge
+     */
+    static List<Champ> analyser(String requete, Map<String, Object> variables) {
+        if (requete == null || requete.isBlank()) {
+            throw new IllegalArgumentException("La requête GraphQL est vide");
+        }
+        return new GraphQLParser(requete, variables).document();
+    }
+
+    private List<Champ> document() {
+        List<Element> operation = null;
+        ignorer();
+        while (position < source.length()) {
+            if (regarder('{')) {
+                operation = operationUnique(operation, selection());
+            } else {
+                String mot = nom();
+                if (mot.equals("fragment")) {
+                    fragment();
+                } else if (mot.equals("query")) {
+                    ignorer();
+                    if (estDebutNom()) {
+                        nom();
+                    }
+                    if (regarder('(')) {
+                        definitionsVariables();
+                    }
+                    operation = operationUnique(operation, selection());
+                } else {
+                    throw new IllegalArgumentException("Opération non prise en charge: " + mot);
+                }
+            }
+            ignorer();
+        }
+        if (operation == null) {
+            throw erreur("aucune opération");
+        }
+
+        List<Champ> champs = developper(operation, Set.of(), new ArrayDeque<>());
+        for (String fragment : fragments.keySet()) {
+            if (!fragmentsUtilises.contains(fragment)) {
+                throw new IllegalArgumentException("Fragment inutilisé: " + fragment);
+            }
+        }
+        return champs;
+    }
+
+    private List<Element> operationUnique(List<Element> precedente, List<Element> selection) {
+        if (precedente != null) {
+            throw erreur("une seule opération est acceptée");
+        }
+        return selection;
+    }
+
+    /**
+     * {@code fragment Nom on Type { ... }}, le mot-clé étant déjà lu.
+     */
+    private void fragment() {
+        String nom = nom();
+        if (nom.equals("on")) {
+            throw erreur("nom de fragment attendu");
+        }
+        if (!nom().equals("on")) {
+            throw erreur("'on' attendu");
+        }
+        String condition = nom();
+        if (fragments.putIfAbsent(nom, new Fragment(condition, selection())) != null) {
+            throw new IllegalArgumentException("Fragment défini deux fois: " + nom);
+        }
+    }
+
+    private void definitionsVariables() {
+        attendre('(');
+        while (!regarder(')')) {
+            attendre('$');
+            String nom = nom();
+            attendre(':');
+            boolean obligatoire = type();
+            Object defaut = null;
+            if (regarder('=')) {
+                attendre('=');
+                defaut = valeur(true);
+            }
+            if (variables.containsKey(nom)) {
+                valeursVariables.put(nom, variables.get(nom));
+            } else if (defaut != null) {
+                valeursVariables.put(nom, defaut);
+            } else if (obligatoire) {
+                throw new IllegalArgumentException("Variable obligatoire manquante: $" + nom);
+            } else {
+                valeursVariables.put(nom, null);
+            }
+        }
+        attendre(')');
+    }
+
+    /**
+     * Lit un type de variable ({@code Int}, {@code [ID!]!}...) ; seul son
+     * caractère obligatoire importe, les valeurs étant converties à l'exécution.
+     */
+    private boolean type() {
+        if (regarder('[')) {
+            attendre('[');
+            type();
+            attendre(']');
+        } else {
+            nom();
+        }
+        if (regarder('!')) {
+            attendre('!');
+            return true;
+        }
+        return false;
+    }
+
+    private List<Element> selection() {
+        attendre('{');
+        List<Element> elements = new ArrayList<>();
+        while (!regarder('}')) {
+            elements.add(regarder('.') ? fragmentDansSelection() : champ());
+        }
+        attendre('}');
+        if (elements.isEmpty()) {
+            throw erreur("sélection vide");
+        }
+        return elements;
+    }
+
+    /**
+     * {@code ...Nom} ou {@code ... on Type { }} ou {@code ... { }}.
+     */
+    private Element fragmentDansSelection() {
+        for (int i = 0; i < 3; i++) {
+            attendre('.');
+        }
+        ignorer();
+        String condition = null;
+        if (estDebutNom()) {
+            String nom = nom();
+            if (!nom.equals("on")) {
+                return new Propagation(nom, directives());
+            }
+            condition = nom();
+        }
+        List<Directive> directives = directives();
+        return new FragmentEnLigne(condition, directives, selection());
+    }
+
+    private Element champ() {
+        String alias = nom();
+        String nom = alias;
+        if (regarder(':')) {
+            attendre(':');
+            nom = nom();
+        }
+        Map<String, Object> arguments = Collections.emptyMap();
+        if (regarder('(')) {
+            arguments = arguments();
+        }
+        List<Directive> directives = directives();
+        List<Element> selection = regarder('{') ? selection() : List.of();
+        return new ChampBrut(alias, nom, arguments, directives, selection);
+    }
+
+    private List<Directive> directives() {
+        List<Directive> directives = new ArrayList<>();
+        while (regarder('@')) {
+            attendre('@');
+            String nom = nom();
+            if (!nom.equals("include") && !nom.equals("skip")) {
+                throw new IllegalArgumentException("Directive non prise en charge: @" + nom);
+            }
+            if (!regarder('(')) {
+                throw erreur("argument 'if' attendu pour @" + nom);
+            }
+            directives.add(new Directive(nom, arguments()));
+        }
+        return directives;
+    }
+
+    private Map<String, Object> arguments() {
+        attendre('(');
+        Map<String, Object> arguments = new LinkedHashMap<>();
+        while (!regarder(')')) {
+            String nom = nom();
+            attendre(':');
+            if (arguments.containsKey(nom)) {
+                throw erreur("argument répété: " + nom);
+            }
+            arguments.put(nom, valeur(false));
+        }
+        attendre(')');
+        return arguments;
+    }
+
+    /**
+     * Développe les fragments d'une sélection et applique ses directives.
+     *
+     * @param conditions les conditions de type des fragments englobants
+     * @param pile les fragments en cours de développement, pour refuser les cycles
+     */
+    private List<Champ> developper(List<Element> elements, Set<String> conditions, Deque<String> pile) {
+        Map<String, Champ> champs = new LinkedHashMap<>();
+        developperDans(elements, conditions, pile, champs);
+        return List.copyOf(champs.values());
+    }
+
+    private void developperDans(List<Element> elements, Set<String> conditions, Deque<String> pile,
+                                Map<String, Champ> champs) {
+        for (Element element : elements) {
+            if (element instanceof ChampBrut champ) {
+                if (inclus(champ.directives())) {
+                    Map<String, Object> arguments = new LinkedHashMap<>();
+                    champ.arguments().forEach((nom, valeur) -> arguments.put(nom, resoudre(valeur)));
+                    fusionner(champs, new Champ(champ.alias(), champ.nom(), arguments,
+                            developper(champ.selection(), Set.of(), pile), conditions));
+                }
+            } else if (element instanceof Propagation propagation) {
+                Fragment fragment = fragments.get(propagation.nom());
+                if (fragment == null) {
+                    throw new IllegalArgumentException("Fragment inconnu: " + propagation.nom());
+                }
+                if (pile.contains(propagation.nom())) {
+                    throw new IllegalArgumentException("Fragment cyclique: " + propagation.nom());
+                }
+                fragmentsUtilises.add(propagation.nom());
+                if (inclus(propagation.directives())) {
+                    pile.push(propagation.nom());
+                    developperDans(fragment.selection(), avec(conditions, fragment.condition()), pile, champs);
+                    pile.pop();
+                }
+            } else if (element instanceof FragmentEnLigne enLigne && inclus(enLigne.directives())) {
+                developperDans(enLigne.selection(), avec(conditions, enLigne.condition()), pile, champs);
+            }
+        }
+    }
+
+    /**
+     * Ajoute un champ ; deux champs de même clé doivent désigner le même
+     * champ avec les mêmes arguments, leurs sélections sont alors réunies.
+     */
+    private static void fusionner(Map<String, Champ> champs, Champ champ) {
+        Champ existant = champs.get(champ.getAlias());
+        if (existant == null) {
+            champs.put(champ.getAlias(), champ);
+            return;
+        }
+        if (!existant.getNom().equals(champ.getNom()) || !existant.getArguments().equals(champ.getArguments())) {
+            throw new IllegalArgumentException("Champs en conflit sous la clé " + champ.getAlias());
+        }
+        Map<String, Champ> selection = new LinkedHashMap<>();
+        existant.getSelection().forEach(sousChamp -> fusionner(selection, sousChamp));
+        champ.getSelection().forEach(sousChamp -> fusionner(selection, sousChamp));
+        champs.put(champ.getAlias(), new Champ(champ.getAlias(), champ.getNom(), champ.getArguments(),
+                List.copyOf(selection.values()), avec(existant.getConditions(), champ.getConditions())));
+    }
+
+    private static Set<String> avec(Set<String> conditions, String condition) {
+        return condition == null ? conditions : avec(conditions, Set.of(condition));
+    }
+
+    private static Set<String> avec(Set<String> conditions, Set<String> autres) {
+        if (autres.isEmpty() || conditions.containsAll(autres)) {
+            return conditions;
+        }
+        Set<String> reunion = new HashSet<>(conditions);
+        reunion.addAll(autres);
+        return Set.copyOf(reunion);
+    }
+
+    private boolean inclus(List<Directive> directives) {
+        for (Directive directive : directives) {
+            Object condition = resoudre(directive.arguments().get("if"));
+            if (directive.arguments().size() != 1 || !(condition instanceof Boolean)) {
+                throw new IllegalArgumentException("@" + directive.nom() + " exige le seul argument booléen 'if'");
+            }
+            if ((Boolean) condition == directive.nom().equals("skip")) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private Object resoudre(Object valeur) {
+        if (valeur instanceof Variable variable) {
+            if (!valeursVariables.containsKey(variable.nom())) {
+                throw new IllegalArgumentException("Variable non déclarée: $" + variable.nom());
+            }
+            return valeursVariables.get(variable.nom());
+        }
+        if (valeur instanceof List<?> liste) {
+            List<Object> resolue = new ArrayList<>(liste.size());
+            liste.forEach(element -> resolue.add(resoudre(element)));
+            return resolue;
+        }
+        return valeur;
+    }
+
+    private Object valeur(boolean constante) {
+        ignorer();
+        if (position >= source.length()) {
+            throw erreur("valeur attendue");
+        }
+        char c = source.charAt(position);
+        if (c == '$') {
+            if (constante) {
+                throw erreur("variable interdite dans une valeur par défaut");
+            }
+            position++;
+            // Résolue au développement : un fragment peut précéder l'opération qui déclare la variable
+            return new Variable(nom());
+        }
+        if (c == '"') {
+            return chaine();
+        }
+        if (c == '[') {
+            attendre('[');
+            List<Object> liste = new ArrayList<>();
+            while (!regarder(']')) {
+                liste.add(valeur(constante));
+            }
+            attendre(']');
+            return liste;
+        }
+        if (c == '-' || Character.isDigit(c)) {
+            return nombre();
+        }
+        if (estDebutNom()) {
+            String nom = nom();
+            return switch (nom) {
+                case "true" -> Boolean.TRUE;
+                case "false" -> Boolean.FALSE;
+                case "null" -> null;
+                default -> nom;
+            };
+        }
+        throw erreur("valeur inattendue '" + c + "'");
+    }
+
+    private Object nombre() {
+        int debut = position;
+        if (source.charAt(position) == '-') {
+            position++;
+        }
+        boolean decimal = false;
+        while (position < source.length()) {
+            char c = source.charAt(position);
+            if (c == '.' || c == 'e' || c == 'E' || c == '+' || (c == '-' && decimal)) {
+                decimal = true;
+            } else if (!Character.isDigit(c)) {
+                break;
+            }
+            position++;
+        }
+        String texte = source.substring(debut, position);
+        try {
+            return decimal ? new BigDecimal(texte) : Long.valueOf(texte);
+        } catch (NumberFormatException e) {
+            throw erreur("nombre invalide: " + texte);
+        }
+    }
+
+    private String chaine() {
+        StringBuilder texte = new StringBuilder();
+        position++;
+        while (position < source.length()) {
+            char c = source.charAt(position++);
+            if (c == '"') {
+                return texte.toString();
+            }
+            if (c == '\\' && position < source.length()) {
+                char echappe = source.charAt(position++);
+                switch (echappe) {
+                    case 'n' -> texte.append('\n');
+                    case 't' -> texte.append('\t');
+                    case 'r' -> texte.append('\r');
+                    case 'b' -> texte.append('\b');
+                    case 'f' -> texte.append('\f');
+                    case 'u' -> {
+                        if (position + 4 > source.length()) {
+                            throw erreur("séquence unicode tronquée");
+                        }
+                        texte.append((char) Integer.parseInt(source.substring(position, position + 4), 16));
+                        position += 4;
+                    }
+                    default -> texte.append(echappe);
+                }
+            } else if (c == '\n') {
+                break;
+            } else {
+                texte.append(c);
+            }
+        }
+        throw erreur("chaîne non fermée");
+    }
+
+    private String nom() {
+        ignorer();
+        if (!estDebutNom()) {
+            throw erreur("nom attendu");
+        }
+        int debut = position++;
+        while (position < source.length()) {
+            char c = source.charAt(position);
+            if (c != '_' && !Character.isLetterOrDigit(c)) {
+                break;
+            }
+            position++;
+        }
+        return source.substring(debut, position);
+    }
+
+    private boolean estDebutNom() {
+        if (position >= source.length()) {
+            return false;
+        }
+        char c = source.charAt(position);
+        return c == '_' || Character.isLetter(c);
+    }
+
+    private boolean regarder(char attendu) {
+        ignorer();
+        return position < source.length() && source.charAt(position) == attendu;
+    }
+
+    private void attendre(char attendu) {
+        if (!regarder(attendu)) {
+            throw erreur("'" + attendu + "' attendu");
+        }
+        position++;
+    }
+
+    /**
+     * Passe les blancs, les virgules (non significatives en GraphQL) et les commentaires.
+     */
+    private void ignorer() {
+        while (position < source.length()) {
+            char c = source.charAt(position);
+            if (c == '#') {
+                while (position < source.length() && source.charAt(position) != '\n') {
+                    position++;
+                }
+            } else if (Character.isWhitespace(c) || c == ',' || c == '\uFEFF') {
+                position++;
+            } else {
+                return;
+            }
+        }
+    }
+
+    private IllegalArgumentException erreur(String message) {
+        return new IllegalArgumentException("Requête GraphQL invalide à la position " + position + ": " + message);
+    }
+
+    /**
+     * Champ sélectionné, avec ses arguments et sa sous-sélection.
+     */
+    static final class Champ {
+
+        private final String alias;
+        private final String nom;
+        private final Map<String, Object> arguments;
+        private final List<Champ> selection;
+        private final Set<String> conditions;
+
+        Champ(String alias, String nom, Map<String, Object> arguments, List<Champ> selection,
+              Set<String> conditions) {
+            this.alias = alias;
+            this.nom = nom;
+            this.arguments = arguments;
+            this.selection = selection;
+            this.conditions = conditions;
+        }
+
+        /**
+         * @return la clé du champ dans la réponse : l'alias, ou à défaut le nom
+         */
+        String getAlias() {
+            return alias;
+        }
+
+        String getNom() {
+            return nom;
+        }
+
+        Map<String, Object> getArguments() {
+            return arguments;
+        }
+
+        List<Champ> getSelection() {
+            return selection;
+        }
+
+        /**
+         * @return les types des fragments dont provient le champ, que le type
+         *         qui le porte doit tous satisfaire
+         */
+        Set<String> getConditions() {
+            return conditions;
+        }
+
+        @Override
+        public String toString() {
+            return (alias.equals(nom) ? nom : alias + ":" + nom) + arguments + (selection.isEmpty() ? "" : selection);
+        }
+    }
+
+    /**
+     * Élément d'une sélection, avant développement des fragments.
+     */
+    private sealed interface Element permits ChampBrut, Propagation, FragmentEnLigne {
+    }
+
+    private record ChampBrut(String alias, String nom, Map<String, Object> arguments, List<Directive> directives,
+                             List<Element> selection) implements Element {
+    }
+
+    /** {@code ...Nom} */
+    private record Propagation(String nom, List<Directive> directives) implements Element {
+    }
+
+    /** {@code ... on Type { }}, la condition étant null sans {@code on}. */
+    private record FragmentEnLigne(String condition, List<Directive> directives, List<Element> selection)
+            implements Element {
+    }
+
+    private record Fragment(String condition, List<Element> selection) {
+    }
+
+    private record Directive(String nom, Map<String, Object> arguments) {
+    }
+
+    private record Variable(String nom) {
+    }
+}
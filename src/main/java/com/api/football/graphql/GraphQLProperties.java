@@ -0,0 +1,80 @@
+package com.api.football.graphql;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Limites des requêtes GraphQL.
+ *
+ * Préfixe : {@code football.graphql}.
+ *
+ * @author API Football API Team
+ * @version 1.0.0
+ */
+@ConfigurationProperties(prefix = "football.graphql")
+public class GraphQLProperties {
+
+    /**
+     * Profondeur maximale d'une requête, les champs de premier niveau comptant pour 1.
+     */
+    private int profondeurMax = 5;
+
+    /**
+     * Coût maximal estimé d'une requête, en nombre de valeurs produites.
+     */
+    private int coutMax = 10_000;
+
+    /**
+     * Taille de page par défaut des listes de premier niveau.
+     */
+    private int tailleParDefaut = 20;
+
+    /**
+     * Taille de page maximale des listes de premier niveau.
+     */
+    private int tailleMax = 100;
+
+    /**
+     * Taille d'effectif supposée pour estimer le coût de {@code Equipe.joueurs}.
+     */
+    private int effectifEstime = 30;
+
+    public int getProfondeurMax() {
+        return profondeurMax;
+    }
+
+    public void setProfondeurMax(int profondeurMax) {
+        this.profondeurMax = profondeurMax;
+    }
+
+    public int getCoutMax() {
+        return coutMax;
+    }
+
+    public void setCoutMax(int coutMax) {
+        this.coutMax = coutMax;
+    }
+
+    public int getTailleParDefaut() {
+        return tailleParDefaut;
+    }
+
+    public void setTailleParDefaut(int tailleParDefaut) {
+        this.tailleParDefaut = tailleParDefaut;
+    }
+
+    public int getTailleMax() {
+        return tailleMax;
+    }
+
+    public void setTailleMax(int tailleMax) {
+        this.tailleMax = tailleMax;
+    }
+
+    public int getEffectifEstime() {
+        return effectifEstime;
+    }
+
+    public void setEffectifEstime(int effectifEstime) {
+        this.effectifEstime = effectifEstime;
+    }
+}
@@ -0,0 +1,127 @@
+package com.api.football.graphql;
+
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Schéma GraphQL de l'API : les champs de chaque type, leurs arguments et
+ * le type de leurs valeurs.
+ *
+ * <pre>
+ * type Query {
+ *   equipes(page: Int, size: Int): [Equipe]
+ *   equipe(id: ID, acronyme: String): Equipe
+ *   joueurs(page: Int, size: Int, position: String, equipeId: ID): [Joueur]
+ *   joueur(id: ID!): Joueur
+ * }
+ * type Equipe { id nom acronyme budget nombreJoueurs joueurs(position: String): [Joueur] }
+ * type Joueur { id nom position equipeNom equipe: Equipe }
+ * </pre>
+ *
+ * Tous les types exposent aussi {@code __typename} ; les autres champs
+ * d'introspection ({@code __schema}, {@code __type}) ne sont pas servis.
+ *
+ * @author API Football API Team
+ * @version 1.0.0
+ */
+final class GraphQLSchema {
+
+    private GraphQLSchema() {
+    }
+
+    /**
+     * Types objets du schéma.
+     */
+    enum Type {
+        QUERY("Query"),
+        EQUIPE("Equipe"),
+        JOUEUR("Joueur");
+
+        private final String nom;
+
+        Type(String nom) {
+            this.nom = nom;
+        }
+
+        String getNom() {
+            return nom;
+        }
+    }
+
+    /**
+     * Définition d'un champ.
+     */
+    static final class Definition {
+
+        private final Type cible;
+        private final boolean liste;
+        private final Set<String> arguments;
+
+        private Definition(Type cible, boolean liste, Set<String> arguments) {
+            this.cible = cible;
+            this.liste = liste;
+            this.arguments = arguments;
+        }
+
+        static Definition scalaire() {
+            return new Definition(null, false, Set.of());
+        }
+
+        static Definition objet(Type cible, String... arguments) {
+            return new Definition(cible, false, Set.of(arguments));
+        }
+
+        static Definition liste(Type cible, String... arguments) {
+            return new Definition(cible, true, Set.of(arguments));
+        }
+
+        /**
+         * @return le type des valeurs, null pour un scalaire
+         */
+        Type getCible() {
+            return cible;
+        }
+
+        boolean isListe() {
+            return liste;
+        }
+
+        Set<String> getArguments() {
+            return arguments;
+        }
+    }
+
+    private static final Map<Type, Map<String, Definition>> CHAMPS = Map.of(
+            Type.QUERY, Map.of(
+                    "equipes", Definition.liste(Type.EQUIPE, "page", "size"),
+                    "equipe", Definition.objet(Type.EQUIPE, "id", "acronyme"),
+                    "joueurs", Definition.liste(Type.JOUEUR, "page", "size", "position", "equipeId"),
+                    "joueur", Definition.objet(Type.JOUEUR, "id")),
+            Type.EQUIPE, Map.of(
+                    "id", Definition.scalaire(),
+                    "nom", Definition.scalaire(),
+                    "acronyme", Definition.scalaire(),
+                    "budget", Definition.scalaire(),
+                    "nombreJoueurs", Definition.scalaire(),
+                    "joueurs", Definition.liste(Type.JOUEUR, "position")),
+            Type.JOUEUR, Map.of(
+                    "id", Definition.scalaire(),
+                    "nom", Definition.scalaire(),
+                    "position", Definition.scalaire(),
+                    "equipeNom", Definition.scalaire(),
+                    "equipe", Definition.objet(Type.EQUIPE)));
+
+    /**
+     * Cherche la définition d'un champ.
+     *
+     * @param type le type portant le champ
+     * @param nom le nom du champ
+     * @return la définition, ou null si le champ n'existe pas
+     */
+    static Definition champ(Type type, String nom) {
+        if (nom.equals("__typename")) {
+            return Definition.scalaire();
+        }
+        return CHAMPS.get(type).get(nom);
+    }
+}
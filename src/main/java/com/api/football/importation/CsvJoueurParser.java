@@ -0,0 +1,285 @@
+package com.api.football.importation;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Function;
+
+/**
+ * Analyse un bloc de fichier CSV de joueurs directement dans le tampon
+ * d'octets, sans découper chaque ligne en {@code String}.
+ *
+ * Colonnes attendues : {@code nom, position, equipe} (acronyme de l'équipe,
+ * vide pour un joueur libre) ; les colonnes suivantes sont ignorées. Les
+ * champs entre guillemets et les guillemets doublés sont acceptés, pas les
+ * sauts de ligne à l'intérieur d'un champ : le fichier est découpé sur les
+ * fins de ligne.
+ *
+ * Seul le nom devient une chaîne par ligne. Les positions et les acronymes,
+ * peu nombreux, sont retrouvés par leurs octets dans des caches propres à
+ * l'instance, qui n'est donc pas partagée entre threads.
+ *
+ * @author API Football API Team
+ * @version 1.0.0
+ */
+final class CsvJoueurParser {
+
+    static final int NOM_MAX = 100;
+    static final int POSITION_MAX = 50;
+
+    private static final byte GUILLEMET = '"';
+
+    /**
+     * Reçoit les lignes analysées.
+     */
+    interface Sortie {
+
+        /**
+         * Une ligne valide.
+         *
+         * @param nom le nom du joueur
+         * @param position la position du joueur
+         * @param equipe l'équipe du joueur, null pour un joueur libre
+         */
+        void joueur(String nom, String position, EquipeCible equipe);
+
+        /**
+         * Une ligne refusée.
+         *
+         * @param decalage la position de la ligne dans le fichier, en octets
+         * @param motif la raison du refus
+         */
+        void rejet(long decalage, String motif);
+    }
+
+    private final byte separateur;
+    private final Function<String, Optional<EquipeCible>> resolveur;
+
+    private final Champ nom = new Champ();
+    private final Champ position = new Champ();
+    private final Champ acronyme = new Champ();
+    private final Champ ignore = new Champ();
+    private final Champ[] colonnes = {nom, position, acronyme};
+
+    private final Map<Cle, String> positions = new HashMap<>();
+    private final Map<Cle, Optional<EquipeCible>> equipes = new HashMap<>();
+    private final Cle sonde = new Cle();
+
+    /**
+     * Constructeur.
+     *
+     * @param separateur le séparateur de champs
+     * @param resolveur la recherche d'une équipe par acronyme, appelée une fois par acronyme distinct
+     */
+    CsvJoueurParser(char separateur, Function<String, Optional<EquipeCible>> resolveur) {
+        if (separateur > 0x7F || separateur == '"' || separateur == '\n' || separateur == '\r') {
+            throw new IllegalArgumentException("Séparateur CSV invalide: " + separateur);
+        }
+        this.separateur = (byte) separateur;
+        this.resolveur = resolveur;
+    }
+
+    /**
+     * Analyse toutes les lignes du tampon, de sa position à sa limite.
+     *
+     * @param tampon le bloc, qui commence en début de ligne
+     * @param decalage la position du bloc dans le fichier, pour les messages de rejet
+     * @param sortie le destinataire des lignes
+     * @return le nombre de lignes non vides rencontrées
+     */
+    long analyser(ByteBuffer tampon, long decalage, Sortie sortie) {
+        int debut = tampon.position();
+        int limite = tampon.limit();
+        long lignes = 0;
+
+        int i = debut;
+        while (i < limite) {
+            int finLigne = i;
+            while (finLigne < limite && tampon.get(finLigne) != '\n') {
+                finLigne++;
+            }
+            int fin = finLigne > i && tampon.get(finLigne - 1) == '\r' ? finLigne - 1 : finLigne;
+            if (fin > i) {
+                lignes++;
+                analyserLigne(tampon, i, fin, decalage + i - debut, sortie);
+            }
+            i = finLigne + 1;
+        }
+        return lignes;
+    }
+
+    private void analyserLigne(ByteBuffer tampon, int debut, int fin, long decalage, Sortie sortie) {
+        for (Champ champ : colonnes) {
+            champ.longueur = 0;
+        }
+        int colonne = 0;
+        int i = debut;
+        while (i <= fin) {
+            i = lireChamp(tampon, i, fin, colonne < colonnes.length ? colonnes[colonne] : ignore);
+            if (i < 0) {
+                sortie.rejet(decalage, "guillemet non fermé");
+                return;
+            }
+            colonne++;
+        }
+
+        if (nom.longueur == 0) {
+            sortie.rejet(decalage, "nom manquant");
+            return;
+        }
+        if (position.longueur == 0) {
+            sortie.rejet(decalage, "position manquante");
+            return;
+        }
+        String valeurNom = new String(nom.octets, 0, nom.longueur, StandardCharsets.UTF_8);
+        if (valeurNom.length() > NOM_MAX) {
+            sortie.rejet(decalage, "nom de plus de " + NOM_MAX + " caractères");
+            return;
+        }
+        String valeurPosition = position();
+        if (valeurPosition.length() > POSITION_MAX) {
+            sortie.rejet(decalage, "position de plus de " + POSITION_MAX + " caractères");
+            return;
+        }
+
+        EquipeCible equipe = null;
+        if (acronyme.longueur > 0) {
+            Optional<EquipeCible> trouvee = equipe();
+            if (trouvee.isEmpty()) {
+                sortie.rejet(decalage, "équipe inconnue: "
+                        + new String(acronyme.octets, 0, acronyme.longueur, StandardCharsets.UTF_8));
+                return;
+            }
+            equipe = trouvee.get();
+        }
+        sortie.joueur(valeurNom, valeurPosition, equipe);
+    }
+
+    /**
+     * Lit un champ à partir de {@code debut} et renvoie la position qui suit
+     * son séparateur, {@code fin + 1} après le dernier champ de la ligne, ou
+     * -1 si un guillemet n'est pas fermé.
+     */
+    private int lireChamp(ByteBuffer tampon, int debut, int fin, Champ champ) {
+        champ.longueur = 0;
+        int i = debut;
+        while (i < fin && tampon.get(i) == ' ') {
+            i++;
+        }
+
+        if (i < fin && tampon.get(i) == GUILLEMET) {
+            i++;
+            while (true) {
+                if (i >= fin) {
+                    return -1;
+                }
+                byte octet = tampon.get(i++);
+                if (octet == GUILLEMET) {
+                    if (i < fin && tampon.get(i) == GUILLEMET) {
+                        i++;
+                    } else {
+                        break;
+                    }
+                }
+                champ.ajouter(octet);
+            }
+            while (i < fin && tampon.get(i) != separateur) {
+                i++;
+            }
+            return i + 1;
+        }
+
+        while (i < fin) {
+            byte octet = tampon.get(i);
+            if (octet == separateur) {
+                break;
+            }
+            champ.ajouter(octet);
+            i++;
+        }
+        while (champ.longueur > 0 && champ.octets[champ.longueur - 1] == ' ') {
+            champ.longueur--;
+        }
+        return i + 1;
+    }
+
+    private String position() {
+        String valeur = positions.get(sonde.sur(position));
+        if (valeur == null) {
+            valeur = new String(position.octets, 0, position.longueur, StandardCharsets.UTF_8);
+            positions.put(sonde.copie(), valeur);
+        }
+        return valeur;
+    }
+
+    private Optional<EquipeCible> equipe() {
+        Optional<EquipeCible> equipe = equipes.get(sonde.sur(acronyme));
+        if (equipe == null) {
+            equipe = resolveur.apply(new String(acronyme.octets, 0, acronyme.longueur, StandardCharsets.UTF_8));
+            equipes.put(sonde.copie(), equipe);
+        }
+        return equipe;
+    }
+
+    /**
+     * Tampon réutilisé d'un champ.
+     */
+    private static final class Champ {
+
+        private byte[] octets = new byte[128];
+        private int longueur;
+
+        void ajouter(byte octet) {
+            if (longueur == octets.length) {
+                octets = Arrays.copyOf(octets, longueur * 2);
+            }
+            octets[longueur++] = octet;
+        }
+    }
+
+    /**
+     * Clé de cache sur une suite d'octets. La sonde pointe sur le tampon d'un
+     * champ le temps d'une recherche ; {@link #copie()} en fait une clé stable.
+     */
+    private static final class Cle {
+
+        private byte[] octets;
+        private int longueur;
+        private int hash;
+
+        Cle sur(Champ champ) {
+            this.octets = champ.octets;
+            this.longueur = champ.longueur;
+            int h = 1;
+            for (int i = 0; i < longueur; i++) {
+                h = 31 * h + octets[i];
+            }
+            this.hash = h;
+            return this;
+        }
+
+        Cle copie() {
+            Cle copie = new Cle();
+            copie.octets = Arrays.copyOf(octets, longueur);
+            copie.longueur = longueur;
+            copie.hash = hash;
+            return copie;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (!(o instanceof Cle autre) || autre.longueur != longueur) {
+                return false;
+            }
+            return Arrays.equals(octets, 0, longueur, autre.octets, 0, autre.longueur);
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+    }
+}
@@ -0,0 +1,35 @@
+package com.api.football.importation;
+
+/**
+ * Équipe résolue depuis un acronyme du fichier : ce qu'il faut pour insérer
+ * un joueur (identifiant et nom dénormalisé).
+ *
+ * @author API Football API Team
+ * @version 1.0.0
+ */
+final class EquipeCible {
+
+    private final Long id;
+    private final String nom;
+
+    EquipeCible(Long id, String nom) {
+        this.id = id;
+        this.nom = nom;
+    }
+
+    Long getId() {
+        return id;
+    }
+
+    String getNom() {
+        return nom;
+    }
+
+    @Override
+    public String toString() {
+        return "EquipeCible{" +
+                "id=" + id +
+                ", nom='" + nom + '\'' +
+                '}';
+    }
+}
@@ -0,0 +1,108 @@
+package com.api.football.importation;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Paramètres de l'import de joueurs depuis un fichier CSV.
+ *
+ * Préfixe : {@code football.import}.
+ *
+ * @author API Football API Team
+ * @version 1.0.0
+ */
+@ConfigurationProperties(prefix = "football.import")
+public class ImportProperties {
+
+    /**
+     * Fichier CSV importé par le profil {@code import}.
+     */
+    private String fichier;
+
+    /**
+     * Séparateur de champs (un caractère ASCII).
+     */
+    private char separateur = ',';
+
+    /**
+     * Ignore la première ligne du fichier (en-tête {@code nom,position,equipe}).
+     */
+    private boolean entete = true;
+
+    /**
+     * Taille visée d'un bloc projeté en mémoire et analysé par une tâche ;
+     * le bloc est prolongé jusqu'à la fin de ligne suivante.
+     */
+    private int tailleBloc = 32 * 1024 * 1024;
+
+    /**
+     * Nombre de tâches d'analyse et d'écriture simultanées (0 = nombre de processeurs).
+     */
+    private int parallelisme = 0;
+
+    /**
+     * Nombre de lignes par lot JDBC, validé avec la mise à jour des effectifs.
+     */
+    private int tailleLot = 5_000;
+
+    // Getters et Setters
+
+    public String getFichier() {
+        return fichier;
+    }
+
+    public void setFichier(String fichier) {
+        this.fichier = fichier;
+    }
+
+    public char getSeparateur() {
+        return separateur;
+    }
+
+    public void setSeparateur(char separateur) {
+        this.separateur = separateur;
+    }
+
+    public boolean isEntete() {
+        return entete;
+    }
+
+    public void setEntete(boolean entete) {
+        this.entete = entete;
+    }
+
+    public int getTailleBloc() {
+        return tailleBloc;
+    }
+
+    public void setTailleBloc(int tailleBloc) {
+        this.tailleBloc = tailleBloc;
+    }
+
+    public int getParallelisme() {
+        return parallelisme;
+    }
+
+    public void setParallelisme(int parallelisme) {
+        this.parallelisme = parallelisme;
+    }
+
+    public int getTailleLot() {
+        return tailleLot;
+    }
+
+    public void setTailleLot(int tailleLot) {
+        this.tailleLot = tailleLot;
+    }
+
+    @Override
+    public String toString() {
+        return "ImportProperties{" +
+                "fichier='" + fichier + '\'' +
+                ", separateur=" + separateur +
+                ", entete=" + entete +
+                ", tailleBloc=" + tailleBloc +
+                ", parallelisme=" + parallelisme +
+                ", tailleLot=" + tailleLot +
+                '}';
+    }
+}
@@ -0,0 +1,33 @@
+package com.api.football.importation;
+
+import com.api.football.FootballApplication;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.context.ConfigurableApplicationContext;
+
+/**
+ * Point d'entrée en ligne de commande de l'import CSV des joueurs.
+ *
+ * Démarre l'application sans serveur web avec le profil {@code import},
+ * importe le fichier puis s'arrête. Les paramètres sont passés sous forme
+ * d'arguments Spring, par exemple :
+ * {@code --football.import.fichier=/data/joueurs.csv --football.import.separateur=;}.
+ *
+ * @author API Football API Team
+ * @version 1.0.0
+ */
+public final class JoueurCsvImportCli {
+
+    private JoueurCsvImportCli() {
+    }
+
+    public static void main(String[] args) {
+        SpringApplication application = new SpringApplication(FootballApplication.class);
+        application.setWebApplicationType(WebApplicationType.NONE);
+        application.setAdditionalProfiles("import");
+
+        try (ConfigurableApplicationContext context = application.run(args)) {
+            System.exit(SpringApplication.exit(context));
+        }
+    }
+}
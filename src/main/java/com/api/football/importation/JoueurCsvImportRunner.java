@@ -0,0 +1,38 @@
+package com.api.football.importation;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+
+import java.nio.file.Path;
+
+/**
+ * Lance l'import du fichier {@code football.import.fichier} au démarrage
+ * lorsque le profil {@code import} est actif.
+ *
+ * Exemple : {@code mvn spring-boot:run -Dspring-boot.run.profiles=import
+ * -Dspring-boot.run.arguments=--football.import.fichier=/data/joueurs.csv}
+ *
+ * @author API Football API Team
+ * @version 1.0.0
+ */
+@Component
+@Profile("import")
+public class JoueurCsvImportRunner implements ApplicationRunner {
+
+    @Autowired
+    private JoueurCsvImporter joueurCsvImporter;
+
+    @Autowired
+    private ImportProperties importProperties;
+
+    @Override
+    public void run(ApplicationArguments args) {
+        if (importProperties.getFichier() == null || importProperties.getFichier().isBlank()) {
+            throw new IllegalStateException("Le profil import exige la propriété football.import.fichier");
+        }
+        joueurCsvImporter.importer(Path.of(importProperties.getFichier()), importProperties);
+    }
+}
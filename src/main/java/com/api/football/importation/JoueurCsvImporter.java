@@ -0,0 +1,373 @@
+package com.api.football.importation;
+
+import com.api.football.persistence.DatabaseRestoredEvent;
+import com.api.football.repository.EquipeRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Types;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.TreeMap;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+
+/**
+ * Importe des joueurs depuis un fichier CSV volumineux ({@code nom,position,equipe}).
+ *
+ * Le fichier est découpé en blocs d'environ {@link ImportProperties#getTailleBloc()}
+ * octets, prolongés jusqu'à la fin de ligne suivante. Chaque bloc est projeté
+ * en mémoire et analysé par une tâche d'un {@link ForkJoinPool} directement
+ * dans le tampon d'octets ({@link CsvJoueurParser}), puis écrit par lots JDBC
+ * sur une connexion propre à la tâche, sans passer par JPA.
+ *
+ * Chaque lot est validé avec la mise à jour du compteur {@code nombre_joueurs}
+ * de ses équipes, dans l'ordre croissant des identifiants pour que deux
+ * tâches ne s'interbloquent pas : les effectifs dénormalisés restent exacts
+ * même si l'import s'interrompt. Les acronymes sont résolus par
+ * {@link EquipeRepository#findByAcronyme(String)}, une fois par acronyme
+ * distinct pour tout l'import.
+ *
+ * Comme le générateur de jeu de données, l'import ne passe pas par les
+ * limites d'effectif et n'alimente pas le flux de changements ; les vues en
+ * mémoire sont reconstruites à la fin par un {@link DatabaseRestoredEvent}.
+ * Les lignes invalides sont comptées et ignorées.
+ *
+ * @author API Football API Team
+ * @version 1.0.0
+ */
+@Component
+public class JoueurCsvImporter {
+
+    private static final Logger logger = LoggerFactory.getLogger(JoueurCsvImporter.class);
+
+    /** Nombre de rejets journalisés et conservés dans le résultat. */
+    static final int REJETS_CONSERVES = 20;
+
+    private static final String INSERTION_JOUEUR =
+            "INSERT INTO joueurs (nom, position, equipe_id, equipe_nom) VALUES (?, ?, ?, ?)";
+
+    private static final String AJUSTEMENT_EFFECTIF =
+            "UPDATE equipes SET nombre_joueurs = nombre_joueurs + ? WHERE id = ?";
+
+    private final DataSource dataSource;
+
+    @Autowired
+    private EquipeRepository equipeRepository;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    /**
+     * Constructeur.
+     *
+     * @param dataSource la source de données cible
+     */
+    public JoueurCsvImporter(DataSource dataSource) {
+        this.dataSource = dataSource;
+    }
+
+    /**
+     * Importe le fichier décrit par les paramètres.
+     *
+     * @param fichier le fichier CSV
+     * @param parametres les paramètres d'import
+     * @return le résumé de l'import
+     * @throws IllegalStateException si le fichier ne peut pas être lu ou si une écriture échoue
+     */
+    public Resultat importer(Path fichier, ImportProperties parametres) {
+        logger.info("Import des joueurs du fichier {}: {}", fichier, parametres);
+        long debut = System.nanoTime();
+
+        Map<String, Optional<EquipeCible>> equipes = new ConcurrentHashMap<>();
+        Function<String, Optional<EquipeCible>> resolveur = acronyme -> equipes.computeIfAbsent(acronyme,
+                cle -> equipeRepository.findByAcronyme(cle)
+                        .map(equipe -> new EquipeCible(equipe.getId(), equipe.getNom())));
+        Compteurs compteurs = new Compteurs();
+
+        int parallelisme = parametres.getParallelisme() > 0
+                ? parametres.getParallelisme()
+                : Runtime.getRuntime().availableProcessors();
+        ForkJoinPool pool = new ForkJoinPool(parallelisme);
+        try (FileChannel canal = FileChannel.open(fichier, StandardOpenOption.READ)) {
+            List<Callable<Void>> taches = new ArrayList<>();
+            for (long[] bloc : decouper(canal, parametres)) {
+                taches.add(() -> {
+                    importerBloc(canal, bloc[0], bloc[1], parametres, resolveur, compteurs);
+                    return null;
+                });
+            }
+            for (Future<Void> tache : pool.invokeAll(taches)) {
+                tache.get();
+            }
+        } catch (IOException e) {
+            throw new IllegalStateException("Lecture impossible du fichier " + fichier, e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Import du fichier " + fichier + " interrompu", e);
+        } catch (ExecutionException e) {
+            throw e.getCause() instanceof RuntimeException cause
+                    ? cause
+                    : new IllegalStateException("Échec de l'import du fichier " + fichier, e.getCause());
+        } finally {
+            pool.shutdownNow();
+            // Les lots déjà validés restent en base : les vues sont reconstruites même après un échec
+            eventPublisher.publishEvent(new DatabaseRestoredEvent(this, "import " + fichier.getFileName()));
+        }
+
+        long dureeMs = (System.nanoTime() - debut) / 1_000_000;
+        Resultat resultat = new Resultat(compteurs.lignes.sum(), compteurs.importes.sum(), compteurs.rejetes.sum(),
+                dureeMs, List.copyOf(compteurs.premiersRejets));
+        logger.info("Import terminé: {}", resultat);
+        return resultat;
+    }
+
+    /**
+     * Découpe le fichier en blocs qui commencent et finissent en début de
+     * ligne, en sautant la marque d'ordre des octets et l'en-tête.
+     */
+    List<long[]> decouper(FileChannel canal, ImportProperties parametres) throws IOException {
+        long taille = canal.size();
+        long debut = 0;
+        if (taille >= 3 && commenceParBom(canal)) {
+            debut = 3;
+        }
+        if (parametres.isEntete()) {
+            debut = debutLigneSuivante(canal, debut, taille);
+        }
+
+        long tailleBloc = Math.max(1, parametres.getTailleBloc());
+        List<long[]> blocs = new ArrayList<>();
+        while (debut < taille) {
+            long fin = Math.min(taille, debut + tailleBloc);
+            if (fin < taille) {
+                fin = debutLigneSuivante(canal, fin - 1, taille);
+            }
+            if (fin - debut > Integer.MAX_VALUE) {
+                throw new IllegalStateException("Ligne de plus de 2 Go à l'octet " + debut);
+            }
+            blocs.add(new long[]{debut, fin});
+            debut = fin;
+        }
+        return blocs;
+    }
+
+    private static boolean commenceParBom(FileChannel canal) throws IOException {
+        ByteBuffer bom = ByteBuffer.allocate(3);
+        canal.read(bom, 0);
+        return bom.position() == 3
+                && bom.get(0) == (byte) 0xEF && bom.get(1) == (byte) 0xBB && bom.get(2) == (byte) 0xBF;
+    }
+
+    /**
+     * Renvoie la position qui suit le premier saut de ligne à partir de {@code depart}.
+     */
+    private static long debutLigneSuivante(FileChannel canal, long depart, long taille) throws IOException {
+        ByteBuffer tampon = ByteBuffer.allocate(8192);
+        long position = depart;
+        while (position < taille) {
+            tampon.clear();
+            int lus = canal.read(tampon, position);
+            if (lus <= 0) {
+                break;
+            }
+            for (int i = 0; i < lus; i++) {
+                if (tampon.get(i) == '\n') {
+                    return position + i + 1;
+                }
+            }
+            position += lus;
+        }
+        return taille;
+    }
+
+    private void importerBloc(FileChannel canal, long debut, long fin, ImportProperties parametres,
+                              Function<String, Optional<EquipeCible>> resolveur, Compteurs compteurs)
+            throws IOException, SQLException {
+        MappedByteBuffer tampon = canal.map(FileChannel.MapMode.READ_ONLY, debut, fin - debut);
+        CsvJoueurParser parser = new CsvJoueurParser(parametres.getSeparateur(), resolveur);
+
+        try (Connection connection = dataSource.getConnection()) {
+            boolean autoCommit = connection.getAutoCommit();
+            connection.setAutoCommit(false);
+            try (Ecrivain ecrivain = new Ecrivain(connection, parametres.getTailleLot(), compteurs)) {
+                compteurs.lignes.add(parser.analyser(tampon, debut, ecrivain));
+                ecrivain.valider();
+            } catch (SQLException | RuntimeException e) {
+                connection.rollback();
+                throw e;
+            } finally {
+                connection.setAutoCommit(autoCommit);
+            }
+        }
+    }
+
+    /**
+     * Compteurs partagés par les tâches d'un import.
+     */
+    private static final class Compteurs {
+
+        private final LongAdder lignes = new LongAdder();
+        private final LongAdder importes = new LongAdder();
+        private final LongAdder rejetes = new LongAdder();
+        private final List<String> premiersRejets = new ArrayList<>();
+    }
+
+    /**
+     * Écrit les joueurs d'un bloc par lots, chaque lot validé avec
+     * l'ajustement des effectifs de ses équipes.
+     */
+    private static final class Ecrivain implements CsvJoueurParser.Sortie, AutoCloseable {
+
+        private final Connection connection;
+        private final int tailleLot;
+        private final Compteurs compteurs;
+        private final PreparedStatement insertion;
+        private final PreparedStatement ajustement;
+        private final Map<Long, Integer> effectifsLot = new TreeMap<>();
+        private int enAttente;
+
+        Ecrivain(Connection connection, int tailleLot, Compteurs compteurs) throws SQLException {
+            this.connection = connection;
+            this.tailleLot = Math.max(1, tailleLot);
+            this.compteurs = compteurs;
+            this.insertion = connection.prepareStatement(INSERTION_JOUEUR);
+            this.ajustement = connection.prepareStatement(AJUSTEMENT_EFFECTIF);
+        }
+
+        @Override
+        public void joueur(String nom, String position, EquipeCible equipe) {
+            try {
+                insertion.setString(1, nom);
+                insertion.setString(2, position);
+                if (equipe == null) {
+                    insertion.setNull(3, Types.BIGINT);
+                    insertion.setNull(4, Types.VARCHAR);
+                } else {
+                    insertion.setLong(3, equipe.getId());
+                    insertion.setString(4, equipe.getNom());
+                    effectifsLot.merge(equipe.getId(), 1, Integer::sum);
+                }
+                insertion.addBatch();
+                if (++enAttente == tailleLot) {
+                    valider();
+                }
+            } catch (SQLException e) {
+                throw new IllegalStateException("Échec de l'écriture d'un lot de joueurs", e);
+            }
+        }
+
+        @Override
+        public void rejet(long decalage, String motif) {
+            compteurs.rejetes.increment();
+            synchronized (compteurs.premiersRejets) {
+                if (compteurs.premiersRejets.size() < REJETS_CONSERVES) {
+                    compteurs.premiersRejets.add("octet " + decalage + ": " + motif);
+                    logger.warn("Ligne refusée à l'octet {}: {}", decalage, motif);
+                }
+            }
+        }
+
+        void valider() throws SQLException {
+            if (enAttente == 0) {
+                return;
+            }
+            insertion.executeBatch();
+            for (Map.Entry<Long, Integer> effectif : effectifsLot.entrySet()) {
+                ajustement.setInt(1, effectif.getValue());
+                ajustement.setLong(2, effectif.getKey());
+                ajustement.addBatch();
+            }
+            ajustement.executeBatch();
+            connection.commit();
+
+            compteurs.importes.add(enAttente);
+            effectifsLot.clear();
+            enAttente = 0;
+        }
+
+        @Override
+        public void close() throws SQLException {
+            try {
+                insertion.close();
+            } finally {
+                ajustement.close();
+            }
+        }
+    }
+
+    /**
+     * Résumé d'un import.
+     */
+    public static class Resultat {
+
+        private final long lignes;
+        private final long importes;
+        private final long rejetes;
+        private final long dureeMs;
+        private final List<String> premiersRejets;
+
+        public Resultat(long lignes, long importes, long rejetes, long dureeMs, List<String> premiersRejets) {
+            this.lignes = lignes;
+            this.importes = importes;
+            this.rejetes = rejetes;
+            this.dureeMs = dureeMs;
+            this.premiersRejets = premiersRejets;
+        }
+
+        public long getLignes() {
+            return lignes;
+        }
+
+        public long getImportes() {
+            return importes;
+        }
+
+        public long getRejetes() {
+            return rejetes;
+        }
+
+        public long getDureeMs() {
+            return dureeMs;
+        }
+
+        /**
+         * Motifs des premiers rejets, préfixés de la position de la ligne dans le fichier.
+         *
+         * @return au plus {@value JoueurCsvImporter#REJETS_CONSERVES} motifs
+         */
+        public List<String> getPremiersRejets() {
+            return premiersRejets;
+        }
+
+        @Override
+        public String toString() {
+            return "Resultat{" +
+                    "lignes=" + lignes +
+                    ", importes=" + importes +
+                    ", rejetes=" + rejetes +
+                    ", dureeMs=" + dureeMs +
+                    '}';
+        }
+    }
+}
@@ -0,0 +1,25 @@
+package com.api.football.metrics;
+
+import java.util.Map;
+
+/**
+ * Source de mesures exposée par {@code GET /api/admin/metrics}.
+ *
+ * Les composants qui publient des compteurs (limitation de débit, caches...)
+ * implémentent cette interface ; leurs mesures sont regroupées sous leur nom.
+ *
+ * @author API Football API Team
+ * @version 1.0.0
+ */
+public interface MetricsSource {
+
+    /**
+     * @return le nom du groupe de mesures
+     */
+    String getNomMetriques();
+
+    /**
+     * @return les valeurs courantes des mesures, par nom
+     */
+    Map<String, Number> getMetriques();
+}
@@ -0,0 +1,134 @@
+package com.api.football.model;
+
+import jakarta.persistence.*;
+
+import java.time.Instant;
+
+/**
+ * Entité représentant un événement de la table d'outbox.
+ *
+ * Chaque écriture sur les effectifs ajoute une ligne dans la même transaction
+ * que la modification elle-même. L'identifiant suit l'ordre d'insertion ; le
+ * numéro de séquence, strictement croissant, est attribué après validation
+ * dans l'ordre où les lignes deviennent visibles, et sert de curseur aux
+ * consommateurs du flux de changements. Il reste nul jusqu'à son attribution.
+ *
+ * @author API Football API Team
+ * @version 1.0.0
+ */
+@Entity
+@Table(name = "change_events")
+public class ChangeEvent {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "sequence_id")
+    private Long id;
+
+    @Column(name = "sequence_validation", unique = true)
+    private Long sequence;
+
+    @Column(name = "type", nullable = false, length = 30)
+    private String type;
+
+    @Column(name = "joueur_id")
+    private Long joueurId;
+
+    @Column(name = "equipe_id")
+    private Long equipeId;
+
+    @Column(name = "ancienne_equipe_id")
+    private Long ancienneEquipeId;
+
+    @Lob
+    @Column(name = "payload")
+    private String payload;
+
+    @Column(name = "cree_le", nullable = false)
+    private Instant creeLe;
+
+    /**
+     * Constructeur par défaut requis par JPA.
+     */
+    public ChangeEvent() {
+    }
+
+    // Getters et Setters
+
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public Long getSequence() {
+        return sequence;
+    }
+
+    public void setSequence(Long sequence) {
+        this.sequence = sequence;
+    }
+
+    public String getType() {
+        return type;
+    }
+
+    public void setType(String type) {
+        this.type = type;
+    }
+
+    public Long getJoueurId() {
+        return joueurId;
+    }
+
+    public void setJoueurId(Long joueurId) {
+        this.joueurId = joueurId;
+    }
+
+    public Long getEquipeId() {
+        return equipeId;
+    }
+
+    public void setEquipeId(Long equipeId) {
+        this.equipeId = equipeId;
+    }
+
+    public Long getAncienneEquipeId() {
+        return ancienneEquipeId;
+    }
+
+    public void setAncienneEquipeId(Long ancienneEquipeId) {
+        this.ancienneEquipeId = ancienneEquipeId;
+    }
+
+    public String getPayload() {
+        return payload;
+    }
+
+    public void setPayload(String payload) {
+        this.payload = payload;
+    }
+
+    public Instant getCreeLe() {
+        return creeLe;
+    }
+
+    public void setCreeLe(Instant creeLe) {
+        this.creeLe = creeLe;
+    }
+
+    @Override
+    public String toString() {
+        return "ChangeEvent{" +
+                "id=" + id +
+                ", sequence=" + sequence +
+                ", type='" + type + '\'' +
+                ", joueurId=" + joueurId +
+                ", equipeId=" + equipeId +
+                ", ancienneEquipeId=" + ancienneEquipeId +
+                ", creeLe=" + creeLe +
+                '}';
+    }
+}
@@ -5,6 +5,7 @@ import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
 import jakarta.validation.constraints.PositiveOrZero;
 import jakarta.validation.constraints.Size;
+import org.hibernate.annotations.ColumnDefault;
 
 import java.math.BigDecimal;
 import java.util.ArrayList;
@@ -19,9 +20,13 @@ import java.util.List;
  * - Acronyme
  * - Budget de l'équipe
  * - Liste des joueurs
+ * - Taille de l'effectif, dénormalisée
  */
 @Entity
-@Table(name = "equipes")
+@Table(name = "equipes", indexes = {
+        // Tri décroissant par budget puis identifiant : « les N plus riches » et la pagination par clé sont un parcours d'index
+        @Index(name = "idx_equipes_budget", columnList = "budget DESC, id DESC")
+})
 public class Equipe {
 
     @Id
@@ -43,9 +48,15 @@ public class Equipe {
     @Column(name = "budget", nullable = false, precision = 15, scale = 2)
     private BigDecimal budget;
 
-    @OneToMany(mappedBy = "equipe", cascade = CascadeType.ALL, fetch = FetchType.LAZY, orphanRemoval = true)
+    // Sans suppression des orphelins : un joueur retiré de l'effectif devient agent libre
+    @OneToMany(mappedBy = "equipe", cascade = CascadeType.ALL, fetch = FetchType.LAZY)
     private List<Joueur> joueurs = new ArrayList<>();
 
+    // Tenu à jour par UPDATE atomique (EquipeRepository#ajusterNombreJoueurs), jamais écrit par Hibernate
+    @ColumnDefault("0")
+    @Column(name = "nombre_joueurs", nullable = false, insertable = false, updatable = false)
+    private int nombreJoueurs;
+
     /**
      * Constructeur par défaut requis par JPA.
      */
@@ -107,6 +118,14 @@ public class Equipe {
         this.joueurs = joueurs;
     }
 
+    public int getNombreJoueurs() {
+        return nombreJoueurs;
+    }
+
+    public void setNombreJoueurs(int nombreJoueurs) {
+        this.nombreJoueurs = nombreJoueurs;
+    }
+
 
     @Override
     public String toString() {
@@ -12,6 +12,7 @@ import jakarta.validation.constraints.Size;
  * - Nom du joueur
  * - Position sur le terrain
  * - Référence vers l'équipe
+ * - Nom de l'équipe, dénormalisé pour lire un joueur sans jointure
  *
  * @author API Football API Team
  * @version 1.0.0
@@ -38,6 +39,9 @@ public class Joueur {
     @JoinColumn(name = "equipe_id")
     private Equipe equipe;
 
+    @Column(name = "equipe_nom", length = 100)
+    private String equipeNom;
+
     /**
      * Constructeur par défaut requis par JPA.
      */
@@ -65,7 +69,7 @@ public class Joueur {
     public Joueur(String nom, String position, Equipe equipe) {
         this.nom = nom;
         this.position = position;
-        this.equipe = equipe;
+        setEquipe(equipe);
     }
 
     // Getters et Setters
@@ -98,8 +102,22 @@ public class Joueur {
         return equipe;
     }
 
+    /**
+     * Change l'équipe du joueur et recopie son nom dans {@code equipe_nom}.
+     *
+     * @param equipe la nouvelle équipe, null pour aucune
+     */
     public void setEquipe(Equipe equipe) {
         this.equipe = equipe;
+        this.equipeNom = equipe != null ? equipe.getNom() : null;
+    }
+
+    public String getEquipeNom() {
+        return equipeNom;
+    }
+
+    public void setEquipeNom(String equipeNom) {
+        this.equipeNom = equipeNom;
     }
 
     @Override
@@ -108,7 +126,7 @@ public class Joueur {
                 "id=" + id +
                 ", nom='" + nom + '\'' +
                 ", position='" + position + '\'' +
-                ", equipe=" + (equipe != null ? equipe.getNom() : "Aucune") +
+                ", equipe=" + (equipeNom != null ? equipeNom : "Aucune") +
                 '}';
     }
 }
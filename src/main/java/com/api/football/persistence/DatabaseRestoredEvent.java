@@ -0,0 +1,24 @@
+package com.api.football.persistence;
+
+import org.springframework.context.ApplicationEvent;
+
+/**
+ * Événement publié après la restauration d'un instantané : tout état dérivé
+ * de la base conservé en mémoire doit être reconstruit.
+ *
+ * @author API Football API Team
+ * @version 1.0.0
+ */
+public class DatabaseRestoredEvent extends ApplicationEvent {
+
+    private final String instantane;
+
+    public DatabaseRestoredEvent(Object source, String instantane) {
+        super(source);
+        this.instantane = instantane;
+    }
+
+    public String getInstantane() {
+        return instantane;
+    }
+}
@@ -0,0 +1,176 @@
+package com.api.football.persistence;
+
+import com.api.football.dto.SnapshotDto;
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.HikariPoolMXBean;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Service;
+
+import javax.sql.DataSource;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipInputStream;
+
+/**
+ * Service d'instantanés de la base H2 persistante.
+ *
+ * La création utilise {@code BACKUP TO}, qui copie une image cohérente de la
+ * base sans l'arrêter. La restauration suspend le pool de connexions, ferme
+ * la base ({@code SHUTDOWN}), remplace ses fichiers par ceux de l'instantané
+ * puis reprend le pool : les requêtes en attente repartent sur la base restaurée.
+ *
+ * @author API Football API Team
+ * @version 1.0.0
+ */
+@Service
+@Profile("persistent")
+public class DatabaseSnapshotService {
+
+    private static final Logger logger = LoggerFactory.getLogger(DatabaseSnapshotService.class);
+
+    private static final Pattern NOM_INSTANTANE = Pattern.compile("snapshot-[0-9]{8}-[0-9]{9}\\.zip");
+    private static final DateTimeFormatter HORODATAGE = DateTimeFormatter.ofPattern("yyyyMMdd-HHmmssSSS");
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Autowired
+    private PersistenceProperties persistenceProperties;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    /**
+     * Crée un instantané cohérent de la base, sans interrompre le service.
+     *
+     * @return l'instantané créé
+     */
+    public synchronized SnapshotDto creerInstantane() {
+        try {
+            Path repertoire = Files.createDirectories(repertoireInstantanes());
+            Path cible = repertoire.resolve("snapshot-" + LocalDateTime.now().format(HORODATAGE) + ".zip");
+            logger.info("Création de l'instantané {}", cible);
+
+            try (Connection connection = dataSource.getConnection();
+                 Statement statement = connection.createStatement()) {
+                statement.execute("BACKUP TO '" + cible.toAbsolutePath().toString().replace("'", "''") + "'");
+            }
+            return toDto(cible);
+        } catch (IOException | SQLException e) {
+            throw new IllegalStateException("Échec de la création de l'instantané", e);
+        }
+    }
+
+    /**
+     * Liste les instantanés disponibles, du plus récent au plus ancien.
+     *
+     * @return la liste des instantanés
+     */
+    public List<SnapshotDto> listerInstantanes() {
+        Path repertoire = repertoireInstantanes();
+        if (!Files.isDirectory(repertoire)) {
+            return List.of();
+        }
+        try (Stream<Path> fichiers = Files.list(repertoire)) {
+            List<SnapshotDto> instantanes = new ArrayList<>();
+            for (Path fichier : (Iterable<Path>) fichiers::iterator) {
+                if (NOM_INSTANTANE.matcher(fichier.getFileName().toString()).matches()) {
+                    instantanes.add(toDto(fichier));
+                }
+            }
+            instantanes.sort(Comparator.comparing(SnapshotDto::getNom).reversed());
+            return instantanes;
+        } catch (IOException e) {
+            throw new IllegalStateException("Impossible de lister les instantanés", e);
+        }
+    }
+
+    /**
+     * Restaure la base à partir d'un instantané.
+     *
+     * @param nom le nom de l'instantané
+     * @return l'instantané restauré
+     * @throws IllegalArgumentException si l'instantané n'existe pas
+     */
+    public synchronized SnapshotDto restaurerInstantane(String nom) {
+        if (nom == null || !NOM_INSTANTANE.matcher(nom).matches()) {
+            throw new IllegalArgumentException("Nom d'instantané invalide: " + nom);
+        }
+        Path instantane = repertoireInstantanes().resolve(nom);
+        if (!Files.isRegularFile(instantane)) {
+            throw new IllegalArgumentException("Instantané non trouvé: " + nom);
+        }
+
+        logger.info("Restauration de l'instantané {}", instantane);
+        try (Connection connection = dataSource.getConnection()) {
+            HikariPoolMXBean pool = dataSource.unwrap(HikariDataSource.class).getHikariPoolMXBean();
+            pool.suspendPool();
+            try {
+                try (Statement statement = connection.createStatement()) {
+                    statement.execute("SHUTDOWN");
+                }
+                pool.softEvictConnections();
+                extraire(instantane, Paths.get(persistenceProperties.getRepertoire()));
+            } finally {
+                pool.resumePool();
+            }
+        } catch (IOException | SQLException e) {
+            throw new IllegalStateException("Échec de la restauration de l'instantané " + nom, e);
+        }
+
+        logger.info("Instantané {} restauré", nom);
+        eventPublisher.publishEvent(new DatabaseRestoredEvent(this, nom));
+        return toDto(instantane);
+    }
+
+    /**
+     * Extrait les fichiers de base de l'archive produite par BACKUP TO.
+     */
+    private void extraire(Path archive, Path repertoire) throws IOException {
+        Files.createDirectories(repertoire);
+        try (ZipInputStream zip = new ZipInputStream(Files.newInputStream(archive))) {
+            ZipEntry entree;
+            while ((entree = zip.getNextEntry()) != null) {
+                String nomFichier = Paths.get(entree.getName()).getFileName().toString();
+                if (entree.isDirectory() || !nomFichier.startsWith(persistenceProperties.getNomBase() + ".")) {
+                    continue;
+                }
+                Path temporaire = repertoire.resolve(nomFichier + ".restore");
+                Files.copy(zip, temporaire, StandardCopyOption.REPLACE_EXISTING);
+                Files.move(temporaire, repertoire.resolve(nomFichier),
+                        StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            }
+        }
+    }
+
+    private Path repertoireInstantanes() {
+        return Paths.get(persistenceProperties.getRepertoireInstantanes());
+    }
+
+    private static SnapshotDto toDto(Path fichier) {
+        try {
+            return new SnapshotDto(fichier.getFileName().toString(), Files.size(fichier),
+                    Files.getLastModifiedTime(fichier).toInstant());
+        } catch (IOException e) {
+            throw new IllegalStateException("Instantané illisible: " + fichier, e);
+        }
+    }
+}
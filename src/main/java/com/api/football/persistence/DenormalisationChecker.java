@@ -0,0 +1,142 @@
+package com.api.football.persistence;
+
+import com.api.football.metrics.MetricsSource;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Vérifie et répare les colonnes dénormalisées {@code joueurs.equipe_nom} et
+ * {@code equipes.nombre_joueurs}.
+ *
+ * Les écritures des services tiennent ces colonnes à jour ; cette tâche
+ * rattrape les écarts laissés par les écritures qui les contournent (import
+ * SQL, restauration, génération interrompue). Chaque passage est une
+ * instruction ensembliste par colonne, qui ne modifie que les lignes
+ * divergentes.
+ *
+ * Un écart recalculé pendant une écriture concurrente peut subsister
+ * jusqu'au passage suivant, qui le corrige.
+ *
+ * @author API Football API Team
+ * @version 1.0.0
+ */
+@Component
+public class DenormalisationChecker implements MetricsSource {
+
+    private static final Logger logger = LoggerFactory.getLogger(DenormalisationChecker.class);
+
+    static final String REPARER_EQUIPE_NOM = "UPDATE joueurs j "
+            + "SET equipe_nom = (SELECT e.nom FROM equipes e WHERE e.id = j.equipe_id) "
+            + "WHERE equipe_nom IS DISTINCT FROM (SELECT e.nom FROM equipes e WHERE e.id = j.equipe_id)";
+
+    static final String REPARER_NOMBRE_JOUEURS = "UPDATE equipes e "
+            + "SET nombre_joueurs = (SELECT COUNT(*) FROM joueurs j WHERE j.equipe_id = e.id) "
+            + "WHERE nombre_joueurs <> (SELECT COUNT(*) FROM joueurs j WHERE j.equipe_id = e.id)";
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Value("${football.denormalisation.enabled:true}")
+    private boolean enabled = true;
+
+    @Value("${football.denormalisation.intervalle:10m}")
+    private Duration intervalle = Duration.ofMinutes(10);
+
+    private final ScheduledExecutorService verifications = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "denormalisation-check");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private final AtomicLong passages = new AtomicLong();
+    private final AtomicLong joueursRepares = new AtomicLong();
+    private final AtomicLong equipesReparees = new AtomicLong();
+    private volatile long dureeDernierPassageMs;
+
+    @PostConstruct
+    void planifier() {
+        if (enabled) {
+            long periode = intervalle.toMillis();
+            verifications.scheduleWithFixedDelay(this::verifierSansErreur, periode, periode, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    /**
+     * Vérifie les colonnes au démarrage et après une restauration.
+     */
+    @EventListener({ApplicationReadyEvent.class, DatabaseRestoredEvent.class})
+    public void onDemarrage() {
+        if (enabled) {
+            verifier();
+        }
+    }
+
+    /**
+     * Répare les lignes dont les colonnes dénormalisées divergent des tables sources.
+     *
+     * @return le nombre de lignes réparées
+     */
+    public synchronized int verifier() {
+        long debut = System.nanoTime();
+        int joueurs = jdbcTemplate.update(REPARER_EQUIPE_NOM);
+        int equipes = jdbcTemplate.update(REPARER_NOMBRE_JOUEURS);
+
+        passages.incrementAndGet();
+        joueursRepares.addAndGet(joueurs);
+        equipesReparees.addAndGet(equipes);
+        dureeDernierPassageMs = (System.nanoTime() - debut) / 1_000_000;
+
+        if (joueurs + equipes > 0) {
+            logger.warn("Colonnes dénormalisées réparées: {} joueurs (equipe_nom), {} équipes (nombre_joueurs)",
+                    joueurs, equipes);
+        } else {
+            logger.debug("Colonnes dénormalisées cohérentes ({} ms)", dureeDernierPassageMs);
+        }
+        return joueurs + equipes;
+    }
+
+    @Override
+    public String getNomMetriques() {
+        return "denormalisation";
+    }
+
+    @Override
+    public Map<String, Number> getMetriques() {
+        Map<String, Number> metriques = new LinkedHashMap<>();
+        metriques.put("passages", passages.get());
+        metriques.put("joueursRepares", joueursRepares.get());
+        metriques.put("equipesReparees", equipesReparees.get());
+        metriques.put("dureeDernierPassageMs", dureeDernierPassageMs);
+        return metriques;
+    }
+
+    @PreDestroy
+    void arreter() {
+        verifications.shutdownNow();
+    }
+
+    private void verifierSansErreur() {
+        try {
+            verifier();
+        } catch (RuntimeException e) {
+            // Une erreur ne doit pas interrompre les passages suivants
+            logger.error("Échec de la vérification des colonnes dénormalisées", e);
+        }
+    }
+}
@@ -0,0 +1,46 @@
+package com.api.football.persistence;
+
+import com.api.football.repository.EquipeRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.context.annotation.Profile;
+import org.springframework.core.annotation.Order;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.jdbc.datasource.init.ResourceDatabasePopulator;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+
+/**
+ * Charge data.sql uniquement au premier démarrage d'une base persistante vide,
+ * afin qu'un redémarrage ne rejoue jamais l'import.
+ *
+ * @author API Football API Team
+ * @version 1.0.0
+ */
+@Component
+@Profile("persistent")
+@Order(0)
+public class InitialDataLoader implements ApplicationRunner {
+
+    private static final Logger logger = LoggerFactory.getLogger(InitialDataLoader.class);
+
+    @Autowired
+    private EquipeRepository equipeRepository;
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Override
+    public void run(ApplicationArguments args) {
+        if (equipeRepository.count() > 0) {
+            logger.info("Base persistante déjà initialisée, data.sql ignoré");
+            return;
+        }
+        logger.info("Base persistante vide, chargement de data.sql");
+        new ResourceDatabasePopulator(new ClassPathResource("data.sql")).execute(dataSource);
+    }
+}
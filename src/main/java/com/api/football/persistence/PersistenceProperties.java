@@ -0,0 +1,56 @@
+package com.api.football.persistence;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Paramètres du mode persistant (base H2 sur disque).
+ *
+ * Préfixe : {@code football.persistence}.
+ *
+ * @author API Football API Team
+ * @version 1.0.0
+ */
+@ConfigurationProperties(prefix = "football.persistence")
+public class PersistenceProperties {
+
+    /**
+     * Répertoire contenant le fichier de la base.
+     */
+    private String repertoire = "./data";
+
+    /**
+     * Nom de la base (fichier {@code <nom>.mv.db}).
+     */
+    private String nomBase = "football";
+
+    /**
+     * Répertoire des instantanés.
+     */
+    private String repertoireInstantanes = "./data/snapshots";
+
+    // Getters et Setters
+
+    public String getRepertoire() {
+        return repertoire;
+    }
+
+    public void setRepertoire(String repertoire) {
+        this.repertoire = repertoire;
+    }
+
+    public String getNomBase() {
+        return nomBase;
+    }
+
+    public void setNomBase(String nomBase) {
+        this.nomBase = nomBase;
+    }
+
+    public String getRepertoireInstantanes() {
+        return repertoireInstantanes;
+    }
+
+    public void setRepertoireInstantanes(String repertoireInstantanes) {
+        this.repertoireInstantanes = repertoireInstantanes;
+    }
+}
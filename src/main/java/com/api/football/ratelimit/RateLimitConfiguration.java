@@ -0,0 +1,32 @@
+package com.api.football.ratelimit;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+
+/**
+ * Enregistre le filtre de limitation de débit sur les endpoints {@code /api/*},
+ * en tête de chaîne pour refuser les requêtes excédentaires au plus tôt.
+ *
+ * @author API Football API Team
+ * @version 1.0.0
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "football.rate-limit", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class RateLimitConfiguration {
+
+    @Bean
+    public RateLimitFilter rateLimitFilter(RateLimitProperties properties) {
+        return new RateLimitFilter(properties);
+    }
+
+    @Bean
+    public FilterRegistrationBean<RateLimitFilter> rateLimitFilterRegistration(RateLimitFilter rateLimitFilter) {
+        FilterRegistrationBean<RateLimitFilter> registration = new FilterRegistrationBean<>(rateLimitFilter);
+        registration.addUrlPatterns("/api/*", "/graphql");
+        registration.setOrder(Ordered.HIGHEST_PRECEDENCE + 10);
+        return registration;
+    }
+}
@@ -0,0 +1,281 @@
+package com.api.football.ratelimit;
+
+import com.api.football.metrics.MetricsSource;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.server.PathContainer;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.pattern.PathPattern;
+import org.springframework.web.util.pattern.PathPatternParser;
+
+import java.io.IOException;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
+
+/**
+ * Filtre d'admission limitant le débit de chaque client.
+ *
+ * Chaque client, identifié par sa clé d'API ou à défaut son adresse IP,
+ * dispose d'un {@link TokenBucket}. Seules les clés déclarées dans la
+ * configuration ont un seau propre : une clé inconnue est ignorée et la
+ * requête est comptée sur le seau de son adresse, si bien qu'inventer des
+ * clés ne contourne pas la limite.
+ *
+ * Les seaux sont rangés dans deux {@link ConcurrentHashMap} (clés d'API et
+ * adresses), dont les lectures sont sans verrou et les écritures réparties par
+ * segment ; un balayage périodique libère les seaux inactifs. Le nombre
+ * d'adresses suivies est plafonné : au-delà, les nouveaux clients partagent un
+ * seau de débordement jusqu'au prochain balayage. Une requête refusée reçoit
+ * un {@code 429} accompagné de l'en-tête {@code Retry-After}.
+ *
+ * Le chemin critique ne fait qu'une lecture d'en-tête, une recherche dans la
+ * table, le calcul du coût et un compare-and-set, sans aucun verrou.
+ *
+ * @author API Football API Team
+ * @version 1.0.0
+ */
+public class RateLimitFilter extends OncePerRequestFilter implements MetricsSource {
+
+    private static final Logger logger = LoggerFactory.getLogger(RateLimitFilter.class);
+
+    private static final String CORPS_REFUS =
+            "{\"error\":\"Trop de requêtes\",\"message\":\"Limite de débit atteinte, réessayez après le délai indiqué\"}";
+
+    private final RateLimitProperties properties;
+    private final LongSupplier horloge;
+    private final long origine;
+    private final long capacite;
+    private final long debit;
+    private final List<RegleCompilee> regles;
+    private final Set<String> clesConnues;
+
+    private final ConcurrentHashMap<String, TokenBucket> seauxParCle = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<String, TokenBucket> seauxParAdresse = new ConcurrentHashMap<>();
+    private final TokenBucket seauDebordement;
+    private final ScheduledExecutorService balayeur;
+
+    private final LongAdder admises = new LongAdder();
+    private final LongAdder refusees = new LongAdder();
+    private final LongAdder seauxLiberes = new LongAdder();
+    private final LongAdder clesInconnues = new LongAdder();
+    private final LongAdder requetesDebordement = new LongAdder();
+
+    public RateLimitFilter(RateLimitProperties properties) {
+        this(properties, System::currentTimeMillis, true);
+    }
+
+    RateLimitFilter(RateLimitProperties properties, LongSupplier horloge, boolean balayage) {
+        if (properties.getCapacite() <= 0 || properties.getDebitParSeconde() <= 0) {
+            throw new IllegalArgumentException("La capacité et le débit doivent être strictement positifs");
+        }
+        if (properties.getCapacite() * 1000L > TokenBucket.JETONS_MAX) {
+            throw new IllegalArgumentException("La capacité ne peut pas dépasser " + TokenBucket.JETONS_MAX / 1000 + " jetons");
+        }
+        if (properties.getMaxClients() <= 0) {
+            throw new IllegalArgumentException("Le nombre maximal de clients suivis doit être strictement positif");
+        }
+        this.properties = properties;
+        this.horloge = horloge;
+        this.origine = horloge.getAsLong();
+        this.capacite = properties.getCapacite() * 1000L;
+        this.debit = properties.getDebitParSeconde();
+        this.clesConnues = Set.copyOf(properties.getClesApi());
+        this.seauDebordement = new TokenBucket(0, capacite);
+        PathPatternParser parser = new PathPatternParser();
+        this.regles = properties.getRegles().stream()
+                .map(regle -> new RegleCompilee(regle, parser.parse(regle.getChemin())))
+                .toList();
+
+        if (balayage) {
+            long periode = Math.max(1000, properties.getDelaiInactivite().toMillis() / 2);
+            this.balayeur = Executors.newSingleThreadScheduledExecutor(tache -> {
+                Thread thread = new Thread(tache, "rate-limit-balayage");
+                thread.setDaemon(true);
+                return thread;
+            });
+            this.balayeur.scheduleWithFixedDelay(this::libererSeauxInactifs, periode, periode, TimeUnit.MILLISECONDS);
+        } else {
+            this.balayeur = null;
+        }
+        logger.info("Limitation de débit : {} jetons en rafale, {} jetons/s par client, {} règles de coût, {} clés d'API",
+                properties.getCapacite(), properties.getDebitParSeconde(), regles.size(), clesConnues.size());
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !properties.isEnabled();
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        long maintenant = horloge.getAsLong() - origine;
+        TokenBucket seau = seau(request, maintenant);
+
+        long attente = seau.acquerir(cout(request), maintenant, capacite, debit);
+        if (attente == 0) {
+            admises.increment();
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        refusees.increment();
+        response.setStatus(HttpStatus.TOO_MANY_REQUESTS.value());
+        response.setHeader(HttpHeaders.RETRY_AFTER, Long.toString((attente + 999) / 1000));
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.setCharacterEncoding("UTF-8");
+        response.getWriter().write(CORPS_REFUS);
+    }
+
+    /**
+     * Seau du client : celui de sa clé d'API si elle est connue, sinon celui de
+     * son adresse, ou le seau de débordement si le plafond d'adresses est atteint.
+     */
+    private TokenBucket seau(HttpServletRequest request, long maintenant) {
+        String cle = request.getHeader(properties.getEnteteCle());
+        if (cle != null && !cle.isEmpty()) {
+            if (clesConnues.contains(cle)) {
+                return seauxParCle.computeIfAbsent(cle, nouveau -> new TokenBucket(maintenant, capacite));
+            }
+            clesInconnues.increment();
+        }
+
+        String adresse = adresseClient(request);
+        TokenBucket seau = seauxParAdresse.get(adresse);
+        if (seau != null) {
+            return seau;
+        }
+        if (seauxParAdresse.size() >= properties.getMaxClients()) {
+            requetesDebordement.increment();
+            return seauDebordement;
+        }
+        return seauxParAdresse.computeIfAbsent(adresse, nouveau -> new TokenBucket(maintenant, capacite));
+    }
+
+    /**
+     * Adresse IP du client, pour les requêtes sans clé d'API connue.
+     */
+    String adresseClient(HttpServletRequest request) {
+        if (properties.isFaireConfianceForwardedFor()) {
+            String transmis = request.getHeader("X-Forwarded-For");
+            if (transmis != null && !transmis.isEmpty()) {
+                int virgule = transmis.indexOf(',');
+                return (virgule < 0 ? transmis : transmis.substring(0, virgule)).trim();
+            }
+        }
+        return request.getRemoteAddr();
+    }
+
+    /**
+     * Calcule le coût de la requête en millièmes de jeton, borné à la capacité
+     * pour qu'une requête coûteuse reste admissible avec un seau plein.
+     */
+    long cout(HttpServletRequest request) {
+        String methode = request.getMethod();
+        PathContainer chemin = null;
+        for (RegleCompilee regle : regles) {
+            if (regle.methode != null && !regle.methode.equalsIgnoreCase(methode)) {
+                continue;
+            }
+            if (chemin == null) {
+                chemin = PathContainer.parsePath(request.getRequestURI());
+            }
+            if (regle.motif.matches(chemin)) {
+                return Math.min(capacite, Math.max(1, Math.round(regle.cout(request) * 1000)));
+            }
+        }
+        return 1000;
+    }
+
+    /**
+     * Libère les seaux pleins et inutilisés depuis le délai d'inactivité.
+     */
+    void libererSeauxInactifs() {
+        long maintenant = horloge.getAsLong() - origine;
+        long delai = properties.getDelaiInactivite().toMillis();
+        liberer(seauxParCle, maintenant, delai);
+        liberer(seauxParAdresse, maintenant, delai);
+    }
+
+    private void liberer(ConcurrentHashMap<String, TokenBucket> seaux, long maintenant, long delai) {
+        seaux.entrySet().removeIf(entree -> {
+            boolean inactif = entree.getValue().estInactif(maintenant, delai, capacite, debit);
+            if (inactif) {
+                seauxLiberes.increment();
+            }
+            return inactif;
+        });
+    }
+
+    @Override
+    public void destroy() {
+        if (balayeur != null) {
+            balayeur.shutdownNow();
+        }
+    }
+
+    @Override
+    public String getNomMetriques() {
+        return "rateLimit";
+    }
+
+    @Override
+    public Map<String, Number> getMetriques() {
+        Map<String, Number> metriques = new LinkedHashMap<>();
+        metriques.put("requetesAdmises", admises.sum());
+        metriques.put("requetesRefusees", refusees.sum());
+        metriques.put("clientsSuivis", seauxParCle.size() + seauxParAdresse.size());
+        metriques.put("seauxLiberes", seauxLiberes.sum());
+        metriques.put("clesInconnues", clesInconnues.sum());
+        metriques.put("requetesDebordement", requetesDebordement.sum());
+        return metriques;
+    }
+
+    private static final class RegleCompilee {
+
+        private final String methode;
+        private final PathPattern motif;
+        private final double coutFixe;
+        private final double coutParElement;
+        private final String parametreTaille;
+
+        private RegleCompilee(RateLimitProperties.Regle regle, PathPattern motif) {
+            this.methode = regle.getMethode() == null || regle.getMethode().isBlank() ? null : regle.getMethode();
+            this.motif = motif;
+            this.coutFixe = regle.getCout();
+            this.coutParElement = regle.getCoutParElement();
+            this.parametreTaille = regle.getParametreTaille();
+        }
+
+        private double cout(HttpServletRequest request) {
+            if (coutParElement == 0 || parametreTaille == null) {
+                return coutFixe;
+            }
+            String taille = request.getParameter(parametreTaille);
+            if (taille == null) {
+                // Taille de page par défaut des endpoints de liste
+                return coutFixe + coutParElement * 10;
+            }
+            try {
+                return coutFixe + coutParElement * Math.max(0, Integer.parseInt(taille));
+            } catch (NumberFormatException e) {
+                return coutFixe;
+            }
+        }
+    }
+}
@@ -0,0 +1,250 @@
+package com.api.football.ratelimit;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Paramètres de la limitation de débit par client.
+ *
+ * Préfixe : {@code football.rate-limit}. Chaque client (clé d'API déclarée,
+ * à défaut adresse IP) dispose d'un seau de jetons ; chaque requête consomme un nombre
+ * de jetons fonction de l'endpoint appelé (voir {@link Regle}).
+ *
+ * @author API Football API Team
+ * @version 1.0.0
+ */
+@ConfigurationProperties(prefix = "football.rate-limit")
+public class RateLimitProperties {
+
+    /**
+     * Active la limitation de débit.
+     */
+    private boolean enabled = true;
+
+    /**
+     * Nombre maximal de jetons d'un seau, c'est-à-dire la rafale admise.
+     */
+    private int capacite = 200;
+
+    /**
+     * Jetons rendus à chaque seau par seconde, c'est-à-dire le débit soutenu.
+     */
+    private int debitParSeconde = 100;
+
+    /**
+     * En-tête portant la clé d'API du client.
+     */
+    private String enteteCle = "X-API-Key";
+
+    /**
+     * Clés d'API reconnues. Une clé absente de cette liste n'a pas de seau
+     * propre : la requête est comptée sur le seau de l'adresse du client.
+     */
+    private Set<String> clesApi = new LinkedHashSet<>();
+
+    /**
+     * Nombre maximal d'adresses suivies ; au-delà, les nouveaux clients
+     * partagent un seau de débordement jusqu'à la libération des seaux inactifs.
+     */
+    private int maxClients = 100_000;
+
+    /**
+     * Utilise la première adresse de {@code X-Forwarded-For} comme adresse du
+     * client. À n'activer que derrière un proxy de confiance.
+     */
+    private boolean faireConfianceForwardedFor = false;
+
+    /**
+     * Durée d'inactivité au-delà de laquelle le seau d'un client est libéré.
+     */
+    private Duration delaiInactivite = Duration.ofMinutes(5);
+
+    /**
+     * Coût des requêtes par endpoint ; la première règle qui correspond
+     * s'applique, les autres requêtes coûtent un jeton.
+     */
+    private List<Regle> regles = new ArrayList<>(List.of(
+            new Regle("GET", "/api/equipes/top", 2, 0.2, "limit"),
+            new Regle("GET", "/api/equipes/stream", 2, 0.2, "size"),
+            new Regle("GET", "/api/equipes", 2, 0.2, "size"),
+            new Regle("GET", "/api/joueurs/stream", 1, 0.05, "size"),
+            new Regle("GET", "/api/joueurs", 1, 0.05, "size"),
+            new Regle("POST", "/api/batch", 10, 0, null),
+            new Regle("POST", "/api/**", 5, 0, null),
+            new Regle("PUT", "/api/**", 5, 0, null),
+            new Regle("DELETE", "/api/**", 5, 0, null)));
+
+    /**
+     * Coût d'un endpoint.
+     */
+    public static class Regle {
+
+        /**
+         * Méthode HTTP concernée ; toutes si vide.
+         */
+        private String methode;
+
+        /**
+         * Motif de chemin ({@code /api/equipes/{id}}, {@code /api/**}...).
+         */
+        private String chemin;
+
+        /**
+         * Coût fixe de la requête, en jetons.
+         */
+        private double cout = 1;
+
+        /**
+         * Coût supplémentaire par élément demandé.
+         */
+        private double coutParElement = 0;
+
+        /**
+         * Paramètre de requête donnant le nombre d'éléments demandés.
+         */
+        private String parametreTaille;
+
+        public Regle() {
+        }
+
+        public Regle(String methode, String chemin, double cout, double coutParElement, String parametreTaille) {
+            this.methode = methode;
+            this.chemin = chemin;
+            this.cout = cout;
+            this.coutParElement = coutParElement;
+            this.parametreTaille = parametreTaille;
+        }
+
+        // Getters et Setters
+
+        public String getMethode() {
+            return methode;
+        }
+
+        public void setMethode(String methode) {
+            this.methode = methode;
+        }
+
+        public String getChemin() {
+            return chemin;
+        }
+
+        public void setChemin(String chemin) {
+            this.chemin = chemin;
+        }
+
+        public double getCout() {
+            return cout;
+        }
+
+        public void setCout(double cout) {
+            this.cout = cout;
+        }
+
+        public double getCoutParElement() {
+            return coutParElement;
+        }
+
+        public void setCoutParElement(double coutParElement) {
+            this.coutParElement = coutParElement;
+        }
+
+        public String getParametreTaille() {
+            return parametreTaille;
+        }
+
+        public void setParametreTaille(String parametreTaille) {
+            this.parametreTaille = parametreTaille;
+        }
+
+        @Override
+        public String toString() {
+            return "Regle{" +
+                    "methode='" + methode + '\'' +
+                    ", chemin='" + chemin + '\'' +
+                    ", cout=" + cout +
+                    ", coutParElement=" + coutParElement +
+                    ", parametreTaille='" + parametreTaille + '\'' +
+                    '}';
+        }
+    }
+
+    // Getters et Setters
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public int getCapacite() {
+        return capacite;
+    }
+
+    public void setCapacite(int capacite) {
+        this.capacite = capacite;
+    }
+
+    public int getDebitParSeconde() {
+        return debitParSeconde;
+    }
+
+    public void setDebitParSeconde(int debitParSeconde) {
+        this.debitParSeconde = debitParSeconde;
+    }
+
+    public String getEnteteCle() {
+        return enteteCle;
+    }
+
+    public void setEnteteCle(String enteteCle) {
+        this.enteteCle = enteteCle;
+    }
+
+    public Set<String> getClesApi() {
+        return clesApi;
+    }
+
+    public void setClesApi(Set<String> clesApi) {
+        this.clesApi = clesApi;
+    }
+
+    public int getMaxClients() {
+        return maxClients;
+    }
+
+    public void setMaxClients(int maxClients) {
+        this.maxClients = maxClients;
+    }
+
+    public boolean isFaireConfianceForwardedFor() {
+        return faireConfianceForwardedFor;
+    }
+
+    public void setFaireConfianceForwardedFor(boolean faireConfianceForwardedFor) {
+        this.faireConfianceForwardedFor = faireConfianceForwardedFor;
+    }
+
+    public Duration getDelaiInactivite() {
+        return delaiInactivite;
+    }
+
+    public void setDelaiInactivite(Duration delaiInactivite) {
+        this.delaiInactivite = delaiInactivite;
+    }
+
+    public List<Regle> getRegles() {
+        return regles;
+    }
+
+    public void setRegles(List<Regle> regles) {
+        this.regles = regles;
+    }
+}
@@ -0,0 +1,90 @@
+package com.api.football.ratelimit;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Seau de jetons sans verrou.
+ *
+ * L'état tient dans un seul {@code long} mis à jour par compare-and-set :
+ * les 40 bits de poids fort portent l'instant du dernier remplissage (en
+ * millisecondes depuis l'origine du limiteur), les 24 bits de poids faible le
+ * nombre de jetons en millièmes. Une admission ne fait donc aucune allocation.
+ *
+ * Un débit de {@code n} jetons par seconde correspond exactement à {@code n}
+ * millièmes de jeton par milliseconde.
+ *
+ * @author API Football API Team
+ * @version 1.0.0
+ */
+final class TokenBucket {
+
+    /** Nombre de bits réservés aux jetons. */
+    static final int BITS_JETONS = 24;
+
+    /** Nombre maximal de millièmes de jeton représentable. */
+    static final long JETONS_MAX = (1L << BITS_JETONS) - 1;
+
+    private final AtomicLong etat;
+
+    TokenBucket(long maintenant, long capacite) {
+        this.etat = new AtomicLong(etat(maintenant, capacite));
+    }
+
+    /**
+     * Tente de consommer des jetons.
+     *
+     * @param cout coût de la requête, en millièmes de jeton (au plus la capacité)
+     * @param maintenant instant courant, en millisecondes depuis l'origine
+     * @param capacite capacité du seau, en millièmes de jeton
+     * @param debit jetons rendus par seconde
+     * @return 0 si la requête est admise, sinon le délai d'attente en millisecondes
+     */
+    long acquerir(long cout, long maintenant, long capacite, long debit) {
+        while (true) {
+            long courant = etat.get();
+            long jetons = jetonsA(courant, maintenant, capacite, debit);
+            if (jetons < cout) {
+                return (cout - jetons + debit - 1) / debit;
+            }
+            long instant = Math.max(instant(courant), maintenant);
+            if (etat.compareAndSet(courant, etat(instant, jetons - cout))) {
+                return 0;
+            }
+        }
+    }
+
+    /**
+     * Indique si le seau est inactif : plein et sans consommation depuis au
+     * moins {@code delai}. Le libérer ne change alors rien pour le client.
+     */
+    boolean estInactif(long maintenant, long delai, long capacite, long debit) {
+        long courant = etat.get();
+        return maintenant - instant(courant) >= delai && jetonsA(courant, maintenant, capacite, debit) >= capacite;
+    }
+
+    /**
+     * @return les jetons disponibles à l'instant donné, en millièmes
+     */
+    long jetons(long maintenant, long capacite, long debit) {
+        return jetonsA(etat.get(), maintenant, capacite, debit);
+    }
+
+    private static long jetonsA(long etat, long maintenant, long capacite, long debit) {
+        long ecoule = maintenant - instant(etat);
+        long jetons = etat & JETONS_MAX;
+        if (ecoule <= 0) {
+            return jetons;
+        }
+        // Borne l'écoulement pour éviter tout débordement de la multiplication
+        long rendus = Math.min(ecoule, capacite) * debit;
+        return Math.min(capacite, jetons + rendus);
+    }
+
+    private static long instant(long etat) {
+        return etat >>> BITS_JETONS;
+    }
+
+    private static long etat(long instant, long jetons) {
+        return (instant << BITS_JETONS) | jetons;
+    }
+}
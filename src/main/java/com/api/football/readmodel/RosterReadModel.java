@@ -0,0 +1,512 @@
+package com.api.football.readmodel;
+
+import com.api.football.dto.EquipeDto;
+import com.api.football.dto.JoueurDto;
+import com.api.football.event.RosterChangeEvent;
+import com.api.football.persistence.DatabaseRestoredEvent;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * Modèle de lecture en mémoire des effectifs (séparation lecture/écriture).
+ *
+ * Construit une fois au démarrage par deux requêtes JDBC, puis mis à jour de
+ * façon incrémentale après validation de chaque écriture via
+ * {@link RosterChangeEvent}. Les lectures ne touchent jamais JPA : les listes
+ * triées sont des tableaux immuables remplacés atomiquement à chaque écriture
+ * (copie sur écriture), donc toujours cohérents pour une requête donnée. Une
+ * écriture ne touche que les équipes concernées : chacune est replacée à sa
+ * position par recherche dichotomique, sans nouveau tri.
+ *
+ * Les écritures validées pendant une construction sont mises en attente, puis
+ * rejouées sur la vue construite avant sa publication. Les noms et acronymes
+ * sont comparés comme par H2 (ordre des caractères, sans collation), avec
+ * l'identifiant pour départager les égalités, comme le repli JPA des services.
+ *
+ * @author API Football API Team
+ * @version 1.0.0
+ */
+@Component
+public class RosterReadModel {
+
+    private static final Logger logger = LoggerFactory.getLogger(RosterReadModel.class);
+
+    private static final Comparator<RosterSnapshot> PAR_ID = Comparator.comparing(RosterSnapshot::getId);
+
+    /**
+     * Ordres des listes triées. {@link String#compareTo} correspond à la
+     * comparaison par défaut de H2 (sans collation configurée).
+     */
+    private static final Comparator<RosterSnapshot> PAR_NOM =
+            Comparator.comparing(RosterSnapshot::getNom).thenComparing(PAR_ID);
+    private static final Comparator<RosterSnapshot> PAR_ACRONYME =
+            Comparator.comparing(RosterSnapshot::getAcronyme).thenComparing(PAR_ID);
+    private static final Comparator<RosterSnapshot> PAR_BUDGET =
+            Comparator.comparing(RosterSnapshot::getBudget).thenComparing(PAR_ID);
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Value("${football.read-model.enabled:true}")
+    private boolean enabled;
+
+    /** Vue courante, null tant que le modèle n'est pas construit. */
+    private volatile Vue vue;
+
+    /** Protège les remplacements de la vue, l'indicateur de construction et la file d'attente. */
+    private final Object verrou = new Object();
+
+    private boolean enConstruction;
+
+    /** Écritures validées pendant la construction en cours, rejouées avant sa publication. */
+    private final List<RosterChangeEvent> enAttente = new ArrayList<>();
+
+    /**
+     * Indique si le modèle peut servir les lectures.
+     *
+     * @return true si le modèle est construit
+     */
+    public boolean isReady() {
+        return vue != null;
+    }
+
+    /**
+     * Retourne une page d'équipes triée.
+     *
+     * @param page le numéro de page
+     * @param size la taille de la page
+     * @param sortBy le champ de tri validé (nom, acronyme, budget)
+     * @param direction la direction du tri
+     * @return la page d'équipes
+     */
+    public Page<EquipeDto> getPage(int page, int size, String sortBy, Sort.Direction direction) {
+        return paginer(vueCourante().triees(sortBy), page, size, sortBy, direction);
+    }
+
+    /**
+     * Retourne une page d'équipes dont le budget est compris entre deux bornes incluses.
+     *
+     * La plage est délimitée par recherche dichotomique dans la liste triée par budget.
+     *
+     * @param minBudget le budget minimal (null = pas de borne)
+     * @param maxBudget le budget maximal (null = pas de borne)
+     * @param page le numéro de page
+     * @param size la taille de la page
+     * @param sortBy le champ de tri validé (nom, acronyme, budget)
+     * @param direction la direction du tri
+     * @return la page d'équipes
+     */
+    public Page<EquipeDto> getPageParBudget(BigDecimal minBudget, BigDecimal maxBudget, int page, int size,
+                                            String sortBy, Sort.Direction direction) {
+        Vue courante = vueCourante();
+        List<RosterSnapshot> parBudget = courante.triees("budget");
+        int debut = minBudget == null ? 0 : premierIndexAuMoins(parBudget, minBudget, Long.MIN_VALUE);
+        int fin = maxBudget == null ? parBudget.size() : premierIndexAuMoins(parBudget, maxBudget, Long.MAX_VALUE);
+        List<RosterSnapshot> plage = parBudget.subList(debut, Math.max(debut, fin));
+
+        if (!"budget".equals(sortBy)) {
+            List<RosterSnapshot> filtrees = new ArrayList<>(plage.size());
+            for (RosterSnapshot equipe : courante.triees(sortBy)) {
+                if ((minBudget == null || equipe.getBudget().compareTo(minBudget) >= 0)
+                        && (maxBudget == null || equipe.getBudget().compareTo(maxBudget) <= 0)) {
+                    filtrees.add(equipe);
+                }
+            }
+            plage = filtrees;
+        }
+        return paginer(plage, page, size, sortBy, direction);
+    }
+
+    /**
+     * Retourne les équipes les plus riches, par budget puis identifiant décroissants,
+     * à partir d'un curseur éventuel (pagination par clé).
+     *
+     * @param limit le nombre d'équipes
+     * @param apresBudget le budget de la dernière équipe déjà lue (null = depuis le début)
+     * @param apresId l'identifiant de la dernière équipe déjà lue
+     * @return les équipes suivantes
+     */
+    public List<EquipeDto> getTopParBudget(int limit, BigDecimal apresBudget, Long apresId) {
+        List<RosterSnapshot> parBudget = vueCourante().triees("budget");
+        int index = apresBudget == null ? parBudget.size() - 1
+                : premierIndexAuMoins(parBudget, apresBudget, apresId) - 1;
+
+        List<EquipeDto> equipes = new ArrayList<>(Math.min(limit, Math.max(index + 1, 0)));
+        for (; index >= 0 && equipes.size() < limit; index--) {
+            equipes.add(parBudget.get(index).toDto());
+        }
+        return equipes;
+    }
+
+    /**
+     * Recherche une équipe par son identifiant.
+     *
+     * @param id l'identifiant de l'équipe
+     * @return l'équipe ou Optional.empty()
+     */
+    public Optional<EquipeDto> getEquipe(Long id) {
+        return Optional.ofNullable(vueCourante().parId.get(id)).map(RosterSnapshot::toDto);
+    }
+
+    /**
+     * Recherche une équipe par son acronyme.
+     *
+     * @param acronyme l'acronyme de l'équipe
+     * @return l'équipe ou Optional.empty()
+     */
+    public Optional<EquipeDto> getEquipeByAcronyme(String acronyme) {
+        Vue courante = vueCourante();
+        return Optional.ofNullable(courante.idParAcronyme.get(acronyme))
+                .map(courante.parId::get)
+                .map(RosterSnapshot::toDto);
+    }
+
+    /**
+     * Construit le modèle au démarrage de l'application.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        if (enabled) {
+            reconstruire();
+        }
+    }
+
+    /**
+     * Reconstruit le modèle après la restauration d'un instantané.
+     *
+     * @param event l'événement de restauration
+     */
+    @EventListener
+    public void onDatabaseRestored(DatabaseRestoredEvent event) {
+        if (enabled) {
+            reconstruire();
+        }
+    }
+
+    /**
+     * Reconstruit entièrement le modèle depuis la base.
+     */
+    public synchronized void reconstruire() {
+        long debut = System.nanoTime();
+        commencerConstruction();
+        try {
+            Map<Long, RosterSnapshot> equipes = lire();
+            int rejouees = publier(equipes);
+            logger.info("Modèle de lecture des effectifs construit: {} équipes en {} ms, {} écritures rejouées",
+                    equipes.size(), (System.nanoTime() - debut) / 1_000_000, rejouees);
+        } finally {
+            synchronized (verrou) {
+                enConstruction = false;
+                enAttente.clear();
+            }
+        }
+    }
+
+    void commencerConstruction() {
+        synchronized (verrou) {
+            enConstruction = true;
+            enAttente.clear();
+        }
+    }
+
+    Map<Long, RosterSnapshot> lire() {
+        Map<Long, RosterSnapshot> equipes = new HashMap<>();
+        jdbcTemplate.query("SELECT id, nom, acronyme, budget FROM equipes", rs -> {
+            long id = rs.getLong("id");
+            equipes.put(id, new RosterSnapshot(id, rs.getString("nom"), rs.getString("acronyme"),
+                    rs.getBigDecimal("budget"), new long[0], new String[0], new String[0]));
+        });
+
+        // Les joueurs arrivent triés par équipe puis par identifiant : chaque effectif est construit d'un bloc
+        EffectifEnConstruction courant = new EffectifEnConstruction();
+        Map<String, String> positions = new HashMap<>();
+        jdbcTemplate.query("SELECT id, nom, position, equipe_id FROM joueurs WHERE equipe_id IS NOT NULL "
+                + "ORDER BY equipe_id, id", rs -> {
+            long equipeId = rs.getLong("equipe_id");
+            if (courant.equipeId != equipeId) {
+                courant.terminer(equipes);
+                courant.equipeId = equipeId;
+            }
+            courant.ids.add(rs.getLong("id"));
+            courant.noms.add(rs.getString("nom"));
+            // Les positions sont peu nombreuses : une seule instance de chaîne par valeur
+            courant.positions.add(positions.computeIfAbsent(rs.getString("position"), p -> p));
+        });
+        courant.terminer(equipes);
+        return equipes;
+    }
+
+    /**
+     * Publie la vue construite après y avoir rejoué les écritures validées
+     * pendant la lecture. Les modifications sont idempotentes : une écriture
+     * déjà visible dans la lecture peut être rejouée sans effet.
+     *
+     * @return le nombre d'écritures rejouées
+     */
+    int publier(Map<Long, RosterSnapshot> equipes) {
+        synchronized (verrou) {
+            Vue construite = new Vue(equipes);
+            for (RosterChangeEvent event : enAttente) {
+                construite = appliquer(construite, event);
+            }
+            int rejouees = enAttente.size();
+            enAttente.clear();
+            enConstruction = false;
+            vue = construite;
+            return rejouees;
+        }
+    }
+
+    /**
+     * Applique une modification d'effectif après validation de la transaction.
+     *
+     * @param event la modification
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onRosterChange(RosterChangeEvent event) {
+        synchronized (verrou) {
+            if (enConstruction) {
+                enAttente.add(event);
+                return;
+            }
+            if (vue == null) {
+                // Pas encore de construction : elle lira cette écriture en base
+                return;
+            }
+            vue = appliquer(vue, event);
+        }
+    }
+
+    private static Vue appliquer(Vue vue, RosterChangeEvent event) {
+        switch (event.getType()) {
+            case EQUIPE_CREEE:
+                return vue.remplacer(vue.parId.get(event.getEquipeId()), RosterSnapshot.of(event.getEquipe()));
+            case JOUEUR_CREE:
+            case JOUEUR_AJOUTE:
+            case JOUEUR_TRANSFERE:
+            case JOUEUR_RETIRE:
+                Vue sans = retirer(vue, event.getJoueurId(), event.getAncienneEquipeId());
+                JoueurDto joueur = event.getJoueur();
+                RosterSnapshot nouvelle = joueur.getEquipeId() != null ? sans.parId.get(joueur.getEquipeId()) : null;
+                if (nouvelle == null) {
+                    return sans;
+                }
+                return sans.remplacer(nouvelle,
+                        nouvelle.avecJoueur(joueur.getId(), joueur.getNom(), joueur.getPosition()));
+            case JOUEURS_SUPPRIMES:
+                // Des joueurs libres ne figurent dans aucun effectif
+                RosterSnapshot ancienne = event.getAncienneEquipeId() != null
+                        ? vue.parId.get(event.getAncienneEquipeId()) : null;
+                if (ancienne == null) {
+                    return vue;
+                }
+                Set<Long> ids = new HashSet<>();
+                event.getJoueurs().forEach(supprime -> ids.add(supprime.getId()));
+                return vue.remplacer(ancienne, ancienne.sansJoueurs(ids));
+            default:
+                logger.warn("Modification d'effectif non gérée: {}", event);
+                return vue;
+        }
+    }
+
+    /**
+     * Retire un joueur de l'équipe qu'il quitte. Sans équipe quittée (création,
+     * ajout d'un joueur libre), le joueur ne figure dans aucun effectif.
+     */
+    private static Vue retirer(Vue vue, Long joueurId, Long ancienneEquipeId) {
+        if (ancienneEquipeId == null) {
+            return vue;
+        }
+        RosterSnapshot ancienne = vue.parId.get(ancienneEquipeId);
+        return ancienne != null ? vue.remplacer(ancienne, ancienne.sansJoueur(joueurId)) : vue;
+    }
+
+    private static Page<EquipeDto> paginer(List<RosterSnapshot> triees, int page, int size, String sortBy,
+                                           Sort.Direction direction) {
+        int total = triees.size();
+        int debut = (int) Math.min((long) page * size, total);
+        int fin = Math.min(debut + size, total);
+
+        List<EquipeDto> contenu = new ArrayList<>(fin - debut);
+        for (int i = debut; i < fin; i++) {
+            int index = direction == Sort.Direction.DESC ? total - 1 - i : i;
+            contenu.add(triees.get(index).toDto());
+        }
+        return new PageImpl<>(contenu, PageRequest.of(page, size, Sort.by(direction, sortBy)), total);
+    }
+
+    /**
+     * Premier indice de la liste triée par (budget, id) dont la clé est supérieure ou égale à (budget, id).
+     */
+    private static int premierIndexAuMoins(List<RosterSnapshot> parBudget, BigDecimal budget, long id) {
+        int bas = 0;
+        int haut = parBudget.size();
+        while (bas < haut) {
+            int milieu = (bas + haut) >>> 1;
+            RosterSnapshot equipe = parBudget.get(milieu);
+            int comparaison = equipe.getBudget().compareTo(budget);
+            if (comparaison < 0 || (comparaison == 0 && equipe.getId() < id)) {
+                bas = milieu + 1;
+            } else {
+                haut = milieu;
+            }
+        }
+        return bas;
+    }
+
+    private Vue vueCourante() {
+        Vue courante = vue;
+        if (courante == null) {
+            throw new IllegalStateException("Le modèle de lecture des effectifs n'est pas construit");
+        }
+        return courante;
+    }
+
+    /**
+     * Vue : index par identifiant et par acronyme, tableaux triés par champ.
+     *
+     * Ni les tableaux ni les index ne sont modifiés après publication : une
+     * écriture produit une nouvelle vue avec ses propres copies, de sorte
+     * qu'une lecture qui consulte plusieurs structures de la même vue les
+     * trouve toujours cohérentes entre elles.
+     */
+    private static final class Vue {
+
+        private final Map<Long, RosterSnapshot> parId;
+        private final Map<String, Long> idParAcronyme;
+        private final RosterSnapshot[] parNom;
+        private final RosterSnapshot[] parAcronyme;
+        private final RosterSnapshot[] parBudget;
+
+        Vue(Map<Long, RosterSnapshot> equipes) {
+            this.parId = new HashMap<>(equipes);
+            this.idParAcronyme = new HashMap<>();
+            equipes.values().forEach(e -> idParAcronyme.put(e.getAcronyme(), e.getId()));
+            this.parNom = trier(equipes, PAR_NOM);
+            this.parAcronyme = trier(equipes, PAR_ACRONYME);
+            this.parBudget = trier(equipes, PAR_BUDGET);
+        }
+
+        private Vue(Map<Long, RosterSnapshot> parId, Map<String, Long> idParAcronyme, RosterSnapshot[] parNom,
+                    RosterSnapshot[] parAcronyme, RosterSnapshot[] parBudget) {
+            this.parId = parId;
+            this.idParAcronyme = idParAcronyme;
+            this.parNom = parNom;
+            this.parAcronyme = parAcronyme;
+            this.parBudget = parBudget;
+        }
+
+        List<RosterSnapshot> triees(String sortBy) {
+            switch (sortBy) {
+                case "acronyme":
+                    return Collections.unmodifiableList(Arrays.asList(parAcronyme));
+                case "budget":
+                    return Collections.unmodifiableList(Arrays.asList(parBudget));
+                default:
+                    return Collections.unmodifiableList(Arrays.asList(parNom));
+            }
+        }
+
+        /**
+         * Remplace une équipe (ou l'ajoute si {@code avant} est null) en la
+         * replaçant à sa position dans chaque tableau trié.
+         */
+        Vue remplacer(RosterSnapshot avant, RosterSnapshot apres) {
+            if (avant == apres) {
+                return this;
+            }
+            Map<Long, RosterSnapshot> ids = new HashMap<>(parId);
+            ids.put(apres.getId(), apres);
+            // Un changement d'effectif ne touche pas les acronymes : l'index est alors partagé tel quel
+            Map<String, Long> acronymes = idParAcronyme;
+            if (avant == null || !avant.getAcronyme().equals(apres.getAcronyme())) {
+                acronymes = new HashMap<>(idParAcronyme);
+                if (avant != null) {
+                    acronymes.remove(avant.getAcronyme(), avant.getId());
+                }
+                acronymes.put(apres.getAcronyme(), apres.getId());
+            }
+            return new Vue(ids, acronymes,
+                    replacer(parNom, PAR_NOM, avant, apres),
+                    replacer(parAcronyme, PAR_ACRONYME, avant, apres),
+                    replacer(parBudget, PAR_BUDGET, avant, apres));
+        }
+
+        private static RosterSnapshot[] replacer(RosterSnapshot[] triees, Comparator<RosterSnapshot> comparateur,
+                                                 RosterSnapshot avant, RosterSnapshot apres) {
+            int index = avant == null ? -1 : Arrays.binarySearch(triees, avant, comparateur);
+            if (index >= 0 && comparateur.compare(avant, apres) == 0) {
+                // Clé de tri inchangée (modification d'effectif) : même position
+                RosterSnapshot[] copie = triees.clone();
+                copie[index] = apres;
+                return copie;
+            }
+            RosterSnapshot[] sans = triees;
+            if (index >= 0) {
+                sans = new RosterSnapshot[triees.length - 1];
+                System.arraycopy(triees, 0, sans, 0, index);
+                System.arraycopy(triees, index + 1, sans, index, triees.length - index - 1);
+            }
+            int insertion = Arrays.binarySearch(sans, apres, comparateur);
+            insertion = insertion < 0 ? -insertion - 1 : insertion;
+            RosterSnapshot[] avec = new RosterSnapshot[sans.length + 1];
+            System.arraycopy(sans, 0, avec, 0, insertion);
+            avec[insertion] = apres;
+            System.arraycopy(sans, insertion, avec, insertion + 1, sans.length - insertion);
+            return avec;
+        }
+
+        private static RosterSnapshot[] trier(Map<Long, RosterSnapshot> equipes,
+                                              Comparator<RosterSnapshot> comparateur) {
+            RosterSnapshot[] triees = equipes.values().toArray(new RosterSnapshot[0]);
+            Arrays.sort(triees, comparateur);
+            return triees;
+        }
+    }
+
+    /**
+     * Accumulateur de l'effectif en cours de lecture lors d'une reconstruction.
+     */
+    private static final class EffectifEnConstruction {
+
+        private long equipeId = Long.MIN_VALUE;
+        private final List<Long> ids = new ArrayList<>();
+        private final List<String> noms = new ArrayList<>();
+        private final List<String> positions = new ArrayList<>();
+
+        void terminer(Map<Long, RosterSnapshot> equipes) {
+            RosterSnapshot equipe = equipes.get(equipeId);
+            if (equipe != null && !ids.isEmpty()) {
+                long[] tableauIds = ids.stream().mapToLong(Long::longValue).toArray();
+                equipes.put(equipeId, new RosterSnapshot(equipe.getId(), equipe.getNom(), equipe.getAcronyme(),
+                        equipe.getBudget(), tableauIds, noms.toArray(new String[0]), positions.toArray(new String[0])));
+            }
+            ids.clear();
+            noms.clear();
+            positions.clear();
+        }
+    }
+}
@@ -0,0 +1,178 @@
+package com.api.football.readmodel;
+
+import com.api.football.dto.EquipeDto;
+import com.api.football.dto.JoueurDto;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Instantané immuable de l'effectif d'une équipe.
+ *
+ * Les joueurs sont stockés en tableaux parallèles triés par identifiant
+ * (représentation compacte, sans entité ni DTO par joueur). Toute
+ * modification produit un nouvel instantané.
+ *
+ * @author API Football API Team
+ * @version 1.0.0
+ */
+public final class RosterSnapshot {
+
+    private final Long id;
+    private final String nom;
+    private final String acronyme;
+    private final BigDecimal budget;
+    private final long[] joueurIds;
+    private final String[] joueurNoms;
+    private final String[] joueurPositions;
+
+    RosterSnapshot(Long id, String nom, String acronyme, BigDecimal budget,
+                   long[] joueurIds, String[] joueurNoms, String[] joueurPositions) {
+        this.id = id;
+        this.nom = nom;
+        this.acronyme = acronyme;
+        this.budget = budget;
+        this.joueurIds = joueurIds;
+        this.joueurNoms = joueurNoms;
+        this.joueurPositions = joueurPositions;
+    }
+
+    /**
+     * Construit un instantané à partir d'un DTO d'équipe.
+     *
+     * @param equipe l'équipe et ses joueurs
+     * @return l'instantané
+     */
+    static RosterSnapshot of(EquipeDto equipe) {
+        RosterSnapshot snapshot = new RosterSnapshot(equipe.getId(), equipe.getNom(), equipe.getAcronyme(),
+                equipe.getBudget(), new long[0], new String[0], new String[0]);
+        if (equipe.getJoueurs() != null) {
+            for (JoueurDto joueur : equipe.getJoueurs()) {
+                snapshot = snapshot.avecJoueur(joueur.getId(), joueur.getNom(), joueur.getPosition());
+            }
+        }
+        return snapshot;
+    }
+
+    /**
+     * Retourne un nouvel instantané contenant le joueur (remplacé s'il est déjà présent).
+     */
+    RosterSnapshot avecJoueur(long joueurId, String joueurNom, String position) {
+        int index = Arrays.binarySearch(joueurIds, joueurId);
+        if (index >= 0) {
+            String[] noms = joueurNoms.clone();
+            String[] positions = joueurPositions.clone();
+            noms[index] = joueurNom;
+            positions[index] = position;
+            return new RosterSnapshot(id, nom, acronyme, budget, joueurIds, noms, positions);
+        }
+
+        int insertion = -index - 1;
+        int taille = joueurIds.length;
+        long[] ids = new long[taille + 1];
+        String[] noms = new String[taille + 1];
+        String[] positions = new String[taille + 1];
+        System.arraycopy(joueurIds, 0, ids, 0, insertion);
+        System.arraycopy(joueurNoms, 0, noms, 0, insertion);
+        System.arraycopy(joueurPositions, 0, positions, 0, insertion);
+        ids[insertion] = joueurId;
+        noms[insertion] = joueurNom;
+        positions[insertion] = position;
+        System.arraycopy(joueurIds, insertion, ids, insertion + 1, taille - insertion);
+        System.arraycopy(joueurNoms, insertion, noms, insertion + 1, taille - insertion);
+        System.arraycopy(joueurPositions, insertion, positions, insertion + 1, taille - insertion);
+        return new RosterSnapshot(id, nom, acronyme, budget, ids, noms, positions);
+    }
+
+    /**
+     * Retourne un nouvel instantané sans le joueur, ou cet instantané s'il ne le contient pas.
+     */
+    RosterSnapshot sansJoueur(long joueurId) {
+        int index = Arrays.binarySearch(joueurIds, joueurId);
+        if (index < 0) {
+            return this;
+        }
+        int taille = joueurIds.length;
+        long[] ids = new long[taille - 1];
+        String[] noms = new String[taille - 1];
+        String[] positions = new String[taille - 1];
+        System.arraycopy(joueurIds, 0, ids, 0, index);
+        System.arraycopy(joueurNoms, 0, noms, 0, index);
+        System.arraycopy(joueurPositions, 0, positions, 0, index);
+        System.arraycopy(joueurIds, index + 1, ids, index, taille - index - 1);
+        System.arraycopy(joueurNoms, index + 1, noms, index, taille - index - 1);
+        System.arraycopy(joueurPositions, index + 1, positions, index, taille - index - 1);
+        return new RosterSnapshot(id, nom, acronyme, budget, ids, noms, positions);
+    }
+
+    /**
+     * Retire plusieurs joueurs en une seule copie des tableaux.
+     */
+    RosterSnapshot sansJoueurs(Set<Long> ids) {
+        int taille = 0;
+        long[] restants = new long[joueurIds.length];
+        String[] noms = new String[joueurIds.length];
+        String[] positions = new String[joueurIds.length];
+        for (int i = 0; i < joueurIds.length; i++) {
+            if (!ids.contains(joueurIds[i])) {
+                restants[taille] = joueurIds[i];
+                noms[taille] = joueurNoms[i];
+                positions[taille++] = joueurPositions[i];
+            }
+        }
+        if (taille == joueurIds.length) {
+            return this;
+        }
+        return new RosterSnapshot(id, nom, acronyme, budget, Arrays.copyOf(restants, taille),
+                Arrays.copyOf(noms, taille), Arrays.copyOf(positions, taille));
+    }
+
+    /**
+     * Convertit l'instantané en DTO de réponse.
+     *
+     * @return un nouveau DTO, que l'appelant peut modifier librement
+     */
+    public EquipeDto toDto() {
+        List<JoueurDto> joueurs = new ArrayList<>(joueurIds.length);
+        for (int i = 0; i < joueurIds.length; i++) {
+            joueurs.add(new JoueurDto(joueurIds[i], joueurNoms[i], joueurPositions[i], id, nom));
+        }
+        return new EquipeDto(id, nom, acronyme, budget, joueurs);
+    }
+
+    // Getters
+
+    public Long getId() {
+        return id;
+    }
+
+    public String getNom() {
+        return nom;
+    }
+
+    public String getAcronyme() {
+        return acronyme;
+    }
+
+    public BigDecimal getBudget() {
+        return budget;
+    }
+
+    public int getNombreJoueurs() {
+        return joueurIds.length;
+    }
+
+    @Override
+    public String toString() {
+        return "RosterSnapshot{" +
+                "id=" + id +
+                ", nom='" + nom + '\'' +
+                ", acronyme='" + acronyme + '\'' +
+                ", budget=" + budget +
+                ", nombreJoueurs=" + joueurIds.length +
+                '}';
+    }
+}
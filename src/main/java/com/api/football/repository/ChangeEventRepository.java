@@ -0,0 +1,28 @@
+package com.api.football.repository;
+
+import com.api.football.model.ChangeEvent;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+/**
+ * Repository pour la gestion de la table d'outbox des changements.
+ *
+ * @author API Football API Team
+ * @version 1.0.0
+ */
+@Repository
+public interface ChangeEventRepository extends JpaRepository<ChangeEvent, Long> {
+
+    /**
+     * Lit les événements qui suivent un numéro de séquence (parcours par clé,
+     * sans OFFSET : le coût ne dépend pas de la position dans le flux).
+     *
+     * @param sequence le dernier numéro de séquence déjà lu
+     * @param limit le nombre maximal d'événements
+     * @return les événements triés par séquence croissante
+     */
+    List<ChangeEvent> findBySequenceGreaterThanOrderBySequenceAsc(Long sequence, Limit limit);
+}
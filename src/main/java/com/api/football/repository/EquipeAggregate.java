@@ -0,0 +1,22 @@
+package com.api.football.repository;
+
+import java.math.BigDecimal;
+
+/**
+ * Projection d'agrégat : colonnes d'une équipe et taille de son effectif.
+ *
+ * @author API Football API Team
+ * @version 1.0.0
+ */
+public interface EquipeAggregate {
+
+    Long getId();
+
+    String getNom();
+
+    String getAcronyme();
+
+    BigDecimal getBudget();
+
+    int getNombreJoueurs();
+}
@@ -1,13 +1,17 @@
 package com.api.football.repository;
 
 import com.api.football.model.Equipe;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.math.BigDecimal;
+import java.util.List;
 import java.util.Optional;
 
 /**
@@ -54,6 +58,33 @@ public interface EquipeRepository extends JpaRepository<Equipe, Long> {
      */
     boolean existsByNom(String nom);
 
+    /**
+     * Trouve une équipe par son identifiant, avec son effectif.
+     *
+     * @param id l'identifiant de l'équipe
+     * @return l'équipe correspondante ou Optional.empty() si non trouvée
+     */
+    @Query("SELECT e FROM Equipe e LEFT JOIN FETCH e.joueurs WHERE e.id = :id")
+    Optional<Equipe> findByIdWithJoueurs(@Param("id") Long id);
+
+    /**
+     * Trouve une équipe par son acronyme, avec son effectif.
+     *
+     * @param acronyme l'acronyme de l'équipe
+     * @return l'équipe correspondante ou Optional.empty() si non trouvée
+     */
+    @Query("SELECT e FROM Equipe e LEFT JOIN FETCH e.joueurs WHERE e.acronyme = :acronyme")
+    Optional<Equipe> findByAcronymeWithJoueurs(@Param("acronyme") String acronyme);
+
+    /**
+     * Trouve les équipes dont l'identifiant figure dans la liste, avec leur effectif.
+     *
+     * @param ids les identifiants recherchés
+     * @return les équipes trouvées, sans ordre garanti
+     */
+    @Query("SELECT DISTINCT e FROM Equipe e LEFT JOIN FETCH e.joueurs WHERE e.id IN :ids")
+    List<Equipe> findAllWithJoueursByIdIn(@Param("ids") List<Long> ids);
+
     /**
      * Recherche des équipes avec pagination et tri.
      *
@@ -63,6 +94,14 @@ public interface EquipeRepository extends JpaRepository<Equipe, Long> {
     @Query("SELECT e FROM Equipe e LEFT JOIN FETCH e.joueurs")
     Page<Equipe> findAllWithJoueurs(Pageable pageable);
 
+    /**
+     * Lit une page d'équipes sans compter le total ni charger les effectifs.
+     *
+     * @param pageable les paramètres de pagination et tri
+     * @return les équipes de la page
+     */
+    List<Equipe> findAllBy(Pageable pageable);
+
     /**
      * Recherche des équipes par nom contenant le terme donné.
      *
@@ -82,4 +121,74 @@ public interface EquipeRepository extends JpaRepository<Equipe, Long> {
      */
     @Query("SELECT e FROM Equipe e LEFT JOIN FETCH e.joueurs WHERE LOWER(e.acronyme) LIKE LOWER(CONCAT('%', :acronyme, '%'))")
     Page<Equipe> findByAcronymeContainingIgnoreCase(@Param("acronyme") String acronyme, Pageable pageable);
+
+    /**
+     * Liste les équipes avec la taille de leur effectif, sans charger d'entité.
+     * L'effectif est lu dans la colonne dénormalisée {@code nombre_joueurs} :
+     * un simple parcours de la table des équipes.
+     *
+     * @return les équipes agrégées
+     */
+    @Query("SELECT e.id AS id, e.nom AS nom, e.acronyme AS acronyme, e.budget AS budget, " +
+            "e.nombreJoueurs AS nombreJoueurs FROM Equipe e")
+    List<EquipeAggregate> findAllAggregated();
+
+    /**
+     * Ajuste la taille d'effectif dénormalisée d'une équipe en une seule
+     * instruction atomique ({@code nombre_joueurs = nombre_joueurs + delta}),
+     * sans lire la valeur courante : deux écritures concurrentes ne peuvent pas
+     * perdre de mise à jour.
+     *
+     * @param id l'identifiant de l'équipe
+     * @param delta la variation de l'effectif (négative pour un départ)
+     * @return le nombre de lignes modifiées
+     */
+    @Modifying
+    @Query(value = "UPDATE equipes SET nombre_joueurs = nombre_joueurs + :delta WHERE id = :id", nativeQuery = true)
+    int ajusterNombreJoueurs(@Param("id") Long id, @Param("delta") int delta);
+
+    /**
+     * Réserve une place dans l'effectif : incrémente la taille dénormalisée
+     * seulement si elle reste sous la limite, en une instruction conditionnelle.
+     *
+     * @param id l'identifiant de l'équipe
+     * @param max la taille maximale de l'effectif
+     * @return 1 si la place est réservée, 0 si l'effectif est complet
+     */
+    @Modifying
+    @Query(value = "UPDATE equipes SET nombre_joueurs = nombre_joueurs + 1 WHERE id = :id AND nombre_joueurs < :max",
+            nativeQuery = true)
+    int reserverPlace(@Param("id") Long id, @Param("max") int max);
+
+    /**
+     * Recherche des équipes dont le budget est compris entre deux bornes incluses.
+     *
+     * @param minBudget le budget minimal
+     * @param maxBudget le budget maximal
+     * @param pageable les paramètres de pagination et tri
+     * @return une page d'équipes correspondantes
+     */
+    Page<Equipe> findByBudgetBetween(BigDecimal minBudget, BigDecimal maxBudget, Pageable pageable);
+
+    /**
+     * Identifiants des équipes les plus riches (parcours de idx_equipes_budget).
+     *
+     * @param limit le nombre d'équipes
+     * @return les identifiants par budget puis identifiant décroissants
+     */
+    @Query("SELECT e.id FROM Equipe e ORDER BY e.budget DESC, e.id DESC")
+    List<Long> findIdsOrderByBudgetDesc(Limit limit);
+
+    /**
+     * Identifiants des équipes suivant un curseur (budget, id) dans l'ordre décroissant.
+     * La condition est écrite pour borner le parcours de l'index sur le budget.
+     *
+     * @param budget le budget de la dernière équipe lue
+     * @param id l'identifiant de la dernière équipe lue
+     * @param limit le nombre d'équipes
+     * @return les identifiants par budget puis identifiant décroissants
+     */
+    @Query("SELECT e.id FROM Equipe e WHERE e.budget <= :budget AND (e.budget < :budget OR e.id < :id) " +
+            "ORDER BY e.budget DESC, e.id DESC")
+    List<Long> findIdsByBudgetBefore(@Param("budget") BigDecimal budget, @Param("id") Long id, Limit limit);
 }
@@ -23,6 +23,10 @@ import java.util.Optional;
 @Repository
 public interface JoueurRepository extends JpaRepository<Joueur, Long> {
 
+    /** Colonnes de {@link JoueurSupprime}, lues sur la table de variation {@code s}. */
+    String SELECT_SUPPRIMES = "SELECT s.id AS id, s.nom AS nom, s.position AS position, "
+            + "s.equipe_id AS equipeId, s.equipe_nom AS equipeNom ";
+
     /**
      * Trouve un joueur par son nom.
      *
@@ -31,6 +35,24 @@ public interface JoueurRepository extends JpaRepository<Joueur, Long> {
      */
     Optional<Joueur> findByNom(String nom);
 
+    /**
+     * Trouve un joueur par son identifiant, avec son équipe.
+     *
+     * @param id l'identifiant du joueur
+     * @return le joueur correspondant ou Optional.empty() si non trouvé
+     */
+    @Query("SELECT j FROM Joueur j LEFT JOIN FETCH j.equipe WHERE j.id = :id")
+    Optional<Joueur> findByIdWithEquipe(@Param("id") Long id);
+
+    /**
+     * Trouve les joueurs dont l'identifiant figure dans la liste, avec leur équipe.
+     *
+     * @param ids les identifiants recherchés
+     * @return les joueurs trouvés, sans ordre garanti
+     */
+    @Query("SELECT j FROM Joueur j LEFT JOIN FETCH j.equipe WHERE j.id IN :ids")
+    List<Joueur> findAllWithEquipeByIdIn(@Param("ids") List<Long> ids);
+
     /**
      * Trouve tous les joueurs d'une équipe donnée.
      *
@@ -39,6 +61,14 @@ public interface JoueurRepository extends JpaRepository<Joueur, Long> {
      */
     List<Joueur> findByEquipeId(Long equipeId);
 
+    /**
+     * Trouve les joueurs de plusieurs équipes en une requête.
+     *
+     * @param equipeIds les identifiants des équipes
+     * @return les joueurs de ces équipes, par identifiant croissant
+     */
+    List<Joueur> findByEquipeIdInOrderByIdAsc(List<Long> equipeIds);
+
     /**
      * Trouve tous les joueurs d'une équipe donnée avec pagination.
      *
@@ -76,6 +106,27 @@ public interface JoueurRepository extends JpaRepository<Joueur, Long> {
      */
     long countByEquipeId(Long equipeId);
 
+    /**
+     * Compte les joueurs d'une position dans une équipe.
+     *
+     * @param equipeId l'identifiant de l'équipe
+     * @param position la position exacte, sans tenir compte de la casse
+     * @return le nombre de joueurs à cette position
+     */
+    long countByEquipeIdAndPositionIgnoreCase(Long equipeId, String position);
+
+    /**
+     * Lit l'équipe actuelle d'un joueur en base, sans passer par l'entité
+     * éventuellement déjà chargée, et verrouille sa ligne jusqu'à la fin de
+     * la transaction : deux écritures du même joueur sans équipe commune
+     * (deux signatures d'un joueur libre) ne peuvent pas lire le même état.
+     *
+     * @param id l'identifiant du joueur
+     * @return une liste vide si le joueur n'existe pas, sinon son équipe (élément null s'il n'en a pas)
+     */
+    @Query(value = "SELECT equipe_id FROM joueurs WHERE id = :id FOR UPDATE", nativeQuery = true)
+    List<Long> findEquipeIdByIdForUpdate(@Param("id") Long id);
+
     /**
      * Vérifie si un joueur existe avec le nom donné.
      *
@@ -94,4 +145,70 @@ public interface JoueurRepository extends JpaRepository<Joueur, Long> {
      */
     @Query("SELECT j FROM Joueur j WHERE j.equipe.id = :equipeId AND LOWER(j.position) LIKE LOWER(CONCAT('%', :position, '%'))")
     Page<Joueur> findByEquipeIdAndPositionContainingIgnoreCase(@Param("equipeId") Long equipeId, @Param("position") String position, Pageable pageable);
+
+    /**
+     * Compte les joueurs par équipe et par position, sans charger d'entité.
+     * Les joueurs sans équipe sont regroupés sous un identifiant d'équipe null.
+     *
+     * @return les effectifs agrégés
+     */
+    @Query("SELECT j.equipe.id AS equipeId, j.position AS position, COUNT(j) AS nombre " +
+            "FROM Joueur j GROUP BY j.equipe.id, j.position")
+    List<PositionCount> countByEquipeAndPosition();
+
+    /**
+     * Supprime un joueur en une seule requête et renvoie la ligne supprimée.
+     *
+     * La table de variation {@code OLD TABLE (DELETE ...)} de H2 renvoie les
+     * lignes supprimées par l'instruction, sans lecture préalable ; la liste
+     * vide signale un joueur inexistant.
+     *
+     * @param id l'identifiant du joueur
+     * @return le joueur supprimé, ou une liste vide
+     */
+    @Query(value = SELECT_SUPPRIMES + "FROM OLD TABLE (DELETE FROM joueurs WHERE id = :id) s",
+            nativeQuery = true)
+    List<JoueurSupprime> deleteByIdReturning(@Param("id") Long id);
+
+    /**
+     * Supprime en une seule requête les joueurs dont l'identifiant figure dans la liste.
+     *
+     * @param ids les identifiants des joueurs
+     * @return les joueurs supprimés
+     */
+    @Query(value = SELECT_SUPPRIMES + "FROM OLD TABLE (DELETE FROM joueurs WHERE id IN (:ids)) s",
+            nativeQuery = true)
+    List<JoueurSupprime> deleteAllByIdInReturning(@Param("ids") List<Long> ids);
+
+    /**
+     * Supprime en une seule requête les joueurs d'une équipe.
+     *
+     * @param equipeId l'identifiant de l'équipe
+     * @return les joueurs supprimés
+     */
+    @Query(value = SELECT_SUPPRIMES + "FROM OLD TABLE (DELETE FROM joueurs WHERE equipe_id = :equipeId) s",
+            nativeQuery = true)
+    List<JoueurSupprime> deleteByEquipeIdReturning(@Param("equipeId") Long equipeId);
+
+    /**
+     * Supprime en une seule requête les joueurs d'une position, toutes équipes confondues.
+     *
+     * @param position la position exacte, sans tenir compte de la casse
+     * @return les joueurs supprimés
+     */
+    @Query(value = SELECT_SUPPRIMES + "FROM OLD TABLE (DELETE FROM joueurs WHERE LOWER(position) = LOWER(:position)) s",
+            nativeQuery = true)
+    List<JoueurSupprime> deleteByPositionReturning(@Param("position") String position);
+
+    /**
+     * Supprime en une seule requête les joueurs d'une position dans une équipe.
+     *
+     * @param equipeId l'identifiant de l'équipe
+     * @param position la position exacte, sans tenir compte de la casse
+     * @return les joueurs supprimés
+     */
+    @Query(value = SELECT_SUPPRIMES + "FROM OLD TABLE (DELETE FROM joueurs WHERE equipe_id = :equipeId "
+            + "AND LOWER(position) = LOWER(:position)) s", nativeQuery = true)
+    List<JoueurSupprime> deleteByEquipeIdAndPositionReturning(@Param("equipeId") Long equipeId,
+                                                              @Param("position") String position);
 }
@@ -0,0 +1,24 @@
+package com.api.football.repository;
+
+/**
+ * Projection d'un joueur supprimé, lue dans la requête de suppression
+ * elle-même, avec le nom de son équipe.
+ *
+ * @author API Football API Team
+ * @version 1.0.0
+ */
+public interface JoueurSupprime {
+
+    Long getId();
+
+    String getNom();
+
+    String getPosition();
+
+    /**
+     * @return l'identifiant de l'équipe, null pour un joueur sans équipe
+     */
+    Long getEquipeId();
+
+    String getEquipeNom();
+}
@@ -0,0 +1,19 @@
+package com.api.football.repository;
+
+/**
+ * Projection d'agrégat : nombre de joueurs par équipe et par position.
+ *
+ * @author API Football API Team
+ * @version 1.0.0
+ */
+public interface PositionCount {
+
+    /**
+     * @return l'identifiant de l'équipe, null pour les joueurs sans équipe
+     */
+    Long getEquipeId();
+
+    String getPosition();
+
+    long getNombre();
+}
@@ -0,0 +1,33 @@
+package com.api.football.responsecache;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+
+/**
+ * Enregistre le cache de réponses sur les endpoints {@code /api/*}, après la
+ * limitation de débit : une réponse servie depuis le cache reste décomptée.
+ *
+ * @author API Football API Team
+ * @version 1.0.0
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "football.response-cache", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class ResponseCacheConfiguration {
+
+    @Bean
+    public ResponseCacheFilter responseCacheFilter(ResponseCacheProperties properties) {
+        return new ResponseCacheFilter(properties);
+    }
+
+    @Bean
+    public FilterRegistrationBean<ResponseCacheFilter> responseCacheFilterRegistration(
+            ResponseCacheFilter responseCacheFilter) {
+        FilterRegistrationBean<ResponseCacheFilter> registration = new FilterRegistrationBean<>(responseCacheFilter);
+        registration.addUrlPatterns("/api/*");
+        registration.setOrder(Ordered.HIGHEST_PRECEDENCE + 20);
+        return registration;
+    }
+}
@@ -0,0 +1,444 @@
+package com.api.football.responsecache;
+
+import com.api.football.event.RosterChangeEvent;
+import com.api.football.metrics.MetricsSource;
+import com.api.football.persistence.DatabaseRestoredEvent;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.context.event.EventListener;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.InvalidMediaTypeException;
+import org.springframework.http.MediaType;
+import org.springframework.http.server.PathContainer;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.ContentCachingResponseWrapper;
+import org.springframework.web.util.pattern.PathPattern;
+import org.springframework.web.util.pattern.PathPatternParser;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeSet;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Cache des réponses JSON des endpoints de lecture les plus sollicités.
+ *
+ * Une réponse {@code 200} est conservée telle qu'envoyée, en octets, avec sa
+ * variante gzip calculée une seule fois. La clé est le chemin, les seuls
+ * paramètres reconnus par l'endpoint (triés) et le type de contenu négocié à
+ * partir de l'en-tête {@code Accept} ; l'en-tête {@code Accept-Encoding}
+ * choisit seulement la variante servie. Une requête servie depuis le cache
+ * n'atteint pas le contrôleur : ni lecture, ni sérialisation, ni compression.
+ *
+ * Le cache est borné en nombre d'entrées et en octets, et suit une politique
+ * LRU segmentée : une nouvelle réponse entre dans un segment probatoire et ne
+ * passe dans le segment protégé qu'à sa deuxième lecture. Les évictions
+ * prennent d'abord les entrées probatoires les moins récentes ; une rafale de
+ * clés lues une seule fois ne peut donc pas chasser les pages populaires.
+ *
+ * Toute écriture validée ({@link RosterChangeEvent}) et toute restauration
+ * vident le cache. Une réponse calculée pendant une écriture n'est conservée
+ * que si aucune invalidation n'a eu lieu depuis le début de son calcul.
+ *
+ * @author API Football API Team
+ * @version 1.0.0
+ */
+public class ResponseCacheFilter extends OncePerRequestFilter implements MetricsSource {
+
+    /** En-tête indiquant si la réponse vient du cache ({@code HIT}) ou non ({@code MISS}). */
+    static final String ENTETE_CACHE = "X-Cache";
+
+    private static final String VARY = HttpHeaders.ACCEPT + ", " + HttpHeaders.ACCEPT_ENCODING;
+
+    /** Part du budget, en octets et en entrées, réservée au segment protégé. */
+    private static final double PART_PROTEGEE = 0.8;
+
+    private final ResponseCacheProperties properties;
+    private final LongSupplier horloge;
+    private final List<CheminCompile> chemins;
+    private final AtomicLong generation = new AtomicLong();
+
+    /** Entrées lues une seule fois, dans l'ordre d'accès (la moins récente en tête). */
+    private final LinkedHashMap<String, Entree> probatoires = new LinkedHashMap<>(16, 0.75f, true);
+    /** Entrées relues au moins une fois, dans l'ordre d'accès. */
+    private final LinkedHashMap<String, Entree> protegees = new LinkedHashMap<>(16, 0.75f, true);
+    private long octetsProbatoires;
+    private long octetsProteges;
+
+    private final LongAdder succes = new LongAdder();
+    private final LongAdder echecs = new LongAdder();
+    private final LongAdder stockees = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+    private final LongAdder invalidations = new LongAdder();
+
+    public ResponseCacheFilter(ResponseCacheProperties properties) {
+        this(properties, System::nanoTime);
+    }
+
+    ResponseCacheFilter(ResponseCacheProperties properties, LongSupplier horloge) {
+        this.properties = properties;
+        this.horloge = horloge;
+        PathPatternParser parser = new PathPatternParser();
+        this.chemins = properties.getChemins().stream()
+                .map(chemin -> new CheminCompile(parser.parse(chemin.getMotif()), chemin.getParametres()))
+                .toList();
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !"GET".equals(request.getMethod()) || chemin(request) == null;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        String type = negocier(request.getHeader(HttpHeaders.ACCEPT));
+        if (type == null) {
+            // Aucune réponse JSON acceptable : le contrôleur répond 406, rien à conserver
+            chain.doFilter(request, response);
+            return;
+        }
+        String cle = cle(request, chemin(request), type);
+        boolean gzip = accepteGzip(request.getHeader(HttpHeaders.ACCEPT_ENCODING));
+
+        Entree entree = sansCache(request) ? null : lire(cle);
+        if (entree != null) {
+            succes.increment();
+            ecrire(response, entree, gzip, "HIT");
+            return;
+        }
+        echecs.increment();
+
+        long jeton = generation.get();
+        ContentCachingResponseWrapper capture = new ContentCachingResponseWrapper(response);
+        chain.doFilter(request, capture);
+
+        Entree nouvelle = cachable(capture) ? construire(capture) : null;
+        if (nouvelle == null) {
+            capture.copyBodyToResponse();
+            return;
+        }
+        memoriser(cle, nouvelle, jeton);
+        ecrire(response, nouvelle, gzip, "MISS");
+    }
+
+    /**
+     * Vide le cache après une écriture validée.
+     *
+     * @param event la modification
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onRosterChange(RosterChangeEvent event) {
+        invalider();
+    }
+
+    /**
+     * Vide le cache après une restauration ou un import.
+     *
+     * @param event la restauration
+     */
+    @EventListener
+    public void onDatabaseRestored(DatabaseRestoredEvent event) {
+        invalider();
+    }
+
+    synchronized void invalider() {
+        generation.incrementAndGet();
+        probatoires.clear();
+        protegees.clear();
+        octetsProbatoires = 0;
+        octetsProteges = 0;
+        invalidations.increment();
+    }
+
+    /**
+     * Lit une entrée valide ; une entrée probatoire relue passe dans le segment protégé.
+     */
+    private synchronized Entree lire(String cle) {
+        long maintenant = horloge.getAsLong();
+        Entree entree = protegees.get(cle);
+        if (entree != null) {
+            if (maintenant - entree.expiration < 0) {
+                return entree;
+            }
+            protegees.remove(cle);
+            octetsProteges -= entree.taille;
+            return null;
+        }
+
+        entree = probatoires.remove(cle);
+        if (entree == null) {
+            return null;
+        }
+        octetsProbatoires -= entree.taille;
+        if (maintenant - entree.expiration >= 0) {
+            return null;
+        }
+        protegees.put(cle, entree);
+        octetsProteges += entree.taille;
+        retrograder();
+        return entree;
+    }
+
+    private synchronized void memoriser(String cle, Entree entree, long jeton) {
+        // Les invalidations prennent le même verrou : le jeton ne peut pas changer pendant l'ajout
+        if (generation.get() != jeton || entree.taille > properties.getOctetsMax()) {
+            return;
+        }
+        Entree ancienne = protegees.remove(cle);
+        if (ancienne != null) {
+            octetsProteges -= ancienne.taille;
+        }
+        ancienne = probatoires.remove(cle);
+        if (ancienne != null) {
+            octetsProbatoires -= ancienne.taille;
+        }
+        probatoires.put(cle, entree);
+        octetsProbatoires += entree.taille;
+        evincer();
+        stockees.increment();
+    }
+
+    /**
+     * Ramène le segment protégé dans sa part du budget ; ses entrées les moins
+     * récentes redeviennent probatoires.
+     */
+    private void retrograder() {
+        long octetsMax = (long) (properties.getOctetsMax() * PART_PROTEGEE);
+        int entreesMax = (int) (properties.getEntreesMax() * PART_PROTEGEE);
+        Iterator<Map.Entry<String, Entree>> anciennes = protegees.entrySet().iterator();
+        while ((octetsProteges > octetsMax || protegees.size() > entreesMax) && anciennes.hasNext()) {
+            Map.Entry<String, Entree> ancienne = anciennes.next();
+            anciennes.remove();
+            octetsProteges -= ancienne.getValue().taille;
+            probatoires.put(ancienne.getKey(), ancienne.getValue());
+            octetsProbatoires += ancienne.getValue().taille;
+        }
+        evincer();
+    }
+
+    /**
+     * Évince les entrées probatoires les moins récentes tant que le cache
+     * dépasse son budget, puis, à défaut, les entrées protégées.
+     */
+    private void evincer() {
+        while (octetsProbatoires + octetsProteges > properties.getOctetsMax()
+                || probatoires.size() + protegees.size() > properties.getEntreesMax()) {
+            LinkedHashMap<String, Entree> segment = probatoires.isEmpty() ? protegees : probatoires;
+            Iterator<Entree> anciennes = segment.values().iterator();
+            if (!anciennes.hasNext()) {
+                return;
+            }
+            Entree ancienne = anciennes.next();
+            anciennes.remove();
+            if (segment == probatoires) {
+                octetsProbatoires -= ancienne.taille;
+            } else {
+                octetsProteges -= ancienne.taille;
+            }
+            evictions.increment();
+        }
+    }
+
+    private boolean cachable(ContentCachingResponseWrapper capture) {
+        if (capture.getStatus() != HttpServletResponse.SC_OK
+                || capture.getContentSize() > properties.getTailleMaxReponse()
+                || capture.getHeader(HttpHeaders.CONTENT_ENCODING) != null
+                || capture.getHeader(HttpHeaders.SET_COOKIE) != null
+                || capture.getContentType() == null) {
+            return false;
+        }
+        String cacheControl = capture.getHeader(HttpHeaders.CACHE_CONTROL);
+        if (cacheControl != null && (cacheControl.contains("no-store") || cacheControl.contains("private"))) {
+            return false;
+        }
+        return MediaType.APPLICATION_JSON.isCompatibleWith(MediaType.parseMediaType(capture.getContentType()));
+    }
+
+    private Entree construire(ContentCachingResponseWrapper capture) throws IOException {
+        byte[] brut = capture.getContentAsByteArray();
+        byte[] compresse = null;
+        if (brut.length >= properties.getTailleMinCompression()) {
+            ByteArrayOutputStream tampon = new ByteArrayOutputStream(brut.length / 4 + 64);
+            try (GZIPOutputStream gzip = new GZIPOutputStream(tampon)) {
+                gzip.write(brut);
+            }
+            compresse = tampon.toByteArray();
+        }
+        return new Entree(brut, compresse, capture.getContentType(),
+                horloge.getAsLong() + properties.getDureeVie().toNanos());
+    }
+
+    private static void ecrire(HttpServletResponse response, Entree entree, boolean gzip, String statut)
+            throws IOException {
+        byte[] corps = gzip && entree.gzip != null ? entree.gzip : entree.brut;
+        response.setStatus(HttpServletResponse.SC_OK);
+        response.setContentType(entree.contentType);
+        if (corps == entree.gzip) {
+            response.setHeader(HttpHeaders.CONTENT_ENCODING, "gzip");
+        }
+        response.setHeader(HttpHeaders.VARY, VARY);
+        response.setHeader(ENTETE_CACHE, statut);
+        response.setContentLength(corps.length);
+        response.getOutputStream().write(corps);
+    }
+
+    private CheminCompile chemin(HttpServletRequest request) {
+        PathContainer chemin = PathContainer.parsePath(request.getRequestURI());
+        for (CheminCompile candidat : chemins) {
+            if (candidat.motif.matches(chemin)) {
+                return candidat;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Chemin, paramètres reconnus par l'endpoint triés par nom, et type de contenu négocié.
+     */
+    static String cle(HttpServletRequest request, CheminCompile chemin, String type) {
+        StringBuilder cle = new StringBuilder(request.getRequestURI());
+        char separateur = '?';
+        for (String nom : chemin.parametres) {
+            String[] valeurs = request.getParameterValues(nom);
+            if (valeurs == null) {
+                continue;
+            }
+            for (String valeur : valeurs) {
+                cle.append(separateur)
+                        .append(URLEncoder.encode(nom, StandardCharsets.UTF_8))
+                        .append('=')
+                        .append(URLEncoder.encode(valeur, StandardCharsets.UTF_8));
+                separateur = '&';
+            }
+        }
+        return cle.append(' ').append(type).toString();
+    }
+
+    /**
+     * Type de contenu que produira l'endpoint pour cet en-tête {@code Accept} :
+     * les endpoints mis en cache ne produisent que du JSON.
+     *
+     * @return {@code application/json}, ou null si le client ne l'accepte pas
+     */
+    static String negocier(String accept) {
+        if (accept == null || accept.isBlank()) {
+            return MediaType.APPLICATION_JSON_VALUE;
+        }
+        try {
+            for (MediaType type : MediaType.parseMediaTypes(accept)) {
+                if (type.getQualityValue() > 0 && type.isCompatibleWith(MediaType.APPLICATION_JSON)) {
+                    return MediaType.APPLICATION_JSON_VALUE;
+                }
+            }
+        } catch (InvalidMediaTypeException e) {
+            return null;
+        }
+        return null;
+    }
+
+    /**
+     * @return true si gzip, ou toute compression ({@code *}), est accepté avec un poids non nul
+     */
+    static boolean accepteGzip(String acceptEncoding) {
+        if (acceptEncoding == null) {
+            return false;
+        }
+        Boolean gzip = null;
+        boolean joker = false;
+        for (String element : acceptEncoding.split(",")) {
+            String[] parties = element.trim().split(";");
+            String codage = parties[0].trim().toLowerCase(Locale.ROOT);
+            boolean accepte = true;
+            for (int i = 1; i < parties.length; i++) {
+                String parametre = parties[i].trim();
+                if (parametre.startsWith("q=")) {
+                    try {
+                        accepte = Double.parseDouble(parametre.substring(2)) > 0;
+                    } catch (NumberFormatException e) {
+                        accepte = false;
+                    }
+                }
+            }
+            if ("gzip".equals(codage) || "x-gzip".equals(codage)) {
+                gzip = accepte;
+            } else if ("*".equals(codage)) {
+                joker = accepte;
+            }
+        }
+        return gzip != null ? gzip : joker;
+    }
+
+    private static boolean sansCache(HttpServletRequest request) {
+        String cacheControl = request.getHeader(HttpHeaders.CACHE_CONTROL);
+        return cacheControl != null && cacheControl.contains("no-cache");
+    }
+
+    @Override
+    public String getNomMetriques() {
+        return "responseCache";
+    }
+
+    @Override
+    public Map<String, Number> getMetriques() {
+        Map<String, Number> metriques = new LinkedHashMap<>();
+        synchronized (this) {
+            metriques.put("entrees", probatoires.size() + protegees.size());
+            metriques.put("entreesProtegees", protegees.size());
+            metriques.put("octets", octetsProbatoires + octetsProteges);
+        }
+        metriques.put("succes", succes.sum());
+        metriques.put("echecs", echecs.sum());
+        metriques.put("stockees", stockees.sum());
+        metriques.put("evictions", evictions.sum());
+        metriques.put("invalidations", invalidations.sum());
+        return metriques;
+    }
+
+    /**
+     * Endpoint mis en cache et ses paramètres reconnus, triés.
+     */
+    static final class CheminCompile {
+
+        private final PathPattern motif;
+        private final TreeSet<String> parametres;
+
+        CheminCompile(PathPattern motif, List<String> parametres) {
+            this.motif = motif;
+            this.parametres = new TreeSet<>(parametres);
+        }
+    }
+
+    /**
+     * Réponse conservée, dans ses deux variantes.
+     */
+    private static final class Entree {
+
+        private final byte[] brut;
+        private final byte[] gzip;
+        private final String contentType;
+        private final long expiration;
+        private final long taille;
+
+        Entree(byte[] brut, byte[] gzip, String contentType, long expiration) {
+            this.brut = brut;
+            this.gzip = gzip;
+            this.contentType = contentType;
+            this.expiration = expiration;
+            this.taille = brut.length + (gzip != null ? gzip.length : 0L);
+        }
+    }
+}
@@ -0,0 +1,167 @@
+package com.api.football.responsecache;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Paramètres du cache de réponses sérialisées.
+ *
+ * Préfixe : {@code football.response-cache}.
+ *
+ * @author API Football API Team
+ * @version 1.0.0
+ */
+@ConfigurationProperties(prefix = "football.response-cache")
+public class ResponseCacheProperties {
+
+    /**
+     * Active le cache de réponses.
+     */
+    private boolean enabled = true;
+
+    /**
+     * Endpoints GET mis en cache, avec les paramètres qu'ils reconnaissent.
+     */
+    private List<Chemin> chemins = new ArrayList<>(List.of(
+            new Chemin("/api/equipes", List.of("page", "size", "sortBy", "sortDirection",
+                    "minBudget", "maxBudget", "ids")),
+            new Chemin("/api/equipes/acronyme/{acronyme}", List.of())));
+
+    /**
+     * Nombre maximal de réponses conservées.
+     */
+    private int entreesMax = 1000;
+
+    /**
+     * Budget mémoire du cache, en octets (réponses brutes et compressées).
+     */
+    private long octetsMax = 32L << 20;
+
+    /**
+     * Taille maximale d'une réponse mise en cache, en octets avant compression.
+     */
+    private int tailleMaxReponse = 1 << 20;
+
+    /**
+     * Taille en deçà de laquelle une réponse n'est pas compressée.
+     */
+    private int tailleMinCompression = 256;
+
+    /**
+     * Durée de vie d'une réponse, filet de sécurité pour les écritures qui ne
+     * publient pas d'événement.
+     */
+    private Duration dureeVie = Duration.ofMinutes(5);
+
+    /**
+     * Endpoint mis en cache.
+     */
+    public static class Chemin {
+
+        /**
+         * Motif de chemin ({@code PathPattern}).
+         */
+        private String motif;
+
+        /**
+         * Paramètres de requête reconnus par l'endpoint ; seuls ceux-ci
+         * entrent dans la clé, les autres n'ont pas d'effet sur la réponse.
+         */
+        private List<String> parametres = new ArrayList<>();
+
+        public Chemin() {
+        }
+
+        public Chemin(String motif, List<String> parametres) {
+            this.motif = motif;
+            this.parametres = new ArrayList<>(parametres);
+        }
+
+        // Getters et Setters
+
+        public String getMotif() {
+            return motif;
+        }
+
+        public void setMotif(String motif) {
+            this.motif = motif;
+        }
+
+        public List<String> getParametres() {
+            return parametres;
+        }
+
+        public void setParametres(List<String> parametres) {
+            this.parametres = parametres;
+        }
+
+        @Override
+        public String toString() {
+            return "Chemin{" +
+                    "motif='" + motif + '\'' +
+                    ", parametres=" + parametres +
+                    '}';
+        }
+    }
+
+    // Getters et Setters
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public List<Chemin> getChemins() {
+        return chemins;
+    }
+
+    public void setChemins(List<Chemin> chemins) {
+        this.chemins = chemins;
+    }
+
+    public int getEntreesMax() {
+        return entreesMax;
+    }
+
+    public void setEntreesMax(int entreesMax) {
+        this.entreesMax = entreesMax;
+    }
+
+    public long getOctetsMax() {
+        return octetsMax;
+    }
+
+    public void setOctetsMax(long octetsMax) {
+        this.octetsMax = octetsMax;
+    }
+
+    public int getTailleMaxReponse() {
+        return tailleMaxReponse;
+    }
+
+    public void setTailleMaxReponse(int tailleMaxReponse) {
+        this.tailleMaxReponse = tailleMaxReponse;
+    }
+
+    public int getTailleMinCompression() {
+        return tailleMinCompression;
+    }
+
+    public void setTailleMinCompression(int tailleMinCompression) {
+        this.tailleMinCompression = tailleMinCompression;
+    }
+
+    public Duration getDureeVie() {
+        return dureeVie;
+    }
+
+    public void setDureeVie(Duration dureeVie) {
+        this.dureeVie = dureeVie;
+    }
+}
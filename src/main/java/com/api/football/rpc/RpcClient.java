@@ -0,0 +1,376 @@
+package com.api.football.rpc;
+
+import com.api.football.dto.EquipeDto;
+import com.api.football.dto.JoueurDto;
+import com.api.football.dto.SuggestionDto;
+import com.api.football.rpc.RpcProtocol.Methode;
+import com.api.football.rpc.RpcProtocol.Statut;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.net.Socket;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+
+/**
+ * Client du {@link RpcServer serveur RPC} pour les services internes.
+ *
+ * Une instance ouvre une connexion, partagée sans restriction entre
+ * threads : les appels simultanés y sont multiplexés. Chaque appel porte un
+ * délai transmis au serveur ; le client abandonne l'attente peu après et
+ * annule l'appel côté serveur.
+ *
+ * Les flux sont consommés par le thread appelant ; le crédit est rendu au
+ * serveur par moitié de fenêtre, à mesure que les messages sont traités.
+ *
+ * @author API Football API Team
+ * @version 1.0.0
+ */
+public class RpcClient implements AutoCloseable {
+
+    /** Marge laissée au serveur pour signaler lui-même un délai dépassé. */
+    private static final long MARGE_NANOS = TimeUnit.MILLISECONDS.toNanos(200);
+
+    /** Fin normale d'un flux, dans la file des messages reçus. */
+    private static final Object FIN_NORMALE = new Object();
+
+    private final Socket socket;
+    private final DataInputStream entree;
+    private final DataOutputStream sortie;
+    private final int fenetre;
+    private final AtomicInteger prochainAppel = new AtomicInteger();
+    private final Map<Integer, Reception> enCours = new ConcurrentHashMap<>();
+    private volatile boolean ferme;
+
+    /**
+     * Ouvre une connexion.
+     *
+     * @param hote l'hôte du serveur
+     * @param port le port RPC du serveur
+     * @param fenetre le crédit initial des flux, égal à {@link RpcProperties#getFenetre()} côté serveur
+     * @throws IOException si la connexion échoue
+     */
+    public RpcClient(String hote, int port, int fenetre) throws IOException {
+        this(hote, port, fenetre, null);
+    }
+
+    /**
+     * Ouvre une connexion authentifiée, nécessaire aux appels de modification.
+     *
+     * @param hote l'hôte du serveur
+     * @param port le port RPC du serveur
+     * @param fenetre le crédit initial des flux, égal à {@link RpcProperties#getFenetre()} côté serveur
+     * @param secret le secret partagé {@link RpcProperties#getSecret()}, ou null pour une connexion en lecture
+     * @throws IOException si la connexion échoue
+     * @throws RpcException {@link Statut#NON_AUTHENTIFIE} si le secret est refusé
+     */
+    public RpcClient(String hote, int port, int fenetre, String secret) throws IOException {
+        this.socket = new Socket(hote, port);
+        this.socket.setTcpNoDelay(true);
+        this.entree = new DataInputStream(new BufferedInputStream(socket.getInputStream(), 1 << 16));
+        this.sortie = new DataOutputStream(new BufferedOutputStream(socket.getOutputStream(), 1 << 16));
+        this.fenetre = Math.max(1, fenetre);
+
+        Thread lecteur = new Thread(this::lire, "rpc-client-" + port);
+        lecteur.setDaemon(true);
+        lecteur.start();
+
+        if (secret != null) {
+            try {
+                authentifier(secret);
+            } catch (RpcException e) {
+                close();
+                throw e;
+            }
+        }
+    }
+
+    /**
+     * Présente le secret sur l'appel 0, réservé aux trames de connexion.
+     */
+    private void authentifier(String secret) {
+        CompletableFuture<RpcException> resultat = new CompletableFuture<>();
+        enCours.put(0, (type, corps) -> {
+            Statut statut = Statut.deCode(corps[0]);
+            resultat.complete(statut == Statut.OK ? null : echec(statut, corps));
+        });
+        try {
+            envoyer(RpcProtocol.AUTHENTIFICATION, 0, corps -> corps.writeUTF(secret));
+            RpcException echec = resultat.get(10, TimeUnit.SECONDS);
+            if (echec != null) {
+                throw echec;
+            }
+        } catch (ExecutionException | TimeoutException e) {
+            throw new RpcException(Statut.INDISPONIBLE, "Pas de réponse à l'authentification");
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RpcException(Statut.ANNULE, "Attente interrompue");
+        } finally {
+            enCours.remove(0);
+        }
+    }
+
+    public EquipeDto getEquipe(long id, Duration delai) {
+        return appeler(Methode.GET_EQUIPE, delai, arguments -> arguments.writeLong(id), RpcCodec::lireEquipe);
+    }
+
+    public JoueurDto getJoueur(long id, Duration delai) {
+        return appeler(Methode.GET_JOUEUR, delai, arguments -> arguments.writeLong(id), RpcCodec::lireJoueur);
+    }
+
+    /**
+     * Transfère un joueur ; la connexion doit être authentifiée.
+     *
+     * @throws RpcException {@link Statut#INTROUVABLE} si le joueur ou l'équipe n'existe pas,
+     *                      {@link Statut#CONFLIT} si l'effectif est complet,
+     *                      {@link Statut#NON_AUTHENTIFIE} sans secret valide
+     */
+    public JoueurDto transferer(long joueurId, long equipeId, Duration delai) {
+        return appeler(Methode.TRANSFER, delai, arguments -> {
+            arguments.writeLong(joueurId);
+            arguments.writeLong(equipeId);
+        }, RpcCodec::lireJoueur);
+    }
+
+    /**
+     * Recherche des joueurs et des équipes par début de nom ou par acronyme.
+     *
+     * @param type {@code EQUIPE}, {@code JOUEUR}, ou null pour les deux
+     */
+    public List<SuggestionDto> rechercher(String saisie, int limite, String type, Duration delai) {
+        return appeler(Methode.SEARCH, delai, arguments -> {
+            arguments.writeUTF(saisie);
+            arguments.writeInt(limite);
+            RpcCodec.ecrireTexte(arguments, type);
+        }, reponse -> {
+            int nombre = reponse.readInt();
+            List<SuggestionDto> suggestions = new ArrayList<>(nombre);
+            for (int i = 0; i < nombre; i++) {
+                suggestions.add(RpcCodec.lireSuggestion(reponse));
+            }
+            return suggestions;
+        });
+    }
+
+    /**
+     * Reçoit toutes les équipes en flux.
+     *
+     * @return le nombre d'équipes reçues
+     */
+    public long listerEquipes(Duration delai, Consumer<EquipeDto> consommateur) {
+        return diffuser(Methode.LIST_EQUIPES, delai, arguments -> {
+        }, RpcCodec::lireEquipe, consommateur);
+    }
+
+    /**
+     * Reçoit en flux les joueurs, éventuellement filtrés.
+     *
+     * @param equipeId filtre par équipe, ou null
+     * @param position filtre par position, ou null
+     * @return le nombre de joueurs reçus
+     */
+    public long listerJoueurs(Long equipeId, String position, Duration delai, Consumer<JoueurDto> consommateur) {
+        return diffuser(Methode.LIST_JOUEURS, delai, arguments -> {
+            RpcCodec.ecrireLong(arguments, equipeId);
+            RpcCodec.ecrireTexte(arguments, position);
+        }, RpcCodec::lireJoueur, consommateur);
+    }
+
+    private <T> T appeler(Methode methode, Duration delai, Arguments arguments, Decodeur<T> decodeur) {
+        int id = prochainAppel.incrementAndGet();
+        CompletableFuture<byte[]> reponse = new CompletableFuture<>();
+        enCours.put(id, (type, corps) -> {
+            Statut statut = Statut.deCode(corps[0]);
+            if (statut == Statut.OK) {
+                reponse.complete(corps);
+            } else {
+                reponse.completeExceptionally(echec(statut, corps));
+            }
+        });
+        try {
+            envoyerAppel(id, methode, delai, arguments);
+            byte[] corps = reponse.get(delai.toNanos() + MARGE_NANOS, TimeUnit.NANOSECONDS);
+            DataInputStream valeur = new DataInputStream(new ByteArrayInputStream(corps, 1, corps.length - 1));
+            return decodeur.decoder(valeur);
+        } catch (ExecutionException e) {
+            throw (RpcException) e.getCause();
+        } catch (TimeoutException e) {
+            annuler(id);
+            throw new RpcException(Statut.DELAI_DEPASSE, "Pas de réponse à " + methode + " dans le délai");
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            annuler(id);
+            throw new RpcException(Statut.ANNULE, "Attente interrompue");
+        } catch (IOException e) {
+            throw new RpcException(Statut.INTERNE, "Réponse illisible à " + methode);
+        } finally {
+            enCours.remove(id);
+        }
+    }
+
+    private <T> long diffuser(Methode methode, Duration delai, Arguments arguments, Decodeur<T> decodeur,
+                              Consumer<T> consommateur) {
+        int id = prochainAppel.incrementAndGet();
+        BlockingQueue<Object> recus = new LinkedBlockingQueue<>();
+        enCours.put(id, (type, corps) -> {
+            if (type == RpcProtocol.MESSAGE) {
+                recus.add(corps);
+            } else {
+                Statut statut = Statut.deCode(corps[0]);
+                recus.add(statut == Statut.OK ? FIN_NORMALE : echec(statut, corps));
+            }
+        });
+        long echeance = System.nanoTime() + delai.toNanos() + MARGE_NANOS;
+        long nombre = 0;
+        int aRendre = 0;
+        try {
+            envoyerAppel(id, methode, delai, arguments);
+            while (true) {
+                Object recu = recus.poll(echeance - System.nanoTime(), TimeUnit.NANOSECONDS);
+                if (recu == null) {
+                    annuler(id);
+                    throw new RpcException(Statut.DELAI_DEPASSE, "Flux " + methode + " non terminé dans le délai");
+                }
+                if (recu == FIN_NORMALE) {
+                    return nombre;
+                }
+                if (recu instanceof RpcException echec) {
+                    throw echec;
+                }
+                consommateur.accept(decodeur.decoder(new DataInputStream(new ByteArrayInputStream((byte[]) recu))));
+                nombre++;
+                // Le crédit est rendu une fois le message traité : un consommateur lent freine le serveur
+                if (++aRendre >= Math.max(1, fenetre / 2)) {
+                    int credit = aRendre;
+                    envoyer(RpcProtocol.CREDIT, id, corps -> corps.writeInt(credit));
+                    aRendre = 0;
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            annuler(id);
+            throw new RpcException(Statut.ANNULE, "Attente interrompue");
+        } catch (IOException e) {
+            annuler(id);
+            throw new RpcException(Statut.INTERNE, "Message illisible dans le flux " + methode);
+        } catch (RuntimeException e) {
+            if (!(e instanceof RpcException)) {
+                annuler(id);
+            }
+            throw e;
+        } finally {
+            enCours.remove(id);
+        }
+    }
+
+    private void envoyerAppel(int id, Methode methode, Duration delai, Arguments arguments) {
+        long delaiMs = Math.max(1, Math.min(Integer.MAX_VALUE, delai.toMillis()));
+        envoyer(RpcProtocol.APPEL, id, corps -> {
+            corps.writeByte(methode.getCode());
+            corps.writeInt((int) delaiMs);
+            arguments.ecrire(corps);
+        });
+    }
+
+    private void annuler(int id) {
+        if (!ferme) {
+            envoyer(RpcProtocol.ANNULATION, id, corps -> {
+            });
+        }
+    }
+
+    private void envoyer(byte type, int id, Arguments corps) {
+        ByteArrayOutputStream tampon = new ByteArrayOutputStream(64);
+        try {
+            corps.ecrire(new DataOutputStream(tampon));
+            synchronized (sortie) {
+                sortie.writeInt(RpcProtocol.ENTETE + tampon.size());
+                sortie.writeByte(type);
+                sortie.writeInt(id);
+                tampon.writeTo(sortie);
+                sortie.flush();
+            }
+        } catch (IOException e) {
+            throw new RpcException(Statut.INDISPONIBLE, "Connexion RPC perdue: " + e.getMessage());
+        }
+    }
+
+    private void lire() {
+        try {
+            while (true) {
+                int longueur = entree.readInt();
+                byte type = entree.readByte();
+                int id = entree.readInt();
+                byte[] corps = new byte[longueur - RpcProtocol.ENTETE];
+                entree.readFully(corps);
+                Reception reception = enCours.get(id);
+                if (reception != null) {
+                    reception.recevoir(type, corps);
+                }
+            }
+        } catch (IOException e) {
+            // Les appels en attente échouent au lieu d'attendre leur délai
+            ferme = true;
+            byte[] indisponible = {(byte) Statut.INDISPONIBLE.getCode()};
+            enCours.values().forEach(reception -> reception.recevoir(RpcProtocol.FIN, indisponible));
+        }
+    }
+
+    private static RpcException echec(Statut statut, byte[] corps) {
+        String message = statut.name();
+        if (corps.length > 1) {
+            try {
+                message = new DataInputStream(new ByteArrayInputStream(corps, 1, corps.length - 1)).readUTF();
+            } catch (IOException e) {
+                // Pas de description lisible : le nom du statut en tient lieu
+            }
+        }
+        return new RpcException(statut, message);
+    }
+
+    @Override
+    public void close() throws IOException {
+        ferme = true;
+        socket.close();
+    }
+
+    /**
+     * Écrit les arguments d'un appel.
+     */
+    @FunctionalInterface
+    private interface Arguments {
+        void ecrire(DataOutputStream sortie) throws IOException;
+    }
+
+    /**
+     * Décode une réponse ou un message.
+     */
+    @FunctionalInterface
+    private interface Decodeur<T> {
+        T decoder(DataInputStream entree) throws IOException;
+    }
+
+    /**
+     * Reçoit les trames d'un appel.
+     */
+    @FunctionalInterface
+    private interface Reception {
+        void recevoir(byte type, byte[] corps);
+    }
+}
@@ -0,0 +1,132 @@
+package com.api.football.rpc;
+
+import com.api.football.dto.EquipeDto;
+import com.api.football.dto.JoueurDto;
+import com.api.football.dto.SuggestionDto;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Encodage binaire des messages RPC, calqué sur les DTO de l'API REST.
+ *
+ * Un champ facultatif est précédé d'un octet de présence (0 ou 1).
+ *
+ * <pre>
+ * Joueur     := id:i64 nom:utf position:utf equipeId:i64? equipeNom:utf?
+ * Equipe     := id:i64 nom:utf acronyme:utf budget:decimal? joueurs:i32 Joueur*   (joueurs -1 = absents)
+ * Suggestion := type:utf id:i64 libelle:utf acronyme:utf? score:i64
+ * decimal    := echelle:i32 longueur:u16 valeur non mise à l'échelle (complément à deux)
+ * </pre>
+ *
+ * @author API Football API Team
+ * @version 1.0.0
+ */
+final class RpcCodec {
+
+    private RpcCodec() {
+    }
+
+    static void ecrireJoueur(DataOutput sortie, JoueurDto joueur) throws IOException {
+        sortie.writeLong(joueur.getId());
+        sortie.writeUTF(joueur.getNom());
+        sortie.writeUTF(joueur.getPosition());
+        ecrireLong(sortie, joueur.getEquipeId());
+        ecrireTexte(sortie, joueur.getEquipeNom());
+    }
+
+    static JoueurDto lireJoueur(DataInput entree) throws IOException {
+        return new JoueurDto(entree.readLong(), entree.readUTF(), entree.readUTF(), lireLong(entree), lireTexte(entree));
+    }
+
+    static void ecrireEquipe(DataOutput sortie, EquipeDto equipe) throws IOException {
+        sortie.writeLong(equipe.getId());
+        sortie.writeUTF(equipe.getNom());
+        sortie.writeUTF(equipe.getAcronyme());
+        ecrireDecimal(sortie, equipe.getBudget());
+        List<JoueurDto> joueurs = equipe.getJoueurs();
+        sortie.writeInt(joueurs == null ? -1 : joueurs.size());
+        if (joueurs != null) {
+            for (JoueurDto joueur : joueurs) {
+                ecrireJoueur(sortie, joueur);
+            }
+        }
+    }
+
+    static EquipeDto lireEquipe(DataInput entree) throws IOException {
+        EquipeDto equipe = new EquipeDto();
+        equipe.setId(entree.readLong());
+        equipe.setNom(entree.readUTF());
+        equipe.setAcronyme(entree.readUTF());
+        equipe.setBudget(lireDecimal(entree));
+        int nombre = entree.readInt();
+        if (nombre >= 0) {
+            List<JoueurDto> joueurs = new ArrayList<>(nombre);
+            for (int i = 0; i < nombre; i++) {
+                joueurs.add(lireJoueur(entree));
+            }
+            equipe.setJoueurs(joueurs);
+        }
+        return equipe;
+    }
+
+    static void ecrireSuggestion(DataOutput sortie, SuggestionDto suggestion) throws IOException {
+        sortie.writeUTF(suggestion.getType());
+        sortie.writeLong(suggestion.getId());
+        sortie.writeUTF(suggestion.getLibelle());
+        ecrireTexte(sortie, suggestion.getAcronyme());
+        sortie.writeLong(suggestion.getScore());
+    }
+
+    static SuggestionDto lireSuggestion(DataInput entree) throws IOException {
+        return new SuggestionDto(entree.readUTF(), entree.readLong(), entree.readUTF(), lireTexte(entree),
+                entree.readLong());
+    }
+
+    static void ecrireLong(DataOutput sortie, Long valeur) throws IOException {
+        sortie.writeBoolean(valeur != null);
+        if (valeur != null) {
+            sortie.writeLong(valeur);
+        }
+    }
+
+    static Long lireLong(DataInput entree) throws IOException {
+        return entree.readBoolean() ? entree.readLong() : null;
+    }
+
+    static void ecrireTexte(DataOutput sortie, String valeur) throws IOException {
+        sortie.writeBoolean(valeur != null);
+        if (valeur != null) {
+            sortie.writeUTF(valeur);
+        }
+    }
+
+    static String lireTexte(DataInput entree) throws IOException {
+        return entree.readBoolean() ? entree.readUTF() : null;
+    }
+
+    private static void ecrireDecimal(DataOutput sortie, BigDecimal valeur) throws IOException {
+        sortie.writeBoolean(valeur != null);
+        if (valeur != null) {
+            byte[] octets = valeur.unscaledValue().toByteArray();
+            sortie.writeInt(valeur.scale());
+            sortie.writeShort(octets.length);
+            sortie.write(octets);
+        }
+    }
+
+    private static BigDecimal lireDecimal(DataInput entree) throws IOException {
+        if (!entree.readBoolean()) {
+            return null;
+        }
+        int echelle = entree.readInt();
+        byte[] octets = new byte[entree.readUnsignedShort()];
+        entree.readFully(octets);
+        return new BigDecimal(new BigInteger(octets), echelle);
+    }
+}
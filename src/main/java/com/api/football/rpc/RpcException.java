@@ -0,0 +1,23 @@
+package com.api.football.rpc;
+
+import com.api.football.rpc.RpcProtocol.Statut;
+
+/**
+ * Échec d'un appel RPC, avec son statut.
+ *
+ * @author API Football API Team
+ * @version 1.0.0
+ */
+public class RpcException extends RuntimeException {
+
+    private final Statut statut;
+
+    public RpcException(Statut statut, String message) {
+        super(message);
+        this.statut = statut;
+    }
+
+    public Statut getStatut() {
+        return statut;
+    }
+}
@@ -0,0 +1,149 @@
+package com.api.football.rpc;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Paramètres du service RPC interne.
+ *
+ * Préfixe : {@code football.rpc}.
+ *
+ * @author API Football API Team
+ * @version 1.0.0
+ */
+@ConfigurationProperties(prefix = "football.rpc")
+public class RpcProperties {
+
+    /**
+     * Démarre le serveur RPC.
+     */
+    private boolean enabled = false;
+
+    /**
+     * Adresse d'écoute ; la boucle locale par défaut, à ouvrir explicitement
+     * au réseau interne.
+     */
+    private String adresse = "127.0.0.1";
+
+    /**
+     * Port d'écoute, distinct du port HTTP (0 = port libre choisi par le système).
+     */
+    private int port = 9090;
+
+    /**
+     * Secret partagé exigé avant tout appel de modification ; vide, les
+     * appels de modification sont refusés.
+     */
+    private String secret = "";
+
+    /**
+     * Nombre maximal de connexions simultanées ; chacune occupe un thread de lecture.
+     */
+    private int maxConnexions = 64;
+
+    /**
+     * Nombre de threads exécutant les appels.
+     */
+    private int threads = 16;
+
+    /**
+     * Nombre d'appels en attente d'un thread au-delà duquel les nouveaux sont refusés.
+     */
+    private int fileAttente = 1024;
+
+    /**
+     * Crédit initial d'un flux serveur, en messages.
+     */
+    private int fenetre = 256;
+
+    /**
+     * Nombre d'éléments lus par page de service pour alimenter un flux.
+     */
+    private int taillePage = 500;
+
+    /**
+     * Taille maximale d'une trame reçue, en octets.
+     */
+    private int tailleMaxTrame = 1 << 20;
+
+    // Getters et Setters
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public String getAdresse() {
+        return adresse;
+    }
+
+    public void setAdresse(String adresse) {
+        this.adresse = adresse;
+    }
+
+    public int getPort() {
+        return port;
+    }
+
+    public void setPort(int port) {
+        this.port = port;
+    }
+
+    public String getSecret() {
+        return secret;
+    }
+
+    public void setSecret(String secret) {
+        this.secret = secret;
+    }
+
+    public int getMaxConnexions() {
+        return maxConnexions;
+    }
+
+    public void setMaxConnexions(int maxConnexions) {
+        this.maxConnexions = maxConnexions;
+    }
+
+    public int getThreads() {
+        return threads;
+    }
+
+    public void setThreads(int threads) {
+        this.threads = threads;
+    }
+
+    public int getFileAttente() {
+        return fileAttente;
+    }
+
+    public void setFileAttente(int fileAttente) {
+        this.fileAttente = fileAttente;
+    }
+
+    public int getFenetre() {
+        return fenetre;
+    }
+
+    public void setFenetre(int fenetre) {
+        this.fenetre = fenetre;
+    }
+
+    public int getTaillePage() {
+        return taillePage;
+    }
+
+    public void setTaillePage(int taillePage) {
+        this.taillePage = taillePage;
+    }
+
+    public int getTailleMaxTrame() {
+        return tailleMaxTrame;
+    }
+
+    public void setTailleMaxTrame(int tailleMaxTrame) {
+        this.tailleMaxTrame = tailleMaxTrame;
+    }
+}
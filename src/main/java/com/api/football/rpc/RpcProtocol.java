@@ -0,0 +1,145 @@
+package com.api.football.rpc;
+
+/**
+ * Protocole binaire du service RPC interne.
+ *
+ * Une connexion TCP porte plusieurs appels simultanés, chacun identifié par
+ * un numéro choisi par le client. Tous les entiers sont big-endian
+ * ({@link java.io.DataOutput}) ; les chaînes sont en UTF modifié
+ * ({@link java.io.DataOutput#writeUTF(String)}).
+ *
+ * <pre>
+ * trame      := longueur:i32 type:u8 appel:i32 corps    (longueur = octets après ce champ)
+ * APPEL      := methode:u8 delaiMs:i32 arguments        (delaiMs 0 = sans échéance)
+ * REPONSE    := OK:u8 message | statut:u8 description:utf
+ * MESSAGE    := message                                 (un élément d'un flux serveur)
+ * FIN        := OK:u8 | statut:u8 description:utf       (fin d'un flux serveur)
+ * CREDIT     := messages:i32                            (client → serveur)
+ * ANNULATION := vide                                    (client → serveur)
+ * AUTHENTIFICATION := secret:utf                        (client → serveur, appel 0, réponse REPONSE)
+ * </pre>
+ *
+ * Les méthodes de modification ({@link Methode#isModification()}) exigent
+ * une connexion authentifiée par le secret partagé
+ * {@link RpcProperties#getSecret()} ; un secret erroné ferme la connexion.
+ *
+ * La description complète et indépendante du langage (trames, méthodes,
+ * messages, statuts) est publiée dans {@code rpc/football-rpc.idl}.
+ *
+ * Les messages reprennent les DTO de l'API REST (voir {@link RpcCodec}).
+ *
+ * Contrôle de flux : un flux serveur démarre avec
+ * {@link RpcProperties#getFenetre()} messages de crédit ; le serveur
+ * n'envoie plus rien quand le crédit est épuisé, jusqu'à la trame CREDIT
+ * suivante. Un client lent ne fait donc pas grossir les tampons du serveur.
+ *
+ * Échéance : le délai de l'appel court depuis sa réception. Un appel
+ * dépassé n'est pas commencé, et un flux dépassé s'arrête au message suivant,
+ * avec le statut {@link Statut#DELAI_DEPASSE}.
+ *
+ * @author API Football API Team
+ * @version 1.0.0
+ */
+public final class RpcProtocol {
+
+    static final byte APPEL = 1;
+    static final byte REPONSE = 2;
+    static final byte MESSAGE = 3;
+    static final byte FIN = 4;
+    static final byte CREDIT = 5;
+    static final byte ANNULATION = 6;
+    static final byte AUTHENTIFICATION = 7;
+
+    /** Taille de l'en-tête d'une trame après le champ longueur : type et numéro d'appel. */
+    static final int ENTETE = 5;
+
+    private RpcProtocol() {
+    }
+
+    /**
+     * Méthodes du service.
+     */
+    public enum Methode {
+        /** Équipe par identifiant : {@code id:i64 → Equipe}. */
+        GET_EQUIPE(1),
+        /** Joueur par identifiant : {@code id:i64 → Joueur}. */
+        GET_JOUEUR(2),
+        /** Toutes les équipes, en flux : {@code → Equipe*}. */
+        LIST_EQUIPES(3),
+        /** Joueurs filtrés, en flux : {@code equipeId:i64? position:utf? → Joueur*}. */
+        LIST_JOUEURS(4),
+        /** Suggestions : {@code saisie:utf limite:i32 type:utf? → nombre:i32 Suggestion*}. */
+        SEARCH(5),
+        /** Transfert : {@code joueurId:i64 equipeId:i64 → Joueur}. */
+        TRANSFER(6);
+
+        private final int code;
+
+        Methode(int code) {
+            this.code = code;
+        }
+
+        int getCode() {
+            return code;
+        }
+
+        /**
+         * @return true si la méthode répond par un flux de messages
+         */
+        boolean isFlux() {
+            return this == LIST_EQUIPES || this == LIST_JOUEURS;
+        }
+
+        /**
+         * @return true si la méthode modifie les données et exige une connexion authentifiée
+         */
+        boolean isModification() {
+            return this == TRANSFER;
+        }
+
+        static Methode deCode(int code) {
+            for (Methode methode : values()) {
+                if (methode.code == code) {
+                    return methode;
+                }
+            }
+            return null;
+        }
+    }
+
+    /**
+     * Statuts d'un appel ; les codes sont ceux de gRPC.
+     */
+    public enum Statut {
+        OK(0),
+        ANNULE(1),
+        INVALIDE(3),
+        DELAI_DEPASSE(4),
+        INTROUVABLE(5),
+        RESSOURCES_EPUISEES(8),
+        CONFLIT(10),
+        NON_IMPLEMENTE(12),
+        INTERNE(13),
+        INDISPONIBLE(14),
+        NON_AUTHENTIFIE(16);
+
+        private final int code;
+
+        Statut(int code) {
+            this.code = code;
+        }
+
+        public int getCode() {
+            return code;
+        }
+
+        static Statut deCode(int code) {
+            for (Statut statut : values()) {
+                if (statut.code == code) {
+                    return statut;
+                }
+            }
+            return INTERNE;
+        }
+    }
+}
@@ -0,0 +1,544 @@
+package com.api.football.rpc;
+
+import com.api.football.dto.EquipeDto;
+import com.api.football.dto.JoueurDto;
+import com.api.football.dto.SuggestionDto;
+import com.api.football.effectif.ConflitEffectifException;
+import com.api.football.metrics.MetricsSource;
+import com.api.football.rpc.RpcProtocol.Methode;
+import com.api.football.rpc.RpcProtocol.Statut;
+import com.api.football.service.EquipeService;
+import com.api.football.service.JoueurService;
+import com.api.football.suggest.Suggestion;
+import com.api.football.suggest.SuggestionIndex;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Page;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.IntFunction;
+
+/**
+ * Serveur RPC interne : expose {@link EquipeService}, {@link JoueurService}
+ * et les suggestions sur un port TCP dédié, selon le {@link RpcProtocol}.
+ *
+ * Destiné aux services internes qui appellent l'API en volume : une
+ * connexion persistante porte des appels simultanés, sans en-têtes HTTP ni
+ * analyse JSON. Chaque connexion a son thread de lecture, et leur nombre est
+ * plafonné ; les appels sont exécutés par un pool borné, et refusés avec
+ * {@link Statut#RESSOURCES_EPUISEES} quand sa file est pleine.
+ *
+ * Le serveur écoute sur la boucle locale sauf configuration contraire, et
+ * n'exécute les appels de modification que sur une connexion authentifiée
+ * par le secret partagé.
+ *
+ * @author API Football API Team
+ * @version 1.0.0
+ */
+@Component
+public class RpcServer implements MetricsSource {
+
+    private static final Logger logger = LoggerFactory.getLogger(RpcServer.class);
+
+    @Autowired
+    private EquipeService equipeService;
+
+    @Autowired
+    private JoueurService joueurService;
+
+    @Autowired
+    private SuggestionIndex suggestionIndex;
+
+    @Autowired
+    private RpcProperties rpcProperties;
+
+    private volatile ServerSocket serveur;
+    private ThreadPoolExecutor executeur;
+    private final Set<Connexion> connexions = ConcurrentHashMap.newKeySet();
+    private final AtomicInteger numeroConnexion = new AtomicInteger();
+
+    private final LongAdder appelsRecus = new LongAdder();
+    private final LongAdder refus = new LongAdder();
+    private final LongAdder connexionsRefusees = new LongAdder();
+    private final LongAdder authentificationsRefusees = new LongAdder();
+    private final LongAdder delaisDepasses = new LongAdder();
+    private final LongAdder erreurs = new LongAdder();
+    private final LongAdder messagesFlux = new LongAdder();
+
+    @PostConstruct
+    void demarrer() {
+        if (!rpcProperties.isEnabled()) {
+            return;
+        }
+        AtomicInteger numeroThread = new AtomicInteger();
+        executeur = new ThreadPoolExecutor(rpcProperties.getThreads(), rpcProperties.getThreads(),
+                0, TimeUnit.MILLISECONDS, new ArrayBlockingQueue<>(rpcProperties.getFileAttente()),
+                runnable -> demon(runnable, "rpc-appel-" + numeroThread.incrementAndGet()));
+        try {
+            serveur = new ServerSocket(rpcProperties.getPort(), 50, InetAddress.getByName(rpcProperties.getAdresse()));
+        } catch (IOException e) {
+            executeur.shutdownNow();
+            throw new IllegalStateException("Échec du démarrage du serveur RPC sur " + rpcProperties.getAdresse()
+                    + ":" + rpcProperties.getPort(), e);
+        }
+        demon(this::accepter, "rpc-accepteur").start();
+        if (rpcProperties.getSecret() == null || rpcProperties.getSecret().isEmpty()) {
+            logger.warn("Aucun secret RPC configuré : les appels de modification seront refusés");
+        }
+        logger.info("Serveur RPC à l'écoute sur {}:{}", serveur.getInetAddress().getHostAddress(),
+                serveur.getLocalPort());
+    }
+
+    /**
+     * @return le port d'écoute, ou -1 si le serveur n'est pas démarré
+     */
+    public int getPort() {
+        ServerSocket courant = serveur;
+        return courant == null ? -1 : courant.getLocalPort();
+    }
+
+    /**
+     * @return l'adresse d'écoute, ou null si le serveur n'est pas démarré
+     */
+    public InetAddress getAdresse() {
+        ServerSocket courant = serveur;
+        return courant == null ? null : courant.getInetAddress();
+    }
+
+    private void accepter() {
+        while (!serveur.isClosed()) {
+            try {
+                Socket socket = serveur.accept();
+                if (connexions.size() >= rpcProperties.getMaxConnexions()) {
+                    connexionsRefusees.increment();
+                    logger.warn("Connexion RPC refusée de {} : {} connexions ouvertes",
+                            socket.getRemoteSocketAddress(), connexions.size());
+                    socket.close();
+                    continue;
+                }
+                socket.setTcpNoDelay(true);
+                Connexion connexion = new Connexion(socket);
+                connexions.add(connexion);
+                demon(connexion::lire, "rpc-connexion-" + numeroConnexion.incrementAndGet()).start();
+            } catch (IOException e) {
+                if (!serveur.isClosed()) {
+                    logger.warn("Erreur à l'acceptation d'une connexion RPC", e);
+                }
+            }
+        }
+    }
+
+    private void executer(Connexion connexion, Appel appel) {
+        try {
+            if (appel.methode == null) {
+                throw new RpcException(Statut.NON_IMPLEMENTE, "Méthode inconnue");
+            }
+            if (appel.methode.isModification() && !connexion.authentifiee) {
+                throw new RpcException(Statut.NON_AUTHENTIFIE,
+                        "La méthode " + appel.methode + " exige une connexion authentifiée");
+            }
+            verifier(appel);
+            DataInputStream arguments = new DataInputStream(new ByteArrayInputStream(appel.arguments));
+            int taillePage = Math.max(1, rpcProperties.getTaillePage());
+
+            switch (appel.methode) {
+                case GET_EQUIPE -> {
+                    long id = arguments.readLong();
+                    EquipeDto equipe = equipeService.getEquipeById(id).orElseThrow(
+                            () -> new RpcException(Statut.INTROUVABLE, "Équipe avec l'ID " + id + " non trouvée"));
+                    connexion.repondre(appel, sortie -> RpcCodec.ecrireEquipe(sortie, equipe));
+                }
+                case GET_JOUEUR -> {
+                    long id = arguments.readLong();
+                    JoueurDto joueur = joueurService.getJoueurById(id).orElseThrow(
+                            () -> new RpcException(Statut.INTROUVABLE, "Joueur avec l'ID " + id + " non trouvé"));
+                    connexion.repondre(appel, sortie -> RpcCodec.ecrireJoueur(sortie, joueur));
+                }
+                case LIST_EQUIPES -> diffuser(connexion, appel,
+                        page -> equipeService.getAllEquipes(page, taillePage, "nom", "asc"), RpcCodec::ecrireEquipe);
+                case LIST_JOUEURS -> {
+                    Long equipeId = RpcCodec.lireLong(arguments);
+                    String position = RpcCodec.lireTexte(arguments);
+                    diffuser(connexion, appel, page -> joueurService.getAllJoueurs(page, taillePage, "nom", "asc",
+                            equipeId, position), RpcCodec::ecrireJoueur);
+                }
+                case SEARCH -> {
+                    String saisie = arguments.readUTF();
+                    int limite = arguments.readInt();
+                    String type = RpcCodec.lireTexte(arguments);
+                    if (limite <= 0) {
+                        throw new RpcException(Statut.INVALIDE, "Nombre de suggestions invalide: " + limite);
+                    }
+                    List<Suggestion> suggestions = suggestionIndex.suggerer(saisie, limite,
+                            type == null ? null : Suggestion.Type.valueOf(type));
+                    connexion.repondre(appel, sortie -> {
+                        sortie.writeInt(suggestions.size());
+                        for (Suggestion s : suggestions) {
+                            RpcCodec.ecrireSuggestion(sortie, new SuggestionDto(s.getType().name(), s.getId(),
+                                    s.getLibelle(), s.getAcronyme(), s.getScore()));
+                        }
+                    });
+                }
+                case TRANSFER -> {
+                    long joueurId = arguments.readLong();
+                    long equipeId = arguments.readLong();
+                    try {
+                        JoueurDto joueur = joueurService.transferJoueur(joueurId, equipeId);
+                        connexion.repondre(appel, sortie -> RpcCodec.ecrireJoueur(sortie, joueur));
+                    } catch (IllegalArgumentException e) {
+                        // Comme l'endpoint REST : joueur ou équipe inexistant
+                        throw new RpcException(Statut.INTROUVABLE, e.getMessage());
+                    }
+                }
+            }
+        } catch (RpcException e) {
+            terminer(connexion, appel, e.getStatut(), e.getMessage());
+        } catch (ConflitEffectifException e) {
+            terminer(connexion, appel, Statut.CONFLIT, e.getMessage());
+        } catch (IllegalArgumentException e) {
+            terminer(connexion, appel, Statut.INVALIDE, e.getMessage());
+        } catch (IOException e) {
+            terminer(connexion, appel, Statut.INVALIDE, "Arguments invalides pour " + appel.methode);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            terminer(connexion, appel, Statut.INDISPONIBLE, "Arrêt du serveur");
+        } catch (RuntimeException e) {
+            logger.error("Erreur lors de l'appel RPC {} {}", appel.methode, appel.id, e);
+            erreurs.increment();
+            terminer(connexion, appel, Statut.INTERNE, "Une erreur inattendue s'est produite");
+        } finally {
+            connexion.appels.remove(appel.id);
+        }
+    }
+
+    /**
+     * Envoie les éléments d'une liste paginée en flux, page par page, sans
+     * dépasser le crédit accordé par le client.
+     */
+    private <T> void diffuser(Connexion connexion, Appel appel, IntFunction<Page<T>> pages, Encodeur<T> encodeur)
+            throws InterruptedException {
+        int numero = 0;
+        Page<T> page;
+        do {
+            verifier(appel);
+            page = pages.apply(numero++);
+            for (T element : page.getContent()) {
+                attendreCredit(connexion, appel);
+                connexion.envoyer(RpcProtocol.MESSAGE, appel.id, sortie -> encodeur.encoder(sortie, element), false);
+                messagesFlux.increment();
+            }
+        } while (page.hasNext());
+        connexion.envoyer(RpcProtocol.FIN, appel.id, sortie -> sortie.writeByte(Statut.OK.getCode()), true);
+    }
+
+    private void attendreCredit(Connexion connexion, Appel appel) throws InterruptedException {
+        if (!appel.credits.tryAcquire()) {
+            // Le client reçoit ce qui est en tampon avant que le serveur ne se bloque
+            connexion.vider();
+            long attente = appel.avecEcheance ? appel.echeance - System.nanoTime() : Long.MAX_VALUE;
+            if (!appel.credits.tryAcquire(Math.max(0, attente), TimeUnit.NANOSECONDS)) {
+                throw new RpcException(Statut.DELAI_DEPASSE, "Délai dépassé en attente de crédit");
+            }
+        }
+        verifier(appel);
+    }
+
+    private static void verifier(Appel appel) {
+        if (appel.annule) {
+            throw new RpcException(Statut.ANNULE, "Appel annulé par le client");
+        }
+        if (appel.expire()) {
+            throw new RpcException(Statut.DELAI_DEPASSE, "Délai de l'appel dépassé");
+        }
+    }
+
+    private void terminer(Connexion connexion, Appel appel, Statut statut, String message) {
+        if (statut == Statut.DELAI_DEPASSE) {
+            delaisDepasses.increment();
+        }
+        byte type = appel.methode != null && appel.methode.isFlux() ? RpcProtocol.FIN : RpcProtocol.REPONSE;
+        connexion.envoyer(type, appel.id, sortie -> {
+            sortie.writeByte(statut.getCode());
+            sortie.writeUTF(message == null ? "" : message);
+        }, true);
+    }
+
+    @PreDestroy
+    void arreter() {
+        if (serveur == null) {
+            return;
+        }
+        try {
+            serveur.close();
+        } catch (IOException e) {
+            logger.warn("Erreur à la fermeture du serveur RPC", e);
+        }
+        connexions.forEach(Connexion::fermer);
+        executeur.shutdownNow();
+    }
+
+    @Override
+    public String getNomMetriques() {
+        return "rpc";
+    }
+
+    @Override
+    public Map<String, Number> getMetriques() {
+        Map<String, Number> metriques = new LinkedHashMap<>();
+        metriques.put("connexions", connexions.size());
+        metriques.put("appels", appelsRecus.sum());
+        metriques.put("refus", refus.sum());
+        metriques.put("connexionsRefusees", connexionsRefusees.sum());
+        metriques.put("authentificationsRefusees", authentificationsRefusees.sum());
+        metriques.put("delaisDepasses", delaisDepasses.sum());
+        metriques.put("erreurs", erreurs.sum());
+        metriques.put("messagesFlux", messagesFlux.sum());
+        return metriques;
+    }
+
+    private static Thread demon(Runnable runnable, String nom) {
+        Thread thread = new Thread(runnable, nom);
+        thread.setDaemon(true);
+        return thread;
+    }
+
+    /**
+     * Écrit le corps d'une trame.
+     */
+    @FunctionalInterface
+    private interface Corps {
+        void ecrire(DataOutputStream sortie) throws IOException;
+    }
+
+    /**
+     * Encode un élément de flux.
+     */
+    @FunctionalInterface
+    private interface Encodeur<T> {
+        void encoder(DataOutputStream sortie, T element) throws IOException;
+    }
+
+    /**
+     * Appel en cours d'exécution.
+     */
+    private static final class Appel {
+
+        private final int id;
+        private final Methode methode;
+        private final boolean avecEcheance;
+        private final long echeance;
+        private final byte[] arguments;
+        private final Semaphore credits;
+        private volatile boolean annule;
+
+        Appel(int id, Methode methode, int delaiMs, byte[] arguments, int fenetre) {
+            this.id = id;
+            this.methode = methode;
+            this.avecEcheance = delaiMs > 0;
+            this.echeance = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(delaiMs);
+            this.arguments = arguments;
+            this.credits = new Semaphore(fenetre);
+        }
+
+        boolean expire() {
+            return avecEcheance && System.nanoTime() - echeance >= 0;
+        }
+
+        void annuler() {
+            annule = true;
+            // Débloque un flux en attente de crédit, qui constatera l'annulation
+            credits.release(1);
+        }
+    }
+
+    /**
+     * Connexion d'un client : lit les trames et porte ses appels en cours.
+     */
+    private final class Connexion {
+
+        private final Socket socket;
+        private final DataInputStream entree;
+        private final DataOutputStream sortie;
+        private final Map<Integer, Appel> appels = new ConcurrentHashMap<>();
+        private volatile boolean authentifiee;
+
+        Connexion(Socket socket) throws IOException {
+            this.socket = socket;
+            this.entree = new DataInputStream(new BufferedInputStream(socket.getInputStream(), 1 << 16));
+            this.sortie = new DataOutputStream(new BufferedOutputStream(socket.getOutputStream(), 1 << 16));
+        }
+
+        void lire() {
+            try {
+                while (true) {
+                    int longueur = entree.readInt();
+                    if (longueur < RpcProtocol.ENTETE || longueur > rpcProperties.getTailleMaxTrame()) {
+                        throw new IOException("Trame invalide de " + longueur + " octets");
+                    }
+                    byte type = entree.readByte();
+                    int id = entree.readInt();
+                    byte[] corps = new byte[longueur - RpcProtocol.ENTETE];
+                    entree.readFully(corps);
+
+                    switch (type) {
+                        case RpcProtocol.APPEL -> recevoir(id, corps);
+                        case RpcProtocol.CREDIT -> {
+                            Appel appel = appels.get(id);
+                            if (appel != null) {
+                                appel.credits.release(ByteBuffer.wrap(corps).getInt());
+                            }
+                        }
+                        case RpcProtocol.ANNULATION -> {
+                            Appel appel = appels.get(id);
+                            if (appel != null) {
+                                appel.annuler();
+                            }
+                        }
+                        case RpcProtocol.AUTHENTIFICATION -> {
+                            if (!authentifier(id, corps)) {
+                                return;
+                            }
+                        }
+                        default -> throw new IOException("Type de trame inattendu: " + type);
+                    }
+                }
+            } catch (EOFException e) {
+                // Fermeture de la connexion par le client
+            } catch (IOException | RuntimeException e) {
+                if (!socket.isClosed()) {
+                    logger.warn("Connexion RPC interrompue: {}", e.getMessage());
+                }
+            } finally {
+                fermer();
+            }
+        }
+
+        /**
+         * Vérifie le secret présenté ; en cas d'échec, répond puis ferme la connexion.
+         *
+         * @return true si la connexion est authentifiée
+         */
+        private boolean authentifier(int id, byte[] corps) throws IOException {
+            String secret = rpcProperties.getSecret();
+            String presente = new DataInputStream(new ByteArrayInputStream(corps)).readUTF();
+            if (secret != null && !secret.isEmpty() && MessageDigest.isEqual(
+                    secret.getBytes(StandardCharsets.UTF_8), presente.getBytes(StandardCharsets.UTF_8))) {
+                authentifiee = true;
+                envoyer(RpcProtocol.REPONSE, id, sortie -> sortie.writeByte(Statut.OK.getCode()), true);
+                return true;
+            }
+            authentificationsRefusees.increment();
+            logger.warn("Authentification RPC refusée pour {}", socket.getRemoteSocketAddress());
+            envoyer(RpcProtocol.REPONSE, id, sortie -> {
+                sortie.writeByte(Statut.NON_AUTHENTIFIE.getCode());
+                sortie.writeUTF("Secret invalide");
+            }, true);
+            return false;
+        }
+
+        private void recevoir(int id, byte[] corps) throws IOException {
+            if (corps.length < 5) {
+                throw new IOException("Appel tronqué");
+            }
+            ByteBuffer tampon = ByteBuffer.wrap(corps);
+            Methode methode = Methode.deCode(tampon.get() & 0xFF);
+            int delaiMs = tampon.getInt();
+            Appel appel = new Appel(id, methode, delaiMs, Arrays.copyOfRange(corps, 5, corps.length),
+                    Math.max(1, rpcProperties.getFenetre()));
+            appelsRecus.increment();
+
+            if (appels.putIfAbsent(id, appel) != null) {
+                terminer(this, appel, Statut.INVALIDE, "Numéro d'appel déjà utilisé: " + id);
+                return;
+            }
+            try {
+                executeur.execute(() -> executer(this, appel));
+            } catch (RejectedExecutionException e) {
+                appels.remove(id);
+                refus.increment();
+                terminer(this, appel, Statut.RESSOURCES_EPUISEES, "Serveur RPC saturé");
+            }
+        }
+
+        void repondre(Appel appel, Corps corps) {
+            envoyer(RpcProtocol.REPONSE, appel.id, sortie -> {
+                sortie.writeByte(Statut.OK.getCode());
+                corps.ecrire(sortie);
+            }, true);
+        }
+
+        void envoyer(byte type, int id, Corps corps, boolean vider) {
+            ByteArrayOutputStream tampon = new ByteArrayOutputStream(256);
+            try {
+                corps.ecrire(new DataOutputStream(tampon));
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            synchronized (sortie) {
+                try {
+                    sortie.writeInt(RpcProtocol.ENTETE + tampon.size());
+                    sortie.writeByte(type);
+                    sortie.writeInt(id);
+                    tampon.writeTo(sortie);
+                    if (vider) {
+                        sortie.flush();
+                    }
+                } catch (IOException e) {
+                    fermer();
+                }
+            }
+        }
+
+        void vider() {
+            synchronized (sortie) {
+                try {
+                    sortie.flush();
+                } catch (IOException e) {
+                    fermer();
+                }
+            }
+        }
+
+        void fermer() {
+            if (connexions.remove(this)) {
+                appels.values().forEach(Appel::annuler);
+                try {
+                    socket.close();
+                } catch (IOException e) {
+                    logger.debug("Erreur à la fermeture d'une connexion RPC", e);
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,427 @@
+package com.api.football.service;
+
+import com.api.football.dto.ChangeEventDto;
+import com.api.football.dto.ChangeFeedDto;
+import com.api.football.dto.JoueurDto;
+import com.api.football.event.RosterChangeEvent;
+import com.api.football.model.ChangeEvent;
+import com.api.football.repository.ChangeEventRepository;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.ConcurrencyFailureException;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.domain.Limit;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.stream.Collectors;
+
+/**
+ * Service du flux de changements (outbox transactionnelle).
+ *
+ * Chaque {@link RosterChangeEvent} est écrit dans la table {@code change_events}
+ * au sein de la transaction qui l'a produit : l'événement existe si et
+ * seulement si la modification est validée. Les consommateurs lisent ensuite
+ * le flux par lots avec {@code GET /api/changes?since=}.
+ *
+ * Les lignes sont insérées juste avant la validation, sans numéro de
+ * séquence et sans verrou : les transactions d'écriture ne s'attendent pas.
+ * Après validation, la transaction demande un passage du séquenceur, un
+ * thread unique qui numérote en base, dans une transaction courte, les
+ * lignes validées qui n'ont pas encore de numéro, à la suite du plus grand
+ * numéro validé. Le thread de la requête n'ouvre donc jamais de seconde
+ * connexion pendant qu'il tient encore la sienne et les verrous d'équipe.
+ * Les demandes arrivées pendant qu'un passage attend son tour sont servies
+ * par ce passage.
+ *
+ * Deux séquenceurs concurrents (sur des instances différentes) ne peuvent
+ * pas valider le même numéro (index unique) : le perdant recommence après
+ * la validation du gagnant. Les numéros deviennent donc visibles dans leur
+ * ordre, et un consommateur qui a lu jusqu'à N ne peut pas voir apparaître
+ * plus tard un événement de séquence inférieure. La lecture du flux attend
+ * un passage du séquenceur : elle voit les écritures validées avant elle, et
+ * des lignes validées par une instance arrêtée avant de les numéroter sont
+ * reprises.
+ *
+ * Les événements plus anciens que la durée de rétention sont purgés
+ * périodiquement, sauf le dernier numéroté qui porte la suite de la
+ * séquence. Un consommateur dont le curseur précède les événements purgés
+ * reçoit une {@link CurseurExpireException} et doit se resynchroniser.
+ *
+ * @author API Football API Team
+ * @version 1.0.0
+ */
+@Service
+@Transactional
+public class ChangeFeedService {
+
+    private static final Logger logger = LoggerFactory.getLogger(ChangeFeedService.class);
+
+    /** Taille maximale d'un lot renvoyé au consommateur. */
+    public static final int LIMITE_MAX = 1000;
+
+    /** Nombre maximal de lignes numérotées par passage du séquenceur. */
+    private static final int LOT_SEQUENCEUR = 500;
+
+    /** Type des lignes du flux pour un joueur supprimé. */
+    static final String TYPE_JOUEUR_SUPPRIME = "JOUEUR_SUPPRIME";
+
+    /** Tentatives du séquenceur face à un séquenceur concurrent. */
+    private static final int TENTATIVES_SEQUENCEUR = 5;
+
+    @Autowired
+    private ChangeEventRepository changeEventRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Value("${football.changes.retention:30d}")
+    private Duration retention = Duration.ofDays(30);
+
+    @Value("${football.changes.intervalle-purge:1h}")
+    private Duration intervallePurge = Duration.ofHours(1);
+
+    @Value("${football.changes.attente-sequenceur:5s}")
+    private Duration attenteSequenceur = Duration.ofSeconds(5);
+
+    private final ScheduledExecutorService sequenceur = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "change-feed-sequenceur");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private final Object verrouPassage = new Object();
+
+    /** Passage demandé et pas encore commencé, partagé par les demandes suivantes. */
+    private CompletableFuture<Integer> passageEnAttente;
+
+    /**
+     * Planifie la purge des événements expirés ; le séquenceur l'exécute
+     * entre deux passages.
+     */
+    @PostConstruct
+    void demarrer() {
+        if (!retention.isZero() && !intervallePurge.isZero()) {
+            sequenceur.scheduleWithFixedDelay(this::purgerSansErreur, intervallePurge.toMillis(),
+                    intervallePurge.toMillis(), TimeUnit.MILLISECONDS);
+        }
+    }
+
+    @PreDestroy
+    void arreter() {
+        sequenceur.shutdownNow();
+    }
+
+    /**
+     * Ajoute l'événement à l'outbox de la transaction courante.
+     *
+     * @param event l'événement publié par un service
+     */
+    @EventListener
+    public void onRosterChange(RosterChangeEvent event) {
+        List<ChangeEvent> changeEvents = convertToEntities(event);
+
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            changeEventRepository.saveAll(changeEvents);
+            planifierSequenceur();
+            return;
+        }
+
+        @SuppressWarnings("unchecked")
+        List<ChangeEvent> enAttente = (List<ChangeEvent>) TransactionSynchronizationManager.getResource(this);
+        if (enAttente == null) {
+            enAttente = new ArrayList<>();
+            TransactionSynchronizationManager.bindResource(this, enAttente);
+            TransactionSynchronizationManager.registerSynchronization(new EcritureOutbox(enAttente));
+        }
+        enAttente.addAll(changeEvents);
+    }
+
+    /**
+     * Lit les événements qui suivent un numéro de séquence.
+     *
+     * @param since le dernier numéro de séquence déjà traité (0 pour tout lire)
+     * Sans transaction : l'attente du séquenceur ne doit pas retenir de
+     * connexion.
+     *
+     * @param limit le nombre maximal d'événements (1 à {@value #LIMITE_MAX})
+     * @return le lot d'événements et le curseur suivant
+     * @throws CurseurExpireException si des événements qui suivent {@code since} ont été purgés
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public ChangeFeedDto getChanges(long since, int limit) {
+        if (since < 0) {
+            throw new IllegalArgumentException("Le paramètre since doit être positif ou nul");
+        }
+        if (limit < 1 || limit > LIMITE_MAX) {
+            throw new IllegalArgumentException("Le paramètre limit doit être compris entre 1 et " + LIMITE_MAX);
+        }
+
+        attendreSequenceur();
+
+        // Les numéros sont continus : un premier numéro au-delà de since + 1 signifie une purge
+        Long premier = jdbcTemplate.queryForObject(
+                "SELECT MIN(sequence_validation) FROM change_events", Long.class);
+        if (premier != null && premier > since + 1) {
+            throw new CurseurExpireException(since, premier);
+        }
+
+        // Un élément de plus pour savoir si d'autres événements suivent
+        List<ChangeEvent> lus = changeEventRepository.findBySequenceGreaterThanOrderBySequenceAsc(
+                since, Limit.of(limit + 1));
+        boolean encoreDisponible = lus.size() > limit;
+        List<ChangeEventDto> evenements = lus.stream()
+                .limit(limit)
+                .map(this::convertToDto)
+                .collect(Collectors.toList());
+        long prochainSince = evenements.isEmpty() ? since : evenements.get(evenements.size() - 1).getSequence();
+
+        logger.debug("Flux de changements depuis {}: {} événement(s)", since, evenements.size());
+        return new ChangeFeedDto(evenements, prochainSince, encoreDisponible);
+    }
+
+    /**
+     * Demande un passage du séquenceur, ou rejoint celui qui attend déjà son tour.
+     *
+     * @return le passage, terminé quand les événements validés avant l'appel sont numérotés
+     */
+    CompletableFuture<Integer> planifierSequenceur() {
+        synchronized (verrouPassage) {
+            if (passageEnAttente == null) {
+                CompletableFuture<Integer> passage = new CompletableFuture<>();
+                passageEnAttente = passage;
+                try {
+                    sequenceur.execute(() -> executerPassage(passage));
+                } catch (RejectedExecutionException e) {
+                    // Arrêt en cours : la prochaine lecture du flux numérotera les événements
+                    passageEnAttente = null;
+                    passage.completeExceptionally(e);
+                }
+            }
+            return passageEnAttente;
+        }
+    }
+
+    private void executerPassage(CompletableFuture<Integer> passage) {
+        synchronized (verrouPassage) {
+            // Les événements validés à partir d'ici demandent un nouveau passage
+            if (passageEnAttente == passage) {
+                passageEnAttente = null;
+            }
+        }
+        try {
+            passage.complete(sequencer());
+        } catch (RuntimeException e) {
+            logger.warn("Passage du séquenceur du flux de changements en échec", e);
+            passage.completeExceptionally(e);
+        }
+    }
+
+    private void attendreSequenceur() {
+        try {
+            planifierSequenceur().get(attenteSequenceur.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (TimeoutException | ExecutionException e) {
+            // Les événements non encore numérotés seront servis à la lecture suivante
+            logger.warn("Séquenceur du flux de changements indisponible, lecture des événements déjà numérotés");
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Lecture du flux de changements interrompue", e);
+        }
+    }
+
+    /**
+     * Numérote les événements validés qui n'ont pas encore de numéro de
+     * séquence, dans l'ordre de leur insertion. Appelé par le thread du
+     * séquenceur.
+     *
+     * @return le nombre d'événements numérotés
+     */
+    int sequencer() {
+        TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+        transaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        int total = 0;
+        for (int tentative = 1; ; tentative++) {
+            try {
+                Integer numerotes;
+                do {
+                    numerotes = transaction.execute(status -> numeroterLot());
+                    total += numerotes;
+                } while (numerotes == LOT_SEQUENCEUR);
+                return total;
+            } catch (DataAccessException e) {
+                // Un séquenceur concurrent a pris les mêmes numéros : relire après sa validation
+                if (tentative == TENTATIVES_SEQUENCEUR) {
+                    logger.warn("Séquenceur du flux de changements abandonné après {} tentatives, "
+                            + "les événements seront numérotés au prochain passage", tentative, e);
+                    return total;
+                }
+                logger.debug("Conflit du séquenceur du flux de changements, tentative {}", tentative);
+            }
+        }
+    }
+
+    private int numeroterLot() {
+        List<Long> ids = jdbcTemplate.queryForList(
+                "SELECT sequence_id FROM change_events WHERE sequence_validation IS NULL ORDER BY sequence_id LIMIT ?",
+                Long.class, LOT_SEQUENCEUR);
+        if (ids.isEmpty()) {
+            return 0;
+        }
+        long dernier = jdbcTemplate.queryForObject(
+                "SELECT COALESCE(MAX(sequence_validation), 0) FROM change_events", Long.class);
+        List<Object[]> numeros = new ArrayList<>(ids.size());
+        for (Long id : ids) {
+            numeros.add(new Object[]{++dernier, id});
+        }
+        int[] misAJour = jdbcTemplate.batchUpdate(
+                "UPDATE change_events SET sequence_validation = ? WHERE sequence_id = ? AND sequence_validation IS NULL",
+                numeros);
+        for (int compte : misAJour) {
+            if (compte == 0) {
+                throw new ConcurrencyFailureException("Événement déjà numéroté par un séquenceur concurrent");
+            }
+        }
+        return ids.size();
+    }
+
+    /**
+     * Supprime les événements numérotés plus anciens que la durée de
+     * rétention, par lots, en gardant toujours le dernier numéroté : le
+     * séquenceur reprend la suite à partir de lui.
+     *
+     * @return le nombre d'événements supprimés
+     */
+    int purger() {
+        Timestamp limite = Timestamp.from(Instant.now().minus(retention));
+        int total = 0;
+        int supprimes;
+        do {
+            supprimes = jdbcTemplate.update("DELETE FROM change_events WHERE sequence_validation < "
+                    + "(SELECT MAX(sequence_validation) FROM change_events) AND cree_le < ? "
+                    + "FETCH FIRST " + LOT_SEQUENCEUR + " ROWS ONLY", limite);
+            total += supprimes;
+        } while (supprimes == LOT_SEQUENCEUR);
+        if (total > 0) {
+            logger.info("Flux de changements : {} événement(s) de plus de {} purgé(s)", total, retention);
+        }
+        return total;
+    }
+
+    private void purgerSansErreur() {
+        try {
+            purger();
+        } catch (RuntimeException e) {
+            // Une erreur ne doit pas annuler les purges suivantes
+            logger.warn("Purge du flux de changements en échec", e);
+        }
+    }
+
+    /**
+     * Une suppression groupée donne une ligne par joueur : le flux garde un
+     * événement {@value #TYPE_JOUEUR_SUPPRIME} par joueur supprimé.
+     */
+    private List<ChangeEvent> convertToEntities(RosterChangeEvent event) {
+        if (event.getType() != RosterChangeEvent.Type.JOUEURS_SUPPRIMES) {
+            return List.of(convertToEntity(event.getType().name(), event.getJoueurId(), event.getEquipeId(),
+                    event.getAncienneEquipeId(), event.getEquipe() != null ? event.getEquipe() : event.getJoueur()));
+        }
+        List<ChangeEvent> changeEvents = new ArrayList<>(event.getJoueurs().size());
+        for (JoueurDto joueur : event.getJoueurs()) {
+            changeEvents.add(convertToEntity(TYPE_JOUEUR_SUPPRIME, joueur.getId(), null,
+                    event.getAncienneEquipeId(), joueur));
+        }
+        return changeEvents;
+    }
+
+    private ChangeEvent convertToEntity(String type, Long joueurId, Long equipeId, Long ancienneEquipeId,
+                                        Object donnees) {
+        ChangeEvent changeEvent = new ChangeEvent();
+        changeEvent.setType(type);
+        changeEvent.setJoueurId(joueurId);
+        changeEvent.setEquipeId(equipeId);
+        changeEvent.setAncienneEquipeId(ancienneEquipeId);
+        changeEvent.setCreeLe(Instant.now());
+
+        if (donnees != null) {
+            try {
+                changeEvent.setPayload(objectMapper.writeValueAsString(donnees));
+            } catch (JsonProcessingException e) {
+                throw new IllegalStateException("Sérialisation de l'événement impossible: " + type + " " + joueurId, e);
+            }
+        }
+        return changeEvent;
+    }
+
+    private ChangeEventDto convertToDto(ChangeEvent changeEvent) {
+        ChangeEventDto dto = new ChangeEventDto();
+        dto.setSequence(changeEvent.getSequence());
+        dto.setType(changeEvent.getType());
+        dto.setJoueurId(changeEvent.getJoueurId());
+        dto.setEquipeId(changeEvent.getEquipeId());
+        dto.setAncienneEquipeId(changeEvent.getAncienneEquipeId());
+        dto.setCreeLe(changeEvent.getCreeLe());
+        dto.setDonnees(changeEvent.getPayload());
+        return dto;
+    }
+
+    /**
+     * Écrit les événements d'une transaction juste avant sa validation, puis
+     * demande leur numérotation une fois la transaction validée.
+     */
+    private class EcritureOutbox implements TransactionSynchronization {
+
+        private final List<ChangeEvent> enAttente;
+
+        EcritureOutbox(List<ChangeEvent> enAttente) {
+            this.enAttente = enAttente;
+        }
+
+        @Override
+        public void beforeCommit(boolean readOnly) {
+            changeEventRepository.saveAll(enAttente);
+        }
+
+        @Override
+        public void afterCommit() {
+            // Sans attendre : la connexion et les verrous de la transaction sont encore tenus
+            planifierSequenceur();
+        }
+
+        @Override
+        public void afterCompletion(int status) {
+            TransactionSynchronizationManager.unbindResourceIfPossible(ChangeFeedService.this);
+        }
+    }
+}
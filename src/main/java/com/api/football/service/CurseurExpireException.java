@@ -0,0 +1,26 @@
+package com.api.football.service;
+
+/**
+ * Lecture du flux de changements depuis un curseur dont les événements
+ * suivants ont été purgés : le consommateur a manqué des événements et doit
+ * se resynchroniser à partir de l'état complet des équipes.
+ *
+ * Le contrôleur la traduit en {@code 410 Gone}.
+ *
+ * @author API Football API Team
+ * @version 1.0.0
+ */
+public class CurseurExpireException extends IllegalStateException {
+
+    private final long premierDisponible;
+
+    public CurseurExpireException(long since, long premierDisponible) {
+        super("Les événements qui suivent la séquence " + since + " ont été purgés ; premier événement disponible : "
+                + premierDisponible);
+        this.premierDisponible = premierDisponible;
+    }
+
+    public long getPremierDisponible() {
+        return premierDisponible;
+    }
+}
@@ -1,24 +1,40 @@
 package com.api.football.service;
 
+import com.api.football.coalescing.RequestCoalescer;
 import com.api.football.dto.CreateEquipeRequest;
 import com.api.football.dto.EquipeDto;
 import com.api.football.dto.JoueurDto;
+import com.api.football.dto.MultiGetDto;
+import com.api.football.effectif.EffectifGuard;
+import com.api.football.event.RosterChangeEvent;
+import com.api.football.existence.ExistenceIndex;
 import com.api.football.model.Equipe;
 import com.api.football.model.Joueur;
 import com.api.football.repository.EquipeRepository;
 import com.api.football.repository.JoueurRepository;
+import com.api.football.readmodel.RosterReadModel;
+import com.api.football.suggest.Suggestion;
+import com.api.football.suggest.SuggestionIndex;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.math.BigDecimal;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 /**
@@ -36,12 +52,33 @@ public class EquipeService {
 
     private static final Logger logger = LoggerFactory.getLogger(EquipeService.class);
 
+    /** Plus grand budget représentable par la colonne equipes.budget (NUMERIC(15, 2)). */
+    private static final BigDecimal BUDGET_MAXIMAL = new BigDecimal("9999999999999.99");
+
     @Autowired
     private EquipeRepository equipeRepository;
 
     @Autowired
     private JoueurRepository joueurRepository;
 
+    @Autowired
+    private RosterReadModel rosterReadModel;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    @Autowired
+    private SuggestionIndex suggestionIndex;
+
+    @Autowired
+    private RequestCoalescer requestCoalescer;
+
+    @Autowired
+    private EffectifGuard effectifGuard;
+
+    @Autowired
+    private ExistenceIndex existenceIndex;
+
     /**
      * Récupère toutes les équipes avec pagination et tri.
      *
@@ -61,74 +98,232 @@ public class EquipeService {
         Sort.Direction direction = "desc".equalsIgnoreCase(sortDirection) ?
                 Sort.Direction.DESC : Sort.Direction.ASC;
 
-        Pageable pageable = PageRequest.of(page, size, Sort.by(direction, validSortBy));
+        // Lecture depuis le modèle en mémoire lorsqu'il est construit
+        if (rosterReadModel.isReady()) {
+            return rosterReadModel.getPage(page, size, validSortBy, direction);
+        }
+
+        // Même ordre que le modèle en mémoire : l'identifiant départage les égalités
+        Pageable pageable = PageRequest.of(page, size, Sort.by(direction, validSortBy).and(Sort.by(direction, "id")));
 
         Page<Equipe> equipes = equipeRepository.findAllWithJoueurs(pageable);
 
         return equipes.map(this::convertToDto);
     }
 
+    /**
+     * Récupère les équipes dont le budget est compris entre deux bornes incluses.
+     *
+     * @param page le numéro de page (commence à 0)
+     * @param size la taille de la page
+     * @param sortBy le champ de tri (nom, acronyme, budget)
+     * @param sortDirection la direction du tri (asc, desc)
+     * @param minBudget le budget minimal (null = pas de borne)
+     * @param maxBudget le budget maximal (null = pas de borne)
+     * @return une page d'équipes
+     * @throws IllegalArgumentException si le minimum dépasse le maximum
+     */
+    @Transactional(readOnly = true)
+    public Page<EquipeDto> getEquipesByBudget(int page, int size, String sortBy, String sortDirection,
+                                              BigDecimal minBudget, BigDecimal maxBudget) {
+        logger.info("Récupération des équipes par budget - min: {}, max: {}, page: {}, size: {}",
+                minBudget, maxBudget, page, size);
+
+        if (minBudget != null && maxBudget != null && minBudget.compareTo(maxBudget) > 0) {
+            throw new IllegalArgumentException("Le budget minimal ne peut pas dépasser le budget maximal");
+        }
+
+        String validSortBy = validateSortField(sortBy);
+        Sort.Direction direction = "desc".equalsIgnoreCase(sortDirection) ?
+                Sort.Direction.DESC : Sort.Direction.ASC;
+
+        if (rosterReadModel.isReady()) {
+            return rosterReadModel.getPageParBudget(minBudget, maxBudget, page, size, validSortBy, direction);
+        }
+
+        // Tri secondaire par identifiant, dans le même sens que idx_equipes_budget
+        Pageable pageable = PageRequest.of(page, size, Sort.by(direction, validSortBy).and(Sort.by(direction, "id")));
+        return equipeRepository.findByBudgetBetween(
+                minBudget != null ? minBudget : BigDecimal.ZERO,
+                maxBudget != null ? maxBudget : BUDGET_MAXIMAL,
+                pageable).map(this::convertToDto);
+    }
+
+    /**
+     * Récupère les équipes les plus riches, par budget puis identifiant décroissants.
+     *
+     * @param limit le nombre d'équipes
+     * @param afterBudget le budget de la dernière équipe déjà lue (null = depuis le début)
+     * @param afterId l'identifiant de la dernière équipe déjà lue (null = depuis le début)
+     * @return les équipes suivantes du classement
+     * @throws IllegalArgumentException si un seul des deux éléments du curseur est fourni
+     */
+    @Transactional(readOnly = true)
+    public List<EquipeDto> getTopEquipesByBudget(int limit, BigDecimal afterBudget, Long afterId) {
+        logger.info("Récupération des {} équipes les plus riches après ({}, {})", limit, afterBudget, afterId);
+
+        if ((afterBudget == null) != (afterId == null)) {
+            throw new IllegalArgumentException("afterBudget et afterId doivent être fournis ensemble");
+        }
+
+        if (rosterReadModel.isReady()) {
+            return rosterReadModel.getTopParBudget(limit, afterBudget, afterId);
+        }
+
+        List<Long> ids = afterBudget == null
+                ? equipeRepository.findIdsOrderByBudgetDesc(Limit.of(limit))
+                : equipeRepository.findIdsByBudgetBefore(afterBudget, afterId, Limit.of(limit));
+        Map<Long, Equipe> equipes = equipeRepository.findAllById(ids).stream()
+                .collect(Collectors.toMap(Equipe::getId, Function.identity()));
+        return ids.stream()
+                .map(equipes::get)
+                .filter(Objects::nonNull)
+                .map(this::convertToDto)
+                .collect(Collectors.toList());
+    }
+
     /**
      * Crée une nouvelle équipe avec ou sans joueurs.
      *
      * @param request les données de création de l'équipe
      * @return l'équipe créée
      * @throws IllegalArgumentException si l'acronyme existe déjà
+     * @throws com.api.football.effectif.ConflitEffectifException si l'effectif initial dépasse une limite
      */
     public EquipeDto createEquipe(CreateEquipeRequest request) {
         logger.info("Création d'une nouvelle équipe: {}", request);
 
-        // Vérification de l'unicité de l'acronyme
-        if (equipeRepository.existsByAcronyme(request.getAcronyme())) {
+        // Vérification de l'unicité de l'acronyme, en base seulement si le filtre ne l'exclut pas
+        if (existenceIndex.existe(ExistenceIndex.Filtre.ACRONYME_EQUIPE, request.getAcronyme(),
+                () -> equipeRepository.existsByAcronyme(request.getAcronyme()))) {
             logger.warn("Tentative de création d'équipe avec acronyme existant: {}", request.getAcronyme());
             throw new IllegalArgumentException("Une équipe avec l'acronyme '" + request.getAcronyme() + "' existe déjà");
         }
 
         // Vérification de l'unicité du nom
-        if (equipeRepository.existsByNom(request.getNom())) {
+        if (existenceIndex.existe(ExistenceIndex.Filtre.NOM_EQUIPE, request.getNom(),
+                () -> equipeRepository.existsByNom(request.getNom()))) {
             logger.warn("Tentative de création d'équipe avec nom existant: {}", request.getNom());
             throw new IllegalArgumentException("Une équipe avec le nom '" + request.getNom() + "' existe déjà");
         }
 
+        // Vérification des limites d'effectif
+        if (request.getJoueurs() != null) {
+            effectifGuard.verifierEffectifInitial(request.getJoueurs().stream()
+                    .map(joueur -> joueur.getPosition())
+                    .collect(Collectors.toList()));
+        }
+
         // Création de l'équipe
         Equipe equipe = new Equipe(request.getNom(), request.getAcronyme(), request.getBudget());
         equipe = equipeRepository.save(equipe);
+        existenceIndex.ajouter(ExistenceIndex.Filtre.ACRONYME_EQUIPE, equipe.getAcronyme());
+        existenceIndex.ajouter(ExistenceIndex.Filtre.NOM_EQUIPE, equipe.getNom());
         logger.info("Équipe créée avec l'ID: {}", equipe.getId());
 
         // Ajout des joueurs si fournis
         if (request.getJoueurs() != null && !request.getJoueurs().isEmpty()) {
             for (var joueurRequest : request.getJoueurs()) {
                 Joueur joueur = new Joueur(joueurRequest.getNom(), joueurRequest.getPosition(), equipe);
-                joueurRepository.save(joueur);
+                joueur = joueurRepository.save(joueur);
+                existenceIndex.ajouter(ExistenceIndex.Filtre.NOM_JOUEUR, joueur.getNom());
+                equipe.getJoueurs().add(joueur);
                 logger.info("Joueur '{}' ajouté à l'équipe '{}'", joueur.getNom(), equipe.getNom());
             }
+            equipeRepository.ajusterNombreJoueurs(equipe.getId(), request.getJoueurs().size());
         }
 
-        return convertToDto(equipe);
+        EquipeDto equipeDto = convertToDto(equipe);
+        eventPublisher.publishEvent(RosterChangeEvent.equipeCreee(equipeDto));
+        return equipeDto;
     }
 
     /**
      * Récupère une équipe par son ID.
      *
+     * Hors vue en mémoire, les lectures simultanées d'une même équipe sont
+     * regroupées en une seule requête, et un identifiant cherché récemment sans
+     * résultat n'est pas redemandé à la base. La méthode n'ouvre pas de
+     * transaction pour que les appels en attente ne retiennent pas de connexion.
+     *
      * @param id l'identifiant de l'équipe
      * @return l'équipe ou Optional.empty() si non trouvée
      */
-    @Transactional(readOnly = true)
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public Optional<EquipeDto> getEquipeById(Long id) {
         logger.info("Récupération de l'équipe avec l'ID: {}", id);
-        return equipeRepository.findById(id).map(this::convertToDto);
+        suggestionIndex.enregistrerConsultation(Suggestion.Type.EQUIPE, id);
+        if (rosterReadModel.isReady()) {
+            return rosterReadModel.getEquipe(id);
+        }
+        return existenceIndex.chercher("equipe.id", id, null, () -> requestCoalescer.executer("equipe.id", id,
+                () -> equipeRepository.findByIdWithJoueurs(id).map(this::convertToDto),
+                equipe -> equipe.map(EquipeDto::new)));
+    }
+
+    /**
+     * Lit l'état courant d'une équipe pour un usage interne.
+     *
+     * Contrairement à {@link #getEquipeById(Long)}, la lecture n'est pas
+     * comptée comme une consultation et ne passe ni par le regroupement des
+     * lectures ni par le cache des recherches négatives.
+     *
+     * @param id l'identifiant de l'équipe
+     * @return l'équipe ou Optional.empty() si non trouvée
+     */
+    @Transactional(readOnly = true)
+    public Optional<EquipeDto> lireEquipe(Long id) {
+        if (rosterReadModel.isReady()) {
+            return rosterReadModel.getEquipe(id);
+        }
+        return equipeRepository.findByIdWithJoueurs(id).map(this::convertToDto);
+    }
+
+    /**
+     * Récupère plusieurs équipes par leurs identifiants.
+     *
+     * Les équipes sont lues dans la vue en mémoire lorsqu'elle est prête, sinon
+     * en une requête par lot de {@value MultiGetLoader#TAILLE_LOT} identifiants.
+     *
+     * @param ids les identifiants des équipes
+     * @return les équipes dans l'ordre de la demande et les identifiants inconnus
+     * @throws IllegalArgumentException si la liste est vide ou trop longue
+     */
+    @Transactional(readOnly = true)
+    public MultiGetDto<EquipeDto> getEquipesByIds(List<Long> ids) {
+        logger.info("Récupération de {} équipes par identifiant", ids != null ? ids.size() : 0);
+
+        if (rosterReadModel.isReady()) {
+            return MultiGetLoader.charger(ids, lot -> {
+                Map<Long, EquipeDto> equipes = new HashMap<>();
+                lot.forEach(id -> rosterReadModel.getEquipe(id).ifPresent(equipe -> equipes.put(id, equipe)));
+                return equipes;
+            });
+        }
+        return MultiGetLoader.charger(ids, lot -> equipeRepository.findAllWithJoueursByIdIn(lot).stream()
+                .collect(Collectors.toMap(Equipe::getId, this::convertToDto)));
     }
 
     /**
      * Récupère une équipe par son acronyme.
      *
+     * Les lectures simultanées d'un même acronyme sont regroupées, comme pour
+     * {@link #getEquipeById(Long)}. Hors vue en mémoire, un acronyme absent du
+     * filtre d'existence, ou cherché récemment sans résultat, ne va pas en base.
+     *
      * @param acronyme l'acronyme de l'équipe
      * @return l'équipe ou Optional.empty() si non trouvée
      */
-    @Transactional(readOnly = true)
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public Optional<EquipeDto> getEquipeByAcronyme(String acronyme) {
         logger.info("Récupération de l'équipe avec l'acronyme: {}", acronyme);
-        return equipeRepository.findByAcronyme(acronyme).map(this::convertToDto);
+        if (rosterReadModel.isReady()) {
+            return rosterReadModel.getEquipeByAcronyme(acronyme);
+        }
+        return existenceIndex.chercher("equipe.acronyme", acronyme, ExistenceIndex.Filtre.ACRONYME_EQUIPE,
+                () -> requestCoalescer.executer("equipe.acronyme", acronyme,
+                        () -> equipeRepository.findByAcronymeWithJoueurs(acronyme).map(this::convertToDto),
+                        equipe -> equipe.map(EquipeDto::new)));
     }
 
     /**
@@ -166,13 +361,7 @@ public class EquipeService {
      */
     private EquipeDto convertToDto(Equipe equipe) {
         List<JoueurDto> joueursDto = equipe.getJoueurs().stream()
-                .map(joueur -> new JoueurDto(
-                        joueur.getId(),
-                        joueur.getNom(),
-                        joueur.getPosition(),
-                        joueur.getEquipe() != null ? joueur.getEquipe().getId() : null,
-                        joueur.getEquipe() != null ? joueur.getEquipe().getNom() : null
-                ))
+                .map(this::convertJoueurToDto)
                 .collect(Collectors.toList());
 
         return new EquipeDto(
@@ -184,6 +373,22 @@ public class EquipeService {
         );
     }
 
+    /**
+     * Convertit une entité Joueur en DTO.
+     *
+     * @param joueur l'entité à convertir
+     * @return le DTO correspondant
+     */
+    private JoueurDto convertJoueurToDto(Joueur joueur) {
+        return new JoueurDto(
+                joueur.getId(),
+                joueur.getNom(),
+                joueur.getPosition(),
+                joueur.getEquipe() != null ? joueur.getEquipe().getId() : null,
+                joueur.getEquipeNom()
+        );
+    }
+
     /**
      * Ajoute un joueur à une équipe.
      *
@@ -191,6 +396,7 @@ public class EquipeService {
      * @param joueurId l'identifiant du joueur
      * @return l'équipe mise à jour
      * @throws IllegalArgumentException si l'équipe ou le joueur n'existe pas
+     * @throws com.api.football.effectif.ConflitEffectifException si l'effectif de l'équipe ou du poste est complet
      */
     @Transactional
     public EquipeDto ajouterJoueur(Long equipeId, Long joueurId) {
@@ -207,7 +413,8 @@ public class EquipeService {
             throw new IllegalArgumentException("Le joueur est déjà dans une équipe");
         }
 
-        // Ajouter le joueur à l'équipe
+        // Réserver la place, puis ajouter le joueur à l'équipe
+        effectifGuard.transferer(joueurId, null, equipeId, joueur.getPosition());
         equipe.getJoueurs().add(joueur);
         joueur.setEquipe(equipe);
 
@@ -216,6 +423,7 @@ public class EquipeService {
         joueurRepository.save(joueur);
 
         logger.info("Joueur {} ajouté avec succès à l'équipe {}", joueurId, equipeId);
+        eventPublisher.publishEvent(RosterChangeEvent.joueurAjoute(convertJoueurToDto(joueur)));
         return convertToDto(savedEquipe);
     }
 
@@ -226,6 +434,7 @@ public class EquipeService {
      * @param joueurId l'identifiant du joueur
      * @return l'équipe mise à jour
      * @throws IllegalArgumentException si l'équipe ou le joueur n'existe pas
+     * @throws com.api.football.effectif.ConflitEffectifException si le joueur a changé d'équipe entre-temps
      */
     @Transactional
     public EquipeDto retirerJoueur(Long equipeId, Long joueurId) {
@@ -242,7 +451,8 @@ public class EquipeService {
             throw new IllegalArgumentException("Le joueur n'appartient pas à cette équipe");
         }
 
-        // Retirer le joueur de l'équipe
+        // Libérer la place, puis retirer le joueur de l'équipe
+        effectifGuard.liberer(joueurId, equipeId);
         equipe.getJoueurs().remove(joueur);
         joueur.setEquipe(null);
 
@@ -251,6 +461,7 @@ public class EquipeService {
         joueurRepository.save(joueur);
 
         logger.info("Joueur {} retiré avec succès de l'équipe {}", joueurId, equipeId);
+        eventPublisher.publishEvent(RosterChangeEvent.joueurRetire(convertJoueurToDto(joueur), equipeId));
         return convertToDto(savedEquipe);
     }
 }
@@ -1,23 +1,39 @@
 package com.api.football.service;
 
+import com.api.football.coalescing.RequestCoalescer;
 import com.api.football.dto.CreateJoueurRequest;
 import com.api.football.dto.JoueurDto;
+import com.api.football.dto.MultiGetDto;
+import com.api.football.dto.SuppressionDto;
+import com.api.football.effectif.EffectifGuard;
+import com.api.football.event.RosterChangeEvent;
+import com.api.football.existence.ExistenceIndex;
 import com.api.football.model.Equipe;
 import com.api.football.model.Joueur;
 import com.api.football.repository.EquipeRepository;
 import com.api.football.repository.JoueurRepository;
+import com.api.football.repository.JoueurSupprime;
+import com.api.football.suggest.Suggestion;
+import com.api.football.suggest.SuggestionIndex;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 /**
@@ -41,6 +57,21 @@ public class JoueurService {
     @Autowired
     private EquipeRepository equipeRepository;
 
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    @Autowired
+    private SuggestionIndex suggestionIndex;
+
+    @Autowired
+    private RequestCoalescer requestCoalescer;
+
+    @Autowired
+    private EffectifGuard effectifGuard;
+
+    @Autowired
+    private ExistenceIndex existenceIndex;
+
     /**
      * Récupère tous les joueurs avec pagination et tri.
      *
@@ -87,12 +118,14 @@ public class JoueurService {
      * @param request les données de création du joueur
      * @return le joueur créé
      * @throws IllegalArgumentException si l'équipe n'existe pas ou si le nom existe déjà
+     * @throws com.api.football.effectif.ConflitEffectifException si l'effectif de l'équipe ou du poste est complet
      */
     public JoueurDto createJoueur(CreateJoueurRequest request) {
         logger.info("Création d'un nouveau joueur: {}", request);
 
-        // Vérification de l'unicité du nom
-        if (joueurRepository.existsByNom(request.getNom())) {
+        // Vérification de l'unicité du nom, en base seulement si le filtre ne l'exclut pas
+        if (existenceIndex.existe(ExistenceIndex.Filtre.NOM_JOUEUR, request.getNom(),
+                () -> joueurRepository.existsByNom(request.getNom()))) {
             logger.warn("Tentative de création de joueur avec nom existant: {}", request.getNom());
             throw new IllegalArgumentException("Un joueur avec le nom '" + request.getNom() + "' existe déjà");
         }
@@ -104,24 +137,54 @@ public class JoueurService {
                     .orElseThrow(() -> new IllegalArgumentException("Équipe avec l'ID " + request.getEquipeId() + " non trouvée"));
         }
 
-        // Création du joueur
+        // Réservation d'une place dans l'effectif, puis création du joueur
+        if (equipe != null) {
+            effectifGuard.reserverPlace(equipe.getId(), request.getPosition());
+        }
         Joueur joueur = new Joueur(request.getNom(), request.getPosition(), equipe);
         joueur = joueurRepository.save(joueur);
+        existenceIndex.ajouter(ExistenceIndex.Filtre.NOM_JOUEUR, joueur.getNom());
         logger.info("Joueur créé avec l'ID: {}", joueur.getId());
 
-        return convertToDto(joueur);
+        JoueurDto joueurDto = convertToDto(joueur);
+        eventPublisher.publishEvent(RosterChangeEvent.joueurCree(joueurDto));
+        return joueurDto;
     }
 
     /**
      * Récupère un joueur par son ID.
      *
+     * Les lectures simultanées d'un même joueur sont regroupées en une seule
+     * requête, et un identifiant cherché récemment sans résultat n'est pas
+     * redemandé à la base ; la méthode n'ouvre pas de transaction pour que les appels en
+     * attente ne retiennent pas de connexion.
+     *
      * @param id l'identifiant du joueur
      * @return le joueur ou Optional.empty() si non trouvé
      */
-    @Transactional(readOnly = true)
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public Optional<JoueurDto> getJoueurById(Long id) {
         logger.info("Récupération du joueur avec l'ID: {}", id);
-        return joueurRepository.findById(id).map(this::convertToDto);
+        suggestionIndex.enregistrerConsultation(Suggestion.Type.JOUEUR, id);
+        return existenceIndex.chercher("joueur.id", id, null, () -> requestCoalescer.executer("joueur.id", id,
+                () -> joueurRepository.findByIdWithEquipe(id).map(this::convertToDto),
+                joueur -> joueur.map(JoueurDto::new)));
+    }
+
+    /**
+     * Récupère plusieurs joueurs par leurs identifiants, avec le nom de leur
+     * équipe, en une requête par lot de {@value MultiGetLoader#TAILLE_LOT} identifiants.
+     *
+     * @param ids les identifiants des joueurs
+     * @return les joueurs dans l'ordre de la demande et les identifiants inconnus
+     * @throws IllegalArgumentException si la liste est vide ou trop longue
+     */
+    @Transactional(readOnly = true)
+    public MultiGetDto<JoueurDto> getJoueursByIds(List<Long> ids) {
+        logger.info("Récupération de {} joueurs par identifiant", ids != null ? ids.size() : 0);
+
+        return MultiGetLoader.charger(ids, lot -> joueurRepository.findAllWithEquipeByIdIn(lot).stream()
+                .collect(Collectors.toMap(Joueur::getId, this::convertToDto)));
     }
 
     /**
@@ -131,6 +194,7 @@ public class JoueurService {
      * @param equipeId l'identifiant de la nouvelle équipe
      * @return le joueur transféré
      * @throws IllegalArgumentException si le joueur ou l'équipe n'existe pas
+     * @throws com.api.football.effectif.ConflitEffectifException si l'effectif de l'équipe ou du poste est complet
      */
     public JoueurDto transferJoueur(Long joueurId, Long equipeId) {
         logger.info("Transfert du joueur {} vers l'équipe {}", joueurId, equipeId);
@@ -143,32 +207,120 @@ public class JoueurService {
         Equipe equipe = equipeRepository.findById(equipeId)
                 .orElseThrow(() -> new IllegalArgumentException("Équipe avec l'ID " + equipeId + " non trouvée"));
 
-        // Transfert du joueur
+        // Transfert du joueur, sous réserve de place dans la nouvelle équipe
+        Long ancienneEquipeId = joueur.getEquipe() != null ? joueur.getEquipe().getId() : null;
+        effectifGuard.transferer(joueurId, ancienneEquipeId, equipeId, joueur.getPosition());
         joueur.setEquipe(equipe);
         joueur = joueurRepository.save(joueur);
 
         logger.info("Joueur {} transféré vers l'équipe {}", joueur.getNom(), equipe.getNom());
 
-        return convertToDto(joueur);
+        JoueurDto joueurDto = convertToDto(joueur);
+        eventPublisher.publishEvent(RosterChangeEvent.joueurTransfere(joueurDto, ancienneEquipeId));
+        return joueurDto;
     }
 
     /**
      * Supprime un joueur.
      *
+     * Une seule instruction {@code DELETE} : le nombre de lignes renvoyées
+     * décide de l'existence du joueur, et ces lignes portent l'équipe et la
+     * position publiées dans l'événement de suppression.
+     *
      * @param id l'identifiant du joueur
      * @return true si le joueur a été supprimé, false s'il n'existe pas
      */
     public boolean deleteJoueur(Long id) {
         logger.info("Suppression du joueur avec l'ID: {}", id);
 
-        if (joueurRepository.existsById(id)) {
-            joueurRepository.deleteById(id);
-            logger.info("Joueur avec l'ID {} supprimé avec succès", id);
-            return true;
-        } else {
+        List<JoueurSupprime> supprimes = joueurRepository.deleteByIdReturning(id);
+        if (supprimes.isEmpty()) {
             logger.warn("Joueur avec l'ID {} non trouvé", id);
             return false;
         }
+        publierSuppressions(supprimes);
+        logger.info("Joueur avec l'ID {} supprimé avec succès", id);
+        return true;
+    }
+
+    /**
+     * Supprime plusieurs joueurs par leurs identifiants, en une seule
+     * instruction et sans charger d'entité.
+     *
+     * @param ids les identifiants des joueurs
+     * @return les identifiants supprimés et ceux sans joueur correspondant
+     * @throws IllegalArgumentException si la liste est vide, contient null ou est trop longue
+     */
+    public SuppressionDto deleteJoueurs(List<Long> ids) {
+        logger.info("Suppression de {} joueurs par identifiant", ids != null ? ids.size() : 0);
+
+        List<Long> demandes = MultiGetLoader.identifiantsDistincts(ids);
+
+        Set<Long> supprimes = publierSuppressions(joueurRepository.deleteAllByIdInReturning(demandes));
+        List<Long> idsSupprimes = new ArrayList<>(supprimes.size());
+        List<Long> idsManquants = new ArrayList<>();
+        for (Long id : demandes) {
+            (supprimes.contains(id) ? idsSupprimes : idsManquants).add(id);
+        }
+        logger.info("{} joueurs supprimés, {} identifiants inconnus", idsSupprimes.size(), idsManquants.size());
+        return new SuppressionDto(idsSupprimes, idsManquants);
+    }
+
+    /**
+     * Supprime les joueurs d'une équipe et/ou d'une position, en une seule
+     * instruction et sans charger d'entité.
+     *
+     * @param equipeId l'équipe des joueurs à supprimer (optionnel)
+     * @param position la position exacte des joueurs à supprimer, sans tenir compte de la casse (optionnel)
+     * @return les identifiants supprimés
+     * @throws IllegalArgumentException si aucun filtre n'est fourni
+     */
+    public SuppressionDto deleteJoueurs(Long equipeId, String position) {
+        logger.info("Suppression des joueurs - equipeId: {}, position: {}", equipeId, position);
+
+        boolean filtrePosition = position != null && !position.trim().isEmpty();
+        if (equipeId == null && !filtrePosition) {
+            throw new IllegalArgumentException("Au moins un filtre (équipe ou position) est obligatoire");
+        }
+
+        List<JoueurSupprime> supprimes;
+        if (equipeId != null && filtrePosition) {
+            supprimes = joueurRepository.deleteByEquipeIdAndPositionReturning(equipeId, position.trim());
+        } else if (equipeId != null) {
+            supprimes = joueurRepository.deleteByEquipeIdReturning(equipeId);
+        } else {
+            supprimes = joueurRepository.deleteByPositionReturning(position.trim());
+        }
+
+        List<Long> idsSupprimes = new ArrayList<>(publierSuppressions(supprimes));
+        logger.info("{} joueurs supprimés", idsSupprimes.size());
+        return new SuppressionDto(idsSupprimes, List.of());
+    }
+
+    /**
+     * Décrémente l'effectif des équipes concernées, puis publie un événement
+     * de suppression par équipe (et un pour les joueurs libres) : une
+     * suppression en masse ne produit pas un événement par ligne.
+     *
+     * @return les identifiants supprimés, dans l'ordre des lignes
+     */
+    private Set<Long> publierSuppressions(List<JoueurSupprime> supprimes) {
+        Map<Long, List<JoueurDto>> parEquipe = new LinkedHashMap<>();
+        Set<Long> ids = new LinkedHashSet<>();
+        for (JoueurSupprime supprime : supprimes) {
+            parEquipe.computeIfAbsent(supprime.getEquipeId(), equipeId -> new ArrayList<>())
+                    .add(new JoueurDto(supprime.getId(), supprime.getNom(), supprime.getPosition(),
+                            supprime.getEquipeId(), supprime.getEquipeNom()));
+            ids.add(supprime.getId());
+        }
+
+        parEquipe.forEach((equipeId, joueurs) -> {
+            if (equipeId != null) {
+                equipeRepository.ajusterNombreJoueurs(equipeId, -joueurs.size());
+            }
+            eventPublisher.publishEvent(RosterChangeEvent.joueursSupprimes(equipeId, joueurs));
+        });
+        return ids;
     }
 
     /**
@@ -213,6 +365,9 @@ public class JoueurService {
     /**
      * Convertit une entité Joueur en DTO.
      *
+     * Le nom de l'équipe vient de la colonne dénormalisée et l'identifiant du
+     * proxy : l'équipe n'est jamais chargée.
+     *
      * @param joueur l'entité à convertir
      * @return le DTO correspondant
      */
@@ -222,7 +377,7 @@ public class JoueurService {
                 joueur.getNom(),
                 joueur.getPosition(),
                 joueur.getEquipe() != null ? joueur.getEquipe().getId() : null,
-                joueur.getEquipe() != null ? joueur.getEquipe().getNom() : null
+                joueur.getEquipeNom()
         );
     }
 }
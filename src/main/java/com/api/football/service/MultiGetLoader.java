@@ -0,0 +1,85 @@
+package com.api.football.service;
+
+import com.api.football.dto.MultiGetDto;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+
+/**
+ * Chargement d'éléments par liste d'identifiants, en requêtes {@code IN}
+ * découpées par lots, et validation de ces listes.
+ *
+ * Les lots ont une taille fixe : avec le remplissage des paramètres
+ * {@code IN} de Hibernate ({@code hibernate.query.in_clause_parameter_padding}),
+ * toutes les requêtes partagent un petit nombre de formes et réutilisent les
+ * plans de la base.
+ *
+ * @author API Football API Team
+ * @version 1.0.0
+ */
+final class MultiGetLoader {
+
+    /** Nombre maximal d'identifiants par requête {@code IN}. */
+    static final int TAILLE_LOT = 500;
+
+    /** Nombre maximal d'identifiants par demande. */
+    static final int MAX_IDS = 1000;
+
+    private MultiGetLoader() {
+    }
+
+    /**
+     * Charge les éléments demandés.
+     *
+     * @param ids les identifiants demandés ; les doublons sont ignorés
+     * @param chargerLot charge un lot d'identifiants et renvoie les éléments trouvés par identifiant
+     * @return les éléments dans l'ordre de la demande et les identifiants manquants
+     * @throws IllegalArgumentException si la liste est vide, contient null ou dépasse {@link #MAX_IDS}
+     */
+    static <T> MultiGetDto<T> charger(List<Long> ids, Function<List<Long>, Map<Long, T>> chargerLot) {
+        List<Long> demandes = identifiantsDistincts(ids);
+
+        Map<Long, T> trouves = new HashMap<>();
+        for (int debut = 0; debut < demandes.size(); debut += TAILLE_LOT) {
+            trouves.putAll(chargerLot.apply(demandes.subList(debut, Math.min(debut + TAILLE_LOT, demandes.size()))));
+        }
+
+        List<T> elements = new ArrayList<>(trouves.size());
+        List<Long> manquants = new ArrayList<>();
+        for (Long id : demandes) {
+            T element = trouves.get(id);
+            if (element != null) {
+                elements.add(element);
+            } else {
+                manquants.add(id);
+            }
+        }
+        return new MultiGetDto<>(elements, manquants);
+    }
+
+    /**
+     * Valide une liste d'identifiants et en retire les doublons.
+     *
+     * @param ids les identifiants demandés
+     * @return les identifiants distincts, dans l'ordre de la demande
+     * @throws IllegalArgumentException si la liste est vide, contient null ou dépasse {@link #MAX_IDS}
+     */
+    static List<Long> identifiantsDistincts(List<Long> ids) {
+        if (ids == null || ids.isEmpty()) {
+            throw new IllegalArgumentException("La liste d'identifiants ne peut pas être vide");
+        }
+        if (ids.stream().anyMatch(Objects::isNull)) {
+            throw new IllegalArgumentException("La liste d'identifiants ne peut pas contenir de valeur nulle");
+        }
+        List<Long> distincts = new ArrayList<>(new LinkedHashSet<>(ids));
+        if (distincts.size() > MAX_IDS) {
+            throw new IllegalArgumentException("Au plus " + MAX_IDS + " identifiants peuvent être traités à la fois");
+        }
+        return distincts;
+    }
+}
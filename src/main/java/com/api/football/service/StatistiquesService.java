@@ -0,0 +1,261 @@
+package com.api.football.service;
+
+import com.api.football.dto.EquipeDto;
+import com.api.football.dto.JoueurDto;
+import com.api.football.dto.StatistiquesEquipeDto;
+import com.api.football.dto.StatistiquesLigueDto;
+import com.api.football.event.RosterChangeEvent;
+import com.api.football.persistence.DatabaseRestoredEvent;
+import com.api.football.repository.EquipeAggregate;
+import com.api.football.repository.EquipeRepository;
+import com.api.football.repository.JoueurRepository;
+import com.api.football.repository.PositionCount;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+
+/**
+ * Service des statistiques d'effectifs.
+ *
+ * Les compteurs sont initialisés par deux requêtes {@code GROUP BY} (aucune
+ * entité n'est chargée), puis tenus à jour par deltas à chaque modification
+ * d'effectif validée. Les lectures ne touchent pas la base.
+ *
+ * Les deltas sont appliqués un par un sous le verrou du service, comme la
+ * reconstruction ; une reconstruction n'a lieu qu'au démarrage et après une
+ * restauration, ou si un événement ne permet pas de calculer son delta.
+ *
+ * @author API Football API Team
+ * @version 1.0.0
+ */
+@Service
+public class StatistiquesService {
+
+    private static final Logger logger = LoggerFactory.getLogger(StatistiquesService.class);
+
+    @Autowired
+    private EquipeRepository equipeRepository;
+
+    @Autowired
+    private JoueurRepository joueurRepository;
+
+    private volatile Compteurs compteurs;
+
+    /**
+     * Récupère les statistiques globales.
+     *
+     * @return le nombre d'équipes et de joueurs, les budgets et la répartition par position
+     */
+    public StatistiquesLigueDto getStatistiquesLigue() {
+        Compteurs courants = compteursCourants();
+
+        StatistiquesLigueDto dto = new StatistiquesLigueDto();
+        dto.setNombreEquipes(courants.equipes.size());
+        dto.setJoueursParPosition(lire(courants.ligue));
+        dto.setNombreJoueurs(dto.getJoueursParPosition().values().stream().mapToLong(Long::longValue).sum());
+        dto.setJoueursSansEquipe(lire(courants.sansEquipe).values().stream().mapToLong(Long::longValue).sum());
+        BigDecimal total = courants.budgetTotal;
+        dto.setBudgetTotal(total);
+        dto.setBudgetMoyen(courants.equipes.isEmpty() ? BigDecimal.ZERO
+                : total.divide(BigDecimal.valueOf(courants.equipes.size()), 2, RoundingMode.HALF_UP));
+        return dto;
+    }
+
+    /**
+     * Récupère la composition de l'effectif de toutes les équipes.
+     *
+     * @return les statistiques par équipe, triées par identifiant
+     */
+    public List<StatistiquesEquipeDto> getStatistiquesEquipes() {
+        return compteursCourants().equipes.values().stream()
+                .sorted(Comparator.comparing(equipe -> equipe.id))
+                .map(StatistiquesService::convertToDto)
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * Récupère la composition de l'effectif d'une équipe.
+     *
+     * @param equipeId l'identifiant de l'équipe
+     * @return les statistiques de l'équipe si elle existe
+     */
+    public Optional<StatistiquesEquipeDto> getStatistiquesEquipe(Long equipeId) {
+        return Optional.ofNullable(compteursCourants().equipes.get(equipeId))
+                .map(StatistiquesService::convertToDto);
+    }
+
+    /**
+     * Recalcule tous les compteurs à partir de la base.
+     */
+    @EventListener({ApplicationReadyEvent.class, DatabaseRestoredEvent.class})
+    public synchronized void reconstruire() {
+        long debut = System.nanoTime();
+        Compteurs nouveaux = new Compteurs();
+
+        for (EquipeAggregate equipe : equipeRepository.findAllAggregated()) {
+            nouveaux.equipes.put(equipe.getId(), new CompteursEquipe(equipe.getId(), equipe.getNom(),
+                    equipe.getAcronyme(), equipe.getBudget()));
+            nouveaux.budgetTotal = nouveaux.budgetTotal.add(equipe.getBudget());
+        }
+        for (PositionCount ligne : joueurRepository.countByEquipeAndPosition()) {
+            incrementer(nouveaux.ligue, ligne.getPosition(), ligne.getNombre());
+            CompteursEquipe equipe = ligne.getEquipeId() != null ? nouveaux.equipes.get(ligne.getEquipeId()) : null;
+            incrementer(equipe != null ? equipe.parPosition : nouveaux.sansEquipe, ligne.getPosition(), ligne.getNombre());
+        }
+
+        compteurs = nouveaux;
+        logger.info("Statistiques calculées: {} équipes en {} ms", nouveaux.equipes.size(),
+                (System.nanoTime() - debut) / 1_000_000);
+    }
+
+    /**
+     * Applique le delta d'une modification d'effectif validée.
+     *
+     * @param event la modification
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public synchronized void onRosterChange(RosterChangeEvent event) {
+        Compteurs courants = compteurs;
+        if (courants == null) {
+            return;
+        }
+
+        JoueurDto joueur = event.getJoueur();
+        switch (event.getType()) {
+            case EQUIPE_CREEE:
+                EquipeDto equipe = event.getEquipe();
+                courants.equipes.put(equipe.getId(), new CompteursEquipe(equipe.getId(), equipe.getNom(),
+                        equipe.getAcronyme(), equipe.getBudget()));
+                courants.budgetTotal = courants.budgetTotal.add(equipe.getBudget());
+                if (equipe.getJoueurs() != null) {
+                    for (JoueurDto nouveau : equipe.getJoueurs()) {
+                        ajuster(courants, null, equipe.getId(), nouveau.getPosition(), 1);
+                    }
+                }
+                break;
+            case JOUEUR_CREE:
+                ajuster(courants, null, joueur.getEquipeId(), joueur.getPosition(), 1);
+                break;
+            case JOUEUR_TRANSFERE:
+                ajuster(courants, event.getAncienneEquipeId(), joueur.getEquipeId(), joueur.getPosition(), 0);
+                break;
+            case JOUEUR_AJOUTE:
+                // Le joueur ajouté était sans équipe
+                ajuster(courants, null, joueur.getEquipeId(), joueur.getPosition(), 0);
+                break;
+            case JOUEUR_RETIRE:
+                // Le joueur retiré reste en base, sans équipe
+                ajuster(courants, event.getAncienneEquipeId(), null, joueur.getPosition(), 0);
+                break;
+            case JOUEURS_SUPPRIMES:
+                for (JoueurDto supprime : event.getJoueurs()) {
+                    ajuster(courants, event.getAncienneEquipeId(), null, supprime.getPosition(), -1);
+                }
+                break;
+            default:
+                logger.warn("Modification d'effectif non gérée: {}", event);
+        }
+    }
+
+    /**
+     * Applique le delta d'un joueur entre deux effectifs (null = sans équipe) :
+     * +1 pour une création (pas d'origine), -1 pour une suppression (pas de
+     * destination), 0 pour un déplacement qui ne change pas les totaux.
+     */
+    private static void ajuster(Compteurs courants, Long depuis, Long vers, String position, int deltaLigue) {
+        if (deltaLigue <= 0) {
+            incrementer(effectif(courants, depuis), position, -1);
+        }
+        if (deltaLigue >= 0) {
+            incrementer(effectif(courants, vers), position, 1);
+        }
+        if (deltaLigue != 0) {
+            incrementer(courants.ligue, position, deltaLigue);
+        }
+    }
+
+    private static Map<String, AtomicLong> effectif(Compteurs courants, Long equipeId) {
+        CompteursEquipe equipe = equipeId != null ? courants.equipes.get(equipeId) : null;
+        return equipe != null ? equipe.parPosition : courants.sansEquipe;
+    }
+
+    private static void incrementer(Map<String, AtomicLong> compteurs, String position, long delta) {
+        compteurs.computeIfAbsent(position, p -> new AtomicLong()).addAndGet(delta);
+    }
+
+    private static Map<String, Long> lire(Map<String, AtomicLong> compteurs) {
+        Map<String, Long> valeurs = new TreeMap<>();
+        compteurs.forEach((position, nombre) -> {
+            long valeur = nombre.get();
+            if (valeur > 0) {
+                valeurs.put(position, valeur);
+            }
+        });
+        return valeurs;
+    }
+
+    private static StatistiquesEquipeDto convertToDto(CompteursEquipe equipe) {
+        StatistiquesEquipeDto dto = new StatistiquesEquipeDto();
+        dto.setEquipeId(equipe.id);
+        dto.setNom(equipe.nom);
+        dto.setAcronyme(equipe.acronyme);
+        dto.setBudget(equipe.budget);
+        dto.setJoueursParPosition(lire(equipe.parPosition));
+        dto.setNombreJoueurs(dto.getJoueursParPosition().values().stream().mapToLong(Long::longValue).sum());
+        return dto;
+    }
+
+    private Compteurs compteursCourants() {
+        Compteurs courants = compteurs;
+        if (courants == null) {
+            reconstruire();
+            courants = compteurs;
+        }
+        return courants;
+    }
+
+    /**
+     * Ensemble des compteurs, remplacé d'un bloc à chaque reconstruction.
+     */
+    private static final class Compteurs {
+
+        private final Map<Long, CompteursEquipe> equipes = new ConcurrentHashMap<>();
+        private final Map<String, AtomicLong> ligue = new ConcurrentHashMap<>();
+        private final Map<String, AtomicLong> sansEquipe = new ConcurrentHashMap<>();
+        private volatile BigDecimal budgetTotal = BigDecimal.ZERO;
+    }
+
+    /**
+     * Compteurs d'une équipe.
+     */
+    private static final class CompteursEquipe {
+
+        private final Long id;
+        private final String nom;
+        private final String acronyme;
+        private final BigDecimal budget;
+        private final Map<String, AtomicLong> parPosition = new ConcurrentHashMap<>();
+
+        private CompteursEquipe(Long id, String nom, String acronyme, BigDecimal budget) {
+            this.id = id;
+            this.nom = nom;
+            this.acronyme = acronyme;
+            this.budget = budget;
+        }
+    }
+}
@@ -0,0 +1,340 @@
+package com.api.football.stream;
+
+import com.api.football.dto.EquipeDto;
+import com.api.football.dto.RosterDeltaDto;
+import com.api.football.event.RosterChangeEvent;
+import com.api.football.service.EquipeService;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Service de diffusion des changements d'effectifs en Server-Sent Events.
+ *
+ * Les connexions reposent sur le traitement asynchrone des servlets : une
+ * connexion inactive n'occupe aucun thread. Les changements validés sont
+ * déposés dans le tampon borné de chaque abonné concerné, puis vidés par une
+ * tâche propre à l'abonné : au plus une tâche en attente ou en cours par
+ * connexion. Ces tâches sont exécutées par un nombre fixe de threads d'envoi,
+ * dimensionné sur les processeurs et indépendant du nombre de connexions ; la
+ * file d'attente compte au plus une tâche par abonné.
+ *
+ * Un envoi qui dépasse le délai d'écriture décroche l'abonné : il ne reçoit
+ * plus de changements, sa connexion est terminée en erreur et le client doit
+ * se reconnecter. Un client lent ne retient donc un thread d'envoi que le
+ * temps de ce délai. La fermeture, qui attend la fin de l'écriture bloquée,
+ * est confiée à un thread à part pour ne pas retenir un thread d'envoi de plus.
+ *
+ * Un abonné trop lent dont le tampon déborde perd ses changements en attente :
+ * ils sont remplacés par un unique événement {@code resync} (accompagné de
+ * l'état courant de l'équipe suivie), ce qui borne la mémoire sans laisser le
+ * client dans un état incohérent. Cet état est lu sans être compté comme une
+ * consultation de l'équipe.
+ *
+ * @author API Football API Team
+ * @version 1.0.0
+ */
+@Service
+public class RosterStreamService {
+
+    private static final Logger logger = LoggerFactory.getLogger(RosterStreamService.class);
+
+    private final StreamProperties properties;
+    private final Set<Abonne> abonnes = ConcurrentHashMap.newKeySet();
+    private final ExecutorService envoi;
+    private final ExecutorService fermetures;
+    private final ScheduledExecutorService battements;
+    private final LongAdder changementsEnvoyes = new LongAdder();
+    private final LongAdder changementsAbandonnes = new LongAdder();
+    private final LongAdder abonnesDecroches = new LongAdder();
+
+    @Autowired
+    private EquipeService equipeService;
+
+    /**
+     * Constructeur.
+     *
+     * @param properties les paramètres de diffusion
+     */
+    public RosterStreamService(StreamProperties properties) {
+        this.properties = properties;
+        int threads = properties.getThreadsEnvoi() > 0
+                ? properties.getThreadsEnvoi()
+                : Runtime.getRuntime().availableProcessors();
+        AtomicInteger compteur = new AtomicInteger();
+        this.envoi = Executors.newFixedThreadPool(threads, runnable -> {
+            Thread thread = new Thread(runnable, "roster-stream-envoi-" + compteur.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.fermetures = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "roster-stream-fermeture");
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.battements = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "roster-stream-heartbeat");
+            thread.setDaemon(true);
+            return thread;
+        });
+        long periode = properties.getHeartbeat().toMillis();
+        battements.scheduleAtFixedRate(this::planifierBattements, periode, periode, TimeUnit.MILLISECONDS);
+        long surveillance = Math.max(10, properties.getDelaiEcriture().toMillis() / 4);
+        battements.scheduleAtFixedRate(this::decrocherAbonnesBloques, surveillance, surveillance,
+                TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Ouvre un abonnement aux changements d'une équipe ou de toutes les équipes.
+     *
+     * Pour une équipe, l'état courant de l'effectif est envoyé en premier
+     * (événement {@code snapshot}).
+     *
+     * @param equipeId l'équipe suivie, ou null pour toutes les équipes
+     * @return l'émetteur SSE de la connexion, ou Optional.empty() si le nombre
+     *         maximal de connexions est atteint
+     */
+    public Optional<SseEmitter> abonner(Long equipeId) {
+        SseEmitter emitter = new SseEmitter(properties.getTimeout().toMillis());
+        return abonner(emitter, equipeId) ? Optional.of(emitter) : Optional.empty();
+    }
+
+    boolean abonner(SseEmitter emitter, Long equipeId) {
+        if (abonnes.size() >= properties.getMaxAbonnes()) {
+            logger.warn("Nombre maximal d'abonnés atteint ({}), connexion refusée", properties.getMaxAbonnes());
+            return false;
+        }
+        Abonne abonne = new Abonne(emitter, equipeId, properties.getTailleTampon());
+
+        emitter.onCompletion(() -> retirer(abonne));
+        emitter.onTimeout(() -> retirer(abonne));
+        emitter.onError(erreur -> retirer(abonne));
+
+        abonnes.add(abonne);
+        abonne.resynchroniser = equipeId != null;
+        planifier(abonne);
+
+        logger.debug("Nouvel abonné aux changements d'effectif (équipe: {}), total: {}", equipeId, abonnes.size());
+        return true;
+    }
+
+    /**
+     * Dépose un changement validé dans le tampon des abonnés concernés.
+     *
+     * @param event l'événement publié par un service
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onRosterChange(RosterChangeEvent event) {
+        if (abonnes.isEmpty()) {
+            return;
+        }
+        RosterDeltaDto delta = RosterDeltaDto.of(event);
+        for (Abonne abonne : abonnes) {
+            if (abonne.equipeId != null && !delta.concerne(abonne.equipeId)) {
+                continue;
+            }
+            if (!abonne.tampon.offer(delta)) {
+                // Abonné trop lent : les changements en attente sont remplacés par une resynchronisation
+                changementsAbandonnes.add(abonne.tampon.size() + 1L);
+                abonne.tampon.clear();
+                abonne.resynchroniser = true;
+            }
+            planifier(abonne);
+        }
+    }
+
+    /**
+     * Retourne le nombre de connexions ouvertes.
+     *
+     * @return le nombre d'abonnés
+     */
+    public int getNombreAbonnes() {
+        return abonnes.size();
+    }
+
+    /**
+     * Retourne le nombre de changements envoyés depuis le démarrage.
+     *
+     * @return le nombre de changements envoyés
+     */
+    public long getChangementsEnvoyes() {
+        return changementsEnvoyes.sum();
+    }
+
+    /**
+     * Retourne le nombre de changements abandonnés au profit d'une resynchronisation.
+     *
+     * @return le nombre de changements abandonnés
+     */
+    public long getChangementsAbandonnes() {
+        return changementsAbandonnes.sum();
+    }
+
+    /**
+     * Retourne le nombre d'abonnés décrochés parce qu'un envoi a dépassé le délai d'écriture.
+     *
+     * @return le nombre d'abonnés décrochés
+     */
+    public long getAbonnesDecroches() {
+        return abonnesDecroches.sum();
+    }
+
+    @PreDestroy
+    void arreter() {
+        battements.shutdownNow();
+        envoi.shutdownNow();
+        fermetures.shutdownNow();
+        abonnes.forEach(abonne -> abonne.emitter.complete());
+        abonnes.clear();
+    }
+
+    private void planifierBattements() {
+        for (Abonne abonne : abonnes) {
+            abonne.battementDu = true;
+            planifier(abonne);
+        }
+    }
+
+    /**
+     * Décroche les abonnés dont l'envoi en cours dépasse le délai d'écriture.
+     *
+     * L'émetteur est terminé depuis le thread de fermeture : il attend la fin
+     * de l'écriture bloquée, que le conteneur finit par interrompre, sans
+     * retenir le thread de surveillance ni un thread d'envoi.
+     */
+    private void decrocherAbonnesBloques() {
+        long limite = System.nanoTime() - properties.getDelaiEcriture().toNanos();
+        for (Abonne abonne : abonnes) {
+            long debut = abonne.debutEcriture;
+            if (debut != 0 && debut - limite < 0 && abonnes.remove(abonne)) {
+                abonne.tampon.clear();
+                abonnesDecroches.increment();
+                logger.warn("Abonné décroché (équipe: {}) : envoi bloqué depuis plus de {}",
+                        abonne.equipeId, properties.getDelaiEcriture());
+                try {
+                    fermetures.execute(() -> abonne.emitter.completeWithError(
+                            new TimeoutException("Délai d'écriture dépassé")));
+                } catch (RuntimeException e) {
+                    logger.debug("Fermeture refusée pour un abonné: {}", e.getMessage());
+                }
+            }
+        }
+    }
+
+    private void planifier(Abonne abonne) {
+        if (!abonnes.contains(abonne)) {
+            return;
+        }
+        if (abonne.planifie.compareAndSet(false, true)) {
+            try {
+                envoi.execute(() -> vider(abonne));
+            } catch (RuntimeException e) {
+                abonne.planifie.set(false);
+                logger.debug("Envoi refusé pour un abonné: {}", e.getMessage());
+            }
+        }
+    }
+
+    private void vider(Abonne abonne) {
+        try {
+            if (abonne.resynchroniser) {
+                abonne.resynchroniser = false;
+                envoyerResynchronisation(abonne);
+            }
+            RosterDeltaDto delta;
+            while ((delta = abonne.tampon.poll()) != null) {
+                envoyer(abonne, SseEmitter.event().name("change").data(delta, MediaType.APPLICATION_JSON));
+                changementsEnvoyes.increment();
+                abonne.battementDu = false;
+            }
+            if (abonne.battementDu) {
+                abonne.battementDu = false;
+                envoyer(abonne, SseEmitter.event().comment("heartbeat"));
+            }
+        } catch (IOException | IllegalStateException e) {
+            // Connexion fermée par le client, déjà terminée ou décrochée
+            retirer(abonne);
+            return;
+        } finally {
+            abonne.planifie.set(false);
+        }
+
+        // Des changements ont pu arriver pendant l'envoi
+        if (!abonne.tampon.isEmpty() || abonne.resynchroniser) {
+            planifier(abonne);
+        }
+    }
+
+    /**
+     * Envoie un événement en notant son début, surveillé par
+     * {@link #decrocherAbonnesBloques()}.
+     */
+    private static void envoyer(Abonne abonne, SseEmitter.SseEventBuilder evenement) throws IOException {
+        abonne.debutEcriture = Math.max(1, System.nanoTime());
+        try {
+            abonne.emitter.send(evenement);
+        } finally {
+            abonne.debutEcriture = 0;
+        }
+    }
+
+    private void envoyerResynchronisation(Abonne abonne) throws IOException {
+        if (abonne.equipeId == null) {
+            envoyer(abonne, SseEmitter.event().name("resync").data("{}", MediaType.APPLICATION_JSON));
+            return;
+        }
+        Optional<EquipeDto> equipe = equipeService.lireEquipe(abonne.equipeId);
+        if (equipe.isPresent()) {
+            envoyer(abonne, SseEmitter.event().name("snapshot").data(equipe.get(), MediaType.APPLICATION_JSON));
+        } else {
+            envoyer(abonne, SseEmitter.event().name("resync").data("{}", MediaType.APPLICATION_JSON));
+        }
+    }
+
+    private void retirer(Abonne abonne) {
+        if (abonnes.remove(abonne)) {
+            abonne.tampon.clear();
+            logger.debug("Abonné retiré (équipe: {}), total: {}", abonne.equipeId, abonnes.size());
+        }
+    }
+
+    /**
+     * Connexion d'un abonné et son tampon de changements en attente.
+     */
+    private static final class Abonne {
+
+        private final SseEmitter emitter;
+        private final Long equipeId;
+        private final ArrayBlockingQueue<RosterDeltaDto> tampon;
+        private final AtomicBoolean planifie = new AtomicBoolean();
+        private volatile boolean resynchroniser;
+        private volatile boolean battementDu;
+        /** Début de l'envoi en cours (System.nanoTime()), 0 hors envoi. */
+        private volatile long debutEcriture;
+
+        private Abonne(SseEmitter emitter, Long equipeId, int tailleTampon) {
+            this.emitter = emitter;
+            this.equipeId = equipeId;
+            this.tampon = new ArrayBlockingQueue<>(Math.max(1, tailleTampon));
+        }
+    }
+}
@@ -0,0 +1,111 @@
+package com.api.football.stream;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * Paramètres de la diffusion des changements d'effectifs en Server-Sent Events.
+ *
+ * Préfixe : {@code football.stream}.
+ *
+ * @author API Football API Team
+ * @version 1.0.0
+ */
+@ConfigurationProperties(prefix = "football.stream")
+public class StreamProperties {
+
+    /**
+     * Nombre maximal de changements en attente par abonné. Au-delà, les
+     * changements en attente sont remplacés par une resynchronisation.
+     */
+    private int tailleTampon = 64;
+
+    /**
+     * Intervalle des battements de cœur envoyés aux connexions inactives.
+     */
+    private Duration heartbeat = Duration.ofSeconds(15);
+
+    /**
+     * Durée de vie maximale d'une connexion ; le client se reconnecte ensuite.
+     */
+    private Duration timeout = Duration.ofMinutes(30);
+
+    /**
+     * Durée maximale d'un envoi à un abonné ; au-delà, l'abonné est décroché.
+     */
+    private Duration delaiEcriture = Duration.ofSeconds(10);
+
+    /**
+     * Nombre maximal de connexions ouvertes. Une connexion inactive n'occupe
+     * aucun thread : seule la mémoire de son tampon limite ce nombre.
+     */
+    private int maxAbonnes = 50000;
+
+    /**
+     * Nombre de threads d'envoi partagés par tous les abonnés (0 = nombre de processeurs).
+     */
+    private int threadsEnvoi = 0;
+
+    // Getters et Setters
+
+    public int getTailleTampon() {
+        return tailleTampon;
+    }
+
+    public void setTailleTampon(int tailleTampon) {
+        this.tailleTampon = tailleTampon;
+    }
+
+    public Duration getHeartbeat() {
+        return heartbeat;
+    }
+
+    public void setHeartbeat(Duration heartbeat) {
+        this.heartbeat = heartbeat;
+    }
+
+    public Duration getTimeout() {
+        return timeout;
+    }
+
+    public void setTimeout(Duration timeout) {
+        this.timeout = timeout;
+    }
+
+    public Duration getDelaiEcriture() {
+        return delaiEcriture;
+    }
+
+    public void setDelaiEcriture(Duration delaiEcriture) {
+        this.delaiEcriture = delaiEcriture;
+    }
+
+    public int getMaxAbonnes() {
+        return maxAbonnes;
+    }
+
+    public void setMaxAbonnes(int maxAbonnes) {
+        this.maxAbonnes = maxAbonnes;
+    }
+
+    public int getThreadsEnvoi() {
+        return threadsEnvoi;
+    }
+
+    public void setThreadsEnvoi(int threadsEnvoi) {
+        this.threadsEnvoi = threadsEnvoi;
+    }
+
+    @Override
+    public String toString() {
+        return "StreamProperties{" +
+                "tailleTampon=" + tailleTampon +
+                ", heartbeat=" + heartbeat +
+                ", timeout=" + timeout +
+                ", delaiEcriture=" + delaiEcriture +
+                ", maxAbonnes=" + maxAbonnes +
+                ", threadsEnvoi=" + threadsEnvoi +
+                '}';
+    }
+}
@@ -0,0 +1,323 @@
+package com.api.football.streaming;
+
+import com.api.football.dto.EquipeDto;
+import com.api.football.dto.JoueurDto;
+import com.api.football.metrics.MetricsSource;
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import jakarta.annotation.PostConstruct;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+
+import javax.sql.DataSource;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.math.BigDecimal;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Écriture en flux des pages de joueurs et d'équipes.
+ *
+ * Les lignes sont lues par un curseur en avant seulement, par lots de
+ * {@code tailleLot}, et chaque élément est écrit dans le {@link JsonGenerator}
+ * dès qu'il est lu : la liste des DTO de la page n'est jamais construite. Le
+ * flux de réponse est vidé tous les {@code seuilFlush} éléments. La mémoire
+ * occupée par une requête est ainsi bornée par le lot du pilote JDBC, le
+ * tampon du générateur et un seul élément, quelle que soit la taille de page.
+ *
+ * Une ligne de plus que la page est demandée pour renseigner {@code hasNext}
+ * sans requête de comptage.
+ *
+ * Le statut est envoyé avant la fin de la lecture : si le curseur échoue en
+ * cours de page, le document n'est pas refermé et le client reçoit un JSON
+ * tronqué, jamais une page plus courte d'apparence valide.
+ *
+ * @author API Football API Team
+ * @version 1.0.0
+ */
+@Service
+public class StreamingPageWriter implements MetricsSource {
+
+    private static final Logger logger = LoggerFactory.getLogger(StreamingPageWriter.class);
+
+    private static final String SELECT_JOUEURS = "SELECT id, nom, position, equipe_id, equipe_nom FROM joueurs";
+    private static final String SELECT_EQUIPES = "SELECT id, nom, acronyme, budget FROM equipes";
+    private static final String SELECT_EFFECTIFS =
+            "SELECT e.id, e.nom, e.acronyme, e.budget, j.id, j.nom, j.position, j.equipe_nom FROM (";
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private StreamingProperties streamingProperties;
+
+    /**
+     * Sérialiseur de la configuration Spring, sans vidage après chaque valeur :
+     * les vidages suivent le seuil configuré.
+     */
+    private ObjectWriter writer;
+
+    private final AtomicLong pages = new AtomicLong();
+    private final AtomicLong elements = new AtomicLong();
+    private final AtomicLong vidages = new AtomicLong();
+    private final AtomicLong interrompues = new AtomicLong();
+
+    @PostConstruct
+    void initialiser() {
+        writer = objectMapper.writer().without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+    }
+
+    /**
+     * @return la taille de page maximale acceptée
+     */
+    public int getTailleMax() {
+        return streamingProperties.getTailleMax();
+    }
+
+    /**
+     * Écrit une page de joueurs, avec les mêmes filtres et tris que la liste paginée.
+     *
+     * @param sortie le flux de la réponse, laissé ouvert
+     * @param page le numéro de page (commence à 0)
+     * @param size la taille de la page
+     * @param sortBy le champ de tri (nom, position)
+     * @param sortDirection la direction du tri (asc, desc)
+     * @param equipeId filtre par équipe (optionnel)
+     * @param position filtre par position, sans casse (optionnel)
+     * @throws IOException si le client a fermé la connexion
+     */
+    public void ecrireJoueurs(OutputStream sortie, int page, int size, String sortBy, String sortDirection,
+                              Long equipeId, String position) throws IOException {
+        String tri = colonneTriJoueurs(sortBy) + sens(sortDirection);
+        List<Object> parametres = new ArrayList<>();
+        StringBuilder sql = new StringBuilder(SELECT_JOUEURS);
+        String liaison = " WHERE ";
+        if (equipeId != null) {
+            sql.append(liaison).append("equipe_id = ?");
+            parametres.add(equipeId);
+            liaison = " AND ";
+        }
+        if (position != null) {
+            sql.append(liaison).append("LOWER(position) LIKE ? ESCAPE '\\'");
+            parametres.add("%" + echapper(position.toLowerCase(Locale.ROOT)) + "%");
+        }
+        sql.append(" ORDER BY ").append(tri).append(", id").append(sens(sortDirection)).append(" LIMIT ? OFFSET ?");
+        parametres.add(size + 1);
+        parametres.add((long) page * size);
+
+        ecrirePage(sortie, sql.toString(), parametres, page, size, StreamingPageWriter::lireJoueur);
+    }
+
+    /**
+     * Écrit une page d'équipes avec leurs effectifs. Les lignes arrivent
+     * triées par équipe : une seule équipe est en mémoire à la fois.
+     *
+     * @param sortie le flux de la réponse, laissé ouvert
+     * @param page le numéro de page (commence à 0)
+     * @param size la taille de la page
+     * @param sortBy le champ de tri (nom, acronyme, budget)
+     * @param sortDirection la direction du tri (asc, desc)
+     * @param minBudget budget minimal inclus (optionnel)
+     * @param maxBudget budget maximal inclus (optionnel)
+     * @throws IOException si le client a fermé la connexion
+     */
+    public void ecrireEquipes(OutputStream sortie, int page, int size, String sortBy, String sortDirection,
+                              BigDecimal minBudget, BigDecimal maxBudget) throws IOException {
+        String colonne = colonneTriEquipes(sortBy);
+        String sens = sens(sortDirection);
+        List<Object> parametres = new ArrayList<>();
+        StringBuilder sql = new StringBuilder(SELECT_EFFECTIFS).append(SELECT_EQUIPES);
+        String liaison = " WHERE ";
+        if (minBudget != null) {
+            sql.append(liaison).append("budget >= ?");
+            parametres.add(minBudget);
+            liaison = " AND ";
+        }
+        if (maxBudget != null) {
+            sql.append(liaison).append("budget <= ?");
+            parametres.add(maxBudget);
+        }
+        sql.append(" ORDER BY ").append(colonne).append(sens).append(", id").append(sens)
+                .append(" LIMIT ? OFFSET ?) e LEFT JOIN joueurs j ON j.equipe_id = e.id")
+                .append(" ORDER BY e.").append(colonne).append(sens).append(", e.id").append(sens).append(", j.id");
+        parametres.add(size + 1);
+        parametres.add((long) page * size);
+
+        ecrirePage(sortie, sql.toString(), parametres, page, size, StreamingPageWriter::lireEquipe);
+    }
+
+    private void ecrirePage(OutputStream sortie, String sql, List<Object> parametres, int page, int size,
+                            Lecteur lecteur) throws IOException {
+        int seuilFlush = Math.max(1, streamingProperties.getSeuilFlush());
+        long debut = System.nanoTime();
+        int ecrits = 0;
+        try (Connection connection = dataSource.getConnection()) {
+            boolean autoCommit = connection.getAutoCommit();
+            // Hors transaction, certains pilotes ignorent la taille de lot et chargent tout le résultat
+            connection.setAutoCommit(false);
+            try (PreparedStatement statement = connection.prepareStatement(sql,
+                    ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY)) {
+                statement.setFetchSize(Math.max(1, streamingProperties.getTailleLot()));
+                for (int i = 0; i < parametres.size(); i++) {
+                    statement.setObject(i + 1, parametres.get(i));
+                }
+                try (ResultSet resultSet = statement.executeQuery();
+                     JsonGenerator generator = objectMapper.getFactory().createGenerator(sortie, JsonEncoding.UTF8)) {
+                    generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+                    // Une page interrompue doit rester un JSON invalide, pas une page courte bien formée
+                    generator.disable(JsonGenerator.Feature.AUTO_CLOSE_JSON_CONTENT);
+                    generator.writeStartObject();
+                    generator.writeArrayFieldStart("content");
+
+                    Curseur curseur = new Curseur(resultSet);
+                    while (curseur.surLigne && ecrits < size) {
+                        writer.writeValue(generator, lecteur.lire(curseur));
+                        ecrits++;
+                        if (ecrits % seuilFlush == 0) {
+                            generator.flush();
+                            vidages.incrementAndGet();
+                        }
+                    }
+
+                    generator.writeEndArray();
+                    generator.writeNumberField("page", page);
+                    generator.writeNumberField("size", size);
+                    generator.writeNumberField("numberOfElements", ecrits);
+                    generator.writeBooleanField("hasNext", curseur.surLigne);
+                    generator.writeEndObject();
+                    generator.flush();
+                }
+            } finally {
+                connection.rollback();
+                connection.setAutoCommit(autoCommit);
+            }
+        } catch (IOException e) {
+            interrompues.incrementAndGet();
+            logger.info("Page en flux interrompue après {} éléments: {}", ecrits, e.getMessage());
+            throw e;
+        } catch (SQLException e) {
+            // Le statut 200 est déjà envoyé : la réponse reste tronquée
+            interrompues.incrementAndGet();
+            throw new IllegalStateException("Échec de la lecture en flux après " + ecrits + " éléments", e);
+        } finally {
+            elements.addAndGet(ecrits);
+        }
+        pages.incrementAndGet();
+        logger.debug("Page en flux {} écrite: {} éléments en {} ms", page, ecrits,
+                (System.nanoTime() - debut) / 1_000_000);
+    }
+
+    private static JoueurDto lireJoueur(Curseur curseur) throws SQLException {
+        ResultSet resultSet = curseur.resultSet;
+        long equipeId = resultSet.getLong(4);
+        boolean sansEquipe = resultSet.wasNull();
+        JoueurDto joueur = new JoueurDto(resultSet.getLong(1), resultSet.getString(2), resultSet.getString(3),
+                sansEquipe ? null : equipeId, resultSet.getString(5));
+        curseur.avancer();
+        return joueur;
+    }
+
+    private static EquipeDto lireEquipe(Curseur curseur) throws SQLException {
+        ResultSet resultSet = curseur.resultSet;
+        long id = resultSet.getLong(1);
+        EquipeDto equipe = new EquipeDto(id, resultSet.getString(2), resultSet.getString(3),
+                resultSet.getBigDecimal(4), new ArrayList<>());
+        do {
+            long joueurId = resultSet.getLong(5);
+            if (!resultSet.wasNull()) {
+                equipe.getJoueurs().add(new JoueurDto(joueurId, resultSet.getString(6), resultSet.getString(7),
+                        id, resultSet.getString(8)));
+            }
+        } while (curseur.avancer() && resultSet.getLong(1) == id);
+        return equipe;
+    }
+
+    private static String colonneTriJoueurs(String sortBy) {
+        String normalise = sortBy == null ? "" : sortBy.toLowerCase(Locale.ROOT).trim();
+        return switch (normalise) {
+            case "position" -> "position";
+            default -> "nom";
+        };
+    }
+
+    private static String colonneTriEquipes(String sortBy) {
+        String normalise = sortBy == null ? "" : sortBy.toLowerCase(Locale.ROOT).trim();
+        return switch (normalise) {
+            case "acronyme", "acronym" -> "acronyme";
+            case "budget" -> "budget";
+            default -> "nom";
+        };
+    }
+
+    private static String sens(String sortDirection) {
+        return "desc".equalsIgnoreCase(sortDirection) ? " DESC" : " ASC";
+    }
+
+    /**
+     * Échappe les jokers de LIKE, comme les requêtes dérivées {@code Containing}.
+     */
+    private static String echapper(String valeur) {
+        return valeur.replace("\\", "\\\\").replace("%", "\\%").replace("_", "\\_");
+    }
+
+    @Override
+    public String getNomMetriques() {
+        return "streaming";
+    }
+
+    @Override
+    public Map<String, Number> getMetriques() {
+        Map<String, Number> metriques = new LinkedHashMap<>();
+        metriques.put("pages", pages.get());
+        metriques.put("elements", elements.get());
+        metriques.put("vidages", vidages.get());
+        metriques.put("interrompues", interrompues.get());
+        return metriques;
+    }
+
+    /**
+     * Lit l'élément qui commence à la ligne courante et laisse le curseur sur
+     * la première ligne de l'élément suivant.
+     */
+    @FunctionalInterface
+    private interface Lecteur {
+
+        Object lire(Curseur curseur) throws SQLException;
+    }
+
+    /**
+     * Résultat parcouru en avant, avec la présence d'une ligne courante.
+     */
+    private static final class Curseur {
+
+        private final ResultSet resultSet;
+        private boolean surLigne;
+
+        Curseur(ResultSet resultSet) throws SQLException {
+            this.resultSet = resultSet;
+            this.surLigne = resultSet.next();
+        }
+
+        boolean avancer() throws SQLException {
+            surLigne = resultSet.next();
+            return surLigne;
+        }
+    }
+}
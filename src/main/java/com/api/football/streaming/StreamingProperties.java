@@ -0,0 +1,56 @@
+package com.api.football.streaming;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Paramètres des listes sérialisées en flux.
+ *
+ * Préfixe : {@code football.streaming}.
+ *
+ * @author API Football API Team
+ * @version 1.0.0
+ */
+@ConfigurationProperties(prefix = "football.streaming")
+public class StreamingProperties {
+
+    /**
+     * Taille de page maximale acceptée par les endpoints en flux.
+     */
+    private int tailleMax = 10000;
+
+    /**
+     * Nombre de lignes lues par aller-retour avec la base (fetch size).
+     */
+    private int tailleLot = 500;
+
+    /**
+     * Nombre d'éléments écrits entre deux vidages du flux de réponse.
+     */
+    private int seuilFlush = 200;
+
+    // Getters et Setters
+
+    public int getTailleMax() {
+        return tailleMax;
+    }
+
+    public void setTailleMax(int tailleMax) {
+        this.tailleMax = tailleMax;
+    }
+
+    public int getTailleLot() {
+        return tailleLot;
+    }
+
+    public void setTailleLot(int tailleLot) {
+        this.tailleLot = tailleLot;
+    }
+
+    public int getSeuilFlush() {
+        return seuilFlush;
+    }
+
+    public void setSeuilFlush(int seuilFlush) {
+        this.seuilFlush = seuilFlush;
+    }
+}
@@ -0,0 +1,225 @@
+package com.api.football.suggest;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.regex.Pattern;
+
+/**
+ * Index de préfixes immuable : trie implicite sur un tableau trié de clés.
+ *
+ * Chaque élément est indexé sous chacun de ses mots normalisés (minuscules,
+ * sans accents), et sous le nom complet : « mbap » trouve « Kylian Mbappé ».
+ * Les clés partageant un préfixe sont contiguës ; une requête délimite leur
+ * plage par deux recherches dichotomiques puis en extrait les meilleurs
+ * éléments. Pour les préfixes courts qui couvrent trop de clés pour être
+ * parcourus, le classement est précalculé à la construction.
+ *
+ * Deux tableaux parallèles remplacent les nœuds d'un trie classique : la
+ * mémoire est proportionnelle au nombre de clés, pas au nombre de caractères.
+ *
+ * @author API Football API Team
+ * @version 1.0.0
+ */
+final class PrefixIndex {
+
+    /** Au-delà de ce nombre de clés, le classement d'un préfixe est précalculé. */
+    static final int SEUIL_PARCOURS = 512;
+
+    private static final Pattern DIACRITIQUES = Pattern.compile("\\p{M}+");
+    private static final Pattern SEPARATEURS = Pattern.compile("[\\s\\-'’.]+");
+
+    /** Popularité décroissante, équipes d'abord, libellés courts puis ordre alphabétique. */
+    static final Comparator<Suggestion> CLASSEMENT = Comparator
+            .comparingLong(Suggestion::getScore).reversed()
+            .thenComparing(Suggestion::getType)
+            .thenComparingInt(s -> s.getLibelle().length())
+            .thenComparing(Suggestion::getLibelle)
+            .thenComparing(Suggestion::getId);
+
+    static final PrefixIndex VIDE = new PrefixIndex(new String[0], new Suggestion[0], Map.of(), 0);
+
+    private final String[] cles;
+    private final Suggestion[] elements;
+    private final Map<String, Suggestion[]> meilleursParPrefixe;
+    private final int profondeurPrecalculee;
+
+    private PrefixIndex(String[] cles, Suggestion[] elements, Map<String, Suggestion[]> meilleursParPrefixe,
+                        int profondeurPrecalculee) {
+        this.cles = cles;
+        this.elements = elements;
+        this.meilleursParPrefixe = meilleursParPrefixe;
+        this.profondeurPrecalculee = profondeurPrecalculee;
+    }
+
+    /**
+     * Construit l'index.
+     *
+     * @param suggestions les éléments à indexer
+     * @param taillePrecalcul le nombre d'éléments précalculés par préfixe fréquent
+     * @return l'index
+     */
+    static PrefixIndex construire(Collection<Suggestion> suggestions, int taillePrecalcul) {
+        List<Object[]> paires = new ArrayList<>(suggestions.size() * 3);
+        for (Suggestion suggestion : suggestions) {
+            suggestion.figerScore();
+            for (String cle : cles(suggestion)) {
+                paires.add(new Object[]{cle, suggestion});
+            }
+        }
+        paires.sort(Comparator.comparing(paire -> (String) paire[0]));
+
+        int n = paires.size();
+        String[] cles = new String[n];
+        Suggestion[] elements = new Suggestion[n];
+        for (int i = 0; i < n; i++) {
+            cles[i] = (String) paires.get(i)[0];
+            elements[i] = (Suggestion) paires.get(i)[1];
+        }
+
+        // Précalcul des préfixes trop fréquents, longueur par longueur
+        Map<String, Suggestion[]> meilleurs = new HashMap<>();
+        int profondeur = 0;
+        for (int longueur = 1; ; longueur++) {
+            boolean frequent = false;
+            int i = 0;
+            while (i < n) {
+                if (cles[i].length() < longueur) {
+                    i++;
+                    continue;
+                }
+                String prefixe = cles[i].substring(0, longueur);
+                int j = i + 1;
+                while (j < n && cles[j].startsWith(prefixe)) {
+                    j++;
+                }
+                if (j - i > SEUIL_PARCOURS) {
+                    meilleurs.put(prefixe, meilleurs(elements, i, j, taillePrecalcul, null));
+                    frequent = true;
+                }
+                i = j;
+            }
+            if (!frequent) {
+                break;
+            }
+            profondeur = longueur;
+        }
+        return new PrefixIndex(cles, elements, meilleurs, profondeur);
+    }
+
+    /**
+     * Recherche les meilleurs éléments dont un mot commence par le préfixe.
+     *
+     * @param saisie le texte saisi
+     * @param limite le nombre maximal d'éléments
+     * @param type le type recherché, null pour tous
+     * @return les éléments classés
+     */
+    List<Suggestion> rechercher(String saisie, int limite, Suggestion.Type type) {
+        String prefixe = normaliser(saisie);
+        if (prefixe.isEmpty()) {
+            return List.of();
+        }
+        int debut = borneInferieure(prefixe);
+        int fin = borneInferieure(prefixe + Character.MAX_VALUE);
+
+        if (fin - debut > SEUIL_PARCOURS && prefixe.length() <= profondeurPrecalculee) {
+            Suggestion[] precalcules = meilleursParPrefixe.get(prefixe);
+            if (precalcules != null) {
+                List<Suggestion> resultat = new ArrayList<>(limite);
+                for (Suggestion suggestion : precalcules) {
+                    if (type == null || suggestion.getType() == type) {
+                        resultat.add(suggestion);
+                        if (resultat.size() == limite) {
+                            return resultat;
+                        }
+                    }
+                }
+                // Le filtre par type a trop réduit le précalcul : parcours de la plage
+                if (type == null) {
+                    return resultat;
+                }
+            }
+        }
+        return Arrays.asList(meilleurs(elements, debut, fin, limite, type));
+    }
+
+    int getNombreCles() {
+        return cles.length;
+    }
+
+    /**
+     * Normalise un texte : minuscules, sans accents, séparateurs réduits à une espace.
+     */
+    static String normaliser(String texte) {
+        if (texte == null) {
+            return "";
+        }
+        String sansAccents = DIACRITIQUES.matcher(Normalizer.normalize(texte, Normalizer.Form.NFD)).replaceAll("");
+        return SEPARATEURS.matcher(sansAccents.toLowerCase()).replaceAll(" ").trim();
+    }
+
+    private static Set<String> cles(Suggestion suggestion) {
+        Set<String> cles = new HashSet<>();
+        String nom = normaliser(suggestion.getLibelle());
+        if (!nom.isEmpty()) {
+            cles.add(nom);
+            // Chaque fin de nom à partir d'un mot : « kylian mbappe », « mbappe »
+            for (int i = nom.indexOf(' '); i >= 0; i = nom.indexOf(' ', i + 1)) {
+                cles.add(nom.substring(i + 1));
+            }
+        }
+        String acronyme = normaliser(suggestion.getAcronyme());
+        if (!acronyme.isEmpty()) {
+            cles.add(acronyme);
+        }
+        return cles;
+    }
+
+    private int borneInferieure(String cle) {
+        int bas = 0;
+        int haut = cles.length;
+        while (bas < haut) {
+            int milieu = (bas + haut) >>> 1;
+            if (cles[milieu].compareTo(cle) < 0) {
+                bas = milieu + 1;
+            } else {
+                haut = milieu;
+            }
+        }
+        return bas;
+    }
+
+    /**
+     * Sélectionne les k meilleurs éléments distincts d'une plage (tas borné).
+     */
+    private static Suggestion[] meilleurs(Suggestion[] elements, int debut, int fin, int k, Suggestion.Type type) {
+        PriorityQueue<Suggestion> tas = new PriorityQueue<>(k + 1, CLASSEMENT.reversed());
+        Set<Suggestion> presents = new HashSet<>();
+        for (int i = debut; i < fin; i++) {
+            Suggestion suggestion = elements[i];
+            if ((type != null && suggestion.getType() != type) || presents.contains(suggestion)) {
+                continue;
+            }
+            if (tas.size() < k) {
+                tas.add(suggestion);
+                presents.add(suggestion);
+            } else if (CLASSEMENT.compare(suggestion, tas.peek()) < 0) {
+                presents.remove(tas.poll());
+                tas.add(suggestion);
+                presents.add(suggestion);
+            }
+        }
+        Suggestion[] resultat = tas.toArray(new Suggestion[0]);
+        Arrays.sort(resultat, CLASSEMENT);
+        return resultat;
+    }
+}
@@ -0,0 +1,74 @@
+package com.api.football.suggest;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Élément suggérable : un joueur ou une équipe, avec son compteur de popularité.
+ *
+ * @author API Football API Team
+ * @version 1.0.0
+ */
+public final class Suggestion {
+
+    /**
+     * Nature de l'élément suggéré.
+     */
+    public enum Type {
+        EQUIPE,
+        JOUEUR
+    }
+
+    private final Type type;
+    private final Long id;
+    private final String libelle;
+    private final String acronyme;
+    private final LongAdder consultations = new LongAdder();
+
+    /** Popularité figée à la dernière reconstruction : le classement reste stable entre deux. */
+    private volatile long score;
+
+    public Suggestion(Type type, Long id, String libelle, String acronyme) {
+        this.type = type;
+        this.id = id;
+        this.libelle = libelle;
+        this.acronyme = acronyme;
+    }
+
+    void consulter() {
+        consultations.increment();
+    }
+
+    void figerScore() {
+        score = consultations.sum();
+    }
+
+    public Type getType() {
+        return type;
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public String getLibelle() {
+        return libelle;
+    }
+
+    public String getAcronyme() {
+        return acronyme;
+    }
+
+    public long getScore() {
+        return score;
+    }
+
+    @Override
+    public String toString() {
+        return "Suggestion{" +
+                "type=" + type +
+                ", id=" + id +
+                ", libelle='" + libelle + '\'' +
+                ", score=" + score +
+                '}';
+    }
+}
@@ -0,0 +1,182 @@
+package com.api.football.suggest;
+
+import com.api.football.dto.EquipeDto;
+import com.api.football.dto.JoueurDto;
+import com.api.football.event.RosterChangeEvent;
+import com.api.football.persistence.DatabaseRestoredEvent;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Index d'autocomplétion des noms de joueurs, noms d'équipes et acronymes.
+ *
+ * Les suggestions sont servies depuis un {@link PrefixIndex} immuable, sans
+ * accès à la base. Les écritures validées modifient l'ensemble des éléments
+ * puis planifient une reconstruction en tâche de fond : les écritures
+ * rapprochées sont regroupées en une seule reconstruction, et les lectures
+ * continuent sur l'index précédent pendant ce temps.
+ *
+ * Le classement repose sur le nombre de consultations de chaque joueur ou
+ * équipe, pris en compte périodiquement.
+ *
+ * @author API Football API Team
+ * @version 1.0.0
+ */
+@Component
+public class SuggestionIndex {
+
+    private static final Logger logger = LoggerFactory.getLogger(SuggestionIndex.class);
+
+    private final SuggestionProperties properties;
+    private final Map<String, Suggestion> suggestions = new ConcurrentHashMap<>();
+    private final ScheduledExecutorService reconstructions;
+    private final AtomicBoolean reconstructionPlanifiee = new AtomicBoolean();
+    private final AtomicBoolean popularitesModifiees = new AtomicBoolean();
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private volatile PrefixIndex index = PrefixIndex.VIDE;
+
+    /**
+     * Constructeur.
+     *
+     * @param properties les paramètres d'autocomplétion
+     */
+    public SuggestionIndex(SuggestionProperties properties) {
+        this.properties = properties;
+        this.reconstructions = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "suggest-index");
+            thread.setDaemon(true);
+            return thread;
+        });
+        long periode = properties.getIntervallePopularite().toMillis();
+        reconstructions.scheduleWithFixedDelay(() -> {
+            if (popularitesModifiees.getAndSet(false)) {
+                reconstruireIndex();
+            }
+        }, periode, periode, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Retourne les suggestions pour un texte saisi.
+     *
+     * @param saisie le début d'un mot du nom, ou de l'acronyme
+     * @param limite le nombre maximal de suggestions
+     * @param type le type recherché, null pour tous
+     * @return les suggestions, les plus populaires d'abord
+     */
+    public List<Suggestion> suggerer(String saisie, int limite, Suggestion.Type type) {
+        return index.rechercher(saisie, Math.min(limite, properties.getLimiteMax()), type);
+    }
+
+    /**
+     * Enregistre la consultation d'un joueur ou d'une équipe (popularité).
+     *
+     * @param type le type de l'élément consulté
+     * @param id son identifiant
+     */
+    public void enregistrerConsultation(Suggestion.Type type, Long id) {
+        Suggestion suggestion = suggestions.get(cle(type, id));
+        if (suggestion != null) {
+            suggestion.consulter();
+            popularitesModifiees.set(true);
+        }
+    }
+
+    /**
+     * Recharge tous les éléments depuis la base puis reconstruit l'index.
+     */
+    @EventListener({ApplicationReadyEvent.class, DatabaseRestoredEvent.class})
+    public void recharger() {
+        suggestions.clear();
+        jdbcTemplate.query("SELECT id, nom, acronyme FROM equipes", rs -> {
+            ajouter(new Suggestion(Suggestion.Type.EQUIPE, rs.getLong("id"), rs.getString("nom"),
+                    rs.getString("acronyme")));
+        });
+        jdbcTemplate.query("SELECT id, nom FROM joueurs", rs -> {
+            ajouter(new Suggestion(Suggestion.Type.JOUEUR, rs.getLong("id"), rs.getString("nom"), null));
+        });
+        reconstruireIndex();
+    }
+
+    /**
+     * Ajoute ou retire les éléments concernés par une modification validée.
+     *
+     * @param event la modification
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onRosterChange(RosterChangeEvent event) {
+        switch (event.getType()) {
+            case EQUIPE_CREEE:
+                EquipeDto equipe = event.getEquipe();
+                ajouter(new Suggestion(Suggestion.Type.EQUIPE, equipe.getId(), equipe.getNom(), equipe.getAcronyme()));
+                if (equipe.getJoueurs() != null) {
+                    equipe.getJoueurs().forEach(this::ajouterJoueur);
+                }
+                break;
+            case JOUEUR_CREE:
+                ajouterJoueur(event.getJoueur());
+                break;
+            case JOUEURS_SUPPRIMES:
+                event.getJoueurs().forEach(joueur -> suggestions.remove(cle(Suggestion.Type.JOUEUR, joueur.getId())));
+                break;
+            default:
+                // Transferts et retraits : le joueur reste, son nom ne change pas
+                return;
+        }
+        planifierReconstruction();
+    }
+
+    /**
+     * Reconstruit l'index immédiatement, dans le thread appelant.
+     */
+    public synchronized void reconstruireIndex() {
+        long debut = System.nanoTime();
+        PrefixIndex nouveau = PrefixIndex.construire(suggestions.values(), properties.getLimiteMax());
+        index = nouveau;
+        logger.debug("Index d'autocomplétion reconstruit: {} éléments, {} clés en {} ms", suggestions.size(),
+                nouveau.getNombreCles(), (System.nanoTime() - debut) / 1_000_000);
+    }
+
+    @PreDestroy
+    void arreter() {
+        reconstructions.shutdownNow();
+    }
+
+    private void planifierReconstruction() {
+        if (reconstructionPlanifiee.compareAndSet(false, true)) {
+            reconstructions.schedule(() -> {
+                reconstructionPlanifiee.set(false);
+                reconstruireIndex();
+            }, properties.getDelaiReconstruction().toMillis(), TimeUnit.MILLISECONDS);
+        }
+    }
+
+    private void ajouterJoueur(JoueurDto joueur) {
+        ajouter(new Suggestion(Suggestion.Type.JOUEUR, joueur.getId(), joueur.getNom(), null));
+    }
+
+    private void ajouter(Suggestion suggestion) {
+        suggestions.put(cle(suggestion.getType(), suggestion.getId()), suggestion);
+    }
+
+    private static String cle(Suggestion.Type type, Long id) {
+        return type.name().charAt(0) + ":" + id;
+    }
+}
@@ -0,0 +1,58 @@
+package com.api.football.suggest;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * Paramètres de l'autocomplétion.
+ *
+ * Préfixe : {@code football.suggest}.
+ *
+ * @author API Football API Team
+ * @version 1.0.0
+ */
+@ConfigurationProperties(prefix = "football.suggest")
+public class SuggestionProperties {
+
+    /**
+     * Délai de regroupement des écritures avant reconstruction de l'index.
+     */
+    private Duration delaiReconstruction = Duration.ofMillis(200);
+
+    /**
+     * Intervalle de prise en compte des nouvelles consultations dans le classement.
+     */
+    private Duration intervallePopularite = Duration.ofSeconds(30);
+
+    /**
+     * Nombre maximal de suggestions par requête.
+     */
+    private int limiteMax = 20;
+
+    // Getters et Setters
+
+    public Duration getDelaiReconstruction() {
+        return delaiReconstruction;
+    }
+
+    public void setDelaiReconstruction(Duration delaiReconstruction) {
+        this.delaiReconstruction = delaiReconstruction;
+    }
+
+    public Duration getIntervallePopularite() {
+        return intervallePopularite;
+    }
+
+    public void setIntervallePopularite(Duration intervallePopularite) {
+        this.intervallePopularite = intervallePopularite;
+    }
+
+    public int getLimiteMax() {
+        return limiteMax;
+    }
+
+    public void setLimiteMax(int limiteMax) {
+        this.limiteMax = limiteMax;
+    }
+}
@@ -43,3 +43,7 @@ INSERT INTO joueurs (nom, position, equipe_id) VALUES
 ('Wissam Ben Yedder', 'Attaquant', 4),
 ('Anthony Lopes', 'Gardien', 5),
 ('Alexandre Lacazette', 'Attaquant', 5);
+
+-- Colonnes dénormalisées (nom de l'équipe du joueur, taille de l'effectif)
+UPDATE joueurs j SET equipe_nom = (SELECT e.nom FROM equipes e WHERE e.id = j.equipe_id);
+UPDATE equipes e SET nombre_joueurs = (SELECT COUNT(*) FROM joueurs j WHERE j.equipe_id = e.id);
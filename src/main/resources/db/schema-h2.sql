@@ -0,0 +1,44 @@
+-- Schéma prébâti de l'API Nice Football (H2)
+-- Utilisé par les profils qui désactivent la génération du schéma par Hibernate.
+-- Doit rester aligné sur les entités : vérifié par SchemaScriptTest.
+
+CREATE TABLE IF NOT EXISTS equipes (
+    id BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    nom VARCHAR(100) NOT NULL,
+    acronyme VARCHAR(10) NOT NULL,
+    budget NUMERIC(15, 2) NOT NULL,
+    nombre_joueurs INTEGER DEFAULT 0 NOT NULL,
+    CONSTRAINT uk_equipes_acronyme UNIQUE (acronyme)
+);
+
+CREATE INDEX IF NOT EXISTS idx_equipes_budget ON equipes (budget DESC, id DESC);
+
+CREATE TABLE IF NOT EXISTS joueurs (
+    id BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    nom VARCHAR(100) NOT NULL,
+    position VARCHAR(50) NOT NULL,
+    equipe_id BIGINT,
+    equipe_nom VARCHAR(100),
+    CONSTRAINT fk_joueurs_equipe FOREIGN KEY (equipe_id) REFERENCES equipes (id)
+);
+
+-- Colonnes dénormalisées : mise à niveau des bases persistantes créées avant leur ajout,
+-- remplies au démarrage par DenormalisationChecker
+ALTER TABLE equipes ADD COLUMN IF NOT EXISTS nombre_joueurs INTEGER DEFAULT 0 NOT NULL;
+ALTER TABLE joueurs ADD COLUMN IF NOT EXISTS equipe_nom VARCHAR(100);
+
+CREATE TABLE IF NOT EXISTS change_events (
+    sequence_id BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    type VARCHAR(30) NOT NULL,
+    joueur_id BIGINT,
+    equipe_id BIGINT,
+    ancienne_equipe_id BIGINT,
+    payload CLOB,
+    cree_le TIMESTAMP(6) WITH TIME ZONE NOT NULL,
+    sequence_validation BIGINT
+);
+
+-- Séquence attribuée après validation : mise à niveau des bases créées avant son ajout,
+-- les lignes existantes sont numérotées par le premier passage du séquenceur
+ALTER TABLE change_events ADD COLUMN IF NOT EXISTS sequence_validation BIGINT;
+CREATE UNIQUE INDEX IF NOT EXISTS uk_change_events_sequence ON change_events (sequence_validation);
@@ -0,0 +1,160 @@
+package com.api.football.batch;
+
+import com.api.football.dto.BatchOperationDto;
+import com.api.football.dto.BatchOperationDto.Type;
+import com.api.football.dto.BatchRequest;
+import com.api.football.dto.BatchResultDto;
+import com.api.football.dto.EquipeDto;
+import com.api.football.dto.JoueurDto;
+import com.api.football.repository.EquipeRepository;
+import com.api.football.service.EquipeService;
+import com.api.football.service.JoueurService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Tests d'intégration de l'exécution des requêtes groupées.
+ *
+ * @author API Football API Team
+ * @version 1.0.0
+ */
+@SpringBootTest(properties = "spring.datasource.url=jdbc:h2:mem:batch;DB_CLOSE_DELAY=-1")
+@ActiveProfiles("test")
+@DirtiesContext(classMode = DirtiesContext.ClassMode.AFTER_EACH_TEST_METHOD)
+class BatchServiceTest {
+
+    @Autowired
+    private BatchService batchService;
+
+    @Autowired
+    private EquipeService equipeService;
+
+    @Autowired
+    private JoueurService joueurService;
+
+    @Autowired
+    private EquipeRepository equipeRepository;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private BatchProperties batchProperties;
+
+    @Test
+    void testExecuter_ReadsAfterWriteSeeItsEffect() {
+        // Given
+        Long ogc = equipeService.getEquipeByAcronyme("OGC").orElseThrow().getId();
+        Long asm = equipeService.getEquipeByAcronyme("ASM").orElseThrow().getId();
+        JoueurDto joueur = joueurService.getJoueursByEquipe(ogc).get(0);
+
+        BatchRequest request = new BatchRequest(List.of(
+                new BatchOperationDto("equipe", Type.GET_EQUIPE, Map.of("acronyme", "OGC")),
+                new BatchOperationDto("effectif", Type.LIST_JOUEURS, Map.of("equipeId", ogc.toString(), "size", "50")),
+                new BatchOperationDto("inconnu", Type.GET_JOUEUR, Map.of("id", "999999")),
+                new BatchOperationDto("transfert", Type.TRANSFER_JOUEUR,
+                        Map.of("id", joueur.getId().toString(), "equipeId", asm.toString())),
+                new BatchOperationDto("apres", Type.GET_JOUEUR, Map.of("id", joueur.getId().toString()))), false);
+
+        // When
+        BatchResultDto resultat = batchService.executer(request);
+
+        // Then
+        assertFalse(resultat.isAnnule());
+        assertEquals(List.of("equipe", "effectif", "inconnu", "transfert", "apres"),
+                resultat.getResultats().stream().map(r -> r.getReference()).toList());
+        assertEquals(List.of(200, 200, 404, 200, 200),
+                resultat.getResultats().stream().map(r -> r.getStatut()).toList());
+        assertEquals("OGC", ((EquipeDto) resultat.getResultats().get(0).getCorps()).getAcronyme());
+        assertEquals(asm, ((JoueurDto) resultat.getResultats().get(4).getCorps()).getEquipeId());
+    }
+
+    @Test
+    void testExecuter_TransactionalBatchRollsBackOnFirstFailure() throws Exception {
+        // Given : la seconde création réutilise un acronyme existant
+        BatchOperationDto creation = new BatchOperationDto("creation", Type.CREATE_EQUIPE, Map.of());
+        creation.setCorps(objectMapper.readTree("{\"nom\":\"Stade Brestois\",\"acronyme\":\"SB29\",\"budget\":40000000}"));
+        BatchOperationDto doublon = new BatchOperationDto("doublon", Type.CREATE_EQUIPE, Map.of());
+        doublon.setCorps(objectMapper.readTree("{\"nom\":\"Autre Nice\",\"acronyme\":\"OGC\",\"budget\":1}"));
+
+        // When
+        BatchResultDto resultat = batchService.executer(new BatchRequest(List.of(creation, doublon), true));
+
+        // Then
+        assertTrue(resultat.isAnnule());
+        assertEquals(424, resultat.getResultats().get(0).getStatut());
+        assertEquals(409, resultat.getResultats().get(1).getStatut());
+        assertTrue(equipeRepository.findByAcronyme("SB29").isEmpty());
+    }
+
+    @Test
+    void testExecuter_InvalidOperationsAreReportedPerOperation() throws Exception {
+        // Given
+        BatchOperationDto creation = new BatchOperationDto("invalide", Type.CREATE_JOUEUR, Map.of());
+        creation.setCorps(objectMapper.readTree("{\"position\":\"Gardien\"}"));
+        BatchRequest request = new BatchRequest(List.of(
+                creation,
+                new BatchOperationDto("page", Type.LIST_EQUIPES, Map.of("size", "1000")),
+                new BatchOperationDto("id", Type.GET_EQUIPE, Map.of("id", "abc"))), false);
+
+        // When
+        BatchResultDto resultat = batchService.executer(request);
+
+        // Then
+        assertEquals(List.of(400, 400, 400), resultat.getResultats().stream().map(r -> r.getStatut()).toList());
+    }
+
+    @Test
+    void testExecuter_WriteWaitsForTimedOutRead() {
+        // Given : une lecture plus longue que le délai, suivie d'une écriture
+        batchProperties.setDelaiLecture(Duration.ofMillis(50));
+        JoueurService lent = mock(JoueurService.class);
+        AtomicBoolean lectureTerminee = new AtomicBoolean();
+        AtomicBoolean lectureTermineeAvantEcriture = new AtomicBoolean();
+        when(lent.getJoueurById(1L)).thenAnswer(invocation -> {
+            Thread.sleep(300);
+            lectureTerminee.set(true);
+            return Optional.empty();
+        });
+        when(lent.transferJoueur(1L, 2L)).thenAnswer(invocation -> {
+            lectureTermineeAvantEcriture.set(lectureTerminee.get());
+            return new JoueurDto(1L, "Dante", "Défenseur", 2L, "AS Monaco");
+        });
+        ReflectionTestUtils.setField(batchService, "joueurService", lent);
+        BatchRequest request = new BatchRequest(List.of(
+                new BatchOperationDto("lecture", Type.GET_JOUEUR, Map.of("id", "1")),
+                new BatchOperationDto("transfert", Type.TRANSFER_JOUEUR, Map.of("id", "1", "equipeId", "2"))), false);
+
+        // When
+        BatchResultDto resultat = batchService.executer(request);
+
+        // Then : la lecture est signalée expirée, mais l'écriture ne s'est pas exécutée pendant elle
+        assertEquals(List.of(504, 200), resultat.getResultats().stream().map(r -> r.getStatut()).toList());
+        assertTrue(lectureTermineeAvantEcriture.get());
+        assertEquals(1L, batchService.getMetriques().get("lecturesExpirees"));
+    }
+
+    @Test
+    void testExecuter_RejectsReadsInTransactionalBatch() {
+        BatchRequest request = new BatchRequest(List.of(
+                new BatchOperationDto("equipe", Type.GET_EQUIPE, Map.of("id", "1"))), true);
+
+        assertThrows(IllegalArgumentException.class, () -> batchService.executer(request));
+        assertThrows(IllegalArgumentException.class, () -> batchService.executer(new BatchRequest(List.of(), false)));
+    }
+}
@@ -0,0 +1,207 @@
+package com.api.football.coalescing;
+
+import com.api.football.dto.EquipeDto;
+import com.api.football.dto.JoueurDto;
+import com.api.football.event.RosterChangeEvent;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.UnaryOperator;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests unitaires du regroupement des lectures simultanées.
+ *
+ * @author API Football API Team
+ * @version 1.0.0
+ */
+class RequestCoalescerTest {
+
+    private final RequestCoalescer requestCoalescer = new RequestCoalescer();
+    private final ExecutorService executor = Executors.newFixedThreadPool(8);
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    void testExecuter_ConcurrentCallsShareOneComputation() throws Exception {
+        // Given : un calcul bloqué tant que tous les appels ne sont pas arrivés
+        AtomicInteger executions = new AtomicInteger();
+        CountDownLatch liberation = new CountDownLatch(1);
+        List<Future<String>> resultats = new ArrayList<>();
+
+        // When
+        for (int i = 0; i < 8; i++) {
+            resultats.add(executor.submit(() -> requestCoalescer.executer("equipe.id", 1L, () -> {
+                executions.incrementAndGet();
+                attendre(liberation);
+                return "OGC";
+            }, UnaryOperator.identity())));
+        }
+        attendreRegroupes(7);
+        liberation.countDown();
+
+        // Then
+        for (Future<String> resultat : resultats) {
+            assertEquals("OGC", resultat.get(5, TimeUnit.SECONDS));
+        }
+        assertEquals(1, executions.get());
+        assertEquals(1L, requestCoalescer.getMetriques().get("equipe.id.executions"));
+        assertEquals(7L, requestCoalescer.getMetriques().get("equipe.id.regroupes"));
+        assertEquals(0, requestCoalescer.getMetriques().get("equipe.id.enCours"));
+    }
+
+    @Test
+    void testExecuter_DoesNotReuseCompletedResult() {
+        // Given
+        AtomicInteger executions = new AtomicInteger();
+
+        // When
+        requestCoalescer.executer("joueur.id", 1L, executions::incrementAndGet, UnaryOperator.identity());
+        requestCoalescer.executer("joueur.id", 1L, executions::incrementAndGet, UnaryOperator.identity());
+        requestCoalescer.executer("joueur.id", 2L, executions::incrementAndGet, UnaryOperator.identity());
+
+        // Then
+        assertEquals(3, executions.get());
+        assertEquals(0L, requestCoalescer.getMetriques().get("joueur.id.regroupes"));
+    }
+
+    @Test
+    void testExecuter_PropagatesFailureToWaitingCalls() throws Exception {
+        // Given
+        CountDownLatch liberation = new CountDownLatch(1);
+        Future<Object> premier = executor.submit(() -> requestCoalescer.executer("equipe.acronyme", "OGC", () -> {
+            attendre(liberation);
+            throw new IllegalArgumentException("échec");
+        }, UnaryOperator.identity()));
+        attendreEnCours("equipe.acronyme");
+        Future<Object> second = executor.submit(() -> requestCoalescer.executer("equipe.acronyme", "OGC", () -> "jamais",
+                UnaryOperator.identity()));
+        attendreRegroupes("equipe.acronyme", 1);
+
+        // When
+        liberation.countDown();
+
+        // Then
+        Exception erreur = assertThrows(Exception.class, () -> second.get(5, TimeUnit.SECONDS));
+        assertInstanceOf(IllegalArgumentException.class, erreur.getCause());
+        assertThrows(Exception.class, () -> premier.get(5, TimeUnit.SECONDS));
+    }
+
+    @Test
+    void testExecuter_WaitingCallRunsItselfAfterTimeout() throws Exception {
+        // Given
+        requestCoalescer.setTimeout(Duration.ofMillis(50));
+        CountDownLatch liberation = new CountDownLatch(1);
+        Future<String> bloque = executor.submit(() -> requestCoalescer.executer("equipe.id", 4L, () -> {
+            attendre(liberation);
+            return "lent";
+        }, UnaryOperator.identity()));
+        attendreEnCours("equipe.id");
+
+        // When
+        String resultat = requestCoalescer.executer("equipe.id", 4L, () -> "direct", UnaryOperator.identity());
+
+        // Then
+        assertEquals("direct", resultat);
+        assertEquals(1L, requestCoalescer.getMetriques().get("equipe.id.expirations"));
+        liberation.countDown();
+        assertEquals("lent", bloque.get(5, TimeUnit.SECONDS));
+    }
+
+    @Test
+    void testExecuter_EachWaitingCallGetsItsOwnCopy() throws Exception {
+        // Given
+        CountDownLatch liberation = new CountDownLatch(1);
+        Future<Optional<EquipeDto>> premier = executor.submit(() -> requestCoalescer.executer("equipe.id", 5L, () -> {
+            attendre(liberation);
+            return Optional.of(new EquipeDto(5L, "OGC Nice", "OGC", new BigDecimal("75000000"),
+                    new ArrayList<>(List.of(new JoueurDto(1L, "Dante", "Défenseur", 5L, "OGC Nice")))));
+        }, equipe -> equipe.map(EquipeDto::new)));
+        attendreEnCours("equipe.id");
+        Future<Optional<EquipeDto>> second = executor.submit(() -> requestCoalescer.executer("equipe.id", 5L,
+                () -> Optional.<EquipeDto>empty(), equipe -> equipe.map(EquipeDto::new)));
+        attendreRegroupes(1);
+
+        // When
+        liberation.countDown();
+        EquipeDto original = premier.get(5, TimeUnit.SECONDS).orElseThrow();
+        EquipeDto copie = second.get(5, TimeUnit.SECONDS).orElseThrow();
+        copie.setNom("Modifié");
+        copie.getJoueurs().get(0).setNom("Modifié");
+        copie.getJoueurs().clear();
+
+        // Then
+        assertNotSame(original, copie);
+        assertEquals("OGC Nice", original.getNom());
+        assertEquals(1, original.getJoueurs().size());
+        assertEquals("Dante", original.getJoueurs().get(0).getNom());
+    }
+
+    @Test
+    void testExecuter_CallAfterWriteStartsNewComputation() throws Exception {
+        // Given : une lecture commencée avant une écriture
+        CountDownLatch liberation = new CountDownLatch(1);
+        Future<String> avant = executor.submit(() -> requestCoalescer.executer("equipe.id", 6L, () -> {
+            attendre(liberation);
+            return "avant";
+        }, UnaryOperator.identity()));
+        attendreEnCours("equipe.id");
+
+        // When
+        requestCoalescer.onRosterChange(RosterChangeEvent.joueurCree(new JoueurDto(9L, "Nouveau", "Milieu", 6L, "OGC Nice")));
+        String apres = requestCoalescer.executer("equipe.id", 6L, () -> "apres", UnaryOperator.identity());
+
+        // Then
+        assertEquals("apres", apres);
+        assertEquals(2L, requestCoalescer.getMetriques().get("equipe.id.executions"));
+        assertEquals(0L, requestCoalescer.getMetriques().get("equipe.id.regroupes"));
+        liberation.countDown();
+        assertEquals("avant", avant.get(5, TimeUnit.SECONDS));
+    }
+
+    private void attendreRegroupes(long attendus) throws InterruptedException {
+        attendreRegroupes("equipe.id", attendus);
+    }
+
+    private void attendreRegroupes(String groupe, long attendus) throws InterruptedException {
+        long limite = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (!Long.valueOf(attendus).equals(requestCoalescer.getMetriques().get(groupe + ".regroupes"))) {
+            assertTrue(System.nanoTime() < limite, "Appels regroupés attendus : " + attendus);
+            Thread.sleep(5);
+        }
+        // Laisse les appels regroupés entrer dans l'attente du résultat
+        Thread.sleep(20);
+    }
+
+    private void attendreEnCours(String groupe) throws InterruptedException {
+        long limite = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (!Integer.valueOf(1).equals(requestCoalescer.getMetriques().get(groupe + ".enCours"))) {
+            assertTrue(System.nanoTime() < limite, "Lecture en cours attendue");
+            Thread.sleep(5);
+        }
+    }
+
+    private static void attendre(CountDownLatch latch) {
+        try {
+            assertTrue(latch.await(5, TimeUnit.SECONDS));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        }
+    }
+}
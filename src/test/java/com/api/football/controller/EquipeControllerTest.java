@@ -3,7 +3,9 @@ package com.api.football.controller;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.api.football.dto.CreateEquipeRequest;
 import com.api.football.dto.EquipeDto;
+import com.api.football.dto.MultiGetDto;
 import com.api.football.service.EquipeService;
+import com.api.football.streaming.StreamingPageWriter;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -40,6 +42,9 @@ class EquipeControllerTest {
     @MockBean
     private EquipeService equipeService;
 
+    @MockBean
+    private StreamingPageWriter streamingPageWriter;
+
     @Autowired
     private ObjectMapper objectMapper;
 
@@ -103,6 +108,54 @@ class EquipeControllerTest {
         verify(equipeService).getAllEquipes(0, 10, "nom", "asc");
     }
 
+    @Test
+    void testGetAllEquipes_WithBudgetRange() throws Exception {
+        // Given
+        Page<EquipeDto> pageEquipes = new PageImpl<>(List.of(equipeDto), PageRequest.of(0, 10), 1);
+        BigDecimal min = new BigDecimal("40000000");
+        BigDecimal max = new BigDecimal("60000000");
+
+        when(equipeService.getEquipesByBudget(0, 10, "budget", "desc", min, max)).thenReturn(pageEquipes);
+
+        // When & Then
+        mockMvc.perform(get("/api/equipes")
+                .param("sortBy", "budget")
+                .param("sortDirection", "desc")
+                .param("minBudget", "40000000")
+                .param("maxBudget", "60000000")
+                .contentType(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content[0].acronyme").value("OGC"));
+
+        verify(equipeService, never()).getAllEquipes(anyInt(), anyInt(), anyString(), anyString());
+    }
+
+    @Test
+    void testGetAllEquipes_InvalidBudgetRange() throws Exception {
+        // When & Then
+        mockMvc.perform(get("/api/equipes")
+                .param("minBudget", "60000000")
+                .param("maxBudget", "40000000")
+                .contentType(MediaType.APPLICATION_JSON))
+                .andExpect(status().isBadRequest());
+
+        verify(equipeService, never()).getEquipesByBudget(anyInt(), anyInt(), anyString(), anyString(), any(), any());
+    }
+
+    @Test
+    void testGetTopEquipesByBudget_WithCursor() throws Exception {
+        // Given
+        when(equipeService.getTopEquipesByBudget(5, new BigDecimal("180000000"), 2L)).thenReturn(List.of(equipeDto));
+
+        // When & Then
+        mockMvc.perform(get("/api/equipes/top")
+                .param("limit", "5")
+                .param("afterBudget", "180000000")
+                .param("afterId", "2"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].acronyme").value("OGC"));
+    }
+
     @Test
     void testGetAllEquipes_InvalidPage() throws Exception {
         // When & Then
@@ -233,4 +286,19 @@ class EquipeControllerTest {
 
         verify(equipeService).getEquipeByAcronyme("OGC");
     }
+
+    @Test
+    void testGetEquipesByIds_KeepsRequestOrder() throws Exception {
+        // Given
+        EquipeDto psg = new EquipeDto(2L, "Paris Saint-Germain", "PSG", new BigDecimal("200000000.00"), List.of());
+        when(equipeService.getEquipesByIds(List.of(2L, 1L)))
+                .thenReturn(new MultiGetDto<>(List.of(psg, equipeDto), List.of()));
+
+        // When & Then
+        mockMvc.perform(get("/api/equipes").param("ids", "2,1"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.elements[0].acronyme").value("PSG"))
+                .andExpect(jsonPath("$.elements[1].acronyme").value("OGC"))
+                .andExpect(jsonPath("$.idsManquants").isEmpty());
+    }
 }
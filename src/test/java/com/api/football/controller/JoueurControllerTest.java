@@ -3,7 +3,9 @@ package com.api.football.controller;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.api.football.dto.CreateJoueurRequest;
 import com.api.football.dto.JoueurDto;
+import com.api.football.dto.MultiGetDto;
 import com.api.football.service.JoueurService;
+import com.api.football.streaming.StreamingPageWriter;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -39,6 +41,9 @@ class JoueurControllerTest {
     @MockBean
     private JoueurService joueurService;
 
+    @MockBean
+    private StreamingPageWriter streamingPageWriter;
+
     @Autowired
     private ObjectMapper objectMapper;
 
@@ -213,5 +218,61 @@ class JoueurControllerTest {
         mockMvc.perform(delete("/api/joueurs/999"))
                 .andExpect(status().isNotFound());
     }
-}
 
+    @Test
+    void testGetJoueursByIds_ReturnsElementsAndMissingIds() throws Exception {
+        // Given
+        when(joueurService.getJoueursByIds(List.of(1L, 99L)))
+                .thenReturn(new MultiGetDto<>(List.of(joueurDto), List.of(99L)));
+
+        // When & Then
+        mockMvc.perform(get("/api/joueurs").param("ids", "1,99"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.elements.length()").value(1))
+                .andExpect(jsonPath("$.elements[0].nom").value("Kasper Schmeichel"))
+                .andExpect(jsonPath("$.idsManquants[0]").value(99));
+
+        verify(joueurService, never()).getAllJoueurs(anyInt(), anyInt(), any(), any(), any(), any());
+    }
+
+    @Test
+    void testLookupJoueurs_PostBody() throws Exception {
+        // Given
+        when(joueurService.getJoueursByIds(List.of(1L)))
+                .thenReturn(new MultiGetDto<>(List.of(joueurDto), List.of()));
+
+        // When & Then
+        mockMvc.perform(post("/api/joueurs/lookup")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("[1]"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.elements[0].id").value(1));
+    }
+
+    @Test
+    void testLookupJoueurs_InvalidList() throws Exception {
+        // Given
+        when(joueurService.getJoueursByIds(List.of()))
+                .thenThrow(new IllegalArgumentException("La liste d'identifiants ne peut pas être vide"));
+
+        // When & Then
+        mockMvc.perform(post("/api/joueurs/lookup")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("[]"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.error").value("Paramètres invalides"));
+    }
+
+    @Test
+    void testStreamJoueurs_InvalidSize() throws Exception {
+        // Given
+        when(streamingPageWriter.getTailleMax()).thenReturn(10000);
+
+        // When & Then
+        mockMvc.perform(get("/api/joueurs/stream").param("size", "10001"))
+                .andExpect(status().isBadRequest());
+        mockMvc.perform(get("/api/joueurs/stream").param("page", "-1"))
+                .andExpect(status().isBadRequest());
+        verify(streamingPageWriter, never()).ecrireJoueurs(any(), anyInt(), anyInt(), any(), any(), any(), any());
+    }
+}
@@ -0,0 +1,70 @@
+package com.api.football.dataset;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests du générateur de jeu de données synthétique.
+ *
+ * @author API Football API Team
+ * @version 1.0.0
+ */
+@DataJpaTest
+@ActiveProfiles("test")
+@Import(DatasetGenerator.class)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class DatasetGeneratorTest {
+
+    @Autowired
+    private DatasetGenerator datasetGenerator;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void testGenerer_CreatesLeaguesTeamsAndSkewedRosters() {
+        // Given
+        DatasetProperties parametres = new DatasetProperties();
+        parametres.setLigues(2);
+        parametres.setEquipesParLigue(10);
+        parametres.setJoueurs(5_000);
+        parametres.setTailleLot(1_000);
+        parametres.setViderAvant(true);
+
+        // When
+        DatasetGenerator.Resultat resultat = datasetGenerator.generer(parametres);
+
+        // Then
+        assertEquals(20, resultat.getEquipes());
+        assertEquals(5_000, resultat.getJoueurs());
+        assertEquals(20, jdbcTemplate.queryForObject("SELECT COUNT(*) FROM equipes", Integer.class));
+        assertEquals(5_000, jdbcTemplate.queryForObject("SELECT COUNT(*) FROM joueurs", Integer.class));
+
+        List<Integer> effectifs = jdbcTemplate.queryForList(
+                "SELECT COUNT(*) FROM joueurs WHERE equipe_id IS NOT NULL GROUP BY equipe_id ORDER BY COUNT(*) DESC",
+                Integer.class);
+        double moyenne = effectifs.stream().mapToInt(Integer::intValue).average().orElse(0);
+        assertTrue(effectifs.get(0) > 3 * moyenne, "Le plus gros effectif doit être nettement au-dessus de la moyenne");
+
+        assertEquals(4, jdbcTemplate.queryForObject("SELECT COUNT(DISTINCT position) FROM joueurs", Integer.class));
+    }
+
+    @Test
+    void testTirer_FollowsCumulativeDistribution() {
+        double[] cumul = DatasetGenerator.repartitionZipf(4, 0);
+
+        assertEquals(0, DatasetGenerator.tirer(cumul, 0.1));
+        assertEquals(1, DatasetGenerator.tirer(cumul, 0.3));
+        assertEquals(3, DatasetGenerator.tirer(cumul, 0.99));
+    }
+}
@@ -0,0 +1,192 @@
+package com.api.football.effectif;
+
+import com.api.football.dto.CreateEquipeRequest;
+import com.api.football.dto.CreateJoueurRequest;
+import com.api.football.dto.JoueurDto;
+import com.api.football.service.EquipeService;
+import com.api.football.service.JoueurService;
+import com.api.football.service.ServiceLayerTestConfiguration;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests des limites d'effectif, dont un test de charge concurrente : des
+ * créations et transferts simultanés ne dépassent jamais une limite, et le
+ * compteur dénormalisé reste exact.
+ *
+ * @author API Football API Team
+ * @version 1.0.0
+ */
+@DataJpaTest(properties = {
+        "football.effectif.max-joueurs=" + EffectifGuardStressTest.MAX_JOUEURS,
+        "football.effectif.max-par-position.gardien=" + EffectifGuardStressTest.MAX_GARDIENS
+})
+@ActiveProfiles("test")
+@Import(ServiceLayerTestConfiguration.class)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@DirtiesContext(classMode = DirtiesContext.ClassMode.AFTER_EACH_TEST_METHOD)
+class EffectifGuardStressTest {
+
+    static final int MAX_JOUEURS = 17;
+    static final int MAX_GARDIENS = 2;
+
+    private static final int THREADS = 8;
+    private static final int OPERATIONS_PAR_THREAD = 150;
+    private static final String[] POSITIONS = {"Gardien", "Défenseur", "Milieu", "Attaquant"};
+
+    private static final String EFFECTIF_MAX = "SELECT COALESCE(MAX(n), 0) FROM "
+            + "(SELECT COUNT(*) n FROM joueurs WHERE equipe_id IS NOT NULL GROUP BY equipe_id)";
+
+    private static final String GARDIENS_MAX = "SELECT COALESCE(MAX(n), 0) FROM "
+            + "(SELECT COUNT(*) n FROM joueurs WHERE equipe_id IS NOT NULL AND LOWER(position) = 'gardien' "
+            + "GROUP BY equipe_id)";
+
+    @Autowired
+    private JoueurService joueurService;
+
+    @Autowired
+    private EquipeService equipeService;
+
+    @Autowired
+    private EffectifGuard effectifGuard;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void testCreateJoueur_PosteCompletAnnuleLaReservation() {
+        // Given : Nice compte déjà deux gardiens
+        CreateJoueurRequest request = new CreateJoueurRequest("Troisième Gardien", "gardien");
+        request.setEquipeId(1L);
+
+        // When & Then
+        assertThrows(ConflitEffectifException.class, () -> joueurService.createJoueur(request));
+        assertEquals(15, nombreJoueurs(1L));
+        assertEquals(0, jdbcTemplate.queryForObject("SELECT COUNT(*) FROM joueurs WHERE nom = 'Troisième Gardien'",
+                Integer.class));
+    }
+
+    @Test
+    void testCreateEquipe_EffectifInitialTropGrand() {
+        CreateEquipeRequest request = new CreateEquipeRequest("Stade Brestois", "SB29", new BigDecimal("20000000.00"),
+                List.of(new CreateJoueurRequest("Gardien Un", "Gardien"), new CreateJoueurRequest("Gardien Deux", "Gardien"),
+                        new CreateJoueurRequest("Gardien Trois", "Gardien")));
+
+        assertThrows(ConflitEffectifException.class, () -> equipeService.createEquipe(request));
+        assertEquals(0, jdbcTemplate.queryForObject("SELECT COUNT(*) FROM equipes WHERE acronyme = 'SB29'",
+                Integer.class));
+    }
+
+    @Test
+    void testEcrituresConcurrentes_NeDepassentJamaisLesLimites() throws Exception {
+        // Given
+        List<Long> equipes = jdbcTemplate.queryForList("SELECT id FROM equipes", Long.class);
+        List<Long> joueurs = Collections.synchronizedList(
+                new ArrayList<>(jdbcTemplate.queryForList("SELECT id FROM joueurs", Long.class)));
+
+        AtomicInteger succes = new AtomicInteger();
+        AtomicInteger refus = new AtomicInteger();
+        AtomicInteger effectifMaxObserve = new AtomicInteger();
+        AtomicInteger gardiensMaxObserve = new AtomicInteger();
+        ConcurrentLinkedQueue<Throwable> erreurs = new ConcurrentLinkedQueue<>();
+        AtomicBoolean termine = new AtomicBoolean();
+        CountDownLatch depart = new CountDownLatch(1);
+
+        ExecutorService pool = Executors.newFixedThreadPool(THREADS + 1);
+        Future<?> observateur = pool.submit(() -> {
+            while (!termine.get()) {
+                effectifMaxObserve.accumulateAndGet(jdbcTemplate.queryForObject(EFFECTIF_MAX, Integer.class), Math::max);
+                gardiensMaxObserve.accumulateAndGet(jdbcTemplate.queryForObject(GARDIENS_MAX, Integer.class), Math::max);
+            }
+        });
+
+        List<Future<?>> ecrivains = new ArrayList<>();
+        for (int t = 0; t < THREADS; t++) {
+            int thread = t;
+            ecrivains.add(pool.submit(() -> {
+                SplittableRandom random = new SplittableRandom(thread);
+                depart.await();
+                for (int i = 0; i < OPERATIONS_PAR_THREAD; i++) {
+                    Long equipeId = equipes.get(random.nextInt(equipes.size()));
+                    try {
+                        if (random.nextInt(3) == 0) {
+                            CreateJoueurRequest request = new CreateJoueurRequest("Stress " + thread + "-" + i,
+                                    POSITIONS[random.nextInt(POSITIONS.length)]);
+                            request.setEquipeId(equipeId);
+                            JoueurDto cree = joueurService.createJoueur(request);
+                            joueurs.add(cree.getId());
+                        } else {
+                            Long joueurId = joueurs.get(random.nextInt(joueurs.size()));
+                            joueurService.transferJoueur(joueurId, equipeId);
+                        }
+                        succes.incrementAndGet();
+                    } catch (ConflitEffectifException e) {
+                        refus.incrementAndGet();
+                    } catch (Throwable e) {
+                        erreurs.add(e);
+                    }
+                }
+                return null;
+            }));
+        }
+
+        // When
+        depart.countDown();
+        for (Future<?> ecrivain : ecrivains) {
+            ecrivain.get(2, TimeUnit.MINUTES);
+        }
+        termine.set(true);
+        observateur.get(10, TimeUnit.SECONDS);
+        pool.shutdown();
+
+        // Then
+        assertTrue(erreurs.isEmpty(), () -> "Erreurs inattendues: " + erreurs);
+        assertTrue(succes.get() > 0, "Aucune écriture acceptée");
+        assertTrue(refus.get() > 0, "Aucune limite atteinte : le test ne sollicite pas les règles");
+        assertEquals(THREADS * OPERATIONS_PAR_THREAD, succes.get() + refus.get());
+
+        assertTrue(effectifMaxObserve.get() <= MAX_JOUEURS, "Effectif observé: " + effectifMaxObserve.get());
+        assertTrue(gardiensMaxObserve.get() <= MAX_GARDIENS, "Gardiens observés: " + gardiensMaxObserve.get());
+        assertTrue(jdbcTemplate.queryForObject(EFFECTIF_MAX, Integer.class) <= MAX_JOUEURS);
+        assertTrue(jdbcTemplate.queryForObject(GARDIENS_MAX, Integer.class) <= MAX_GARDIENS);
+
+        // Le compteur dénormalisé est exact pour chaque équipe
+        for (Map<String, Object> ligne : jdbcTemplate.queryForList("SELECT e.id, e.nombre_joueurs, "
+                + "(SELECT COUNT(*) FROM joueurs j WHERE j.equipe_id = e.id) AS reel FROM equipes e")) {
+            assertEquals(((Number) ligne.get("REEL")).intValue(), ((Number) ligne.get("NOMBRE_JOUEURS")).intValue(),
+                    "Compteur de l'équipe " + ligne.get("ID"));
+        }
+        Map<String, Number> metriques = effectifGuard.getMetriques();
+        assertEquals(refus.get(), metriques.get("refusEquipe").longValue() + metriques.get("refusPosition").longValue()
+                + metriques.get("conflits").longValue());
+    }
+
+    private int nombreJoueurs(Long equipeId) {
+        return jdbcTemplate.queryForObject("SELECT nombre_joueurs FROM equipes WHERE id = ?", Integer.class,
+                equipeId);
+    }
+}
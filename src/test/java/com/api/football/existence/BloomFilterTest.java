@@ -0,0 +1,54 @@
+package com.api.football.existence;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests unitaires du filtre de Bloom.
+ *
+ * @author API Football API Team
+ * @version 1.0.0
+ */
+class BloomFilterTest {
+
+    @Test
+    void testPeutContenir_NoFalseNegativesAndRateNearTarget() {
+        // Given
+        BloomFilter filtre = BloomFilter.dimensionner(20_000, 0.01);
+        for (int i = 0; i < 20_000; i++) {
+            filtre.ajouter("Joueur " + i);
+        }
+
+        // Then : aucune valeur ajoutée n'est exclue
+        for (int i = 0; i < 20_000; i++) {
+            assertTrue(filtre.peutContenir("Joueur " + i));
+        }
+
+        // Et le taux de faux positifs reste proche de la cible à pleine capacité
+        int fauxPositifs = 0;
+        for (int i = 0; i < 100_000; i++) {
+            if (filtre.peutContenir("Inconnu " + i)) {
+                fauxPositifs++;
+            }
+        }
+        double taux = fauxPositifs / 100_000.0;
+        assertTrue(taux < 0.02, "Taux de faux positifs: " + taux);
+        assertEquals(0.01, filtre.tauxFauxPositifsEstime(), 0.005);
+    }
+
+    @Test
+    void testDimensionner_SizesFromCapacityAndRate() {
+        // Given
+        BloomFilter filtre = BloomFilter.dimensionner(1_000, 0.01);
+
+        // Then : environ 9,6 bits et 7 hachages par élément
+        assertTrue(filtre.getNombreBits() >= 9_585 && filtre.getNombreBits() < 9_585 + 64);
+        assertEquals(7, filtre.getNombreHachages());
+        assertEquals(0.0, filtre.tauxFauxPositifsEstime());
+        assertFalse(filtre.peutContenir("OGC"));
+
+        assertThrows(IllegalArgumentException.class, () -> BloomFilter.dimensionner(1_000, 0));
+        assertThrows(IllegalArgumentException.class, () -> BloomFilter.dimensionner(1_000, 1));
+    }
+}
@@ -0,0 +1,126 @@
+package com.api.football.existence;
+
+import com.api.football.dto.CreateEquipeRequest;
+import com.api.football.dto.CreateJoueurRequest;
+import com.api.football.dto.JoueurDto;
+import com.api.football.service.EquipeService;
+import com.api.football.service.JoueurService;
+import com.api.football.service.ServiceLayerTestConfiguration;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests des prévérifications d'existence branchées sur les services.
+ *
+ * Les filtres sont construits au démarrage du contexte. La vue en mémoire
+ * des équipes est désactivée pour que leurs lectures atteignent la base.
+ *
+ * @author API Football API Team
+ * @version 1.0.0
+ */
+@DataJpaTest
+@ActiveProfiles("test")
+@Import(ServiceLayerTestConfiguration.class)
+@TestPropertySource(properties = "football.read-model.enabled=false")
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@DirtiesContext(classMode = DirtiesContext.ClassMode.AFTER_EACH_TEST_METHOD)
+class ExistenceIndexTest {
+
+    @Autowired
+    private ExistenceIndex existenceIndex;
+
+    @Autowired
+    private EquipeService equipeService;
+
+    @Autowired
+    private JoueurService joueurService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void testCreation_SkipsDatabaseForNewValuesAndStillRejectsDuplicates() {
+        // When : acronyme et nom inconnus, exclus par les filtres
+        equipeService.createEquipe(new CreateEquipeRequest("Stade Brestois 29", "SB29",
+                new BigDecimal("30000000.00"), null));
+
+        // Then
+        Map<String, Number> metriques = existenceIndex.getMetriques();
+        assertEquals(1, metriques.get("pret").intValue());
+        assertEquals(1L, metriques.get("acronymeEquipe.absentsCertains"));
+        assertEquals(1L, metriques.get("nomEquipe.absentsCertains"));
+
+        // Les doublons, ajoutés aux filtres par la création, sont vérifiés en base et refusés
+        assertThrows(IllegalArgumentException.class, () -> equipeService.createEquipe(
+                new CreateEquipeRequest("Autre Nom", "SB29", new BigDecimal("1.00"), null)));
+        assertThrows(IllegalArgumentException.class, () -> joueurService.createJoueur(
+                new CreateJoueurRequest("Kasper Schmeichel", "Gardien")));
+        metriques = existenceIndex.getMetriques();
+        assertEquals(1L, metriques.get("acronymeEquipe.positifs"));
+        assertEquals(1L, metriques.get("nomJoueur.positifs"));
+        assertEquals(0L, metriques.get("nomJoueur.fauxPositifs"));
+    }
+
+    @Test
+    void testAcronymeInconnu_AnsweredFromFilterThenNegativeCache() {
+        // When
+        assertTrue(equipeService.getEquipeByAcronyme("ZZZ").isEmpty());
+        assertTrue(equipeService.getEquipeById(999_999L).isEmpty());
+        assertTrue(equipeService.getEquipeById(999_999L).isEmpty());
+        assertTrue(equipeService.getEquipeByAcronyme("OGC").isPresent());
+
+        // Then
+        Map<String, Number> metriques = existenceIndex.getMetriques();
+        assertEquals(1L, metriques.get("acronymeEquipe.absentsCertains"));
+        assertEquals(1L, metriques.get("acronymeEquipe.positifs"));
+        assertEquals(1L, metriques.get("cacheNegatif.absencesMemorisees"));
+        assertEquals(1L, metriques.get("cacheNegatif.succes"));
+    }
+
+    @Test
+    void testCacheNegatif_InvalidatedByCreation() {
+        // Given : l'identifiant du prochain joueur, cherché avant sa création
+        long prochainId = jdbcTemplate.queryForObject("SELECT MAX(id) + 1 FROM joueurs", Long.class);
+        assertTrue(joueurService.getJoueurById(prochainId).isEmpty());
+        assertTrue(joueurService.getJoueurById(prochainId).isEmpty());
+        assertEquals(1L, existenceIndex.getMetriques().get("cacheNegatif.succes"));
+
+        // When
+        JoueurDto cree = joueurService.createJoueur(new CreateJoueurRequest("Joueur Attendu", "Milieu"));
+
+        // Then
+        assertEquals(prochainId, cree.getId());
+        Optional<JoueurDto> trouve = joueurService.getJoueurById(prochainId);
+        assertTrue(trouve.isPresent());
+        assertEquals("Joueur Attendu", trouve.get().getNom());
+    }
+
+    @Test
+    void testRecharger_PicksUpRowsWrittenOutsideTheServices() {
+        // Given : un joueur inséré sans passer par le service, comme par un import
+        jdbcTemplate.update("INSERT INTO joueurs (nom, position) VALUES ('Joueur Importé', 'Milieu')");
+
+        // When
+        existenceIndex.recharger();
+
+        // Then
+        assertThrows(IllegalArgumentException.class, () -> joueurService.createJoueur(
+                new CreateJoueurRequest("Joueur Importé", "Milieu")));
+        assertEquals(2L, existenceIndex.getMetriques().get("reconstructions"));
+        assertEquals(1L, existenceIndex.getMetriques().get("nomJoueur.positifs"));
+    }
+}
@@ -0,0 +1,287 @@
+package com.api.football.export;
+
+import com.api.football.dataset.DatasetGenerator;
+import com.api.football.dataset.DatasetProperties;
+import com.api.football.dto.ExportDto;
+import com.api.football.export.ColumnarFormat.Colonne;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests de l'export Parquet des équipes et des joueurs.
+ *
+ * @author API Football API Team
+ * @version 1.0.0
+ */
+@DataJpaTest
+@ActiveProfiles("test")
+@Import({ColumnarExportService.class, DatasetGenerator.class})
+@EnableConfigurationProperties(ExportProperties.class)
+@TestPropertySource(properties = {"football.export.taille-lot=1000", "football.export.conserver=2"})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@DirtiesContext(classMode = DirtiesContext.ClassMode.AFTER_EACH_TEST_METHOD)
+class ColumnarExportServiceTest {
+
+    private static final Logger logger = LoggerFactory.getLogger(ColumnarExportServiceTest.class);
+
+    @Autowired
+    private ColumnarExportService exportService;
+
+    @Autowired
+    private DatasetGenerator datasetGenerator;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @TempDir
+    Path repertoire;
+
+    @Test
+    void testExporter_RelitLesMemesLignesQueLaBase() throws IOException {
+        // Given
+        genererJeuDeDonnees(20_000);
+
+        // When
+        ExportDto export = exportService.exporter(repertoire);
+
+        // Then : le répertoire est publié sous son nom final, sans temporaire
+        Path cible = repertoire.resolve(export.getNom());
+        assertTrue(Files.isDirectory(cible));
+        assertEquals(List.of(export.getNom()), listerNoms(repertoire));
+        assertEquals(20, export.getEquipes());
+        assertEquals(20_000, export.getJoueurs());
+
+        Map<Long, Object[]> equipes = new HashMap<>();
+        ColumnarReader.Table tableEquipes = ColumnarReader.lire(
+                cible.resolve("equipes" + ColumnarFormat.EXTENSION), ligne -> equipes.put((Long) ligne[0], ligne));
+        assertEquals(20, tableEquipes.getLignes());
+        for (Map<String, Object> equipe : jdbcTemplate.queryForList("SELECT * FROM equipes")) {
+            Object[] ligne = equipes.get(((Number) equipe.get("id")).longValue());
+            assertEquals(equipe.get("nom"), ligne[1]);
+            assertEquals(equipe.get("acronyme"), ligne[2]);
+            assertEquals(0, ((BigDecimal) equipe.get("budget")).compareTo((BigDecimal) ligne[3]));
+            assertEquals(((Number) equipe.get("nombre_joueurs")).longValue(), ligne[4]);
+        }
+
+        List<Object[]> joueurs = new ArrayList<>();
+        ColumnarReader.Table tableJoueurs = ColumnarReader.lire(
+                cible.resolve("joueurs" + ColumnarFormat.EXTENSION), joueurs::add);
+        assertEquals(20_000, tableJoueurs.getLignes());
+        assertEquals(20, tableJoueurs.getLots());
+
+        Set<Object> positions = new HashSet<>();
+        long sansEquipe = 0;
+        long precedent = 0;
+        for (Object[] ligne : joueurs) {
+            assertTrue((Long) ligne[0] > precedent, "Les joueurs sont exportés par identifiant croissant");
+            precedent = (Long) ligne[0];
+            positions.add(ligne[2]);
+            if (ligne[3] == null) {
+                assertNull(ligne[4]);
+                sansEquipe++;
+            } else {
+                assertEquals(equipes.get((Long) ligne[3])[1], ligne[4]);
+            }
+        }
+        assertEquals(Set.copyOf(jdbcTemplate.queryForList("SELECT DISTINCT position FROM joueurs", String.class)),
+                positions);
+        assertEquals(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM joueurs WHERE equipe_id IS NULL", Long.class),
+                sansEquipe);
+
+        Map<String, Object> premier = jdbcTemplate.queryForMap(
+                "SELECT id, nom, position FROM joueurs ORDER BY id LIMIT 1");
+        assertEquals(((Number) premier.get("id")).longValue(), joueurs.get(0)[0]);
+        assertEquals(premier.get("nom"), joueurs.get(0)[1]);
+        assertEquals(premier.get("position"), joueurs.get(0)[2]);
+    }
+
+    @Test
+    void testExporter_FichiersParquetStandard() throws IOException {
+        // Given
+        genererJeuDeDonnees(2_500);
+
+        // When
+        Path fichier = repertoire.resolve(exportService.exporter(repertoire).getNom())
+                .resolve("equipes" + ColumnarFormat.EXTENSION);
+
+        // Then : "PAR1" en tête et en fin, pied Thrift décrivant le schéma
+        byte[] octets = Files.readAllBytes(fichier);
+        assertArrayEquals(ColumnarFormat.MAGIC, Arrays.copyOfRange(octets, 0, 4));
+        assertArrayEquals(ColumnarFormat.MAGIC, Arrays.copyOfRange(octets, octets.length - 4, octets.length));
+        ByteBuffer fin = ByteBuffer.wrap(octets).order(ByteOrder.LITTLE_ENDIAN);
+        int longueurPied = fin.getInt(octets.length - 8);
+        ThriftCompact.Structure pied = ThriftCompact.lire(fin.position(octets.length - 8 - longueurPied));
+
+        assertEquals(1, pied.entier(1));
+        assertEquals(20, pied.entier(3));
+        List<ThriftCompact.Structure> schema = pied.liste(2);
+        assertEquals("equipes", schema.get(0).texte(4));
+        assertEquals(List.of("id", "nom", "acronyme", "budget", "nombre_joueurs"),
+                schema.subList(1, schema.size()).stream().map(ColumnarExportServiceTest::nom).toList());
+        ThriftCompact.Structure budget = schema.get(4);
+        assertEquals(ColumnarFormat.INT64, budget.entier(1));
+        assertEquals(ColumnarFormat.DECIMAL, budget.entier(6));
+        assertEquals(2, budget.entier(7));
+        assertEquals(ColumnarFormat.UTF8, schema.get(2).entier(6));
+        assertTrue(pied.texte(6).startsWith("api-football"));
+    }
+
+    @Test
+    void testEcrivain_RelitNulsDecimauxEtGrandsDictionnaires() throws IOException {
+        // Given : 300 positions distinctes (indices sur 9 bits), des nuls dans chaque colonne
+        Path fichier = repertoire.resolve("table" + ColumnarFormat.EXTENSION);
+        List<Object[]> ecrites = new ArrayList<>();
+        try (ColumnarWriter writer = new ColumnarWriter(Files.newOutputStream(fichier), "table",
+                List.of(Colonne.entier("id"), Colonne.texte("nom"), Colonne.dictionnaire("position"),
+                        Colonne.decimal("budget", 2)), 700)) {
+            for (long i = 0; i < 1_500; i++) {
+                Object[] ligne = {i % 11 == 0 ? null : i, i % 7 == 0 ? null : "Joueur é" + i,
+                        i < 700 ? null : "Poste " + (i % 300), i % 5 == 0 ? null : BigDecimal.valueOf(-i, 2)};
+                writer.ajouter(ligne);
+                ecrites.add(ligne);
+            }
+        }
+
+        // When
+        List<Object[]> relues = new ArrayList<>();
+        ColumnarReader.Table table = ColumnarReader.lire(fichier, relues::add);
+
+        // Then : le premier groupe n'a que des positions nulles, les autres un dictionnaire de 300 entrées
+        assertEquals(1_500, table.getLignes());
+        assertEquals(3, table.getLots());
+        assertEquals("[id:ENTIER, nom:TEXTE, position:DICTIONNAIRE, budget:DECIMAL(2)]",
+                table.getColonnes().toString());
+        for (int i = 0; i < ecrites.size(); i++) {
+            assertArrayEquals(ecrites.get(i), relues.get(i), "ligne " + i);
+        }
+    }
+
+    @Test
+    void testExporter_ConserveLesDerniersExportsEtSupprimeLesTemporaires() throws IOException {
+        // Given : un export interrompu a laissé son répertoire temporaire
+        Files.createDirectories(repertoire.resolve(".export-20240101-000000000.tmp"));
+
+        // When
+        List<String> noms = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            noms.add(exportService.exporter(repertoire).getNom());
+            attendreHorodatageSuivant();
+        }
+
+        // Then : seuls les deux plus récents restent
+        assertEquals(noms.subList(1, 3), listerNoms(repertoire));
+        assertEquals(3L, exportService.getMetriques().get("exports"));
+    }
+
+    @Test
+    void testExporter_PlusCompactQueJson() throws IOException {
+        // Given
+        genererJeuDeDonnees(50_000);
+        exportService.exporter(repertoire);
+        exporterJson();
+        attendreHorodatageSuivant();
+
+        // When : export en colonnes et export JSON des mêmes lignes, une fois à chaud
+        long debutColonnes = System.nanoTime();
+        ExportDto export = exportService.exporter(repertoire);
+        long dureeColonnes = System.nanoTime() - debutColonnes;
+
+        long debutJson = System.nanoTime();
+        long tailleJson = exporterJson();
+        long dureeJson = System.nanoTime() - debutJson;
+
+        // Then
+        logger.info("Export de {} joueurs : colonnes {} octets en {} ms, JSON {} octets en {} ms",
+                export.getJoueurs(), export.getTailleOctets(), dureeColonnes / 1_000_000,
+                tailleJson, dureeJson / 1_000_000);
+        assertTrue(export.getTailleOctets() < tailleJson,
+                "L'export en colonnes doit être plus compact que le JSON");
+    }
+
+    private void genererJeuDeDonnees(long joueurs) {
+        DatasetProperties parametres = new DatasetProperties();
+        parametres.setLigues(2);
+        parametres.setEquipesParLigue(10);
+        parametres.setJoueurs(joueurs);
+        parametres.setTailleLot(5_000);
+        parametres.setViderAvant(true);
+        datasetGenerator.generer(parametres);
+    }
+
+    /**
+     * Export JSON de référence : les mêmes colonnes, une ligne par objet,
+     * écrites en flux comme le ferait l'API.
+     */
+    private long exporterJson() throws IOException {
+        ByteArrayOutputStream sortie = new ByteArrayOutputStream();
+        try (JsonGenerator generateur = new ObjectMapper().getFactory().createGenerator(sortie)) {
+            generateur.writeStartObject();
+            ecrireTableJson(generateur, "equipes", ColumnarExportService.SELECT_EQUIPES);
+            ecrireTableJson(generateur, "joueurs", ColumnarExportService.SELECT_JOUEURS);
+            generateur.writeEndObject();
+        }
+        return sortie.size();
+    }
+
+    private void ecrireTableJson(JsonGenerator generateur, String table, String sql) throws IOException {
+        generateur.writeArrayFieldStart(table);
+        for (Map<String, Object> ligne : jdbcTemplate.queryForList(sql)) {
+            generateur.writeObject(ligne);
+        }
+        generateur.writeEndArray();
+    }
+
+    private static String nom(ThriftCompact.Structure element) {
+        try {
+            return element.texte(4);
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static List<String> listerNoms(Path repertoire) throws IOException {
+        try (Stream<Path> fichiers = Files.list(repertoire)) {
+            return fichiers.map(fichier -> fichier.getFileName().toString()).sorted().toList();
+        }
+    }
+
+    private static void attendreHorodatageSuivant() {
+        try {
+            Thread.sleep(2);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,215 @@
+package com.api.football.graphql;
+
+import com.api.football.dataset.DatasetGenerator;
+import com.api.football.dataset.DatasetProperties;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests de l'exécution des requêtes GraphQL.
+ *
+ * @author API Football API Team
+ * @version 1.0.0
+ */
+@DataJpaTest
+@ActiveProfiles("test")
+@Import({GraphQLExecutor.class, DatasetGenerator.class})
+@EnableConfigurationProperties(GraphQLProperties.class)
+@TestPropertySource(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@DirtiesContext(classMode = DirtiesContext.ClassMode.AFTER_EACH_TEST_METHOD)
+class GraphQLExecutorTest {
+
+    private static final String EQUIPES_AVEC_EFFECTIFS =
+            "query Effectifs($taille: Int) { equipes(size: $taille) { id nom joueurs { nom position equipe { acronyme } } } }";
+
+    @Autowired
+    private GraphQLExecutor graphQLExecutor;
+
+    @Autowired
+    private DatasetGenerator datasetGenerator;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistiques;
+
+    @BeforeEach
+    void setUp() {
+        statistiques = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void testEquipesAvecEffectifs_NombreConstantDeRequetes() {
+        // Given
+        genererJeuDeDonnees(50, 2_000);
+
+        // When : 5 puis 50 équipes avec leurs effectifs
+        statistiques.clear();
+        graphQLExecutor.executer(EQUIPES_AVEC_EFFECTIFS, Map.of("taille", 5));
+        long requetesPourCinq = statistiques.getPrepareStatementCount();
+
+        statistiques.clear();
+        Map<String, Object> reponse = graphQLExecutor.executer(EQUIPES_AVEC_EFFECTIFS, Map.of("taille", 50));
+        long requetesPourCinquante = statistiques.getPrepareStatementCount();
+
+        // Then : une requête pour les équipes, une pour tous les effectifs
+        assertEquals(2, requetesPourCinquante);
+        assertEquals(requetesPourCinq, requetesPourCinquante);
+
+        List<Map<String, Object>> equipes = (List<Map<String, Object>>)
+                ((Map<String, Object>) reponse.get("data")).get("equipes");
+        assertEquals(50, equipes.size());
+        long joueurs = 0;
+        for (Map<String, Object> equipe : equipes) {
+            List<Map<String, Object>> effectif = (List<Map<String, Object>>) equipe.get("joueurs");
+            assertEquals(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM joueurs WHERE equipe_id = ?",
+                    Long.class, equipe.get("id")), (long) effectif.size());
+            String acronyme = jdbcTemplate.queryForObject("SELECT acronyme FROM equipes WHERE id = ?",
+                    String.class, equipe.get("id"));
+            for (Map<String, Object> joueur : effectif) {
+                assertEquals(acronyme, ((Map<String, Object>) joueur.get("equipe")).get("acronyme"));
+            }
+            joueurs += effectif.size();
+        }
+        assertEquals(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM joueurs WHERE equipe_id IS NOT NULL",
+                Long.class), joueurs);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void testJoueursAvecEquipe_EquipesChargeesEnUnLot() {
+        // Given
+        genererJeuDeDonnees(20, 1_000);
+
+        // When
+        statistiques.clear();
+        Map<String, Object> reponse = graphQLExecutor.executer(
+                "{ joueurs(size: 100) { id equipeNom equipe { nom } } }", null);
+
+        // Then : la page, son total, puis les équipes en une requête
+        assertEquals(3, statistiques.getPrepareStatementCount());
+        List<Map<String, Object>> joueurs = (List<Map<String, Object>>)
+                ((Map<String, Object>) reponse.get("data")).get("joueurs");
+        assertEquals(100, joueurs.size());
+        for (Map<String, Object> joueur : joueurs) {
+            Map<String, Object> equipe = (Map<String, Object>) joueur.get("equipe");
+            if (equipe == null) {
+                assertNull(joueur.get("equipeNom"));
+            } else {
+                assertEquals(joueur.get("equipeNom"), equipe.get("nom"));
+            }
+        }
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void testAliasVariablesEtTypename() {
+        // When
+        Map<String, Object> reponse = graphQLExecutor.executer(
+                "query ($id: ID!, $acronyme: String = \"PSG\") {\n"
+                        + "  nice: equipe(id: $id) { __typename acronyme }\n"
+                        + "  paris: equipe(acronyme: $acronyme) { acronyme nombreJoueurs }\n"
+                        + "  absente: equipe(id: 999999) { nom }\n"
+                        + "}",
+                Map.of("id", "1"));
+
+        // Then
+        Map<String, Object> donnees = (Map<String, Object>) reponse.get("data");
+        assertEquals(List.of("nice", "paris", "absente"), List.copyOf(donnees.keySet()));
+        assertEquals(Map.of("__typename", "Equipe", "acronyme", "OGC"), donnees.get("nice"));
+        Map<String, Object> paris = (Map<String, Object>) donnees.get("paris");
+        assertEquals("PSG", paris.get("acronyme"));
+        assertEquals(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM joueurs j JOIN equipes e ON j.equipe_id = e.id "
+                + "WHERE e.acronyme = 'PSG'", Integer.class), paris.get("nombreJoueurs"));
+        assertNull(donnees.get("absente"));
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void testFragmentsEtDirectives() {
+        // When : fragment défini avant l'opération, fragments en ligne, @skip et @include
+        Map<String, Object> reponse = graphQLExecutor.executer(
+                "fragment Identite on Equipe { id acronyme }\n"
+                        + "query ($avecEffectif: Boolean!, $sansNom: Boolean = true) {\n"
+                        + "  equipe(id: 1) {\n"
+                        + "    ...Identite\n"
+                        + "    nom @skip(if: $sansNom)\n"
+                        + "    ... on Equipe { acronyme nombreJoueurs }\n"
+                        + "    joueurs @include(if: $avecEffectif) { ... { nom } }\n"
+                        + "  }\n"
+                        + "  sansEffectif: equipe(id: 1) { ...Identite joueurs @include(if: false) { nom } }\n"
+                        + "}",
+                Map.of("avecEffectif", true));
+
+        // Then : champs fusionnés dans l'ordre de leur première apparition
+        Map<String, Object> donnees = (Map<String, Object>) reponse.get("data");
+        Map<String, Object> equipe = (Map<String, Object>) donnees.get("equipe");
+        assertEquals(List.of("id", "acronyme", "nombreJoueurs", "joueurs"), List.copyOf(equipe.keySet()));
+        List<Map<String, Object>> joueurs = (List<Map<String, Object>>) equipe.get("joueurs");
+        assertEquals(equipe.get("nombreJoueurs"), joueurs.size());
+        joueurs.forEach(joueur -> assertEquals(List.of("nom"), List.copyOf(joueur.keySet())));
+        assertEquals(Map.of("id", 1L, "acronyme", "OGC"), donnees.get("sansEffectif"));
+    }
+
+    @Test
+    void testRequetesRefusees() {
+        assertRefusee("trop profonde",
+                "{ equipe(id: 1) { joueurs { equipe { joueurs { equipe { joueurs { nom } } } } } } }");
+        assertRefusee("trop coûteuse",
+                "{ equipes(size: 100) { joueurs { equipe { joueurs { nom } } } } }");
+        assertRefusee("Champ inconnu: Joueur.salaire", "{ joueurs { salaire } }");
+        assertRefusee("Argument inconnu", "{ equipes(nom: \"x\") { nom } }");
+        assertRefusee("exige une sélection", "{ equipes }");
+        assertRefusee("size doit être compris", "{ equipes(size: 1000) { nom } }");
+        assertRefusee("Opération non prise en charge", "mutation { equipes { nom } }");
+        assertRefusee("Fragment inconnu: Champs", "{ equipes { ...Champs } }");
+        assertRefusee("Variable obligatoire manquante", "query ($id: ID!) { joueur(id: $id) { nom } }");
+        assertRefusee("Fragment sur Joueur impossible dans Equipe", "{ equipes { ... on Joueur { position } } }");
+        assertRefusee("Fragment cyclique: A",
+                "fragment A on Equipe { joueurs { equipe { ...A } } } { equipe(id: 1) { ...A } }");
+        assertRefusee("Fragment inutilisé: B", "fragment B on Joueur { nom } { equipes { nom } }");
+        assertRefusee("Directive non prise en charge: @defer", "{ equipes { nom @defer } }");
+        assertRefusee("Introspection non prise en charge", "{ __schema { types { name } } }");
+        assertRefusee("Champs en conflit sous la clé nom", "{ equipe(id: 1) { nom: acronyme nom } }");
+
+        assertEquals(15L, graphQLExecutor.getMetriques().get("rejets"));
+    }
+
+    private void assertRefusee(String message, String requete) {
+        IllegalArgumentException exception = assertThrows(IllegalArgumentException.class,
+                () -> graphQLExecutor.executer(requete, null));
+        assertTrue(exception.getMessage().contains(message), exception.getMessage());
+    }
+
+    private void genererJeuDeDonnees(int equipes, long joueurs) {
+        DatasetProperties parametres = new DatasetProperties();
+        parametres.setLigues(1);
+        parametres.setEquipesParLigue(equipes);
+        parametres.setJoueurs(joueurs);
+        parametres.setViderAvant(true);
+        datasetGenerator.generer(parametres);
+    }
+}
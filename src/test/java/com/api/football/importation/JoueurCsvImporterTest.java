@@ -0,0 +1,189 @@
+package com.api.football.importation;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests de l'import CSV des joueurs.
+ *
+ * @author API Football API Team
+ * @version 1.0.0
+ */
+@DataJpaTest
+@ActiveProfiles("test")
+@Import(JoueurCsvImporter.class)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@DirtiesContext(classMode = DirtiesContext.ClassMode.AFTER_EACH_TEST_METHOD)
+class JoueurCsvImporterTest {
+
+    private static final Logger logger = LoggerFactory.getLogger(JoueurCsvImporterTest.class);
+
+    private static final String[] ACRONYMES = {"OGC", "PSG", "OM", "ASM", "OL", ""};
+    private static final String[] POSITIONS = {"Gardien", "Défenseur", "Milieu", "Attaquant"};
+
+    @Autowired
+    private JoueurCsvImporter joueurCsvImporter;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @TempDir
+    Path repertoire;
+
+    @Test
+    void testImporter_LignesValidesEtRejets() throws IOException {
+        // Given : marque d'ordre des octets, en-tête, fins de ligne Windows, guillemets
+        String contenu = "\uFEFFnom,position,equipe\r\n"
+                + "Jean Dupont,Milieu,PSG\r\n"
+                + "\"Martin, dit \"\"Le Mur\"\"\",Gardien,OGC\r\n"
+                + "  Élie Fraîche  , Attaquant ,\r\n"
+                + "\r\n"
+                + "Sans Poste,,OM\r\n"
+                + "Club Fantôme,Milieu,XYZ\r\n"
+                + "\"Guillemet Ouvert,Milieu,OM\r\n"
+                + "Colonnes En Trop,Défenseur,OL,extra,encore\n"
+                + "Dernier Sans Saut,Milieu,ASM";
+        Path fichier = Files.writeString(repertoire.resolve("joueurs.csv"), contenu, StandardCharsets.UTF_8);
+
+        ImportProperties parametres = new ImportProperties();
+        parametres.setTailleBloc(40);
+        parametres.setParallelisme(3);
+        parametres.setTailleLot(2);
+
+        // When
+        JoueurCsvImporter.Resultat resultat = joueurCsvImporter.importer(fichier, parametres);
+
+        // Then
+        assertEquals(8, resultat.getLignes());
+        assertEquals(5, resultat.getImportes());
+        assertEquals(3, resultat.getRejetes());
+        assertEquals(3, resultat.getPremiersRejets().size());
+        assertTrue(resultat.getPremiersRejets().stream().anyMatch(motif -> motif.endsWith("équipe inconnue: XYZ")));
+        assertTrue(resultat.getPremiersRejets().stream().anyMatch(motif -> motif.endsWith("position manquante")));
+        assertTrue(resultat.getPremiersRejets().stream().anyMatch(motif -> motif.endsWith("guillemet non fermé")));
+
+        Map<String, Object> martin = jdbcTemplate.queryForMap(
+                "SELECT position, equipe_id, equipe_nom FROM joueurs WHERE nom = 'Martin, dit \"Le Mur\"'");
+        assertEquals("Gardien", martin.get("POSITION"));
+        assertEquals(1L, ((Number) martin.get("EQUIPE_ID")).longValue());
+        assertEquals(jdbcTemplate.queryForObject("SELECT nom FROM equipes WHERE id = 1", String.class),
+                martin.get("EQUIPE_NOM"));
+
+        Map<String, Object> libre = jdbcTemplate.queryForMap(
+                "SELECT position, equipe_id FROM joueurs WHERE nom = 'Élie Fraîche'");
+        assertEquals("Attaquant", libre.get("POSITION"));
+        assertNull(libre.get("EQUIPE_ID"));
+
+        assertEquals(1, jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM joueurs WHERE nom = 'Dernier Sans Saut'", Integer.class));
+        assertEffectifsExacts();
+    }
+
+    @Test
+    void testImporter_GrosFichierDecoupeEnBlocs() throws IOException {
+        // Given
+        int lignes = 60_000;
+        Path fichier = genererFichier(lignes);
+        long joueursAvant = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM joueurs", Long.class);
+
+        ImportProperties parametres = new ImportProperties();
+        parametres.setTailleBloc(256 * 1024);
+        parametres.setParallelisme(4);
+        parametres.setTailleLot(2_000);
+
+        // When
+        JoueurCsvImporter.Resultat resultat = joueurCsvImporter.importer(fichier, parametres);
+
+        // Then
+        assertEquals(lignes, resultat.getLignes());
+        assertEquals(lignes, resultat.getImportes());
+        assertEquals(0, resultat.getRejetes());
+        assertEquals(joueursAvant + lignes, jdbcTemplate.queryForObject("SELECT COUNT(*) FROM joueurs", Long.class));
+        assertEquals(lignes / ACRONYMES.length, jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM joueurs WHERE equipe_nom = 'Paris Saint-Germain' AND nom LIKE 'Import %'",
+                Integer.class));
+        assertEffectifsExacts();
+    }
+
+    @Test
+    void testAnalyser_SansEcriture_DebitDAnalyse() throws IOException {
+        // Given : l'analyse seule, sans base, sur un fichier en mémoire
+        int lignes = 500_000;
+        ByteBuffer tampon = ByteBuffer.wrap(Files.readAllBytes(genererFichier(lignes)));
+        tampon.position("nom,position,equipe\n".length());
+        AtomicInteger resolutions = new AtomicInteger();
+        CsvJoueurParser parser = new CsvJoueurParser(',', acronyme -> {
+            resolutions.incrementAndGet();
+            return Optional.of(new EquipeCible((long) acronyme.hashCode(), acronyme));
+        });
+        List<String> rejets = new ArrayList<>();
+        AtomicInteger valides = new AtomicInteger();
+        CsvJoueurParser.Sortie sortie = new CsvJoueurParser.Sortie() {
+            @Override
+            public void joueur(String nom, String position, EquipeCible equipe) {
+                valides.incrementAndGet();
+            }
+
+            @Override
+            public void rejet(long decalage, String motif) {
+                rejets.add(motif);
+            }
+        };
+
+        // When : un premier passage pour la compilation à la volée, puis la mesure
+        parser.analyser(tampon.duplicate(), 0, sortie);
+        valides.set(0);
+        long debut = System.nanoTime();
+        long analysees = parser.analyser(tampon, 0, sortie);
+        long duree = System.nanoTime() - debut;
+
+        // Then
+        assertEquals(lignes, analysees);
+        assertEquals(lignes, valides.get());
+        assertTrue(rejets.isEmpty(), () -> "Rejets: " + rejets);
+        assertEquals(ACRONYMES.length - 1, resolutions.get(), "Une résolution par acronyme distinct");
+        logger.info("Analyse CSV: {} lignes en {} ms ({} lignes/s)", lignes, duree / 1_000_000,
+                lignes * 1_000_000_000L / Math.max(1, duree));
+    }
+
+    private Path genererFichier(int lignes) throws IOException {
+        Path fichier = repertoire.resolve("joueurs-" + lignes + ".csv");
+        try (BufferedWriter writer = Files.newBufferedWriter(fichier, StandardCharsets.UTF_8)) {
+            writer.write("nom,position,equipe\n");
+            for (int i = 0; i < lignes; i++) {
+                writer.write("Import " + Integer.toString(i, 36) + ","
+                        + POSITIONS[i % POSITIONS.length] + "," + ACRONYMES[i % ACRONYMES.length] + "\n");
+            }
+        }
+        return fichier;
+    }
+
+    private void assertEffectifsExacts() {
+        assertEquals(0, jdbcTemplate.queryForObject("SELECT COUNT(*) FROM equipes e "
+                + "WHERE e.nombre_joueurs <> (SELECT COUNT(*) FROM joueurs j WHERE j.equipe_id = e.id)", Integer.class));
+    }
+}
@@ -0,0 +1,97 @@
+package com.api.football.load;
+
+import com.api.football.load.LoadProfile.Scenario;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.net.URI;
+import java.net.http.HttpRequest;
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Test de charge de bout en bout de l'API Nice Football.
+ *
+ * L'application démarre sur un port aléatoire avec la base H2 embarquée
+ * (données de data.sql), puis un mélange de lectures, recherches, créations
+ * et transferts est joué à taux fixe. Le test échoue si un scénario dépasse
+ * son budget p99 ou renvoie des erreurs. Les limites d'effectif, par équipe
+ * et par position, sont désactivées : les créations s'accumulent dans les
+ * cinq équipes initiales, et les transferts déplacent aussi les gardiens.
+ *
+ * Exécution : {@code mvn test -Pload-test [-Dload.duration=PT1M -Dload.rate.get=200 ...]}
+ *
+ * @author API Football API Team
+ * @version 1.0.0
+ */
+@Tag("load")
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+        properties = {"football.effectif.max-joueurs=0", "football.effectif.max-par-position.gardien=0"})
+@ActiveProfiles("test")
+class FootballLoadTest {
+
+    private static final Logger logger = LoggerFactory.getLogger(FootballLoadTest.class);
+
+    private static final int EQUIPES_INITIALES = 5;
+    private static final int JOUEURS_INITIAUX = 26;
+    private static final Duration REQUEST_TIMEOUT = Duration.ofSeconds(10);
+
+    @LocalServerPort
+    private int port;
+
+    @Test
+    void mixedTraffic_RespectsP99Budgets() throws Exception {
+        LoadProfile profile = LoadProfile.fromSystemProperties();
+        String baseUrl = "http://localhost:" + port;
+
+        OpenModelLoadGenerator generator = new OpenModelLoadGenerator(profile)
+                .scenario(Scenario.LIST_EQUIPES, seq ->
+                        get(baseUrl + "/api/equipes?page=0&size=10&sortBy=budget&sortDirection=desc"))
+                .scenario(Scenario.SEARCH_JOUEURS, seq ->
+                        get(baseUrl + "/api/joueurs?page=0&size=20&position=" + (seq % 2 == 0 ? "Milieu" : "Attaquant")))
+                .scenario(Scenario.GET_EQUIPE, seq ->
+                        get(baseUrl + "/api/equipes/" + (seq % EQUIPES_INITIALES + 1)))
+                .scenario(Scenario.CREATE_JOUEUR, seq ->
+                        post(baseUrl + "/api/joueurs",
+                                "{\"nom\":\"Joueur Charge " + seq + "\",\"position\":\"Milieu\",\"equipeId\":"
+                                        + (seq % EQUIPES_INITIALES + 1) + "}"))
+                .scenario(Scenario.TRANSFER_JOUEUR, seq ->
+                        put(baseUrl + "/api/joueurs/" + (seq % JOUEURS_INITIAUX + 1)
+                                + "/transfer?equipeId=" + ((seq / JOUEURS_INITIAUX) % EQUIPES_INITIALES + 1)));
+
+        LoadReport report = generator.run();
+        logger.info("Résultats de la charge:\n{}", report.format());
+
+        assertTrue(report.getViolations().isEmpty(),
+                "Budgets de latence dépassés ou erreurs: " + report.getViolations());
+    }
+
+    private static HttpRequest get(String url) {
+        return HttpRequest.newBuilder(URI.create(url))
+                .timeout(REQUEST_TIMEOUT)
+                .header("Accept", "application/json")
+                .GET()
+                .build();
+    }
+
+    private static HttpRequest post(String url, String json) {
+        return HttpRequest.newBuilder(URI.create(url))
+                .timeout(REQUEST_TIMEOUT)
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(json))
+                .build();
+    }
+
+    private static HttpRequest put(String url) {
+        return HttpRequest.newBuilder(URI.create(url))
+                .timeout(REQUEST_TIMEOUT)
+                .PUT(HttpRequest.BodyPublishers.noBody())
+                .build();
+    }
+}
@@ -0,0 +1,98 @@
+package com.api.football.load;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Profil de charge : durée, taux d'arrivée et budget de latence p99 par scénario.
+ *
+ * Chaque valeur peut être surchargée par une propriété système, par exemple
+ * {@code -Dload.duration=PT2M -Dload.rate.transfer=20 -Dload.p99.transfer=250}.
+ *
+ * @author API Football API Team
+ * @version 1.0.0
+ */
+public class LoadProfile {
+
+    private final Duration warmup;
+    private final Duration duration;
+    private final Map<Scenario, Integer> ratesPerSecond = new LinkedHashMap<>();
+    private final Map<Scenario, Long> p99BudgetsMillis = new LinkedHashMap<>();
+
+    /**
+     * Scénarios joués contre l'API, avec leur taux d'arrivée (requêtes/s)
+     * et leur budget p99 (ms) par défaut.
+     */
+    public enum Scenario {
+        LIST_EQUIPES("list", 40, 200),
+        SEARCH_JOUEURS("search", 40, 200),
+        GET_EQUIPE("get", 80, 100),
+        CREATE_JOUEUR("create", 10, 250),
+        TRANSFER_JOUEUR("transfer", 10, 250);
+
+        private final String key;
+        private final int defaultRate;
+        private final long defaultP99Millis;
+
+        Scenario(String key, int defaultRate, long defaultP99Millis) {
+            this.key = key;
+            this.defaultRate = defaultRate;
+            this.defaultP99Millis = defaultP99Millis;
+        }
+
+        public String getKey() {
+            return key;
+        }
+    }
+
+    private LoadProfile(Duration warmup, Duration duration) {
+        this.warmup = warmup;
+        this.duration = duration;
+    }
+
+    /**
+     * Construit le profil à partir des propriétés système, avec les valeurs par défaut des scénarios.
+     *
+     * @return le profil de charge
+     */
+    public static LoadProfile fromSystemProperties() {
+        LoadProfile profile = new LoadProfile(
+                Duration.parse(System.getProperty("load.warmup", "PT5S")),
+                Duration.parse(System.getProperty("load.duration", "PT20S")));
+
+        for (Scenario scenario : Scenario.values()) {
+            profile.ratesPerSecond.put(scenario,
+                    Integer.getInteger("load.rate." + scenario.key, scenario.defaultRate));
+            profile.p99BudgetsMillis.put(scenario,
+                    Long.getLong("load.p99." + scenario.key, scenario.defaultP99Millis));
+        }
+        return profile;
+    }
+
+    public Duration getWarmup() {
+        return warmup;
+    }
+
+    public Duration getDuration() {
+        return duration;
+    }
+
+    public int getRatePerSecond(Scenario scenario) {
+        return ratesPerSecond.get(scenario);
+    }
+
+    public long getP99BudgetMillis(Scenario scenario) {
+        return p99BudgetsMillis.get(scenario);
+    }
+
+    @Override
+    public String toString() {
+        return "LoadProfile{" +
+                "warmup=" + warmup +
+                ", duration=" + duration +
+                ", ratesPerSecond=" + ratesPerSecond +
+                ", p99BudgetsMillis=" + p99BudgetsMillis +
+                '}';
+    }
+}
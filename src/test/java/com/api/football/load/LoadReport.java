@@ -0,0 +1,112 @@
+package com.api.football.load;
+
+import com.api.football.load.LoadProfile.Scenario;
+import org.HdrHistogram.Histogram;
+
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * Rapport de latences d'une exécution du générateur de charge.
+ *
+ * @author API Football API Team
+ * @version 1.0.0
+ */
+public class LoadReport {
+
+    private final List<Entry> entries;
+
+    public LoadReport(List<Entry> entries) {
+        this.entries = entries;
+    }
+
+    public List<Entry> getEntries() {
+        return entries;
+    }
+
+    /**
+     * Retourne les scénarios dont le p99 dépasse le budget ou qui ont renvoyé des erreurs.
+     *
+     * @return la liste des scénarios en échec
+     */
+    public List<Entry> getViolations() {
+        return entries.stream()
+                .filter(entry -> entry.getErrors() > 0 || entry.getP99Millis() > entry.getP99BudgetMillis())
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * Formate le rapport sous forme de tableau lisible.
+     *
+     * @return le tableau des percentiles par scénario
+     */
+    public String format() {
+        StringBuilder sb = new StringBuilder(String.format(Locale.ROOT,
+                "%-18s %8s %7s %9s %9s %9s %9s %9s%n",
+                "scenario", "count", "errors", "p50(ms)", "p90(ms)", "p99(ms)", "max(ms)", "budget"));
+        for (Entry entry : entries) {
+            Histogram h = entry.getHistogram();
+            sb.append(String.format(Locale.ROOT, "%-18s %8d %7d %9.2f %9.2f %9.2f %9.2f %9d%n",
+                    entry.getScenario(), h.getTotalCount(), entry.getErrors(),
+                    toMillis(h.getValueAtPercentile(50)), toMillis(h.getValueAtPercentile(90)),
+                    toMillis(h.getValueAtPercentile(99)), toMillis(h.getMaxValue()),
+                    entry.getP99BudgetMillis()));
+        }
+        return sb.toString();
+    }
+
+    private static double toMillis(long nanos) {
+        return nanos / (double) TimeUnit.MILLISECONDS.toNanos(1);
+    }
+
+    /**
+     * Résultat d'un scénario.
+     */
+    public static class Entry {
+
+        private final Scenario scenario;
+        private final Histogram histogram;
+        private final long errors;
+        private final long p99BudgetMillis;
+
+        public Entry(Scenario scenario, Histogram histogram, long errors, long p99BudgetMillis) {
+            this.scenario = scenario;
+            this.histogram = histogram;
+            this.errors = errors;
+            this.p99BudgetMillis = p99BudgetMillis;
+        }
+
+        public Scenario getScenario() {
+            return scenario;
+        }
+
+        public Histogram getHistogram() {
+            return histogram;
+        }
+
+        public long getErrors() {
+            return errors;
+        }
+
+        public long getP99BudgetMillis() {
+            return p99BudgetMillis;
+        }
+
+        public double getP99Millis() {
+            return toMillis(histogram.getValueAtPercentile(99));
+        }
+
+        @Override
+        public String toString() {
+            return "Entry{" +
+                    "scenario=" + scenario +
+                    ", count=" + histogram.getTotalCount() +
+                    ", errors=" + errors +
+                    ", p99Millis=" + getP99Millis() +
+                    ", p99BudgetMillis=" + p99BudgetMillis +
+                    '}';
+        }
+    }
+}
@@ -0,0 +1,157 @@
+package com.api.football.load;
+
+import com.api.football.load.LoadProfile.Scenario;
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.LongFunction;
+
+/**
+ * Générateur de charge en modèle ouvert.
+ *
+ * Les requêtes de chaque scénario partent à taux fixe, indépendamment du temps
+ * de réponse du serveur. La latence est mesurée depuis l'instant d'envoi prévu
+ * (et non l'instant d'envoi effectif) afin de ne pas masquer les files d'attente
+ * (« coordinated omission »).
+ *
+ * @author API Football API Team
+ * @version 1.0.0
+ */
+public class OpenModelLoadGenerator {
+
+    private static final Logger logger = LoggerFactory.getLogger(OpenModelLoadGenerator.class);
+
+    private static final long HIGHEST_TRACKABLE_NANOS = TimeUnit.SECONDS.toNanos(60);
+
+    private final LoadProfile profile;
+    private final ExecutorService httpExecutor;
+    private final HttpClient httpClient;
+    private final Map<Scenario, LongFunction<HttpRequest>> requestFactories = new EnumMap<>(Scenario.class);
+    private final Map<Scenario, Histogram> histograms = new EnumMap<>(Scenario.class);
+    private final Map<Scenario, LongAdder> errors = new EnumMap<>(Scenario.class);
+
+    /**
+     * Constructeur.
+     *
+     * @param profile le profil de charge à appliquer
+     */
+    public OpenModelLoadGenerator(LoadProfile profile) {
+        this.profile = profile;
+        this.httpExecutor = Executors.newFixedThreadPool(Math.max(4, Runtime.getRuntime().availableProcessors()));
+        this.httpClient = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofSeconds(5))
+                .executor(httpExecutor)
+                .build();
+    }
+
+    /**
+     * Déclare la fabrique de requêtes d'un scénario. Elle reçoit le numéro de séquence de l'envoi.
+     *
+     * @param scenario le scénario
+     * @param factory la fabrique de requêtes HTTP
+     * @return ce générateur
+     */
+    public OpenModelLoadGenerator scenario(Scenario scenario, LongFunction<HttpRequest> factory) {
+        requestFactories.put(scenario, factory);
+        histograms.put(scenario, new ConcurrentHistogram(HIGHEST_TRACKABLE_NANOS, 3));
+        errors.put(scenario, new LongAdder());
+        return this;
+    }
+
+    /**
+     * Joue tous les scénarios déclarés en parallèle pendant la durée du profil,
+     * précédée de la phase de chauffe dont les mesures sont ignorées.
+     *
+     * Le générateur ne sert qu'une fois : les threads du client HTTP sont
+     * arrêtés à la fin de l'exécution.
+     *
+     * @return le rapport de latences par scénario
+     * @throws InterruptedException si le thread est interrompu
+     */
+    public LoadReport run() throws InterruptedException {
+        logger.info("Démarrage de la charge: {}", profile);
+
+        long start = System.nanoTime();
+        long measureFrom = start + profile.getWarmup().toNanos();
+        long end = measureFrom + profile.getDuration().toNanos();
+        AtomicLong inFlight = new AtomicLong();
+
+        try {
+            ExecutorService dispatchers = Executors.newFixedThreadPool(requestFactories.size());
+            for (Map.Entry<Scenario, LongFunction<HttpRequest>> entry : requestFactories.entrySet()) {
+                dispatchers.submit(() -> dispatch(entry.getKey(), entry.getValue(), start, measureFrom, end, inFlight));
+            }
+            dispatchers.shutdown();
+            dispatchers.awaitTermination(profile.getWarmup().plus(profile.getDuration()).toSeconds() + 30,
+                    TimeUnit.SECONDS);
+
+            // Attente des réponses encore en vol
+            long drainDeadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(30);
+            while (inFlight.get() > 0 && System.nanoTime() < drainDeadline) {
+                Thread.sleep(10);
+            }
+        } finally {
+            httpExecutor.shutdownNow();
+        }
+
+        List<LoadReport.Entry> entries = new ArrayList<>();
+        for (Scenario scenario : requestFactories.keySet()) {
+            entries.add(new LoadReport.Entry(scenario, histograms.get(scenario).copy(),
+                    errors.get(scenario).sum(), profile.getP99BudgetMillis(scenario)));
+        }
+        return new LoadReport(entries);
+    }
+
+    private void dispatch(Scenario scenario, LongFunction<HttpRequest> factory,
+                          long start, long measureFrom, long end, AtomicLong inFlight) {
+        int rate = profile.getRatePerSecond(scenario);
+        if (rate <= 0) {
+            return;
+        }
+        long periodNanos = TimeUnit.SECONDS.toNanos(1) / rate;
+        Histogram histogram = histograms.get(scenario);
+        LongAdder errorCount = errors.get(scenario);
+
+        for (long sequence = 0; ; sequence++) {
+            long intendedStart = start + sequence * periodNanos;
+            if (intendedStart >= end) {
+                return;
+            }
+            long wait = intendedStart - System.nanoTime();
+            if (wait > 0) {
+                LockSupport.parkNanos(wait);
+            }
+
+            boolean measured = intendedStart >= measureFrom;
+            inFlight.incrementAndGet();
+            httpClient.sendAsync(factory.apply(sequence), HttpResponse.BodyHandlers.discarding())
+                    .whenComplete((response, failure) -> {
+                        long latency = System.nanoTime() - intendedStart;
+                        if (measured) {
+                            histogram.recordValue(Math.min(latency, HIGHEST_TRACKABLE_NANOS));
+                            if (failure != null || response.statusCode() >= 400) {
+                                errorCount.increment();
+                            }
+                        }
+                        inFlight.decrementAndGet();
+                    });
+        }
+    }
+}
@@ -0,0 +1,182 @@
+package com.api.football.load;
+
+import com.api.football.dto.JoueurDto;
+import com.api.football.rpc.RpcClient;
+import com.api.football.rpc.RpcServer;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Comparaison locale du service RPC interne et de l'API REST sur la lecture
+ * d'un joueur par identifiant.
+ *
+ * Chaque transport est mesuré en boucle fermée : {@code bench.rpc.threads}
+ * clients enchaînent les appels pendant {@code bench.rpc.duree}, après un
+ * échauffement de même durée. Les clients REST partagent un
+ * {@link HttpClient} (connexions persistantes) et décodent le JSON ; les
+ * clients RPC partagent une seule connexion multiplexée. Le débit et les
+ * latences p50/p99/max sont journalisés.
+ *
+ * Exécution : {@code mvn test -Pload-test -Dtest=RpcBenchmarkTest [-Dbench.rpc.threads=16 -Dbench.rpc.duree=PT10S]}
+ *
+ * @author API Football API Team
+ * @version 1.0.0
+ */
+@Tag("load")
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = {
+        "spring.datasource.url=jdbc:h2:mem:rpcbench;DB_CLOSE_DELAY=-1",
+        "football.rpc.enabled=true",
+        "football.rpc.port=0"
+})
+@ActiveProfiles("test")
+class RpcBenchmarkTest {
+
+    private static final Logger logger = LoggerFactory.getLogger(RpcBenchmarkTest.class);
+
+    private static final int JOUEURS_INITIAUX = 26;
+    private static final Duration DELAI = Duration.ofSeconds(5);
+    private static final long LATENCE_MAX_NANOS = TimeUnit.SECONDS.toNanos(10);
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private RpcServer rpcServer;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Test
+    void lectureJoueur_RpcCompareAuRest() throws Exception {
+        int threads = Integer.getInteger("bench.rpc.threads", 8);
+        Duration duree = Duration.parse(System.getProperty("bench.rpc.duree", "PT5S"));
+
+        HttpClient http = HttpClient.newBuilder().connectTimeout(DELAI).build();
+        String baseUrl = "http://localhost:" + port + "/api/joueurs/";
+        Operation rest = id -> {
+            HttpRequest requete = HttpRequest.newBuilder(URI.create(baseUrl + id))
+                    .timeout(DELAI)
+                    .header("Accept", "application/json")
+                    .GET()
+                    .build();
+            HttpResponse<byte[]> reponse = http.send(requete, HttpResponse.BodyHandlers.ofByteArray());
+            assertEquals(200, reponse.statusCode());
+            return objectMapper.readValue(reponse.body(), JoueurDto.class);
+        };
+
+        try (RpcClient client = new RpcClient("localhost", rpcServer.getPort(), 256)) {
+            Operation rpc = id -> client.getJoueur(id, DELAI);
+
+            mesurer("rest", rest, threads, duree);
+            mesurer("rpc", rpc, threads, duree);
+            Resultat resultatRest = mesurer("rest", rest, threads, duree);
+            Resultat resultatRpc = mesurer("rpc", rpc, threads, duree);
+
+            logger.info("Lecture d'un joueur, {} threads pendant {}:\n{}\n{}", threads, duree,
+                    resultatRest, resultatRpc);
+            assertEquals(0, resultatRest.erreurs, "Erreurs REST");
+            assertEquals(0, resultatRpc.erreurs, "Erreurs RPC");
+            assertTrue(resultatRpc.appels > 0 && resultatRest.appels > 0);
+        }
+    }
+
+    private static Resultat mesurer(String nom, Operation operation, int threads, Duration duree) throws Exception {
+        Histogram latences = new ConcurrentHistogram(LATENCE_MAX_NANOS, 3);
+        LongAdder erreurs = new LongAdder();
+        long fin = System.nanoTime() + duree.toNanos();
+
+        ExecutorService executeur = Executors.newFixedThreadPool(threads);
+        try {
+            List<Future<?>> clients = new ArrayList<>();
+            for (int t = 0; t < threads; t++) {
+                long depart = t;
+                clients.add(executeur.submit(() -> {
+                    long sequence = depart;
+                    while (System.nanoTime() < fin) {
+                        long id = sequence++ % JOUEURS_INITIAUX + 1;
+                        long debut = System.nanoTime();
+                        try {
+                            JoueurDto joueur = operation.executer(id);
+                            if (joueur.getId() != id) {
+                                erreurs.increment();
+                            }
+                        } catch (Exception | AssertionError e) {
+                            erreurs.increment();
+                        }
+                        latences.recordValue(Math.min(System.nanoTime() - debut, LATENCE_MAX_NANOS));
+                    }
+                    return null;
+                }));
+            }
+            for (Future<?> client : clients) {
+                client.get();
+            }
+        } finally {
+            executeur.shutdownNow();
+        }
+        return new Resultat(nom, latences, erreurs.sum(), duree);
+    }
+
+    /**
+     * Lecture d'un joueur par l'un des transports.
+     */
+    @FunctionalInterface
+    private interface Operation {
+        JoueurDto executer(long id) throws Exception;
+    }
+
+    /**
+     * Mesures d'un transport.
+     */
+    private static final class Resultat {
+
+        private final String nom;
+        private final Histogram latences;
+        private final long appels;
+        private final long erreurs;
+        private final Duration duree;
+
+        Resultat(String nom, Histogram latences, long erreurs, Duration duree) {
+            this.nom = nom;
+            this.latences = latences;
+            this.appels = latences.getTotalCount();
+            this.erreurs = erreurs;
+            this.duree = duree;
+        }
+
+        @Override
+        public String toString() {
+            return String.format("%-5s %10.0f appels/s  p50 %8.1f µs  p99 %8.1f µs  max %9.1f µs  erreurs %d",
+                    nom, appels / (duree.toNanos() / 1e9),
+                    latences.getValueAtPercentile(50) / 1e3,
+                    latences.getValueAtPercentile(99) / 1e3,
+                    latences.getMaxValue() / 1e3,
+                    erreurs);
+        }
+    }
+}
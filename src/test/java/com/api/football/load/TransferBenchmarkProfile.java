@@ -0,0 +1,173 @@
+package com.api.football.load;
+
+import java.nio.file.Path;
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * Profil du banc d'essai des transferts : taille du jeu de données, nombre
+ * d'acheteurs concurrents, mélange d'opérations et concentration sur un club.
+ *
+ * Chaque valeur peut être surchargée par une propriété système, par exemple
+ * {@code -Dbench.threads=32 -Dbench.operations=20000 -Dbench.hotspot=0.95 -Dbench.mix=90,5,5}.
+ *
+ * @author API Football API Team
+ * @version 1.0.0
+ */
+public class TransferBenchmarkProfile {
+
+    private final int threads;
+    private final int warmupOperations;
+    private final int operations;
+    private final int teams;
+    private final long players;
+    private final double freeAgentRatio;
+    private final double hotspot;
+    private final long seed;
+    private final Path reportPath;
+    private final Map<Operation, Integer> mix = new EnumMap<>(Operation.class);
+
+    /**
+     * Opérations jouées par les acheteurs, avec leur part par défaut dans le mélange.
+     */
+    public enum Operation {
+        /** {@code JoueurService.transferJoueur} : achat d'un joueur à un autre club. */
+        TRANSFER(80),
+        /** {@code EquipeService.ajouterJoueur} : signature d'un joueur libre. */
+        AJOUTER(10),
+        /** {@code EquipeService.retirerJoueur} : départ d'un joueur de son club, qui devient libre. */
+        RETIRER(10);
+
+        private final int defaultShare;
+
+        Operation(int defaultShare) {
+            this.defaultShare = defaultShare;
+        }
+    }
+
+    private TransferBenchmarkProfile(int threads, int warmupOperations, int operations, int teams, long players,
+                                     double freeAgentRatio, double hotspot, long seed, Path reportPath) {
+        this.threads = threads;
+        this.warmupOperations = warmupOperations;
+        this.operations = operations;
+        this.teams = teams;
+        this.players = players;
+        this.freeAgentRatio = freeAgentRatio;
+        this.hotspot = hotspot;
+        this.seed = seed;
+        this.reportPath = reportPath;
+    }
+
+    /**
+     * Construit le profil à partir des propriétés système :
+     * {@code bench.threads} (16), {@code bench.warmup} (500), {@code bench.operations} (5000),
+     * {@code bench.teams} (20), {@code bench.players} (2000), {@code bench.free-agents} (0.3),
+     * {@code bench.hotspot} (0.8, probabilité qu'une opération vise le club le plus fourni),
+     * {@code bench.mix} (parts transfer,ajouter,retirer : 80,10,10), {@code bench.seed} (42)
+     * et {@code bench.report} (target/benchmarks/transfer-benchmark.json).
+     *
+     * @return le profil du banc d'essai
+     */
+    public static TransferBenchmarkProfile fromSystemProperties() {
+        TransferBenchmarkProfile profile = new TransferBenchmarkProfile(
+                Integer.getInteger("bench.threads", 16),
+                Integer.getInteger("bench.warmup", 500),
+                Integer.getInteger("bench.operations", 5_000),
+                Integer.getInteger("bench.teams", 20),
+                Long.getLong("bench.players", 2_000L),
+                Double.parseDouble(System.getProperty("bench.free-agents", "0.3")),
+                Double.parseDouble(System.getProperty("bench.hotspot", "0.8")),
+                Long.getLong("bench.seed", 42L),
+                Path.of(System.getProperty("bench.report", "target/benchmarks/transfer-benchmark.json")));
+
+        String mix = System.getProperty("bench.mix");
+        Operation[] operations = Operation.values();
+        String[] shares = mix != null ? mix.split(",") : null;
+        if (shares != null && shares.length != operations.length) {
+            throw new IllegalArgumentException("bench.mix attend " + operations.length
+                    + " parts (transfer,ajouter,retirer): " + mix);
+        }
+        for (int i = 0; i < operations.length; i++) {
+            profile.mix.put(operations[i],
+                    shares != null ? Integer.parseInt(shares[i].trim()) : operations[i].defaultShare);
+        }
+        return profile;
+    }
+
+    /**
+     * Tire une opération selon le mélange configuré.
+     *
+     * @param draw un tirage uniforme dans [0, somme des parts)
+     * @return l'opération correspondante
+     */
+    public Operation operationFor(int draw) {
+        int cumul = 0;
+        for (Map.Entry<Operation, Integer> entry : mix.entrySet()) {
+            cumul += entry.getValue();
+            if (draw < cumul) {
+                return entry.getKey();
+            }
+        }
+        return Operation.TRANSFER;
+    }
+
+    public int getTotalShares() {
+        return mix.values().stream().mapToInt(Integer::intValue).sum();
+    }
+
+    public int getThreads() {
+        return threads;
+    }
+
+    public int getWarmupOperations() {
+        return warmupOperations;
+    }
+
+    public int getOperations() {
+        return operations;
+    }
+
+    public int getTeams() {
+        return teams;
+    }
+
+    public long getPlayers() {
+        return players;
+    }
+
+    public double getFreeAgentRatio() {
+        return freeAgentRatio;
+    }
+
+    public double getHotspot() {
+        return hotspot;
+    }
+
+    public long getSeed() {
+        return seed;
+    }
+
+    public Path getReportPath() {
+        return reportPath;
+    }
+
+    public Map<Operation, Integer> getMix() {
+        return mix;
+    }
+
+    @Override
+    public String toString() {
+        return "TransferBenchmarkProfile{" +
+                "threads=" + threads +
+                ", warmupOperations=" + warmupOperations +
+                ", operations=" + operations +
+                ", teams=" + teams +
+                ", players=" + players +
+                ", freeAgentRatio=" + freeAgentRatio +
+                ", hotspot=" + hotspot +
+                ", seed=" + seed +
+                ", mix=" + mix +
+                ", reportPath=" + reportPath +
+                '}';
+    }
+}
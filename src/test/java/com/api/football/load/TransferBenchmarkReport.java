@@ -0,0 +1,330 @@
+package com.api.football.load;
+
+import com.api.football.load.TransferBenchmarkProfile.Operation;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.HdrHistogram.Histogram;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * Rapport d'une exécution du banc d'essai des transferts : débit, latences,
+ * taux de conflit par opération et invariants vérifiés sur la base.
+ *
+ * {@link #format()} produit un tableau lisible, {@link #write(Path)} le même
+ * contenu en JSON pour comparer les exécutions entre elles.
+ *
+ * @author API Football API Team
+ * @version 1.0.0
+ */
+public class TransferBenchmarkReport {
+
+    private static final ObjectMapper MAPPER = new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT);
+
+    private final TransferBenchmarkProfile profile;
+    private final List<Entry> entries;
+    private final long elapsedNanos;
+    private final Map<String, Object> dataset = new LinkedHashMap<>();
+    private final Map<String, Number> metrics = new LinkedHashMap<>();
+    private final List<Invariant> invariants = new ArrayList<>();
+
+    public TransferBenchmarkReport(TransferBenchmarkProfile profile, List<Entry> entries, long elapsedNanos) {
+        this.profile = profile;
+        this.entries = entries;
+        this.elapsedNanos = elapsedNanos;
+    }
+
+    /**
+     * Ajoute une information sur le jeu de données (nombre d'équipes, club le plus fourni...).
+     *
+     * @param key la clé
+     * @param value la valeur
+     * @return ce rapport
+     */
+    public TransferBenchmarkReport dataset(String key, Object value) {
+        dataset.put(key, value);
+        return this;
+    }
+
+    /**
+     * Ajoute une métrique applicative mesurée pendant l'exécution.
+     *
+     * @param key la clé
+     * @param value la valeur
+     * @return ce rapport
+     */
+    public TransferBenchmarkReport metric(String key, Number value) {
+        metrics.put(key, value);
+        return this;
+    }
+
+    /**
+     * Enregistre un invariant comparé sur la base à la fin de l'exécution.
+     *
+     * @param name le nom de l'invariant
+     * @param expected la valeur attendue
+     * @param actual la valeur observée
+     * @return ce rapport
+     */
+    public TransferBenchmarkReport invariant(String name, long expected, long actual) {
+        invariants.add(new Invariant(name, expected, actual));
+        return this;
+    }
+
+    public List<Entry> getEntries() {
+        return entries;
+    }
+
+    public List<Invariant> getViolatedInvariants() {
+        return invariants.stream().filter(invariant -> !invariant.holds()).collect(Collectors.toList());
+    }
+
+    public long getAttempts() {
+        return entries.stream().mapToLong(Entry::getAttempts).sum();
+    }
+
+    public long getSuccesses() {
+        return entries.stream().mapToLong(Entry::getSuccesses).sum();
+    }
+
+    public long getConflicts() {
+        return entries.stream().mapToLong(Entry::getConflicts).sum();
+    }
+
+    public long getErrors() {
+        return entries.stream().mapToLong(Entry::getErrors).sum();
+    }
+
+    /**
+     * Débit des opérations validées.
+     *
+     * @return le nombre d'opérations validées par seconde
+     */
+    public double getThroughputPerSecond() {
+        return getSuccesses() / (elapsedNanos / (double) TimeUnit.SECONDS.toNanos(1));
+    }
+
+    /**
+     * Part des tentatives refusées pour conflit d'effectif.
+     *
+     * @return le taux de conflit, entre 0 et 1
+     */
+    public double getConflictRate() {
+        long attempts = getAttempts();
+        return attempts == 0 ? 0 : getConflicts() / (double) attempts;
+    }
+
+    /**
+     * Formate le rapport sous forme de tableau lisible.
+     *
+     * @return le débit global, le tableau par opération et les invariants
+     */
+    public String format() {
+        StringBuilder sb = new StringBuilder(String.format(Locale.ROOT,
+                "%d opérations validées en %.2f s : %.1f op/s, taux de conflit %.2f %%%n",
+                getSuccesses(), elapsedNanos / (double) TimeUnit.SECONDS.toNanos(1), getThroughputPerSecond(),
+                getConflictRate() * 100));
+        sb.append(String.format(Locale.ROOT, "%-10s %8s %8s %9s %7s %7s %7s %9s %9s %9s %9s%n",
+                "operation", "attempts", "success", "conflicts", "reject", "errors", "skipped",
+                "p50(ms)", "p90(ms)", "p99(ms)", "max(ms)"));
+        for (Entry entry : entries) {
+            Histogram h = entry.getHistogram();
+            sb.append(String.format(Locale.ROOT, "%-10s %8d %8d %9d %7d %7d %7d %9.2f %9.2f %9.2f %9.2f%n",
+                    entry.getOperation(), entry.getAttempts(), entry.getSuccesses(), entry.getConflicts(),
+                    entry.getRejections(), entry.getErrors(), entry.getSkipped(),
+                    toMillis(h.getValueAtPercentile(50)), toMillis(h.getValueAtPercentile(90)),
+                    toMillis(h.getValueAtPercentile(99)), toMillis(h.getMaxValue())));
+        }
+        for (Invariant invariant : invariants) {
+            sb.append(String.format(Locale.ROOT, "%-4s %s : attendu %d, observé %d%n",
+                    invariant.holds() ? "OK" : "KO", invariant.getName(), invariant.getExpected(),
+                    invariant.getActual()));
+        }
+        return sb.toString();
+    }
+
+    /**
+     * Écrit le rapport en JSON, en créant les répertoires parents.
+     *
+     * @param path le fichier cible
+     * @throws IOException en cas d'erreur d'écriture
+     */
+    public void write(Path path) throws IOException {
+        if (path.getParent() != null) {
+            Files.createDirectories(path.getParent());
+        }
+        MAPPER.writeValue(path.toFile(), toMap());
+    }
+
+    Map<String, Object> toMap() {
+        Map<String, Object> profil = new LinkedHashMap<>();
+        profil.put("threads", profile.getThreads());
+        profil.put("warmupOperations", profile.getWarmupOperations());
+        profil.put("operations", profile.getOperations());
+        profil.put("hotspot", profile.getHotspot());
+        profil.put("seed", profile.getSeed());
+        profil.put("mix", profile.getMix());
+
+        Map<String, Object> operations = new LinkedHashMap<>();
+        for (Entry entry : entries) {
+            Histogram h = entry.getHistogram();
+            Map<String, Object> operation = new LinkedHashMap<>();
+            operation.put("attempts", entry.getAttempts());
+            operation.put("successes", entry.getSuccesses());
+            operation.put("conflicts", entry.getConflicts());
+            operation.put("rejections", entry.getRejections());
+            operation.put("errors", entry.getErrors());
+            operation.put("skipped", entry.getSkipped());
+            operation.put("p50Millis", toMillis(h.getValueAtPercentile(50)));
+            operation.put("p90Millis", toMillis(h.getValueAtPercentile(90)));
+            operation.put("p99Millis", toMillis(h.getValueAtPercentile(99)));
+            operation.put("maxMillis", toMillis(h.getMaxValue()));
+            operations.put(entry.getOperation().name(), operation);
+        }
+
+        Map<String, Object> verifications = new LinkedHashMap<>();
+        for (Invariant invariant : invariants) {
+            Map<String, Object> verification = new LinkedHashMap<>();
+            verification.put("expected", invariant.getExpected());
+            verification.put("actual", invariant.getActual());
+            verification.put("holds", invariant.holds());
+            verifications.put(invariant.getName(), verification);
+        }
+
+        Map<String, Object> root = new LinkedHashMap<>();
+        root.put("profile", profil);
+        root.put("dataset", dataset);
+        root.put("elapsedMillis", toMillis(elapsedNanos));
+        root.put("throughputPerSecond", getThroughputPerSecond());
+        root.put("conflictRate", getConflictRate());
+        root.put("operations", operations);
+        root.put("metrics", metrics);
+        root.put("invariants", verifications);
+        return root;
+    }
+
+    private static double toMillis(long nanos) {
+        return nanos / (double) TimeUnit.MILLISECONDS.toNanos(1);
+    }
+
+    /**
+     * Résultat d'un type d'opération. L'histogramme couvre toutes les
+     * tentatives, y compris celles refusées.
+     */
+    public static class Entry {
+
+        private final Operation operation;
+        private final Histogram histogram;
+        private final long successes;
+        private final long conflicts;
+        private final long rejections;
+        private final long errors;
+        private final long skipped;
+
+        public Entry(Operation operation, Histogram histogram, long successes, long conflicts, long rejections,
+                     long errors, long skipped) {
+            this.operation = operation;
+            this.histogram = histogram;
+            this.successes = successes;
+            this.conflicts = conflicts;
+            this.rejections = rejections;
+            this.errors = errors;
+            this.skipped = skipped;
+        }
+
+        public Operation getOperation() {
+            return operation;
+        }
+
+        public Histogram getHistogram() {
+            return histogram;
+        }
+
+        public long getAttempts() {
+            return successes + conflicts + rejections + errors;
+        }
+
+        public long getSuccesses() {
+            return successes;
+        }
+
+        public long getConflicts() {
+            return conflicts;
+        }
+
+        public long getRejections() {
+            return rejections;
+        }
+
+        public long getErrors() {
+            return errors;
+        }
+
+        /**
+         * Opérations tirées sans candidat, qui n'ont pas appelé les services.
+         *
+         * @return le nombre d'opérations ignorées
+         */
+        public long getSkipped() {
+            return skipped;
+        }
+
+        @Override
+        public String toString() {
+            return "Entry{" +
+                    "operation=" + operation +
+                    ", successes=" + successes +
+                    ", conflicts=" + conflicts +
+                    ", rejections=" + rejections +
+                    ", errors=" + errors +
+                    ", skipped=" + skipped +
+                    '}';
+        }
+    }
+
+    /**
+     * Valeur attendue et valeur observée d'un invariant.
+     */
+    public static class Invariant {
+
+        private final String name;
+        private final long expected;
+        private final long actual;
+
+        public Invariant(String name, long expected, long actual) {
+            this.name = name;
+            this.expected = expected;
+            this.actual = actual;
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        public long getExpected() {
+            return expected;
+        }
+
+        public long getActual() {
+            return actual;
+        }
+
+        public boolean holds() {
+            return expected == actual;
+        }
+
+        @Override
+        public String toString() {
+            return name + " (attendu " + expected + ", observé " + actual + ")";
+        }
+    }
+}
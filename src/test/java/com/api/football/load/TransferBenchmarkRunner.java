@@ -0,0 +1,249 @@
+package com.api.football.load;
+
+import com.api.football.effectif.ConflitEffectifException;
+import com.api.football.load.TransferBenchmarkProfile.Operation;
+import com.api.football.service.EquipeService;
+import com.api.football.service.JoueurService;
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Joue des transferts concurrents directement sur les services, en modèle
+ * fermé : chaque thread enchaîne ses opérations sans pause, le débit mesuré
+ * est donc le débit maximal soutenable.
+ *
+ * Avec la probabilité {@link TransferBenchmarkProfile#getHotspot()}, une
+ * opération vise le club chaud : tous les acheteurs se servent chez lui. Pour
+ * que la concentration dure toute l'exécution, le club chaud rachète à un
+ * club tiré au hasard dès que son effectif tombe sous la moitié de l'effectif
+ * initial. Les autres opérations tirent vendeur et acheteur au hasard.
+ *
+ * Une opération sans candidat (club vide, plus de joueur libre) n'appelle
+ * pas les services : elle est comptée à part et n'entre pas dans les
+ * latences.
+ *
+ * Le runner suit l'effectif de chaque club pour choisir ses candidats. Ce
+ * suivi est mis à jour après la validation et peut donc être en retard sur
+ * la base : un joueur déjà parti est alors refusé ou en conflit, exactement
+ * comme un client concurrent qui aurait lu un effectif périmé. Un transfert
+ * peut aussi viser un joueur libéré entre-temps et le signer : le test le
+ * retrouve dans le flux des changements.
+ *
+ * @author API Football API Team
+ * @version 1.0.0
+ */
+public class TransferBenchmarkRunner {
+
+    private static final Logger logger = LoggerFactory.getLogger(TransferBenchmarkRunner.class);
+
+    private static final long HIGHEST_TRACKABLE_NANOS = TimeUnit.SECONDS.toNanos(60);
+    private static final int MAX_ERRORS_KEPT = 20;
+
+    private final TransferBenchmarkProfile profile;
+    private final JoueurService joueurService;
+    private final EquipeService equipeService;
+
+    private final Long hotClub;
+    private final int hotClubFloor;
+    private final List<Long> clubs;
+    private final Map<Long, List<Long>> rosters = new HashMap<>();
+    private final List<Long> freeAgents;
+    private final Map<Long, Long> clubOf = new HashMap<>();
+
+    private final ConcurrentLinkedQueue<Throwable> errors = new ConcurrentLinkedQueue<>();
+
+    /**
+     * Constructeur.
+     *
+     * @param profile le profil du banc d'essai
+     * @param joueurService le service des joueurs
+     * @param equipeService le service des équipes
+     * @param rosters les joueurs de chaque club au départ
+     * @param freeAgents les joueurs sans club au départ
+     * @param hotClub le club vendeur privilégié
+     */
+    public TransferBenchmarkRunner(TransferBenchmarkProfile profile, JoueurService joueurService,
+                                   EquipeService equipeService, Map<Long, List<Long>> rosters,
+                                   List<Long> freeAgents, Long hotClub) {
+        this.profile = profile;
+        this.joueurService = joueurService;
+        this.equipeService = equipeService;
+        this.hotClub = hotClub;
+        this.clubs = new ArrayList<>(rosters.keySet());
+        rosters.forEach((club, joueurs) -> {
+            this.rosters.put(club, new ArrayList<>(joueurs));
+            joueurs.forEach(joueur -> clubOf.put(joueur, club));
+        });
+        this.freeAgents = new ArrayList<>(freeAgents);
+        this.hotClubFloor = rosters.get(hotClub).size() / 2;
+    }
+
+    /**
+     * Joue le nombre d'opérations demandé avec les threads du profil.
+     *
+     * @param operations le nombre total d'opérations
+     * @param seed la graine des tirages de cette phase
+     * @return le rapport de la phase
+     * @throws Exception si un thread ne se termine pas
+     */
+    public TransferBenchmarkReport run(int operations, long seed) throws Exception {
+        Map<Operation, Histogram> histograms = new EnumMap<>(Operation.class);
+        Map<Operation, LongAdder[]> outcomes = new EnumMap<>(Operation.class);
+        for (Operation operation : Operation.values()) {
+            histograms.put(operation, new ConcurrentHistogram(HIGHEST_TRACKABLE_NANOS, 3));
+            outcomes.put(operation, newCounters());
+        }
+
+        AtomicInteger tickets = new AtomicInteger();
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService pool = Executors.newFixedThreadPool(profile.getThreads());
+        List<Future<?>> workers = new ArrayList<>();
+        SplittableRandom seeds = new SplittableRandom(seed);
+        for (int t = 0; t < profile.getThreads(); t++) {
+            SplittableRandom random = seeds.split();
+            workers.add(pool.submit(() -> {
+                start.await();
+                while (tickets.getAndIncrement() < operations) {
+                    Operation operation = profile.operationFor(random.nextInt(profile.getTotalShares()));
+                    long begin = System.nanoTime();
+                    Outcome outcome = execute(operation, random);
+                    if (outcome != Outcome.SKIPPED) {
+                        histograms.get(operation).recordValue(
+                                Math.min(System.nanoTime() - begin, HIGHEST_TRACKABLE_NANOS));
+                    }
+                    outcomes.get(operation)[outcome.ordinal()].increment();
+                }
+                return null;
+            }));
+        }
+
+        long begin = System.nanoTime();
+        start.countDown();
+        for (Future<?> worker : workers) {
+            worker.get(30, TimeUnit.MINUTES);
+        }
+        long elapsed = System.nanoTime() - begin;
+        pool.shutdown();
+
+        List<TransferBenchmarkReport.Entry> entries = new ArrayList<>();
+        for (Operation operation : Operation.values()) {
+            LongAdder[] counts = outcomes.get(operation);
+            entries.add(new TransferBenchmarkReport.Entry(operation, histograms.get(operation).copy(),
+                    counts[Outcome.SUCCESS.ordinal()].sum(), counts[Outcome.CONFLICT.ordinal()].sum(),
+                    counts[Outcome.REJECTED.ordinal()].sum(), counts[Outcome.ERROR.ordinal()].sum(),
+                    counts[Outcome.SKIPPED.ordinal()].sum()));
+        }
+        return new TransferBenchmarkReport(profile, entries, elapsed);
+    }
+
+    /**
+     * Erreurs inattendues rencontrées (au plus {@value #MAX_ERRORS_KEPT}).
+     *
+     * @return les erreurs, hors conflits et refus métier
+     */
+    public List<Throwable> getErrors() {
+        return new ArrayList<>(errors);
+    }
+
+    private Outcome execute(Operation operation, SplittableRandom random) {
+        Long seller = null;
+        Long buyer = null;
+        boolean hot = random.nextDouble() < profile.getHotspot();
+        if (operation == Operation.AJOUTER) {
+            buyer = hot ? hotClub : randomClub(null, random);
+        } else if (!hot) {
+            seller = randomClub(null, random);
+            buyer = randomClub(seller, random);
+        } else if (operation == Operation.TRANSFER && rosterSize(hotClub) < hotClubFloor) {
+            buyer = hotClub;
+            seller = randomClub(hotClub, random);
+        } else {
+            seller = hotClub;
+            buyer = randomClub(hotClub, random);
+        }
+        Long joueur = pickPlayer(seller, random);
+        if (joueur == null || (operation != Operation.RETIRER && buyer == null)) {
+            return Outcome.SKIPPED;
+        }
+
+        try {
+            switch (operation) {
+                case TRANSFER -> joueurService.transferJoueur(joueur, buyer);
+                case AJOUTER -> equipeService.ajouterJoueur(buyer, joueur);
+                case RETIRER -> equipeService.retirerJoueur(seller, joueur);
+            }
+            moved(joueur, buyer, operation == Operation.RETIRER);
+            return Outcome.SUCCESS;
+        } catch (ConflitEffectifException e) {
+            return Outcome.CONFLICT;
+        } catch (IllegalArgumentException e) {
+            return Outcome.REJECTED;
+        } catch (RuntimeException e) {
+            if (errors.size() < MAX_ERRORS_KEPT) {
+                errors.add(e);
+            }
+            logger.debug("Erreur pendant {} du joueur {}", operation, joueur, e);
+            return Outcome.ERROR;
+        }
+    }
+
+    private Long randomClub(Long excluded, SplittableRandom random) {
+        if (excluded != null && clubs.size() < 2) {
+            return null;
+        }
+        Long club;
+        do {
+            club = clubs.get(random.nextInt(clubs.size()));
+        } while (club.equals(excluded));
+        return club;
+    }
+
+    private synchronized int rosterSize(Long club) {
+        return rosters.get(club).size();
+    }
+
+    private synchronized Long pickPlayer(Long club, SplittableRandom random) {
+        List<Long> candidates = club != null ? rosters.get(club) : freeAgents;
+        return candidates.isEmpty() ? null : candidates.get(random.nextInt(candidates.size()));
+    }
+
+    private synchronized void moved(Long joueur, Long club, boolean released) {
+        Long previous = clubOf.remove(joueur);
+        (previous != null ? rosters.get(previous) : freeAgents).remove(joueur);
+        if (released) {
+            freeAgents.add(joueur);
+        } else {
+            clubOf.put(joueur, club);
+            rosters.get(club).add(joueur);
+        }
+    }
+
+    private static LongAdder[] newCounters() {
+        LongAdder[] counters = new LongAdder[Outcome.values().length];
+        for (int i = 0; i < counters.length; i++) {
+            counters[i] = new LongAdder();
+        }
+        return counters;
+    }
+
+    private enum Outcome {
+        SUCCESS, CONFLICT, REJECTED, ERROR, SKIPPED
+    }
+}
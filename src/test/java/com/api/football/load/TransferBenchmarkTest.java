@@ -0,0 +1,167 @@
+package com.api.football.load;
+
+import com.api.football.dataset.DatasetGenerator;
+import com.api.football.dataset.DatasetProperties;
+import com.api.football.effectif.EffectifGuard;
+import com.api.football.load.TransferBenchmarkProfile.Operation;
+import com.api.football.persistence.DatabaseRestoredEvent;
+import com.api.football.service.EquipeService;
+import com.api.football.service.JoueurService;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Banc d'essai du mercato : des milliers de transferts, signatures et départs
+ * concurrents sur un jeu de données généré, avec une concentration
+ * configurable des ventes sur le club le plus fourni.
+ *
+ * Mesure le débit, les latences p50/p90/p99 et le taux de conflit de
+ * {@code JoueurService.transferJoueur} et {@code EquipeService.ajouterJoueur} /
+ * {@code retirerJoueur}, puis vérifie sur la base que chaque joueur est resté
+ * dans une seule équipe : nombre de joueurs conservé, compteurs et noms
+ * dénormalisés exacts, un événement du flux par opération validée. Le
+ * rapport est écrit en JSON dans {@code bench.report}.
+ *
+ * Les limites d'effectif sont désactivées par défaut pour mesurer le débit
+ * brut ; {@code -Dbench.max-joueurs=25} les réactive.
+ *
+ * Exécution : {@code mvn test -Pload-test -Dtest=TransferBenchmarkTest [-Dbench.threads=32 -Dbench.hotspot=0.95 ...]}
+ *
+ * @author API Football API Team
+ * @version 1.0.0
+ */
+@Tag("load")
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:transferbench;DB_CLOSE_DELAY=-1",
+        "football.effectif.max-joueurs=${bench.max-joueurs:0}"
+})
+@ActiveProfiles("test")
+class TransferBenchmarkTest {
+
+    private static final Logger logger = LoggerFactory.getLogger(TransferBenchmarkTest.class);
+
+    private static final String COMPTEURS_FAUX = "SELECT COUNT(*) FROM equipes e "
+            + "WHERE e.nombre_joueurs <> (SELECT COUNT(*) FROM joueurs j WHERE j.equipe_id = e.id)";
+
+    private static final String NOMS_FAUX = "SELECT COUNT(*) FROM joueurs j JOIN equipes e ON e.id = j.equipe_id "
+            + "WHERE j.equipe_nom IS DISTINCT FROM e.nom";
+
+    private static final String SIGNATURES_LIBRES = "SELECT COUNT(*) FROM change_events "
+            + "WHERE type = 'JOUEUR_TRANSFERE' AND ancienne_equipe_id IS NULL AND sequence_id > ";
+
+    @Autowired
+    private DatasetGenerator datasetGenerator;
+
+    @Autowired
+    private JoueurService joueurService;
+
+    @Autowired
+    private EquipeService equipeService;
+
+    @Autowired
+    private EffectifGuard effectifGuard;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void concurrentTransfers_PreserveRosterInvariants() throws Exception {
+        TransferBenchmarkProfile profile = TransferBenchmarkProfile.fromSystemProperties();
+        logger.info("Banc d'essai des transferts: {}", profile);
+
+        // Given : un jeu de données généré, rechargé par les vues en mémoire
+        DatasetProperties dataset = new DatasetProperties();
+        dataset.setLigues(1);
+        dataset.setEquipesParLigue(profile.getTeams());
+        dataset.setJoueurs(profile.getPlayers());
+        dataset.setProportionSansEquipe(profile.getFreeAgentRatio());
+        dataset.setGraine(profile.getSeed());
+        dataset.setViderAvant(true);
+        datasetGenerator.generer(dataset);
+        eventPublisher.publishEvent(new DatabaseRestoredEvent(this, "transfer-benchmark"));
+
+        Map<Long, List<Long>> rosters = new HashMap<>();
+        jdbcTemplate.queryForList("SELECT id FROM equipes", Long.class)
+                .forEach(equipe -> rosters.put(equipe, new ArrayList<>()));
+        List<Long> freeAgents = new ArrayList<>();
+        jdbcTemplate.query("SELECT id, equipe_id FROM joueurs", rs -> {
+            long equipe = rs.getLong("equipe_id");
+            (rs.wasNull() ? freeAgents : rosters.get(equipe)).add(rs.getLong("id"));
+        });
+        Long hotClub = rosters.entrySet().stream()
+                .max(Map.Entry.comparingByValue((a, b) -> Integer.compare(a.size(), b.size())))
+                .orElseThrow()
+                .getKey();
+
+        TransferBenchmarkRunner runner = new TransferBenchmarkRunner(profile, joueurService, equipeService,
+                rosters, freeAgents, hotClub);
+        runner.run(profile.getWarmupOperations(), profile.getSeed() - 1);
+
+        long joueursAvant = count("SELECT COUNT(*) FROM joueurs");
+        long libresAvant = count("SELECT COUNT(*) FROM joueurs WHERE equipe_id IS NULL");
+        long evenementsAvant = count("SELECT COUNT(*) FROM change_events");
+        long dernierEvenement = count("SELECT COALESCE(MAX(sequence_id), 0) FROM change_events");
+        Map<String, Number> effectifAvant = effectifGuard.getMetriques();
+
+        // When
+        TransferBenchmarkReport report = runner.run(profile.getOperations(), profile.getSeed());
+
+        // Then
+        long ajouts = successes(report, Operation.AJOUTER);
+        long departs = successes(report, Operation.RETIRER);
+        // Un transfert tiré d'un effectif périmé peut viser un joueur libéré entre-temps : il le signe
+        long signaturesLibres = count(SIGNATURES_LIBRES + dernierEvenement);
+        report.dataset("teams", rosters.size())
+                .dataset("players", joueursAvant)
+                .dataset("freeAgents", libresAvant)
+                .dataset("hotClub", hotClub)
+                .dataset("hotClubRoster", rosters.get(hotClub).size());
+        effectifGuard.getMetriques().forEach((cle, valeur) ->
+                report.metric("effectif." + cle, valeur.longValue() - effectifAvant.get(cle).longValue()));
+        report.invariant("joueurs", joueursAvant, count("SELECT COUNT(*) FROM joueurs"))
+                .invariant("joueursSansEquipe", libresAvant - ajouts - signaturesLibres + departs,
+                        count("SELECT COUNT(*) FROM joueurs WHERE equipe_id IS NULL"))
+                .invariant("compteursEffectif", 0, count(COMPTEURS_FAUX))
+                .invariant("nomsEquipe", 0, count(NOMS_FAUX))
+                .invariant("evenementsFlux", evenementsAvant + report.getSuccesses(),
+                        count("SELECT COUNT(*) FROM change_events"));
+
+        logger.info("Résultats du banc d'essai des transferts:\n{}", report.format());
+        report.write(profile.getReportPath());
+        logger.info("Rapport écrit dans {}", profile.getReportPath().toAbsolutePath());
+
+        assertEquals(0, report.getErrors(), () -> "Erreurs inattendues: " + runner.getErrors());
+        assertTrue(report.getSuccesses() > 0, "Aucune opération validée");
+        assertTrue(report.getViolatedInvariants().isEmpty(),
+                () -> "Invariants violés: " + report.getViolatedInvariants());
+    }
+
+    private static long successes(TransferBenchmarkReport report, Operation operation) {
+        return report.getEntries().stream()
+                .filter(entry -> entry.getOperation() == operation)
+                .mapToLong(TransferBenchmarkReport.Entry::getSuccesses)
+                .sum();
+    }
+
+    private long count(String sql) {
+        return jdbcTemplate.queryForObject(sql, Long.class);
+    }
+}
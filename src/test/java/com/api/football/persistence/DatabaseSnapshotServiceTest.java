@@ -0,0 +1,70 @@
+package com.api.football.persistence;
+
+import com.api.football.dto.SnapshotDto;
+import com.api.football.repository.JoueurRepository;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+import java.nio.file.Path;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests d'intégration des instantanés de la base persistante.
+ *
+ * @author API Football API Team
+ * @version 1.0.0
+ */
+@SpringBootTest
+@ActiveProfiles({"test", "persistent"})
+class DatabaseSnapshotServiceTest {
+
+    @TempDir
+    static Path repertoire;
+
+    @DynamicPropertySource
+    static void proprietes(DynamicPropertyRegistry registry) {
+        registry.add("football.persistence.repertoire", () -> repertoire.toString());
+        registry.add("spring.datasource.url", () -> "jdbc:h2:file:" + repertoire.resolve("football")
+                + ";CACHE_SIZE=8192;COMPRESS=TRUE;WRITE_DELAY=0;DB_CLOSE_ON_EXIT=FALSE");
+    }
+
+    @Autowired
+    private DatabaseSnapshotService snapshotService;
+
+    @Autowired
+    private JoueurRepository joueurRepository;
+
+    @Test
+    void testCreerEtRestaurerInstantane_RestoresDeletedRows() {
+        // Given
+        long joueursInitiaux = joueurRepository.count();
+        assertTrue(joueursInitiaux > 0, "data.sql doit être chargé dans une base vide");
+
+        SnapshotDto instantane = snapshotService.creerInstantane();
+        assertTrue(instantane.getTailleOctets() > 0);
+        assertEquals(instantane.getNom(), snapshotService.listerInstantanes().get(0).getNom());
+
+        joueurRepository.deleteAll();
+        assertEquals(0, joueurRepository.count());
+
+        // When
+        snapshotService.restaurerInstantane(instantane.getNom());
+
+        // Then
+        assertEquals(joueursInitiaux, joueurRepository.count());
+    }
+
+    @Test
+    void testRestaurerInstantane_RejectsUnknownOrInvalidNames() {
+        assertThrows(IllegalArgumentException.class,
+                () -> snapshotService.restaurerInstantane("../football.mv.db"));
+        assertThrows(IllegalArgumentException.class,
+                () -> snapshotService.restaurerInstantane("snapshot-20000101-000000000.zip"));
+    }
+}
@@ -0,0 +1,136 @@
+package com.api.football.persistence;
+
+import com.api.football.dto.CreateEquipeRequest;
+import com.api.football.dto.CreateJoueurRequest;
+import com.api.football.dto.EquipeDto;
+import com.api.football.dto.JoueurDto;
+import com.api.football.service.EquipeService;
+import com.api.football.service.JoueurService;
+import com.api.football.service.ServiceLayerTestConfiguration;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests de la tenue à jour des colonnes dénormalisées par les services, et
+ * de leur réparation par {@link DenormalisationChecker}.
+ *
+ * @author API Football API Team
+ * @version 1.0.0
+ */
+@DataJpaTest
+@ActiveProfiles("test")
+@Import({ServiceLayerTestConfiguration.class, DenormalisationChecker.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@DirtiesContext(classMode = DirtiesContext.ClassMode.AFTER_EACH_TEST_METHOD)
+class DenormalisationCheckerTest {
+
+    private static final String ECARTS_NOMBRE_JOUEURS = "SELECT COUNT(*) FROM equipes e "
+            + "WHERE nombre_joueurs <> (SELECT COUNT(*) FROM joueurs j WHERE j.equipe_id = e.id)";
+
+    private static final String ECARTS_EQUIPE_NOM = "SELECT COUNT(*) FROM joueurs j "
+            + "WHERE equipe_nom IS DISTINCT FROM (SELECT e.nom FROM equipes e WHERE e.id = j.equipe_id)";
+
+    @Autowired
+    private DenormalisationChecker checker;
+
+    @Autowired
+    private EquipeService equipeService;
+
+    @Autowired
+    private JoueurService joueurService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void testDonneesInitiales_SontCoherentes() {
+        assertEquals(15, nombreJoueurs(1L));
+        assertEquals(0, checker.verifier());
+    }
+
+    @Test
+    void testEcrituresDesServices_TiennentLesColonnesAJour() {
+        // Création, transfert et suppression unitaire
+        CreateJoueurRequest nouveau = new CreateJoueurRequest("Jean Nouveau", "Milieu");
+        nouveau.setEquipeId(1L);
+        JoueurDto cree = joueurService.createJoueur(nouveau);
+        assertEquals(16, nombreJoueurs(1L));
+
+        int effectifMonaco = nombreJoueurs(4L);
+        JoueurDto transfere = joueurService.transferJoueur(cree.getId(), 4L);
+        assertEquals("AS Monaco", transfere.getEquipeNom());
+        assertEquals(15, nombreJoueurs(1L));
+        assertEquals(effectifMonaco + 1, nombreJoueurs(4L));
+
+        assertTrue(joueurService.deleteJoueur(cree.getId()));
+        assertEquals(effectifMonaco, nombreJoueurs(4L));
+
+        // Suppression groupée
+        int gardiensNice = joueurService.deleteJoueurs(1L, "gardien").getNombreSupprimes();
+        assertEquals(15 - gardiensNice, nombreJoueurs(1L));
+
+        // Création d'équipe avec effectif, ajout et retrait
+        EquipeDto brest = equipeService.createEquipe(new CreateEquipeRequest("Stade Brestois", "SB29",
+                new BigDecimal("20000000.00"), List.of(new CreateJoueurRequest("Brest Un", "Défenseur"),
+                new CreateJoueurRequest("Brest Deux", "Attaquant"))));
+        assertEquals(2, nombreJoueurs(brest.getId()));
+
+        JoueurDto libre = joueurService.createJoueur(new CreateJoueurRequest("Agent Libre", "Milieu"));
+        equipeService.ajouterJoueur(brest.getId(), libre.getId());
+        assertEquals(3, nombreJoueurs(brest.getId()));
+        assertEquals("Stade Brestois", jdbcTemplate.queryForObject(
+                "SELECT equipe_nom FROM joueurs WHERE id = ?", String.class, libre.getId()));
+
+        equipeService.retirerJoueur(brest.getId(), libre.getId());
+        assertEquals(2, nombreJoueurs(brest.getId()));
+
+        assertEquals(0, ecarts(ECARTS_NOMBRE_JOUEURS));
+        assertEquals(0, ecarts(ECARTS_EQUIPE_NOM));
+        assertEquals(0, checker.verifier());
+    }
+
+    @Test
+    void testVerifier_ReparesDrift() {
+        // Given
+        jdbcTemplate.update("UPDATE equipes SET nombre_joueurs = 99 WHERE id = 1");
+        jdbcTemplate.update("UPDATE joueurs SET equipe_nom = 'Ancien nom' WHERE equipe_id = 4");
+        jdbcTemplate.update("INSERT INTO joueurs (nom, position, equipe_id) VALUES ('Import Direct', 'Milieu', 5)");
+        int joueursMonaco = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM joueurs WHERE equipe_id = 4",
+                Integer.class);
+        long passages = checker.getMetriques().get("passages").longValue();
+        long equipesReparees = checker.getMetriques().get("equipesReparees").longValue();
+
+        // When
+        int reparees = checker.verifier();
+
+        // Then
+        assertEquals(1 + joueursMonaco + 2, reparees);
+        assertEquals(15, nombreJoueurs(1L));
+        assertEquals(0, ecarts(ECARTS_NOMBRE_JOUEURS));
+        assertEquals(0, ecarts(ECARTS_EQUIPE_NOM));
+        assertEquals(0, checker.verifier());
+        assertEquals(passages + 2, checker.getMetriques().get("passages"));
+        assertEquals(equipesReparees + 2, checker.getMetriques().get("equipesReparees"));
+    }
+
+    private int nombreJoueurs(Long equipeId) {
+        return jdbcTemplate.queryForObject("SELECT nombre_joueurs FROM equipes WHERE id = ?", Integer.class,
+                equipeId);
+    }
+
+    private int ecarts(String sql) {
+        return jdbcTemplate.queryForObject(sql, Integer.class);
+    }
+}
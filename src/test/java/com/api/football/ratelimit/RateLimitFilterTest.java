@@ -0,0 +1,179 @@
+package com.api.football.ratelimit;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.time.Duration;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests unitaires du filtre de limitation de débit.
+ *
+ * @author API Football API Team
+ * @version 1.0.0
+ */
+class RateLimitFilterTest {
+
+    private final AtomicLong horloge = new AtomicLong(1_000_000);
+
+    private RateLimitProperties properties;
+    private RateLimitFilter filter;
+
+    @BeforeEach
+    void setUp() {
+        properties = new RateLimitProperties();
+        properties.setCapacite(10);
+        properties.setDebitParSeconde(2);
+        properties.setDelaiInactivite(Duration.ofSeconds(30));
+        properties.setClesApi(Set.of("client-a"));
+        filter = new RateLimitFilter(properties, horloge::get, false);
+    }
+
+    @Test
+    void testTokenBucket_RefillsAtConfiguredRate() {
+        // Given : seau de 5 jetons, 1 jeton par seconde
+        TokenBucket seau = new TokenBucket(0, 5_000);
+
+        // When / Then
+        assertEquals(0, seau.acquerir(5_000, 0, 5_000, 1));
+        assertEquals(1_000, seau.acquerir(1_000, 0, 5_000, 1));
+        assertEquals(500, seau.acquerir(1_000, 500, 5_000, 1));
+        assertEquals(0, seau.acquerir(1_000, 1_000, 5_000, 1));
+        assertEquals(5_000, seau.jetons(60_000, 5_000, 1));
+    }
+
+    @Test
+    void testDoFilter_RejectsWith429AndRetryAfterOnceBucketIsEmpty() throws Exception {
+        // Given : 10 requêtes unitaires épuisent le seau
+        for (int i = 0; i < 10; i++) {
+            assertEquals(200, executer(requete("GET", "/api/equipes/1", "10.0.0.1")).getStatus());
+        }
+
+        // When
+        MockHttpServletResponse refus = executer(requete("GET", "/api/equipes/1", "10.0.0.1"));
+
+        // Then : 1 jeton manquant à 2 jetons/s, soit 1 seconde d'attente arrondie
+        assertEquals(429, refus.getStatus());
+        assertEquals("1", refus.getHeader("Retry-After"));
+        assertTrue(refus.getContentAsString().contains("\"error\""));
+
+        // Un autre client n'est pas affecté
+        assertEquals(200, executer(requete("GET", "/api/equipes/1", "10.0.0.2")).getStatus());
+
+        // Le seau se remplit avec le temps
+        horloge.addAndGet(500);
+        assertEquals(200, executer(requete("GET", "/api/equipes/1", "10.0.0.1")).getStatus());
+        assertEquals(1L, filter.getMetriques().get("requetesRefusees"));
+        assertEquals(12L, filter.getMetriques().get("requetesAdmises"));
+    }
+
+    @Test
+    void testCout_WeightsListEndpointsBySize() {
+        assertEquals(1_000, filter.cout(requete("GET", "/api/equipes/1", "10.0.0.1")));
+        assertEquals(4_000, filter.cout(requete("GET", "/api/equipes", "10.0.0.1")));
+        assertEquals(5_000, filter.cout(requete("POST", "/api/joueurs", "10.0.0.1")));
+
+        MockHttpServletRequest grandePage = requete("GET", "/api/equipes", "10.0.0.1");
+        grandePage.setParameter("size", "100");
+        // Borné à la capacité du seau
+        assertEquals(10_000, filter.cout(grandePage));
+    }
+
+    @Test
+    void testDoFilter_ApiKeyHasItsOwnBucket() throws Exception {
+        // Given : le seau de l'adresse est épuisé par une écriture coûteuse
+        executer(requete("POST", "/api/joueurs", "10.0.0.1"));
+        executer(requete("POST", "/api/joueurs", "10.0.0.1"));
+        assertEquals(429, executer(requete("GET", "/api/equipes/1", "10.0.0.1")).getStatus());
+
+        // When
+        MockHttpServletRequest avecCle = requete("GET", "/api/equipes/1", "10.0.0.1");
+        avecCle.addHeader("X-API-Key", "client-a");
+
+        // Then
+        assertEquals(200, executer(avecCle).getStatus());
+    }
+
+    @Test
+    void testDoFilter_UnknownApiKeyIsChargedToTheAddress() throws Exception {
+        // Given : le seau de l'adresse est épuisé
+        executer(requete("POST", "/api/joueurs", "10.0.0.1"));
+        executer(requete("POST", "/api/joueurs", "10.0.0.1"));
+
+        // When : une nouvelle clé inventée à chaque requête
+        for (int i = 0; i < 5; i++) {
+            MockHttpServletRequest avecCle = requete("GET", "/api/equipes/1", "10.0.0.1");
+            avecCle.addHeader("X-API-Key", "cle-inventee-" + i);
+
+            // Then : toujours refusée, sans créer de seau
+            assertEquals(429, executer(avecCle).getStatus());
+        }
+        assertEquals(1, filter.getMetriques().get("clientsSuivis"));
+        assertEquals(5L, filter.getMetriques().get("clesInconnues"));
+    }
+
+    @Test
+    void testDoFilter_NewClientsShareAnOverflowBucketAboveTheCap() throws Exception {
+        // Given : deux adresses suivies au plus
+        properties.setMaxClients(2);
+        filter = new RateLimitFilter(properties, horloge::get, false);
+        executer(requete("GET", "/api/equipes/1", "10.0.0.1"));
+        executer(requete("GET", "/api/equipes/1", "10.0.0.2"));
+
+        // When : des adresses nouvelles épuisent le seau de débordement
+        for (int i = 3; i < 13; i++) {
+            assertEquals(200, executer(requete("GET", "/api/equipes/1", "10.0.0." + i)).getStatus());
+        }
+
+        // Then
+        assertEquals(429, executer(requete("GET", "/api/equipes/1", "10.0.0.99")).getStatus());
+        assertEquals(200, executer(requete("GET", "/api/equipes/1", "10.0.0.1")).getStatus());
+        assertEquals(2, filter.getMetriques().get("clientsSuivis"));
+        assertEquals(11L, filter.getMetriques().get("requetesDebordement"));
+    }
+
+    @Test
+    void testLibererSeauxInactifs_EvictsOnlyIdleFullBuckets() throws Exception {
+        // Given
+        executer(requete("GET", "/api/equipes/1", "10.0.0.1"));
+        horloge.addAndGet(20_000);
+        executer(requete("GET", "/api/equipes/1", "10.0.0.2"));
+
+        // When
+        horloge.addAndGet(15_000);
+        filter.libererSeauxInactifs();
+
+        // Then
+        assertEquals(1, filter.getMetriques().get("clientsSuivis"));
+        assertEquals(1L, filter.getMetriques().get("seauxLiberes"));
+    }
+
+    @Test
+    void testShouldNotFilter_WhenDisabled() throws Exception {
+        // Given
+        properties.setEnabled(false);
+
+        // When / Then
+        for (int i = 0; i < 20; i++) {
+            assertEquals(200, executer(requete("GET", "/api/equipes/1", "10.0.0.1")).getStatus());
+        }
+    }
+
+    private MockHttpServletRequest requete(String methode, String chemin, String adresse) {
+        MockHttpServletRequest request = new MockHttpServletRequest(methode, chemin);
+        request.setRemoteAddr(adresse);
+        return request;
+    }
+
+    private MockHttpServletResponse executer(MockHttpServletRequest request) throws Exception {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        filter.doFilter(request, response, new MockFilterChain());
+        return response;
+    }
+}
@@ -0,0 +1,190 @@
+package com.api.football.readmodel;
+
+import com.api.football.dto.CreateEquipeRequest;
+import com.api.football.dto.CreateJoueurRequest;
+import com.api.football.dto.EquipeDto;
+import com.api.football.dto.JoueurDto;
+import com.api.football.service.EquipeService;
+import com.api.football.service.JoueurService;
+import com.api.football.service.ServiceLayerTestConfiguration;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Sort;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests du modèle de lecture des effectifs : construction initiale et mises à
+ * jour incrémentales après validation des écritures des services.
+ *
+ * @author API Football API Team
+ * @version 1.0.0
+ */
+@DataJpaTest
+@ActiveProfiles("test")
+@Import(ServiceLayerTestConfiguration.class)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@DirtiesContext(classMode = DirtiesContext.ClassMode.AFTER_EACH_TEST_METHOD)
+class RosterReadModelTest {
+
+    @Autowired
+    private RosterReadModel rosterReadModel;
+
+    @Autowired
+    private EquipeService equipeService;
+
+    @Autowired
+    private JoueurService joueurService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void setUp() {
+        rosterReadModel.reconstruire();
+    }
+
+    @Test
+    void testReconstruire_MatchesSeededData() {
+        // When
+        Page<EquipeDto> page = rosterReadModel.getPage(0, 2, "budget", Sort.Direction.DESC);
+
+        // Then
+        assertTrue(rosterReadModel.isReady());
+        assertEquals(5, page.getTotalElements());
+        assertEquals("PSG", page.getContent().get(0).getAcronyme());
+        assertEquals("ASM", page.getContent().get(1).getAcronyme());
+        assertEquals(15, rosterReadModel.getEquipeByAcronyme("OGC").orElseThrow().getJoueurs().size());
+    }
+
+    @Test
+    void testBudgetQueries_RangeAndKeysetRanking() {
+        // When
+        Page<EquipeDto> plage = rosterReadModel.getPageParBudget(new BigDecimal("60000000"),
+                new BigDecimal("120000000"), 0, 10, "nom", Sort.Direction.ASC);
+        List<EquipeDto> top = rosterReadModel.getTopParBudget(2, null, null);
+        EquipeDto dernier = top.get(1);
+        List<EquipeDto> suite = rosterReadModel.getTopParBudget(10, dernier.getBudget(), dernier.getId());
+
+        // Then
+        assertEquals(List.of("AS Monaco", "Olympique Lyonnais", "Olympique de Marseille"),
+                plage.getContent().stream().map(EquipeDto::getNom).toList());
+        assertEquals(List.of("PSG", "ASM"), top.stream().map(EquipeDto::getAcronyme).toList());
+        assertEquals(List.of("OM", "OL", "OGC"), suite.stream().map(EquipeDto::getAcronyme).toList());
+    }
+
+    @Test
+    void testWrites_UpdateSnapshotsAfterCommit() {
+        // Given
+        Long ogc = rosterReadModel.getEquipeByAcronyme("OGC").orElseThrow().getId();
+        Long psg = rosterReadModel.getEquipeByAcronyme("PSG").orElseThrow().getId();
+
+        CreateEquipeRequest equipeRequest = new CreateEquipeRequest("Stade Brestois", "SB29",
+                new BigDecimal("30000000.00"), List.of(new CreateJoueurRequest("Marco Bizot", "Gardien")));
+
+        // When
+        EquipeDto brest = equipeService.createEquipe(equipeRequest);
+        CreateJoueurRequest joueurRequest = new CreateJoueurRequest("Nouveau Joueur", "Milieu");
+        joueurRequest.setEquipeId(ogc);
+        JoueurDto nouveau = joueurService.createJoueur(joueurRequest);
+        joueurService.transferJoueur(nouveau.getId(), psg);
+        Long retire = rosterReadModel.getEquipe(ogc).orElseThrow().getJoueurs().get(0).getId();
+        equipeService.retirerJoueur(ogc, retire);
+        JoueurDto libre = joueurService.createJoueur(new CreateJoueurRequest("Joueur Libre", "Attaquant"));
+        equipeService.ajouterJoueur(brest.getId(), libre.getId());
+
+        // Then
+        EquipeDto brestLu = rosterReadModel.getEquipe(brest.getId()).orElseThrow();
+        assertEquals(2, brestLu.getJoueurs().size());
+        assertEquals(14, rosterReadModel.getEquipe(ogc).orElseThrow().getJoueurs().size());
+        assertTrue(rosterReadModel.getEquipe(psg).orElseThrow().getJoueurs().stream()
+                .anyMatch(j -> j.getId().equals(nouveau.getId())));
+
+        // When
+        joueurService.deleteJoueur(nouveau.getId());
+
+        // Then
+        assertTrue(rosterReadModel.getEquipe(psg).orElseThrow().getJoueurs().stream()
+                .noneMatch(j -> j.getId().equals(nouveau.getId())));
+        assertEquals(6, rosterReadModel.getPage(0, 10, "nom", Sort.Direction.ASC).getTotalElements());
+
+        // When : suppression groupée des milieux de l'OGC
+        long milieux = rosterReadModel.getEquipe(ogc).orElseThrow().getJoueurs().stream()
+                .filter(j -> j.getPosition().equalsIgnoreCase("Milieu")).count();
+        joueurService.deleteJoueurs(ogc, "Milieu");
+
+        // Then
+        EquipeDto ogcLu = rosterReadModel.getEquipe(ogc).orElseThrow();
+        assertEquals(14 - milieux, ogcLu.getJoueurs().size());
+        assertTrue(ogcLu.getJoueurs().stream().noneMatch(j -> j.getPosition().equalsIgnoreCase("Milieu")));
+    }
+
+    @Test
+    void testRetirerJoueur_KeepsPlayerAsFreeAgent() {
+        // Given
+        Long ogc = rosterReadModel.getEquipeByAcronyme("OGC").orElseThrow().getId();
+        Long joueurId = rosterReadModel.getEquipe(ogc).orElseThrow().getJoueurs().get(0).getId();
+
+        // When
+        equipeService.retirerJoueur(ogc, joueurId);
+
+        // Then : le joueur quitte l'effectif mais reste en base, sans équipe
+        assertTrue(rosterReadModel.getEquipe(ogc).orElseThrow().getJoueurs().stream()
+                .noneMatch(j -> j.getId().equals(joueurId)));
+        JoueurDto libre = joueurService.getJoueurById(joueurId).orElseThrow();
+        assertNull(libre.getEquipeId());
+        assertNull(jdbcTemplate.queryForObject("SELECT equipe_id FROM joueurs WHERE id = ?", Long.class, joueurId));
+    }
+
+    @Test
+    void testEcrituresPendantLaConstruction_SontRejouees() {
+        // Given : une construction dont la lecture est terminée
+        Long ogc = rosterReadModel.getEquipeByAcronyme("OGC").orElseThrow().getId();
+        rosterReadModel.commencerConstruction();
+        Map<Long, RosterSnapshot> lues = rosterReadModel.lire();
+
+        // When : une écriture est validée avant la publication
+        CreateJoueurRequest request = new CreateJoueurRequest("Joueur Tardif", "Milieu");
+        request.setEquipeId(ogc);
+        JoueurDto tardif = joueurService.createJoueur(request);
+        int rejouees = rosterReadModel.publier(lues);
+
+        // Then
+        assertEquals(1, rejouees);
+        assertTrue(rosterReadModel.getEquipe(ogc).orElseThrow().getJoueurs().stream()
+                .anyMatch(j -> j.getId().equals(tardif.getId())));
+    }
+
+    @Test
+    void testOrdre_MatchesDatabaseOrderForCaseAndAccents() {
+        // Given : des noms qui départagent casse, accents et ordre alphabétique
+        for (String[] equipe : new String[][]{{"athletic Club", "ATH"}, {"Évian TG", "ETG"},
+                {"AJ Auxerre", "AJA"}, {"Zulte Waregem", "ZW"}, {"Angers SCO", "sco"}}) {
+            equipeService.createEquipe(new CreateEquipeRequest(equipe[0], equipe[1], new BigDecimal("1000000.00"), null));
+        }
+
+        // Then : le modèle et la base trient de la même façon, dans les deux sens
+        for (Sort.Direction direction : Sort.Direction.values()) {
+            for (String champ : List.of("nom", "acronyme", "budget")) {
+                List<Long> enBase = jdbcTemplate.queryForList("SELECT id FROM equipes ORDER BY " + champ + " "
+                        + direction.name() + ", id " + direction.name(), Long.class);
+                List<Long> enMemoire = rosterReadModel.getPage(0, 50, champ, direction).getContent().stream()
+                        .map(EquipeDto::getId).toList();
+                assertEquals(enBase, enMemoire, champ + " " + direction);
+            }
+        }
+    }
+}
@@ -0,0 +1,86 @@
+package com.api.football.repository;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.data.domain.Limit;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Vérifie les requêtes par budget et leur plan d'exécution : le classement
+ * par budget décroissant et la pagination par clé doivent parcourir
+ * idx_equipes_budget dans l'ordre, sans tri ni parcours de table.
+ *
+ * @author API Football API Team
+ * @version 1.0.0
+ */
+@DataJpaTest
+@ActiveProfiles("test")
+class EquipeBudgetIndexTest {
+
+    @Autowired
+    private EquipeRepository equipeRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void testTopByBudget_IsAnIndexWalk() {
+        String plan = expliquer("SELECT id FROM equipes ORDER BY budget DESC, id DESC FETCH FIRST 20 ROWS ONLY");
+
+        assertTrue(plan.contains("IDX_EQUIPES_BUDGET"), plan);
+        assertTrue(plan.contains("index sorted"), plan);
+    }
+
+    @Test
+    void testKeysetSeek_IsABoundedIndexWalk() {
+        String plan = expliquer("SELECT id FROM equipes WHERE budget <= 60000000 AND (budget < 60000000 OR id < 3) "
+                + "ORDER BY budget DESC, id DESC FETCH FIRST 20 ROWS ONLY");
+
+        assertTrue(plan.contains("IDX_EQUIPES_BUDGET: BUDGET <="), plan);
+        assertTrue(plan.contains("index sorted"), plan);
+    }
+
+    @Test
+    void testBudgetRange_UsesIndex() {
+        String plan = expliquer("SELECT * FROM equipes WHERE budget BETWEEN 40000000 AND 200000000");
+
+        assertTrue(plan.contains("IDX_EQUIPES_BUDGET: BUDGET >="), plan);
+        assertFalse(plan.contains("tableScan"), plan);
+    }
+
+    @Test
+    void testKeysetPagination_WalksWholeRanking() {
+        // Given
+        List<Long> attendu = equipeRepository.findIdsOrderByBudgetDesc(Limit.of(100));
+
+        // When : lecture du classement deux équipes à la fois
+        List<Long> premiers = equipeRepository.findIdsOrderByBudgetDesc(Limit.of(2));
+        List<Long> lus = new ArrayList<>(premiers);
+        while (true) {
+            Long dernier = lus.get(lus.size() - 1);
+            BigDecimal budget = equipeRepository.findById(dernier).orElseThrow().getBudget();
+            List<Long> suivants = equipeRepository.findIdsByBudgetBefore(budget, dernier, Limit.of(2));
+            if (suivants.isEmpty()) {
+                break;
+            }
+            lus.addAll(suivants);
+        }
+
+        // Then
+        assertEquals(5, attendu.size());
+        assertEquals(attendu, lus);
+        assertEquals("PSG", equipeRepository.findById(attendu.get(0)).orElseThrow().getAcronyme());
+    }
+
+    private String expliquer(String sql) {
+        return jdbcTemplate.queryForObject("EXPLAIN " + sql, String.class);
+    }
+}
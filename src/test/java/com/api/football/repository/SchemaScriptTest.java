@@ -0,0 +1,38 @@
+package com.api.football.repository;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Vérifie que le schéma prébâti (db/schema-h2.sql) reste conforme aux entités :
+ * Hibernate valide le schéma au lieu de le générer.
+ *
+ * @author API Football API Team
+ * @version 1.0.0
+ */
+@DataJpaTest(properties = {
+        "spring.jpa.hibernate.ddl-auto=validate",
+        "spring.jpa.defer-datasource-initialization=false",
+        "spring.sql.init.mode=always",
+        "spring.sql.init.schema-locations=classpath:db/schema-h2.sql"
+})
+@ActiveProfiles("test")
+class SchemaScriptTest {
+
+    @Autowired
+    private EquipeRepository equipeRepository;
+
+    @Autowired
+    private JoueurRepository joueurRepository;
+
+    @Test
+    void testPrebuiltSchema_MatchesEntitiesAndLoadsData() {
+        // Le contexte ne démarre que si la validation Hibernate réussit
+        assertTrue(equipeRepository.existsByAcronyme("OGC"));
+        assertTrue(joueurRepository.count() > 0);
+    }
+}
@@ -0,0 +1,222 @@
+package com.api.football.responsecache;
+
+import com.api.football.dto.JoueurDto;
+import com.api.football.event.RosterChangeEvent;
+import jakarta.servlet.http.HttpServlet;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests unitaires du cache de réponses.
+ *
+ * @author API Football API Team
+ * @version 1.0.0
+ */
+class ResponseCacheFilterTest {
+
+    private static final String CORPS = "{\"content\":[" + "{\"nom\":\"OGC Nice\",\"acronyme\":\"OGC\"},".repeat(20)
+            + "{}],\"totalElements\":21}";
+
+    private final AtomicLong horloge = new AtomicLong();
+    private final AtomicInteger appels = new AtomicInteger();
+
+    private ResponseCacheProperties properties;
+    private ResponseCacheFilter filter;
+    private int statut;
+
+    @BeforeEach
+    void setUp() {
+        properties = new ResponseCacheProperties();
+        properties.setDureeVie(Duration.ofSeconds(60));
+        filter = new ResponseCacheFilter(properties, horloge::get);
+        statut = 200;
+    }
+
+    @Test
+    void testDoFilter_ServesHitsWithoutCallingTheControllerInEitherEncoding() throws Exception {
+        // When
+        MockHttpServletResponse premiere = executer(requete("/api/equipes", "page=0&size=10", "gzip, deflate"));
+        MockHttpServletResponse gzip = executer(requete("/api/equipes", "size=10&page=0", "gzip"));
+        MockHttpServletResponse brute = executer(requete("/api/equipes", "page=0&size=10", null));
+
+        // Then : un seul appel, les paramètres sont normalisés
+        assertEquals(1, appels.get());
+        assertEquals("MISS", premiere.getHeader(ResponseCacheFilter.ENTETE_CACHE));
+        assertEquals("HIT", gzip.getHeader(ResponseCacheFilter.ENTETE_CACHE));
+        assertEquals("HIT", brute.getHeader(ResponseCacheFilter.ENTETE_CACHE));
+
+        assertEquals("gzip", premiere.getHeader("Content-Encoding"));
+        assertEquals("gzip", gzip.getHeader("Content-Encoding"));
+        assertEquals(CORPS, decompresser(gzip.getContentAsByteArray()));
+        assertTrue(gzip.getContentAsByteArray().length < CORPS.length());
+        assertEquals(gzip.getContentAsByteArray().length, gzip.getContentLength());
+
+        assertNull(brute.getHeader("Content-Encoding"));
+        assertEquals(CORPS, brute.getContentAsString());
+        assertEquals("application/json", brute.getContentType());
+        assertEquals("Accept, Accept-Encoding", brute.getHeader("Vary"));
+        assertEquals(2L, filter.getMetriques().get("succes"));
+    }
+
+    @Test
+    void testDoFilter_KeysOnNegotiatedTypeAndSkipsNonCacheableResponses() throws Exception {
+        // When : les en-têtes Accept qui négocient du JSON partagent l'entrée
+        executer(requete("/api/equipes/acronyme/OGC", null, null));
+        MockHttpServletRequest json = requete("/api/equipes/acronyme/OGC", null, null);
+        json.addHeader("Accept", "application/json");
+        MockHttpServletRequest navigateur = requete("/api/equipes/acronyme/OGC", null, null);
+        navigateur.addHeader("Accept", "text/html,application/xhtml+xml,*/*;q=0.8");
+        assertEquals("HIT", executer(json).getHeader(ResponseCacheFilter.ENTETE_CACHE));
+        assertEquals("HIT", executer(navigateur).getHeader(ResponseCacheFilter.ENTETE_CACHE));
+        assertEquals(1, appels.get());
+
+        // Un type non négociable passe au contrôleur sans être conservé
+        MockHttpServletRequest xml = requete("/api/equipes/acronyme/OGC", null, null);
+        xml.addHeader("Accept", "application/xml");
+        executer(xml);
+        executer(xml);
+
+        // Les 404, les autres méthodes et les autres chemins ne sont pas conservés
+        statut = 404;
+        executer(requete("/api/equipes/acronyme/ZZZ", null, null));
+        executer(requete("/api/equipes/acronyme/ZZZ", null, null));
+        statut = 200;
+        MockHttpServletRequest post = requete("/api/equipes", null, null);
+        post.setMethod("POST");
+        executer(post);
+        executer(post);
+        executer(requete("/api/joueurs", null, null));
+        executer(requete("/api/joueurs", null, null));
+
+        // Then
+        assertEquals(9, appels.get());
+        assertEquals(1, filter.getMetriques().get("entrees"));
+        assertNull(ResponseCacheFilter.negocier("application/json;q=0"));
+        assertEquals("application/json", ResponseCacheFilter.negocier("application/*"));
+        assertFalse(ResponseCacheFilter.accepteGzip("gzip;q=0, *"));
+        assertTrue(ResponseCacheFilter.accepteGzip("br;q=1.0, *;q=0.5"));
+        assertFalse(ResponseCacheFilter.accepteGzip("identity"));
+    }
+
+    @Test
+    void testDoFilter_IgnoresParametersTheEndpointDoesNotRecognise() throws Exception {
+        // When : paramètres inconnus de l'endpoint, qui ne changent pas la réponse
+        executer(requete("/api/equipes", "page=0&size=10", null));
+        executer(requete("/api/equipes", "page=0&size=10&_=1712345", null));
+        executer(requete("/api/equipes/acronyme/OGC", "utm_source=mail", null));
+        executer(requete("/api/equipes/acronyme/OGC", null, null));
+
+        // Then : deux entrées seulement ; un paramètre reconnu reste distinctif
+        assertEquals(2, appels.get());
+        executer(requete("/api/equipes", "page=1&size=10", null));
+        assertEquals(3, appels.get());
+    }
+
+    @Test
+    void testEviction_StaysWithinTheByteBudgetAndKeepsHotPages() throws Exception {
+        // Given : place pour un peu plus de quatre réponses
+        long taille = CORPS.length() + compresser(CORPS).length;
+        properties.setOctetsMax(taille * 4 + taille / 2);
+        filter = new ResponseCacheFilter(properties, horloge::get);
+        executer(requete("/api/equipes", "page=0", null));
+        executer(requete("/api/equipes", "page=0", null));
+        executer(requete("/api/equipes", "page=1", null));
+        executer(requete("/api/equipes", "page=1", null));
+
+        // When : une rafale de clés lues une seule fois
+        for (int i = 0; i < 50; i++) {
+            executer(requete("/api/equipes", "page=" + (100 + i), null));
+        }
+
+        // Then : budget respecté, les pages populaires sont toujours servies depuis le cache
+        assertTrue(filter.getMetriques().get("octets").longValue() <= properties.getOctetsMax());
+        assertEquals(4, filter.getMetriques().get("entrees"));
+        assertEquals(48L, filter.getMetriques().get("evictions"));
+        int avant = appels.get();
+        assertEquals("HIT", executer(requete("/api/equipes", "page=0", null)).getHeader(ResponseCacheFilter.ENTETE_CACHE));
+        assertEquals("HIT", executer(requete("/api/equipes", "page=1", null)).getHeader(ResponseCacheFilter.ENTETE_CACHE));
+        assertEquals(avant, appels.get());
+    }
+
+    @Test
+    void testInvalidation_ByWriteEventOrExpiry() throws Exception {
+        // Given
+        executer(requete("/api/equipes", null, null));
+        executer(requete("/api/equipes", null, null));
+        assertEquals(1, appels.get());
+
+        // When : une écriture validée vide le cache
+        filter.onRosterChange(RosterChangeEvent.joueurCree(new JoueurDto(1L, "Nouveau", "Milieu", 1L, "OGC Nice")));
+        executer(requete("/api/equipes", null, null));
+
+        // Then
+        assertEquals(2, appels.get());
+        assertEquals(1L, filter.getMetriques().get("invalidations"));
+
+        // Une entrée expirée est recalculée
+        horloge.addAndGet(Duration.ofSeconds(61).toNanos());
+        assertEquals("MISS", executer(requete("/api/equipes", null, null)).getHeader(ResponseCacheFilter.ENTETE_CACHE));
+        assertEquals(3, appels.get());
+    }
+
+    private MockHttpServletResponse executer(MockHttpServletRequest requete) throws Exception {
+        MockHttpServletResponse reponse = new MockHttpServletResponse();
+        HttpServlet controleur = new HttpServlet() {
+            @Override
+            protected void service(HttpServletRequest req, HttpServletResponse resp) throws IOException {
+                appels.incrementAndGet();
+                resp.setStatus(statut);
+                resp.setContentType("application/json");
+                resp.getOutputStream().write(CORPS.getBytes(StandardCharsets.UTF_8));
+            }
+        };
+        filter.doFilter(requete, reponse, new MockFilterChain(controleur));
+        return reponse;
+    }
+
+    private static MockHttpServletRequest requete(String chemin, String parametres, String acceptEncoding) {
+        MockHttpServletRequest requete = new MockHttpServletRequest("GET", chemin);
+        if (parametres != null) {
+            requete.setQueryString(parametres);
+            for (String parametre : parametres.split("&")) {
+                String[] nomValeur = parametre.split("=");
+                requete.addParameter(nomValeur[0], nomValeur[1]);
+            }
+        }
+        if (acceptEncoding != null) {
+            requete.addHeader("Accept-Encoding", acceptEncoding);
+        }
+        return requete;
+    }
+
+    private static byte[] compresser(String texte) throws IOException {
+        ByteArrayOutputStream tampon = new ByteArrayOutputStream();
+        try (GZIPOutputStream sortie = new GZIPOutputStream(tampon)) {
+            sortie.write(texte.getBytes(StandardCharsets.UTF_8));
+        }
+        return tampon.toByteArray();
+    }
+
+    private static String decompresser(byte[] octets) throws IOException {
+        try (GZIPInputStream entree = new GZIPInputStream(new ByteArrayInputStream(octets))) {
+            return new String(entree.readAllBytes(), StandardCharsets.UTF_8);
+        }
+    }
+}
@@ -0,0 +1,232 @@
+package com.api.football.rpc;
+
+import com.api.football.dto.EquipeDto;
+import com.api.football.dto.JoueurDto;
+import com.api.football.dto.SuggestionDto;
+import com.api.football.rpc.RpcProtocol.Methode;
+import com.api.football.rpc.RpcProtocol.Statut;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.io.BufferedInputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.net.Socket;
+import java.net.SocketTimeoutException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Tests du serveur RPC interne, de bout en bout sur un port libre.
+ *
+ * La fenêtre de crédit et la taille des pages sont volontairement petites
+ * pour que les flux traversent plusieurs pages et plusieurs renouvellements
+ * de crédit.
+ *
+ * @author API Football API Team
+ * @version 1.0.0
+ */
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:rpctest;DB_CLOSE_DELAY=-1",
+        "football.rpc.enabled=true",
+        "football.rpc.port=0",
+        "football.rpc.secret=" + RpcServerTest.SECRET,
+        "football.rpc.max-connexions=3",
+        "football.rpc.fenetre=4",
+        "football.rpc.taille-page=7"
+})
+@ActiveProfiles("test")
+@DirtiesContext(classMode = DirtiesContext.ClassMode.AFTER_EACH_TEST_METHOD)
+class RpcServerTest {
+
+    static final String SECRET = "secret-de-test";
+
+    private static final Duration DELAI = Duration.ofSeconds(5);
+    private static final int FENETRE = 4;
+
+    @Autowired
+    private RpcServer rpcServer;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private RpcClient client;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        client = new RpcClient("localhost", rpcServer.getPort(), FENETRE, SECRET);
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        client.close();
+    }
+
+    @Test
+    void testGetEquipeEtJoueur() {
+        EquipeDto equipe = client.getEquipe(1L, DELAI);
+        assertEquals("OGC", equipe.getAcronyme());
+        assertNotNull(equipe.getBudget());
+        assertEquals(compter("SELECT COUNT(*) FROM joueurs WHERE equipe_id = 1"), equipe.getJoueurs().size());
+
+        JoueurDto joueur = client.getJoueur(1L, DELAI);
+        assertEquals("Kasper Schmeichel", joueur.getNom());
+        assertEquals(1L, joueur.getEquipeId());
+
+        RpcException e = assertThrows(RpcException.class, () -> client.getJoueur(999_999L, DELAI));
+        assertEquals(Statut.INTROUVABLE, e.getStatut());
+    }
+
+    @Test
+    void testListerJoueurs_FluxCompletAvecPetiteFenetre() {
+        List<JoueurDto> recus = new ArrayList<>();
+        long nombre = client.listerJoueurs(null, null, DELAI, recus::add);
+
+        assertEquals(compter("SELECT COUNT(*) FROM joueurs"), nombre);
+        assertEquals(nombre, recus.size());
+        for (int i = 1; i < recus.size(); i++) {
+            assertTrue(recus.get(i - 1).getNom().compareTo(recus.get(i).getNom()) <= 0, "Flux trié par nom");
+        }
+
+        long equipe1 = client.listerJoueurs(1L, null, DELAI, joueur -> assertEquals(1L, joueur.getEquipeId()));
+        assertEquals(compter("SELECT COUNT(*) FROM joueurs WHERE equipe_id = 1"), equipe1);
+
+        long equipes = client.listerEquipes(DELAI, equipe -> assertNotNull(equipe.getNom()));
+        assertEquals(compter("SELECT COUNT(*) FROM equipes"), equipes);
+        assertTrue(rpcServer.getMetriques().get("messagesFlux").longValue() >= nombre + equipe1 + equipes);
+    }
+
+    @Test
+    void testFlux_SansCreditLeServeurSArreteALaFenetre() throws Exception {
+        try (Socket socket = new Socket("localhost", rpcServer.getPort())) {
+            socket.setSoTimeout(500);
+            DataOutputStream sortie = new DataOutputStream(socket.getOutputStream());
+            DataInputStream entree = new DataInputStream(new BufferedInputStream(socket.getInputStream()));
+
+            // LIST_JOUEURS sans filtre, sans échéance, et sans jamais rendre de crédit
+            ecrireTrame(sortie, RpcProtocol.APPEL, 7, new byte[]{(byte) Methode.LIST_JOUEURS.getCode(),
+                    0, 0, 0, 0, 0, 0});
+
+            for (int i = 0; i < FENETRE; i++) {
+                assertEquals(RpcProtocol.MESSAGE, lireTrame(entree)[0]);
+            }
+            assertThrows(SocketTimeoutException.class, () -> lireTrame(entree));
+
+            ecrireTrame(sortie, RpcProtocol.ANNULATION, 7, new byte[0]);
+            byte[] fin = lireTrame(entree);
+            assertEquals(RpcProtocol.FIN, fin[0]);
+            assertEquals(Statut.ANNULE.getCode(), fin[1]);
+        }
+    }
+
+    @Test
+    void testFlux_ConsommateurLentDepasseLeDelai() {
+        RpcException e = assertThrows(RpcException.class, () -> client.listerJoueurs(null, null,
+                Duration.ofMillis(100), joueur -> pause(40)));
+        assertEquals(Statut.DELAI_DEPASSE, e.getStatut());
+    }
+
+    @Test
+    void testTransfererEtRechercher() {
+        JoueurDto transfere = client.transferer(1L, 2L, DELAI);
+        assertEquals(2L, transfere.getEquipeId());
+        assertEquals(2L, compter("SELECT equipe_id FROM joueurs WHERE id = 1"));
+
+        RpcException e = assertThrows(RpcException.class, () -> client.transferer(1L, 999_999L, DELAI));
+        assertEquals(Statut.INTROUVABLE, e.getStatut());
+
+        List<SuggestionDto> suggestions = client.rechercher("psg", 5, "EQUIPE", DELAI);
+        assertTrue(suggestions.stream().anyMatch(s -> "PSG".equals(s.getAcronyme())), suggestions.toString());
+        suggestions.forEach(s -> assertEquals("EQUIPE", s.getType()));
+    }
+
+    @Test
+    void testTransferer_ExigeUneConnexionAuthentifiee() throws IOException {
+        // Given : une connexion sans secret
+        try (RpcClient lecture = new RpcClient("localhost", rpcServer.getPort(), FENETRE)) {
+            // When / Then : la lecture est permise, la modification refusée
+            assertEquals("OGC", lecture.getEquipe(1L, DELAI).getAcronyme());
+            RpcException e = assertThrows(RpcException.class, () -> lecture.transferer(1L, 2L, DELAI));
+            assertEquals(Statut.NON_AUTHENTIFIE, e.getStatut());
+        }
+        assertEquals(1L, compter("SELECT equipe_id FROM joueurs WHERE id = 1"));
+
+        // Un secret erroné est refusé et la connexion fermée
+        RpcException refus = assertThrows(RpcException.class,
+                () -> new RpcClient("localhost", rpcServer.getPort(), FENETRE, "mauvais-secret"));
+        assertEquals(Statut.NON_AUTHENTIFIE, refus.getStatut());
+        assertEquals(1L, rpcServer.getMetriques().get("authentificationsRefusees"));
+    }
+
+    @Test
+    void testConnexions_AuDelaDuMaximumFermees() throws Exception {
+        // Given : le client du test et deux autres connexions atteignent le maximum
+        try (Socket deuxieme = new Socket("localhost", rpcServer.getPort());
+             Socket troisieme = new Socket("localhost", rpcServer.getPort())) {
+            assertTrue(deuxieme.isConnected() && troisieme.isConnected());
+            long limite = System.nanoTime() + Duration.ofSeconds(5).toNanos();
+            while (rpcServer.getMetriques().get("connexions").intValue() < 3 && System.nanoTime() < limite) {
+                pause(10);
+            }
+            assertEquals(3, rpcServer.getMetriques().get("connexions").intValue());
+
+            // When / Then : la connexion suivante est fermée par le serveur
+            try (Socket refusee = new Socket("localhost", rpcServer.getPort())) {
+                refusee.setSoTimeout(5000);
+                assertEquals(-1, refusee.getInputStream().read());
+            }
+            assertEquals(1L, rpcServer.getMetriques().get("connexionsRefusees"));
+            assertEquals("OGC", client.getEquipe(1L, DELAI).getAcronyme());
+        }
+    }
+
+    @Test
+    void testEcoute_SurLaBoucleLocaleParDefaut() {
+        assertTrue(rpcServer.getAdresse().isLoopbackAddress());
+    }
+
+    private long compter(String sql) {
+        return jdbcTemplate.queryForObject(sql, Long.class);
+    }
+
+    private static void ecrireTrame(DataOutputStream sortie, byte type, int id, byte[] corps) throws IOException {
+        sortie.writeInt(RpcProtocol.ENTETE + corps.length);
+        sortie.writeByte(type);
+        sortie.writeInt(id);
+        sortie.write(corps);
+        sortie.flush();
+    }
+
+    /**
+     * @return le type de la trame suivi de son corps
+     */
+    private static byte[] lireTrame(DataInputStream entree) throws IOException {
+        int longueur = entree.readInt();
+        byte[] trame = new byte[longueur - RpcProtocol.ENTETE + 1];
+        trame[0] = entree.readByte();
+        entree.readInt();
+        entree.readFully(trame, 1, trame.length - 1);
+        return trame;
+    }
+
+    private static void pause(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
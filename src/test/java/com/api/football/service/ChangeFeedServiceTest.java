@@ -0,0 +1,208 @@
+package com.api.football.service;
+
+import com.api.football.dto.ChangeEventDto;
+import com.api.football.dto.ChangeFeedDto;
+import com.api.football.dto.CreateJoueurRequest;
+import com.api.football.dto.JoueurDto;
+import com.api.football.repository.EquipeRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.autoconfigure.jackson.JacksonAutoConfiguration;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests de l'outbox transactionnelle et du flux de changements.
+ *
+ * @author API Football API Team
+ * @version 1.0.0
+ */
+@DataJpaTest
+@ActiveProfiles("test")
+@Import({ServiceLayerTestConfiguration.class, ChangeFeedService.class})
+@ImportAutoConfiguration(JacksonAutoConfiguration.class)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@DirtiesContext(classMode = DirtiesContext.ClassMode.AFTER_EACH_TEST_METHOD)
+class ChangeFeedServiceTest {
+
+    @Autowired
+    private ChangeFeedService changeFeedService;
+
+    @Autowired
+    private JoueurService joueurService;
+
+    @Autowired
+    private EquipeRepository equipeRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Test
+    void testWrites_AppendEventsInSequenceOrder() {
+        // Given
+        Long ogc = equipeRepository.findByAcronyme("OGC").orElseThrow().getId();
+        Long psg = equipeRepository.findByAcronyme("PSG").orElseThrow().getId();
+        CreateJoueurRequest request = new CreateJoueurRequest("Joueur Flux", "Milieu");
+        request.setEquipeId(ogc);
+
+        // When
+        JoueurDto joueur = joueurService.createJoueur(request);
+        joueurService.transferJoueur(joueur.getId(), psg);
+        joueurService.deleteJoueur(joueur.getId());
+
+        // Then
+        List<ChangeEventDto> evenements = changeFeedService.getChanges(0, 100).getEvenements();
+        assertEquals(List.of("JOUEUR_CREE", "JOUEUR_TRANSFERE", "JOUEUR_SUPPRIME"),
+                evenements.stream().map(ChangeEventDto::getType).toList());
+        assertTrue(evenements.get(0).getSequence() < evenements.get(1).getSequence());
+        assertEquals(ogc, evenements.get(1).getAncienneEquipeId());
+        assertEquals(psg, evenements.get(1).getEquipeId());
+        assertEquals(joueur.getId(), evenements.get(2).getJoueurId());
+        assertEquals(psg, evenements.get(2).getAncienneEquipeId());
+        assertTrue(evenements.get(0).getDonnees().contains("\"nom\":\"Joueur Flux\""));
+    }
+
+    @Test
+    void testRollback_LeavesNoEvent() {
+        // When
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            joueurService.createJoueur(new CreateJoueurRequest("Joueur Annulé", "Gardien"));
+            status.setRollbackOnly();
+        });
+
+        // Then
+        assertTrue(changeFeedService.getChanges(0, 100).getEvenements().isEmpty());
+    }
+
+    @Test
+    void testGetChanges_ReadsInBatchesWithCursor() {
+        // Given
+        for (int i = 0; i < 5; i++) {
+            joueurService.createJoueur(new CreateJoueurRequest("Joueur Lot " + i, "Défenseur"));
+        }
+
+        // When
+        ChangeFeedDto premier = changeFeedService.getChanges(0, 3);
+        ChangeFeedDto second = changeFeedService.getChanges(premier.getProchainSince(), 3);
+        ChangeFeedDto vide = changeFeedService.getChanges(second.getProchainSince(), 3);
+
+        // Then
+        assertEquals(3, premier.getEvenements().size());
+        assertTrue(premier.isEncoreDisponible());
+        assertEquals(2, second.getEvenements().size());
+        assertFalse(second.isEncoreDisponible());
+        assertTrue(vide.getEvenements().isEmpty());
+        assertEquals(second.getProchainSince(), vide.getProchainSince());
+    }
+
+    @Test
+    void testGetChanges_InvalidLimit() {
+        assertThrows(IllegalArgumentException.class, () -> changeFeedService.getChanges(0, 0));
+        assertThrows(IllegalArgumentException.class, () -> changeFeedService.getChanges(-1, 10));
+    }
+
+    @Test
+    void testConcurrentWrites_GetGaplessSequencesInVisibilityOrder() throws Exception {
+        // Given
+        int threads = 8;
+        int parThread = 10;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        List<Future<?>> taches = new ArrayList<>();
+
+        // When : des transactions concurrentes, sans verrou commun
+        for (int t = 0; t < threads; t++) {
+            int numero = t;
+            taches.add(executor.submit(() -> {
+                for (int i = 0; i < parThread; i++) {
+                    joueurService.createJoueur(new CreateJoueurRequest("Concurrent " + numero + "-" + i, "Milieu"));
+                }
+            }));
+        }
+        for (Future<?> tache : taches) {
+            tache.get(60, TimeUnit.SECONDS);
+        }
+        executor.shutdown();
+
+        // Then : chaque événement a un numéro, sans trou ni doublon
+        List<ChangeEventDto> evenements = changeFeedService.getChanges(0, 1000).getEvenements();
+        assertEquals(threads * parThread, evenements.size());
+        for (int i = 0; i < evenements.size(); i++) {
+            assertEquals(i + 1L, evenements.get(i).getSequence());
+        }
+        assertEquals(0, jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM change_events WHERE sequence_validation IS NULL", Integer.class));
+    }
+
+    @Test
+    void testGetChanges_NumbersRowsLeftUnsequenced() {
+        // Given : un événement validé par une instance arrêtée avant de le numéroter
+        joueurService.createJoueur(new CreateJoueurRequest("Joueur Numéroté", "Milieu"));
+        jdbcTemplate.update("INSERT INTO change_events (type, joueur_id, cree_le) VALUES ('JOUEUR_CREE', 999, ?)",
+                Timestamp.from(Instant.now()));
+
+        // When
+        List<ChangeEventDto> evenements = changeFeedService.getChanges(0, 100).getEvenements();
+
+        // Then
+        assertEquals(2, evenements.size());
+        assertEquals(2L, evenements.get(1).getSequence());
+        assertEquals(999L, evenements.get(1).getJoueurId());
+    }
+
+    @Test
+    void testPayload_UsesApplicationJacksonConfiguration() {
+        // When : un joueur libre, sans équipe
+        joueurService.createJoueur(new CreateJoueurRequest("Joueur Libre", "Gardien"));
+
+        // Then : les champs nuls sont omis, comme dans les réponses REST
+        String donnees = changeFeedService.getChanges(0, 100).getEvenements().get(0).getDonnees();
+        assertTrue(donnees.contains("\"nom\":\"Joueur Libre\""));
+        assertFalse(donnees.contains("equipeId"));
+    }
+
+    @Test
+    void testPurger_RemovesExpiredEventsButKeepsSequence() {
+        // Given : trois événements, tous plus anciens que la rétention
+        for (int i = 0; i < 3; i++) {
+            joueurService.createJoueur(new CreateJoueurRequest("Joueur Ancien " + i, "Milieu"));
+        }
+        changeFeedService.getChanges(0, 100);
+        jdbcTemplate.update("UPDATE change_events SET cree_le = ?",
+                Timestamp.from(Instant.now().minus(Duration.ofDays(60))));
+
+        // When
+        int purges = changeFeedService.purger();
+        joueurService.createJoueur(new CreateJoueurRequest("Joueur Récent", "Milieu"));
+
+        // Then : le dernier numéroté est gardé, la séquence continue après lui
+        assertEquals(2, purges);
+        CurseurExpireException expire = assertThrows(CurseurExpireException.class,
+                () -> changeFeedService.getChanges(0, 100));
+        assertEquals(3L, expire.getPremierDisponible());
+        List<ChangeEventDto> evenements = changeFeedService.getChanges(2, 100).getEvenements();
+        assertEquals(List.of(3L, 4L), evenements.stream().map(ChangeEventDto::getSequence).toList());
+    }
+}
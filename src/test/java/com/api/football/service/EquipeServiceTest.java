@@ -1,16 +1,24 @@
 package com.api.football.service;
 
+import com.api.football.coalescing.RequestCoalescer;
 import com.api.football.dto.CreateEquipeRequest;
 import com.api.football.dto.EquipeDto;
+import com.api.football.effectif.EffectifGuard;
+import com.api.football.existence.ExistenceIndex;
+import com.api.football.existence.ExistenceProperties;
 import com.api.football.model.Equipe;
 import com.api.football.repository.EquipeRepository;
 import com.api.football.repository.JoueurRepository;
+import com.api.football.readmodel.RosterReadModel;
+import com.api.football.suggest.SuggestionIndex;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
@@ -39,6 +47,24 @@ class EquipeServiceTest {
     @Mock
     private JoueurRepository joueurRepository;
 
+    @Mock
+    private RosterReadModel rosterReadModel;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Mock
+    private SuggestionIndex suggestionIndex;
+
+    @Spy
+    private RequestCoalescer requestCoalescer = new RequestCoalescer();
+
+    @Mock
+    private EffectifGuard effectifGuard;
+
+    @Spy
+    private ExistenceIndex existenceIndex = new ExistenceIndex(new ExistenceProperties());
+
     @InjectMocks
     private EquipeService equipeService;
 
@@ -154,7 +180,7 @@ class EquipeServiceTest {
     @Test
     void testGetEquipeById_Success() {
         // Given
-        when(equipeRepository.findById(1L)).thenReturn(Optional.of(equipeTest));
+        when(equipeRepository.findByIdWithJoueurs(1L)).thenReturn(Optional.of(equipeTest));
 
         // When
         Optional<EquipeDto> result = equipeService.getEquipeById(1L);
@@ -164,13 +190,13 @@ class EquipeServiceTest {
         assertEquals("OGC Nice", result.get().getNom());
         assertEquals("OGC", result.get().getAcronyme());
         
-        verify(equipeRepository).findById(1L);
+        verify(equipeRepository).findByIdWithJoueurs(1L);
     }
 
     @Test
     void testGetEquipeById_NotFound() {
         // Given
-        when(equipeRepository.findById(1L)).thenReturn(Optional.empty());
+        when(equipeRepository.findByIdWithJoueurs(1L)).thenReturn(Optional.empty());
 
         // When
         Optional<EquipeDto> result = equipeService.getEquipeById(1L);
@@ -178,13 +204,13 @@ class EquipeServiceTest {
         // Then
         assertFalse(result.isPresent());
         
-        verify(equipeRepository).findById(1L);
+        verify(equipeRepository).findByIdWithJoueurs(1L);
     }
 
     @Test
     void testGetEquipeByAcronyme_Success() {
         // Given
-        when(equipeRepository.findByAcronyme("OGC")).thenReturn(Optional.of(equipeTest));
+        when(equipeRepository.findByAcronymeWithJoueurs("OGC")).thenReturn(Optional.of(equipeTest));
 
         // When
         Optional<EquipeDto> result = equipeService.getEquipeByAcronyme("OGC");
@@ -194,13 +220,13 @@ class EquipeServiceTest {
         assertEquals("OGC Nice", result.get().getNom());
         assertEquals("OGC", result.get().getAcronyme());
         
-        verify(equipeRepository).findByAcronyme("OGC");
+        verify(equipeRepository).findByAcronymeWithJoueurs("OGC");
     }
 
     @Test
     void testGetEquipeByAcronyme_NotFound() {
         // Given
-        when(equipeRepository.findByAcronyme("OGC")).thenReturn(Optional.empty());
+        when(equipeRepository.findByAcronymeWithJoueurs("OGC")).thenReturn(Optional.empty());
 
         // When
         Optional<EquipeDto> result = equipeService.getEquipeByAcronyme("OGC");
@@ -208,6 +234,6 @@ class EquipeServiceTest {
         // Then
         assertFalse(result.isPresent());
         
-        verify(equipeRepository).findByAcronyme("OGC");
+        verify(equipeRepository).findByAcronymeWithJoueurs("OGC");
     }
 }
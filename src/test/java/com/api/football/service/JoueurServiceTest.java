@@ -1,17 +1,28 @@
 package com.api.football.service;
 
+import com.api.football.coalescing.RequestCoalescer;
 import com.api.football.dto.CreateJoueurRequest;
 import com.api.football.dto.JoueurDto;
+import com.api.football.dto.MultiGetDto;
+import com.api.football.dto.SuppressionDto;
+import com.api.football.effectif.ConflitEffectifException;
+import com.api.football.effectif.EffectifGuard;
+import com.api.football.existence.ExistenceIndex;
+import com.api.football.existence.ExistenceProperties;
 import com.api.football.model.Equipe;
 import com.api.football.model.Joueur;
 import com.api.football.repository.EquipeRepository;
 import com.api.football.repository.JoueurRepository;
+import com.api.football.repository.JoueurSupprime;
+import com.api.football.suggest.SuggestionIndex;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
@@ -40,6 +51,21 @@ class JoueurServiceTest {
     @Mock
     private EquipeRepository equipeRepository;
 
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Mock
+    private SuggestionIndex suggestionIndex;
+
+    @Spy
+    private RequestCoalescer requestCoalescer = new RequestCoalescer();
+
+    @Mock
+    private EffectifGuard effectifGuard;
+
+    @Spy
+    private ExistenceIndex existenceIndex = new ExistenceIndex(new ExistenceProperties());
+
     @InjectMocks
     private JoueurService joueurService;
 
@@ -160,7 +186,7 @@ class JoueurServiceTest {
     @Test
     void testGetJoueurById_Success() {
         // Given
-        when(joueurRepository.findById(1L)).thenReturn(Optional.of(joueurTest));
+        when(joueurRepository.findByIdWithEquipe(1L)).thenReturn(Optional.of(joueurTest));
 
         // When
         Optional<JoueurDto> result = joueurService.getJoueurById(1L);
@@ -170,13 +196,13 @@ class JoueurServiceTest {
         assertEquals("Kasper Schmeichel", result.get().getNom());
         assertEquals("Gardien", result.get().getPosition());
         
-        verify(joueurRepository).findById(1L);
+        verify(joueurRepository).findByIdWithEquipe(1L);
     }
 
     @Test
     void testGetJoueurById_NotFound() {
         // Given
-        when(joueurRepository.findById(1L)).thenReturn(Optional.empty());
+        when(joueurRepository.findByIdWithEquipe(1L)).thenReturn(Optional.empty());
 
         // When
         Optional<JoueurDto> result = joueurService.getJoueurById(1L);
@@ -184,7 +210,28 @@ class JoueurServiceTest {
         // Then
         assertFalse(result.isPresent());
         
-        verify(joueurRepository).findById(1L);
+        verify(joueurRepository).findByIdWithEquipe(1L);
+    }
+
+    @Test
+    void testGetJoueursByIds_OneQueryInRequestOrder() {
+        // Given
+        Joueur joueur2 = new Joueur("Terem Moffi", "Attaquant", equipeTest);
+        joueur2.setId(2L);
+        when(joueurRepository.findAllWithEquipeByIdIn(List.of(2L, 9L, 1L)))
+                .thenReturn(Arrays.asList(joueurTest, joueur2));
+
+        // When
+        MultiGetDto<JoueurDto> result = joueurService.getJoueursByIds(List.of(2L, 9L, 1L));
+
+        // Then
+        assertEquals(2, result.getElements().size());
+        assertEquals("Terem Moffi", result.getElements().get(0).getNom());
+        assertEquals("OGC Nice", result.getElements().get(0).getEquipeNom());
+        assertEquals("Kasper Schmeichel", result.getElements().get(1).getNom());
+        assertEquals(List.of(9L), result.getIdsManquants());
+
+        verify(joueurRepository, times(1)).findAllWithEquipeByIdIn(anyList());
     }
 
     @Test
@@ -209,6 +256,25 @@ class JoueurServiceTest {
         verify(joueurRepository).save(any(Joueur.class));
     }
 
+    @Test
+    void testTransferJoueur_EffectifComplet() {
+        // Given
+        Equipe nouvelleEquipe = new Equipe("PSG", "PSG", new BigDecimal("200000000.00"));
+        nouvelleEquipe.setId(2L);
+
+        when(joueurRepository.findById(1L)).thenReturn(Optional.of(joueurTest));
+        when(equipeRepository.findById(2L)).thenReturn(Optional.of(nouvelleEquipe));
+        doThrow(new ConflitEffectifException("L'équipe 2 a atteint la limite de 30 joueurs"))
+                .when(effectifGuard).transferer(1L, 1L, 2L, "Gardien");
+
+        // When & Then
+        assertThrows(ConflitEffectifException.class, () -> joueurService.transferJoueur(1L, 2L));
+
+        assertEquals(1L, joueurTest.getEquipe().getId());
+        verify(joueurRepository, never()).save(any(Joueur.class));
+        verify(eventPublisher, never()).publishEvent(any(Object.class));
+    }
+
     @Test
     void testTransferJoueur_JoueurNotFound() {
         // Given
@@ -229,28 +295,89 @@ class JoueurServiceTest {
     @Test
     void testDeleteJoueur_Success() {
         // Given
-        when(joueurRepository.existsById(1L)).thenReturn(true);
+        when(joueurRepository.deleteByIdReturning(1L)).thenReturn(List.of(supprime(1L, 1L)));
 
         // When
         boolean result = joueurService.deleteJoueur(1L);
 
         // Then
         assertTrue(result);
-        verify(joueurRepository).existsById(1L);
-        verify(joueurRepository).deleteById(1L);
+        verify(joueurRepository).deleteByIdReturning(1L);
+        verify(joueurRepository, never()).existsById(anyLong());
+        verify(eventPublisher).publishEvent(any(Object.class));
     }
 
     @Test
     void testDeleteJoueur_NotFound() {
         // Given
-        when(joueurRepository.existsById(1L)).thenReturn(false);
+        when(joueurRepository.deleteByIdReturning(1L)).thenReturn(List.of());
 
         // When
         boolean result = joueurService.deleteJoueur(1L);
 
         // Then
         assertFalse(result);
-        verify(joueurRepository).existsById(1L);
-        verify(joueurRepository, never()).deleteById(anyLong());
+        verify(joueurRepository).deleteByIdReturning(1L);
+        verify(eventPublisher, never()).publishEvent(any(Object.class));
+    }
+
+    @Test
+    void testDeleteJoueurs_ByIds_ReportsMissingIds() {
+        // Given
+        when(joueurRepository.deleteAllByIdInReturning(List.of(3L, 1L, 7L)))
+                .thenReturn(List.of(supprime(1L, 1L), supprime(3L, null)));
+
+        // When
+        SuppressionDto result = joueurService.deleteJoueurs(List.of(3L, 1L, 3L, 7L));
+
+        // Then
+        assertEquals(2, result.getNombreSupprimes());
+        assertEquals(List.of(3L, 1L), result.getIdsSupprimes());
+        assertEquals(List.of(7L), result.getIdsManquants());
+        verify(eventPublisher, times(2)).publishEvent(any(Object.class));
+    }
+
+    @Test
+    void testDeleteJoueurs_ByFilter() {
+        // Given
+        when(joueurRepository.deleteByEquipeIdAndPositionReturning(1L, "Gardien"))
+                .thenReturn(List.of(supprime(1L, 1L)));
+
+        // When
+        SuppressionDto result = joueurService.deleteJoueurs(1L, " Gardien ");
+
+        // Then
+        assertEquals(List.of(1L), result.getIdsSupprimes());
+        assertThrows(IllegalArgumentException.class, () -> joueurService.deleteJoueurs(null, " "));
+        verify(joueurRepository, never()).deleteByPositionReturning(anyString());
+    }
+
+    private JoueurSupprime supprime(Long id, Long equipeId) {
+        return new JoueurSupprime() {
+            @Override
+            public Long getId() {
+                return id;
+            }
+
+            @Override
+            public String getNom() {
+                return "Joueur " + id;
+            }
+
+            @Override
+            public String getPosition() {
+                return "Gardien";
+            }
+
+            @Override
+            public Long getEquipeId() {
+                return equipeId;
+            }
+
+            @Override
+            public String getEquipeNom() {
+                return equipeId != null ? "OGC Nice" : null;
+            }
+        };
     }
 }
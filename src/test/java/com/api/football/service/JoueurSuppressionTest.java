@@ -0,0 +1,128 @@
+package com.api.football.service;
+
+import com.api.football.dto.JoueurDto;
+import com.api.football.dto.SuppressionDto;
+import com.api.football.event.RosterChangeEvent;
+import com.api.football.model.Joueur;
+import com.api.football.repository.JoueurRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.event.ApplicationEvents;
+import org.springframework.test.context.event.RecordApplicationEvents;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests des suppressions de joueurs en une seule instruction, et de leur
+ * propagation aux statistiques.
+ *
+ * @author API Football API Team
+ * @version 1.0.0
+ */
+@DataJpaTest
+@ActiveProfiles("test")
+@Import({ServiceLayerTestConfiguration.class, StatistiquesService.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@DirtiesContext(classMode = DirtiesContext.ClassMode.AFTER_EACH_TEST_METHOD)
+@RecordApplicationEvents
+class JoueurSuppressionTest {
+
+    @Autowired
+    private JoueurService joueurService;
+
+    @Autowired
+    private JoueurRepository joueurRepository;
+
+    @Autowired
+    private StatistiquesService statistiquesService;
+
+    @Autowired
+    private ApplicationEvents evenements;
+
+    @BeforeEach
+    void setUp() {
+        statistiquesService.reconstruire();
+    }
+
+    @Test
+    void testDeleteJoueurs_ByFilterRemovesOnlyMatchingRows() {
+        // Given
+        long gardiensNice = joueurRepository.findByEquipeId(1L).stream()
+                .filter(joueur -> joueur.getPosition().equalsIgnoreCase("Gardien"))
+                .count();
+        long total = joueurRepository.count();
+        assertTrue(gardiensNice > 0);
+
+        // When
+        SuppressionDto resultat = joueurService.deleteJoueurs(1L, "gardien");
+
+        // Then
+        assertEquals(gardiensNice, resultat.getNombreSupprimes());
+        assertEquals(total - gardiensNice, joueurRepository.count());
+        assertTrue(joueurRepository.findByEquipeId(1L).stream()
+                .noneMatch(joueur -> joueur.getPosition().equalsIgnoreCase("Gardien")));
+        assertEquals(total - gardiensNice, statistiquesService.getStatistiquesLigue().getNombreJoueurs());
+    }
+
+    @Test
+    void testDeleteJoueurs_ByIdsAndSingleDelete() {
+        // Given
+        List<Long> ogc = joueurRepository.findByEquipeId(1L).stream().map(joueur -> joueur.getId()).toList();
+        long total = joueurRepository.count();
+
+        // When
+        SuppressionDto resultat = joueurService.deleteJoueurs(List.of(ogc.get(0), ogc.get(1), 999_999L));
+
+        // Then
+        assertEquals(List.of(ogc.get(0), ogc.get(1)), resultat.getIdsSupprimes());
+        assertEquals(List.of(999_999L), resultat.getIdsManquants());
+        assertTrue(joueurService.deleteJoueur(ogc.get(2)));
+        assertFalse(joueurService.deleteJoueur(ogc.get(2)));
+        assertEquals(total - 3, joueurRepository.count());
+        assertEquals(ogc.size() - 3, statistiquesService.getStatistiquesEquipe(1L).orElseThrow().getNombreJoueurs());
+    }
+
+    @Test
+    void testDeleteJoueurs_OneEventPerTeam() {
+        // Given : les gardiens de toutes les équipes
+        List<Joueur> gardiens = joueurRepository.findAll().stream()
+                .filter(joueur -> joueur.getPosition().equalsIgnoreCase("Gardien"))
+                .toList();
+        Set<Long> equipes = new HashSet<>();
+        gardiens.forEach(joueur -> equipes.add(joueur.getEquipe() == null ? null : joueur.getEquipe().getId()));
+        assertTrue(equipes.size() > 1);
+        long total = joueurRepository.count();
+
+        // When
+        SuppressionDto resultat = joueurService.deleteJoueurs(null, "Gardien");
+
+        // Then : un événement par équipe, portant tous ses joueurs supprimés
+        List<RosterChangeEvent> suppressions = evenements.stream(RosterChangeEvent.class).toList();
+        assertEquals(equipes.size(), suppressions.size());
+        Set<Long> equipesPubliees = new HashSet<>();
+        long joueursPublies = 0;
+        for (RosterChangeEvent event : suppressions) {
+            assertEquals(RosterChangeEvent.Type.JOUEURS_SUPPRIMES, event.getType());
+            assertTrue(equipesPubliees.add(event.getAncienneEquipeId()));
+            for (JoueurDto joueur : event.getJoueurs()) {
+                assertEquals(event.getAncienneEquipeId(), joueur.getEquipeId());
+                joueursPublies++;
+            }
+        }
+        assertEquals(equipes, equipesPubliees);
+        assertEquals(gardiens.size(), joueursPublies);
+        assertEquals(gardiens.size(), resultat.getNombreSupprimes());
+        assertEquals(total - gardiens.size(), statistiquesService.getStatistiquesLigue().getNombreJoueurs());
+    }
+}
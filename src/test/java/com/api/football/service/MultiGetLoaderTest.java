@@ -0,0 +1,70 @@
+package com.api.football.service;
+
+import com.api.football.dto.MultiGetDto;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.LongStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests unitaires du chargement par liste d'identifiants.
+ *
+ * @author API Football API Team
+ * @version 1.0.0
+ */
+class MultiGetLoaderTest {
+
+    @Test
+    void testCharger_KeepsRequestOrderAndReportsMissingIds() {
+        // Given : seuls les identifiants pairs existent
+        List<List<Long>> lots = new ArrayList<>();
+        Function<List<Long>, Map<Long, String>> chargerLot = lot -> {
+            lots.add(List.copyOf(lot));
+            return lot.stream().filter(id -> id % 2 == 0).collect(Collectors.toMap(id -> id, id -> "j" + id));
+        };
+
+        // When
+        MultiGetDto<String> resultat = MultiGetLoader.charger(Arrays.asList(8L, 3L, 2L, 8L, 5L), chargerLot);
+
+        // Then
+        assertEquals(List.of("j8", "j2"), resultat.getElements());
+        assertEquals(List.of(3L, 5L), resultat.getIdsManquants());
+        assertEquals(List.of(List.of(8L, 3L, 2L, 5L)), lots);
+    }
+
+    @Test
+    void testCharger_SplitsLargeRequestsIntoFixedSizeBatches() {
+        // Given
+        List<Long> ids = LongStream.rangeClosed(1, MultiGetLoader.TAILLE_LOT + 1).boxed().toList();
+        List<Integer> taillesLots = new ArrayList<>();
+
+        // When
+        MultiGetDto<Long> resultat = MultiGetLoader.charger(ids, lot -> {
+            taillesLots.add(lot.size());
+            return lot.stream().collect(Collectors.toMap(id -> id, id -> id));
+        });
+
+        // Then
+        assertEquals(List.of(MultiGetLoader.TAILLE_LOT, 1), taillesLots);
+        assertEquals(ids, resultat.getElements());
+        assertTrue(resultat.getIdsManquants().isEmpty());
+    }
+
+    @Test
+    void testCharger_RejectsInvalidRequests() {
+        Function<List<Long>, Map<Long, Long>> chargerLot = lot -> Map.of();
+        List<Long> tropLongue = LongStream.rangeClosed(1, MultiGetLoader.MAX_IDS + 1).boxed().toList();
+
+        assertThrows(IllegalArgumentException.class, () -> MultiGetLoader.charger(List.of(), chargerLot));
+        assertThrows(IllegalArgumentException.class, () -> MultiGetLoader.charger(null, chargerLot));
+        assertThrows(IllegalArgumentException.class, () -> MultiGetLoader.charger(Arrays.asList(1L, null), chargerLot));
+        assertThrows(IllegalArgumentException.class, () -> MultiGetLoader.charger(tropLongue, chargerLot));
+    }
+}
@@ -0,0 +1,27 @@
+package com.api.football.service;
+
+import com.api.football.coalescing.RequestCoalescer;
+import com.api.football.effectif.EffectifGuard;
+import com.api.football.effectif.EffectifProperties;
+import com.api.football.existence.ExistenceIndex;
+import com.api.football.existence.ExistenceProperties;
+import com.api.football.readmodel.RosterReadModel;
+import com.api.football.suggest.SuggestionIndex;
+import com.api.football.suggest.SuggestionProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Import;
+
+/**
+ * Couche service complète pour les tests de tranche JPA ({@code @DataJpaTest}) :
+ * services d'écriture et composants qui écoutent leurs événements.
+ *
+ * @author API Football API Team
+ * @version 1.0.0
+ */
+@TestConfiguration
+@Import({EquipeService.class, JoueurService.class, RosterReadModel.class, SuggestionIndex.class,
+        RequestCoalescer.class, EffectifGuard.class, ExistenceIndex.class})
+@EnableConfigurationProperties({SuggestionProperties.class, EffectifProperties.class, ExistenceProperties.class})
+public class ServiceLayerTestConfiguration {
+}
@@ -0,0 +1,96 @@
+package com.api.football.service;
+
+import com.api.football.dto.CreateEquipeRequest;
+import com.api.football.dto.CreateJoueurRequest;
+import com.api.football.dto.EquipeDto;
+import com.api.football.dto.JoueurDto;
+import com.api.football.dto.StatistiquesEquipeDto;
+import com.api.football.dto.StatistiquesLigueDto;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests des statistiques d'effectifs : calcul initial par GROUP BY et
+ * cohérence des deltas incrémentaux avec un recalcul complet.
+ *
+ * @author API Football API Team
+ * @version 1.0.0
+ */
+@DataJpaTest
+@ActiveProfiles("test")
+@Import({ServiceLayerTestConfiguration.class, StatistiquesService.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@DirtiesContext(classMode = DirtiesContext.ClassMode.AFTER_EACH_TEST_METHOD)
+class StatistiquesServiceTest {
+
+    @Autowired
+    private StatistiquesService statistiquesService;
+
+    @Autowired
+    private EquipeService equipeService;
+
+    @Autowired
+    private JoueurService joueurService;
+
+    @BeforeEach
+    void setUp() {
+        statistiquesService.reconstruire();
+    }
+
+    @Test
+    void testStatistiquesInitiales_MatchSeededData() {
+        // When
+        StatistiquesLigueDto ligue = statistiquesService.getStatistiquesLigue();
+        StatistiquesEquipeDto nice = statistiquesService.getStatistiquesEquipe(1L).orElseThrow();
+
+        // Then
+        assertEquals(5, ligue.getNombreEquipes());
+        assertEquals(26, ligue.getNombreJoueurs());
+        assertEquals(0, ligue.getJoueursSansEquipe());
+        assertEquals(15, nice.getNombreJoueurs());
+        assertEquals(ligue.getNombreJoueurs(), ligue.getJoueursParPosition().values().stream()
+                .mapToLong(Long::longValue).sum());
+        assertTrue(statistiquesService.getStatistiquesEquipe(999L).isEmpty());
+    }
+
+    @Test
+    void testDeltas_MatchFullRecomputation() {
+        // When : création, transfert, ajout, retrait et suppression
+        EquipeDto brest = equipeService.createEquipe(new CreateEquipeRequest("Stade Brestois", "SB29",
+                new BigDecimal("30000000.00"), List.of(new CreateJoueurRequest("Marco Bizot", "Gardien"))));
+        CreateJoueurRequest request = new CreateJoueurRequest("Joueur Stats", "Milieu");
+        request.setEquipeId(1L);
+        JoueurDto joueur = joueurService.createJoueur(request);
+        joueurService.transferJoueur(joueur.getId(), brest.getId());
+        JoueurDto libre = joueurService.createJoueur(new CreateJoueurRequest("Joueur Libre", "Attaquant"));
+        joueurService.createJoueur(new CreateJoueurRequest("Autre Libre", "Défenseur"));
+        equipeService.ajouterJoueur(brest.getId(), libre.getId());
+        equipeService.retirerJoueur(1L, 2L);
+        joueurService.deleteJoueur(3L);
+
+        StatistiquesLigueDto incrementale = statistiquesService.getStatistiquesLigue();
+        List<StatistiquesEquipeDto> equipesIncrementales = statistiquesService.getStatistiquesEquipes();
+
+        // Then
+        statistiquesService.reconstruire();
+        StatistiquesLigueDto recalculee = statistiquesService.getStatistiquesLigue();
+        assertEquals(recalculee.toString(), incrementale.toString());
+        assertEquals(statistiquesService.getStatistiquesEquipes().toString(), equipesIncrementales.toString());
+        assertEquals(6, incrementale.getNombreEquipes());
+        // "Autre Libre" et le joueur retiré de l'OM, devenu joueur libre
+        assertEquals(2, incrementale.getJoueursSansEquipe());
+        assertEquals(3, statistiquesService.getStatistiquesEquipe(brest.getId()).orElseThrow().getNombreJoueurs());
+    }
+}
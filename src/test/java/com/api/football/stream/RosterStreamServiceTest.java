@@ -0,0 +1,217 @@
+package com.api.football.stream;
+
+import com.api.football.dto.JoueurDto;
+import com.api.football.event.RosterChangeEvent;
+import com.api.football.service.JoueurService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests de bout en bout de la diffusion SSE des changements d'effectifs.
+ *
+ * @author API Football API Team
+ * @version 1.0.0
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+        properties = {"football.stream.heartbeat=200ms", "football.stream.delai-ecriture=300ms",
+                "football.stream.threads-envoi=2"})
+@ActiveProfiles("test")
+@DirtiesContext
+class RosterStreamServiceTest {
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private RosterStreamService rosterStreamService;
+
+    @Autowired
+    private JoueurService joueurService;
+
+    @Test
+    void testSuivreEquipe_ReceivesSnapshotThenTransferAndHeartbeat() throws Exception {
+        // Given
+        HttpClient client = HttpClient.newHttpClient();
+        HttpRequest request = HttpRequest.newBuilder(URI.create("http://localhost:" + port + "/api/stream/equipes/4"))
+                .header("Accept", "text/event-stream")
+                .build();
+        HttpResponse<InputStream> response = client.send(request, HttpResponse.BodyHandlers.ofInputStream());
+        assertEquals(200, response.statusCode());
+
+        try (BufferedReader lecteur = new BufferedReader(
+                new InputStreamReader(response.body(), StandardCharsets.UTF_8))) {
+            assertTrue(lireJusqua(lecteur, "event:snapshot").contains("\"acronyme\":\"ASM\""));
+
+            // When : transfert d'un joueur de Nice vers Monaco
+            joueurService.transferJoueur(1L, 4L);
+
+            // Then
+            String change = lireJusqua(lecteur, "event:change");
+            assertTrue(change.contains("\"type\":\"JOUEUR_TRANSFERE\""));
+            assertTrue(change.contains("\"ancienneEquipeId\":1"));
+            assertTrue(lireJusqua(lecteur, ":heartbeat").startsWith(":heartbeat"));
+            assertTrue(rosterStreamService.getChangementsEnvoyes() >= 1);
+        }
+    }
+
+    @Test
+    void testSuivreEquipe_UnknownTeam() throws Exception {
+        HttpResponse<Void> response = HttpClient.newHttpClient().send(
+                HttpRequest.newBuilder(URI.create("http://localhost:" + port + "/api/stream/equipes/999"))
+                        .header("Accept", "text/event-stream")
+                        .build(),
+                HttpResponse.BodyHandlers.discarding());
+        assertEquals(404, response.statusCode());
+    }
+
+    @Test
+    void testAbonneBloque_IsDroppedWithoutDelayingOthers() throws Exception {
+        // Given : un client qui ne lit plus (envoi bloqué) et un client rapide
+        CountDownLatch liberation = new CountDownLatch(1);
+        CountDownLatch bloque = new CountDownLatch(1);
+        AtomicInteger envoisLents = new AtomicInteger();
+        SseEmitter lent = new SseEmitter() {
+            @Override
+            public void send(SseEventBuilder evenement) throws IOException {
+                envoisLents.incrementAndGet();
+                bloque.countDown();
+                try {
+                    liberation.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                throw new IOException("Connexion interrompue");
+            }
+        };
+        BlockingQueue<String> recus = new LinkedBlockingQueue<>();
+        SseEmitter rapide = new SseEmitter() {
+            @Override
+            public void send(SseEventBuilder evenement) {
+                StringBuilder texte = new StringBuilder();
+                evenement.build().forEach(partie -> texte.append(partie.getData()));
+                recus.add(texte.toString());
+            }
+        };
+        long decrochesAvant = rosterStreamService.getAbonnesDecroches();
+        assertTrue(rosterStreamService.abonner(lent, null));
+        assertTrue(rosterStreamService.abonner(rapide, null));
+
+        try {
+            // When
+            rosterStreamService.onRosterChange(RosterChangeEvent.joueurCree(
+                    new JoueurDto(900L, "Joueur Flux", "Milieu", 4L, "AS Monaco")));
+
+            // Then : le client rapide est servi pendant que le lent bloque
+            assertTrue(bloque.await(5, TimeUnit.SECONDS));
+            assertTrue(attendreChangement(recus).contains("JOUEUR_CREE"));
+
+            // Puis le client lent est décroché et ne reçoit plus rien
+            long limite = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+            while (rosterStreamService.getAbonnesDecroches() == decrochesAvant && System.nanoTime() < limite) {
+                Thread.sleep(20);
+            }
+            assertEquals(decrochesAvant + 1, rosterStreamService.getAbonnesDecroches());
+            rosterStreamService.onRosterChange(RosterChangeEvent.joueurCree(
+                    new JoueurDto(901L, "Autre Joueur", "Milieu", 4L, "AS Monaco")));
+            assertTrue(attendreChangement(recus).contains("joueurId=901"));
+            assertEquals(1, envoisLents.get());
+        } finally {
+            liberation.countDown();
+            rapide.complete();
+        }
+    }
+
+    @Test
+    void testNombreuxAbonnes_ShareFixedSendThreads() throws Exception {
+        // Given : bien plus d'abonnés que de threads d'envoi
+        int nombre = 500;
+        CountDownLatch servis = new CountDownLatch(nombre);
+        List<SseEmitter> emetteurs = new ArrayList<>();
+        for (int i = 0; i < nombre; i++) {
+            SseEmitter emetteur = new SseEmitter() {
+                @Override
+                public void send(SseEventBuilder evenement) {
+                    StringBuilder texte = new StringBuilder();
+                    evenement.build().forEach(partie -> texte.append(partie.getData()));
+                    if (texte.toString().contains("joueurId=902")) {
+                        servis.countDown();
+                    }
+                }
+            };
+            emetteurs.add(emetteur);
+            assertTrue(rosterStreamService.abonner(emetteur, null));
+        }
+
+        try {
+            // When
+            rosterStreamService.onRosterChange(RosterChangeEvent.joueurCree(
+                    new JoueurDto(902L, "Joueur Diffuse", "Milieu", 4L, "AS Monaco")));
+
+            // Then : chaque abonné est servi par les deux threads d'envoi
+            assertTrue(servis.await(10, TimeUnit.SECONDS));
+            long threadsEnvoi = Thread.getAllStackTraces().keySet().stream()
+                    .filter(thread -> thread.getName().startsWith("roster-stream-envoi-"))
+                    .count();
+            assertTrue(threadsEnvoi <= 2, () -> threadsEnvoi + " threads d'envoi");
+        } finally {
+            emetteurs.forEach(SseEmitter::complete);
+        }
+    }
+
+    private static String attendreChangement(BlockingQueue<String> recus) throws InterruptedException {
+        long limite = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (System.nanoTime() < limite) {
+            String evenement = recus.poll(100, TimeUnit.MILLISECONDS);
+            if (evenement != null && evenement.contains("event:change")) {
+                return evenement;
+            }
+        }
+        return "";
+    }
+
+    /**
+     * Lit le flux jusqu'à la ligne attendue et renvoie la ligne de données qui suit
+     * (ou la ligne elle-même pour un commentaire).
+     */
+    private static String lireJusqua(BufferedReader lecteur, String attendu) throws Exception {
+        return CompletableFuture.supplyAsync(() -> {
+            try {
+                String ligne;
+                while ((ligne = lecteur.readLine()) != null) {
+                    if (ligne.startsWith(attendu)) {
+                        return attendu.startsWith(":") ? ligne : lecteur.readLine();
+                    }
+                }
+                return "";
+            } catch (Exception e) {
+                throw new IllegalStateException(e);
+            }
+        }).get(Duration.ofSeconds(10).toMillis(), TimeUnit.MILLISECONDS);
+    }
+}
@@ -0,0 +1,236 @@
+package com.api.football.streaming;
+
+import com.api.football.dto.EquipeDto;
+import com.api.football.dto.JoueurDto;
+import com.api.football.service.EquipeService;
+import com.api.football.service.JoueurService;
+import com.api.football.service.ServiceLayerTestConfiguration;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.autoconfigure.jackson.JacksonAutoConfiguration;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.Page;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import javax.sql.DataSource;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests des pages écrites en flux, comparées aux pages des services.
+ *
+ * La vue en mémoire des équipes est désactivée pour que le service lise la
+ * même base, avec le même tri.
+ *
+ * @author API Football API Team
+ * @version 1.0.0
+ */
+@DataJpaTest
+@ActiveProfiles("test")
+@Import({ServiceLayerTestConfiguration.class, StreamingPageWriter.class})
+@ImportAutoConfiguration(JacksonAutoConfiguration.class)
+@EnableConfigurationProperties(StreamingProperties.class)
+@TestPropertySource(properties = {"football.read-model.enabled=false", "football.streaming.seuil-flush=2"})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class StreamingPageWriterTest {
+
+    @Autowired
+    private StreamingPageWriter streamingPageWriter;
+
+    @Autowired
+    private JoueurService joueurService;
+
+    @Autowired
+    private EquipeService equipeService;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Test
+    void testEcrireJoueurs_MatchesServicePageWithFilters() throws IOException {
+        // Given
+        Page<JoueurDto> attendue = joueurService.getAllJoueurs(1, 3, "nom", "desc", 1L, "fens");
+
+        // When
+        JsonNode page = ecrire(sortie -> streamingPageWriter.ecrireJoueurs(sortie, 1, 3, "nom", "desc", 1L, "fens"));
+
+        // Then : mêmes joueurs, dans le même ordre, avec les mêmes champs
+        assertEquals(objectMapper.readTree(objectMapper.writeValueAsString(attendue.getContent())), page.get("content"));
+        assertEquals(attendue.hasNext(), page.get("hasNext").asBoolean());
+        assertEquals(attendue.getNumberOfElements(), page.get("numberOfElements").asInt());
+        assertEquals(1, page.get("page").asInt());
+        assertTrue(streamingPageWriter.getMetriques().get("vidages").longValue() >= 1);
+    }
+
+    @Test
+    void testEcrireJoueurs_LastPageAndEscapedFilter() throws IOException {
+        // When
+        long total = joueurService.getAllJoueurs(0, 100, "nom", "asc", null, null).getTotalElements();
+        JsonNode derniere = ecrire(sortie -> streamingPageWriter.ecrireJoueurs(
+                sortie, 0, (int) total, "position", "asc", null, null));
+        JsonNode joker = ecrire(sortie -> streamingPageWriter.ecrireJoueurs(
+                sortie, 0, 10, "nom", "asc", null, "%"));
+
+        // Then
+        assertEquals(total, derniere.get("content").size());
+        assertFalse(derniere.get("hasNext").asBoolean());
+        assertEquals(0, joker.get("content").size());
+    }
+
+    @Test
+    void testEcrireEquipes_GroupsRostersAndPagesLikeTheService() throws IOException {
+        // Given
+        Page<EquipeDto> attendue = equipeService.getAllEquipes(0, 2, "budget", "desc");
+        Page<EquipeDto> derniere = equipeService.getAllEquipes(2, 2, "budget", "desc");
+
+        // When
+        JsonNode page = ecrire(sortie -> streamingPageWriter.ecrireEquipes(
+                sortie, 0, 2, "budget", "desc", null, null));
+        JsonNode fin = ecrire(sortie -> streamingPageWriter.ecrireEquipes(
+                sortie, 2, 2, "budget", "desc", null, null));
+        JsonNode filtree = ecrire(sortie -> streamingPageWriter.ecrireEquipes(
+                sortie, 0, 10, "nom", "asc", new BigDecimal("60000000"), new BigDecimal("120000000")));
+
+        // Then : mêmes équipes et mêmes effectifs
+        assertEquals(resumer(attendue.getContent()), resumer(page.get("content")));
+        assertTrue(page.get("hasNext").asBoolean());
+        assertEquals(resumer(derniere.getContent()), resumer(fin.get("content")));
+        assertFalse(fin.get("hasNext").asBoolean());
+        assertEquals(List.of("ASM", "OL", "OM"), acronymes(filtree.get("content")));
+    }
+
+    @Test
+    void testEcrireJoueurs_CursorFailureLeavesTruncatedJson() throws IOException {
+        // Given : le curseur échoue à la 5e ligne
+        DataSource source = (DataSource) ReflectionTestUtils.getField(streamingPageWriter, "dataSource");
+        ReflectionTestUtils.setField(streamingPageWriter, "dataSource", sourceDefaillante(source, 4));
+        long interrompuesAvant = streamingPageWriter.getMetriques().get("interrompues").longValue();
+        ByteArrayOutputStream sortie = new ByteArrayOutputStream();
+
+        // When
+        try {
+            assertThrows(IllegalStateException.class, () -> streamingPageWriter.ecrireJoueurs(
+                    sortie, 0, 10, "nom", "asc", null, null));
+        } finally {
+            ReflectionTestUtils.setField(streamingPageWriter, "dataSource", source);
+        }
+
+        // Then : des éléments sont partis, mais le document n'est pas refermé
+        String tronquee = sortie.toString(StandardCharsets.UTF_8);
+        assertTrue(tronquee.startsWith("{\"content\":[{"));
+        assertFalse(tronquee.contains("\"hasNext\""));
+        assertThrows(JsonProcessingException.class, () -> objectMapper.readTree(tronquee));
+        assertEquals(interrompuesAvant + 1, streamingPageWriter.getMetriques().get("interrompues").longValue());
+    }
+
+    /**
+     * Source dont les résultats lèvent une {@link SQLException} après le
+     * nombre de lignes indiqué.
+     */
+    private static DataSource sourceDefaillante(DataSource source, int lignes) {
+        return envelopper(DataSource.class, source, (methode, resultat) ->
+                resultat instanceof Connection connection ? envelopper(Connection.class, connection, (m, r) ->
+                        r instanceof PreparedStatement statement ? envelopper(PreparedStatement.class, statement,
+                                (ms, rs) -> rs instanceof ResultSet resultSet ? panne(resultSet, lignes) : rs) : r)
+                        : resultat);
+    }
+
+    private static ResultSet panne(ResultSet resultSet, int lignes) {
+        AtomicInteger lues = new AtomicInteger();
+        return (ResultSet) Proxy.newProxyInstance(ResultSet.class.getClassLoader(), new Class<?>[]{ResultSet.class},
+                (proxy, methode, arguments) -> {
+                    if (methode.getName().equals("next") && lues.incrementAndGet() > lignes) {
+                        throw new SQLException("Panne simulée du curseur");
+                    }
+                    return invoquer(resultSet, methode, arguments);
+                });
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> T envelopper(Class<T> type, T cible, Transformation transformation) {
+        InvocationHandler handler = (proxy, methode, arguments) ->
+                transformation.appliquer(methode, invoquer(cible, methode, arguments));
+        return (T) Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[]{type}, handler);
+    }
+
+    private static Object invoquer(Object cible, Method methode, Object[] arguments)
+            throws Throwable {
+        try {
+            return methode.invoke(cible, arguments);
+        } catch (InvocationTargetException e) {
+            throw e.getCause();
+        }
+    }
+
+    @FunctionalInterface
+    private interface Transformation {
+
+        Object appliquer(Method methode, Object resultat);
+    }
+
+    private JsonNode ecrire(Ecriture ecriture) throws IOException {
+        ByteArrayOutputStream sortie = new ByteArrayOutputStream();
+        ecriture.ecrire(sortie);
+        return objectMapper.readTree(sortie.toByteArray());
+    }
+
+    /**
+     * Équipes dans l'ordre de la page, avec les IDs de leurs joueurs.
+     */
+    private static List<String> resumer(List<EquipeDto> equipes) {
+        return equipes.stream()
+                .map(equipe -> equipe.getAcronyme() + equipe.getJoueurs().stream()
+                        .map(JoueurDto::getId).collect(Collectors.toCollection(TreeSet::new)))
+                .toList();
+    }
+
+    private static List<String> resumer(JsonNode equipes) {
+        List<String> resume = new ArrayList<>();
+        for (JsonNode equipe : equipes) {
+            Set<Long> joueurs = new TreeSet<>();
+            equipe.get("joueurs").forEach(joueur -> joueurs.add(joueur.get("id").asLong()));
+            resume.add(equipe.get("acronyme").asText() + joueurs);
+        }
+        return resume;
+    }
+
+    private static List<String> acronymes(JsonNode equipes) {
+        List<String> acronymes = new ArrayList<>();
+        equipes.forEach(equipe -> acronymes.add(equipe.get("acronyme").asText()));
+        return acronymes;
+    }
+
+    @FunctionalInterface
+    private interface Ecriture {
+
+        void ecrire(ByteArrayOutputStream sortie) throws IOException;
+    }
+}
@@ -0,0 +1,77 @@
+package com.api.football.suggest;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests unitaires de l'index de préfixes.
+ *
+ * @author API Football API Team
+ * @version 1.0.0
+ */
+class PrefixIndexTest {
+
+    @Test
+    void testRechercher_MatchesAnyWordIgnoringCaseAndAccents() {
+        // Given
+        PrefixIndex index = PrefixIndex.construire(List.of(
+                new Suggestion(Suggestion.Type.JOUEUR, 1L, "Kylian Mbappé", null),
+                new Suggestion(Suggestion.Type.JOUEUR, 2L, "Théo Hernandez", null),
+                new Suggestion(Suggestion.Type.EQUIPE, 3L, "Paris Saint-Germain", "PSG")), 10);
+
+        // Then
+        assertEquals(List.of(1L), ids(index.rechercher("MBAP", 10, null)));
+        assertEquals(List.of(2L), ids(index.rechercher("theo", 10, null)));
+        assertEquals(List.of(3L), ids(index.rechercher("germ", 10, null)));
+        assertEquals(List.of(3L), ids(index.rechercher("ps", 10, null)));
+        assertEquals(List.of(1L), ids(index.rechercher("kylian mb", 10, null)));
+        assertTrue(index.rechercher("zz", 10, null).isEmpty());
+        assertTrue(index.rechercher("  ", 10, null).isEmpty());
+    }
+
+    @Test
+    void testRechercher_RanksByPopularityThenTeamsFirst() {
+        // Given
+        Suggestion marseille = new Suggestion(Suggestion.Type.EQUIPE, 1L, "Olympique de Marseille", "OM");
+        Suggestion martin = new Suggestion(Suggestion.Type.JOUEUR, 2L, "Lucas Martin", null);
+        Suggestion marco = new Suggestion(Suggestion.Type.JOUEUR, 3L, "Marco Verratti", null);
+        marco.consulter();
+        marco.consulter();
+        PrefixIndex index = PrefixIndex.construire(List.of(marseille, martin, marco), 10);
+
+        // Then
+        assertEquals(List.of(3L, 1L, 2L), ids(index.rechercher("mar", 10, null)));
+        assertEquals(List.of(3L, 2L), ids(index.rechercher("mar", 10, Suggestion.Type.JOUEUR)));
+        assertEquals(List.of(3L), ids(index.rechercher("mar", 1, null)));
+    }
+
+    @Test
+    void testRechercher_PrecomputedPrefixesMatchFullScan() {
+        // Given : assez d'éléments pour que les préfixes courts soient précalculés
+        List<Suggestion> suggestions = new ArrayList<>();
+        for (long i = 0; i < 3 * PrefixIndex.SEUIL_PARCOURS; i++) {
+            Suggestion suggestion = new Suggestion(Suggestion.Type.JOUEUR, i, "Joueur " + i, null);
+            for (long c = 0; c < i % 7; c++) {
+                suggestion.consulter();
+            }
+            suggestions.add(suggestion);
+        }
+        PrefixIndex index = PrefixIndex.construire(suggestions, 5);
+
+        // When
+        List<Suggestion> precalcule = index.rechercher("jou", 5, null);
+
+        // Then
+        List<Suggestion> attendu = suggestions.stream().sorted(PrefixIndex.CLASSEMENT).limit(5).toList();
+        assertEquals(ids(attendu), ids(precalcule));
+        assertEquals(5, index.rechercher("jou", 5, Suggestion.Type.JOUEUR).size());
+    }
+
+    private static List<Long> ids(List<Suggestion> suggestions) {
+        return suggestions.stream().map(Suggestion::getId).toList();
+    }
+}